@@ -1,9 +1,30 @@
 package com.hexagonal.application.port.in.admin.order;
 
 import com.hexagonal.domain.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ViewAllOrdersUseCase {
     List<Order> execute();
-}
 
+    List<Order> execute(SearchOrdersQuery query);
+
+    /**
+     * Streams all orders for exports; the caller must close the stream.
+     */
+    Stream<Order> stream();
+
+    /**
+     * Admin order search. Every filter is optional; {@code from} is inclusive and {@code to} exclusive,
+     * total bounds are inclusive and need {@code currency}. Results are newest first; pass the id of the last
+     * order of the previous page as {@code after} to get the next page.
+     */
+    record SearchOrdersQuery(String status, String customerId, LocalDateTime from, LocalDateTime to,
+                             BigDecimal minTotal, BigDecimal maxTotal, String currency,
+                             Integer size, String after) {
+
+    }
+}
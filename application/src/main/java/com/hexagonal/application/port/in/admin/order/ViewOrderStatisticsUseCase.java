@@ -0,0 +1,20 @@
+package com.hexagonal.application.port.in.admin.order;
+
+import com.hexagonal.application.port.out.OrderStatisticsPort.OrderStatistics;
+import com.hexagonal.domain.vo.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface ViewOrderStatisticsUseCase {
+    /**
+     * Order dashboard in one currency: booked totals, totals per status and booked totals per day from
+     * {@code from} to {@code to} (both inclusive, defaulting to the last 30 days).
+     */
+    OrderDashboard execute(String currency, LocalDate from, LocalDate to);
+
+    record OrderDashboard(String currency, OrderStatistics booked, Map<OrderStatus, OrderStatistics> byStatus,
+                          Map<LocalDate, OrderStatistics> byDay) {
+
+    }
+}
@@ -4,8 +4,32 @@ import com.hexagonal.application.dto.FilterProductsByCategoryCommand;
 import com.hexagonal.domain.entity.Product;
 
 import java.util.List;
+import java.util.Set;
 
 public interface FilterProductsByCategoryUseCase {
     List<Product> execute(FilterProductsByCategoryCommand command);
-}
 
+    List<Product> execute(FilterProductsByCategoriesQuery query);
+
+    /**
+     * Filters by a category and every category below it.
+     */
+    List<Product> execute(FilterProductsBySubtreeQuery query);
+
+    /**
+     * Counts the distinct products in a category and every category below it.
+     */
+    int countProductsInSubtree(String categoryId);
+
+    /**
+     * Filters by several categories at once.
+     * With {@code matchAll} a product must be in every category, otherwise in at least one of them.
+     */
+    record FilterProductsByCategoriesQuery(Set<String> categoryIds, boolean matchAll) {
+
+    }
+
+    record FilterProductsBySubtreeQuery(String categoryId) {
+
+    }
+}
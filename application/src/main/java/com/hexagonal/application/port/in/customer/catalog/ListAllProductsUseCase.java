@@ -6,5 +6,14 @@ import java.util.List;
 
 public interface ListAllProductsUseCase {
     List<Product> execute();
-}
 
+    List<Product> execute(ListProductsQuery query);
+
+    /**
+     * Either a page number or an {@code after} cursor (id of the last product of the previous page).
+     * When {@code after} is set, keyset pagination is used and {@code page} is ignored.
+     */
+    record ListProductsQuery(Integer page, Integer size, String after) {
+
+    }
+}
@@ -7,5 +7,15 @@ import java.util.List;
 
 public interface SortProductsUseCase {
     List<Product> execute(List<Product> products, SortProductsCommand command);
-}
 
+    /**
+     * Returns only the {@code limit} products that would follow the first {@code offset} ones in the full sort,
+     * without sorting the whole list.
+     */
+    List<Product> execute(List<Product> products, SortProductsCommand command, int offset, int limit);
+
+    /**
+     * Returns a page of the active catalog in the requested order, read from the pre-sorted catalog views.
+     */
+    List<Product> execute(SortProductsCommand command, int offset, int limit);
+}
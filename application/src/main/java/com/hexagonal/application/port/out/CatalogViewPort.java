@@ -0,0 +1,39 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output Port - Önceden sıralanmış katalog görünümleri
+ * Aktif ürünlerin fiyat, isim ve popülerlik sıralamalarını artımlı olarak tutar,
+ * böylece sıralı ve sayfalı katalog okumaları her istekte sıralama yerine bir dilim okumasıdır
+ */
+public interface CatalogViewPort {
+
+    enum SortKey {
+        PRICE,
+        NAME,
+        POPULARITY
+    }
+
+    // Returns the product IDs at positions [offset, offset + limit) of the given ordering.
+    List<ID> slice(SortKey sortKey, boolean descending, int offset, int limit);
+
+    // Adds or repositions the product in every ordering; products that are not active are dropped.
+    void index(Product product);
+
+    void remove(ID productId);
+
+    // Replaces the popularity scores of the given products and repositions them in the popularity ordering.
+    void updatePopularity(Map<ID, Long> scores);
+
+    // Rebuilds the orderings from the given products, keeping the popularity scores collected so far.
+    void rebuild(Collection<Product> products);
+
+    // False until the first rebuild; until then a slice is empty instead of a page of the catalog.
+    boolean isBuilt();
+}
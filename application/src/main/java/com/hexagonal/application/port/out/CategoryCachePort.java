@@ -14,4 +14,7 @@ public interface CategoryCachePort {
     Optional<Category> getById(String categoryId);
     void putById(String categoryId, Category category);
     void invalidateById(String categoryId);
+
+    // Children of a category (roots for null); empty when the full list is not cached
+    Optional<List<Category>> getChildren(String parentCategoryId);
 }
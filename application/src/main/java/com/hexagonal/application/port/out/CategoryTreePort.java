@@ -0,0 +1,35 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.entity.Category;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port - Kategori ağacı indeksi
+ * Kategori hiyerarşisini nested-set (pre-order) numaralarıyla tutar; bir kategorinin alt ağacı tek bir
+ * aralıktır, böylece alt/üst kategori sorguları repository'ye özyinelemeli çağrı yapmadan cevaplanır
+ */
+public interface CategoryTreePort {
+    // The category followed by every category below it, in pre-order; empty for an unknown category.
+    List<ID> subtreeOf(ID categoryId);
+
+    // Every category below the category, in pre-order.
+    List<ID> descendantsOf(ID categoryId);
+
+    // The category's parents from its direct parent up to the root.
+    List<ID> ancestorsOf(ID categoryId);
+
+    // Whether candidateId is the category itself or lies below it.
+    boolean isInSubtree(ID categoryId, ID candidateId);
+
+    // Adds the category, or moves it together with its subtree under its current parent.
+    void place(Category category);
+
+    // Removes the category; its children become roots until they are placed again.
+    void remove(ID categoryId);
+
+    // Drops the current tree and rebuilds it from the given categories.
+    void rebuild(Collection<Category> categories);
+}
@@ -12,6 +12,8 @@ public interface CustomerRepositoryPort {
     Optional<Customer> findById(ID id);
     Optional<Customer> findByEmail(Email email);
     List<Customer> findAll();
+    // Returns up to limit customers, most recently updated first.
+    List<Customer> findRecentlyUpdated(int limit);
     void deleteById(ID id);
     boolean existsById(ID id);
     // Retrieves the recent password hashes for a customer (most recent first).
@@ -0,0 +1,25 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output Port - Entity cache
+ * ID ile okunan entity'ler için ortak cache işlemleri. Cache yalnızca okuma hızlandırıcıdır:
+ * kayıtlar TTL ile düşer, doğruluk gerektiren kararlar repository'den okunan veriyle verilir.
+ */
+public interface EntityCachePort<T> {
+    Optional<T> getById(ID id);
+
+    // Bulunan kayıtları tek seferde döndürür (multi-get); cache'de olmayan id'ler sonuçta yer almaz.
+    Map<ID, T> getAll(Collection<ID> ids);
+
+    void put(T entity);
+    void putAll(Collection<T> entities);
+
+    void invalidateById(ID id);
+    void invalidateAll();
+}
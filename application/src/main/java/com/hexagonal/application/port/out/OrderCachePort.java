@@ -0,0 +1,6 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.entity.Order;
+
+public interface OrderCachePort extends EntityCachePort<Order> {
+}
@@ -1,15 +1,32 @@
 package com.hexagonal.application.port.out;
 
 import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.specification.Specification;
 import com.hexagonal.domain.vo.ID;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepositoryPort {
     Order save(Order order);
     Optional<Order> findById(ID id);
     List<Order> findAll();
+
+    /**
+     * Streams all orders, newest first, reading them from the store as the stream is consumed instead of
+     * loading them all at once. The stream holds a database cursor: callers must close it.
+     */
+    Stream<Order> streamAll();
+
+    /**
+     * Keyset pagination: returns up to {@code limit} orders satisfying the specification, newest first
+     * (createdAt, then id, descending), that come after the order {@code after}. A null cursor starts from the
+     * newest order; an unknown cursor yields an empty page. A null specification matches every order.
+     * Adapters translate the specification into a store-side query where they can.
+     */
+    List<Order> findAll(Specification<Order> specification, ID after, int limit);
+
     List<Order> findByCustomerId(ID customerId);
     void deleteById(ID id);
     boolean existsById(ID id);
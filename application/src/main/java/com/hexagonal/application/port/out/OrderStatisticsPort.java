@@ -0,0 +1,36 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * Output Port - Sipariş istatistikleri
+ * Sipariş durum geçişlerinde artımlı güncellenen ciro, sipariş sayısı ve ortalama sepet tutarları;
+ * okumalar siparişleri taramaz
+ */
+public interface OrderStatisticsPort {
+    // Moves the order from its previousStatus totals (null for a newly placed order) to its current status.
+    // Called on the order write paths, so it must not block.
+    void recordTransition(Order order, OrderStatus previousStatus);
+
+    // Orders currently in the given status.
+    OrderStatistics byStatus(OrderStatus status, Currency currency);
+
+    // Booked (confirmed and not cancelled) orders created on the given day.
+    OrderStatistics byDay(LocalDate day, Currency currency);
+
+    // All booked orders.
+    OrderStatistics byCurrency(Currency currency);
+
+    /**
+     * @param revenue       sum of the orders' total amounts
+     * @param averageBasket revenue / orderCount, zero when there are no orders
+     */
+    record OrderStatistics(long orderCount, Money revenue, Money averageBasket) {
+
+    }
+}
@@ -0,0 +1,30 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Output Port - Kategori -> ürün ikincil indeksi
+ * Kategori sayfalarının tüm kataloğu taramadan sunulması için kategori ID'lerini ürün ID'lerine eşler
+ */
+public interface ProductCategoryIndexPort {
+    // Returns the IDs of products assigned to at least one of the given categories.
+    Set<ID> findByAnyCategory(Set<ID> categoryIds);
+
+    // Returns the IDs of products assigned to every one of the given categories.
+    Set<ID> findByAllCategories(Set<ID> categoryIds);
+
+    // Counts the distinct products assigned to at least one of the given categories.
+    int countByAnyCategory(Set<ID> categoryIds);
+
+    // Adds the product to the index or replaces its previously indexed categories.
+    void index(Product product);
+
+    void remove(ID productId);
+
+    // Drops the current index and rebuilds it from the given products.
+    void rebuild(Collection<Product> products);
+}
@@ -0,0 +1,20 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Map;
+
+/**
+ * Output Port - Ürün popülerlik sayaçları
+ * Tamamlanan siparişlerden beslenen, zamanla sönümlenen ürün popülerlik skorları
+ */
+public interface ProductPopularityPort {
+    // Counts one completed order containing the product. Called on the checkout path, so it must not block.
+    void recordOrder(ID productId);
+
+    // Current time-decayed popularity score of the product, 0 if it was never ordered.
+    long score(ID productId);
+
+    // Current scores of every product that has one.
+    Map<ID, Long> scores();
+}
@@ -0,0 +1,24 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port - Ürün popülerlik sayaçlarının kalıcı kaydı
+ * Sayaçlar bellekte tutulur, periyodik olarak bu port üzerinden yazılır ve açılışta geri yüklenir
+ */
+public interface ProductPopularityRepositoryPort {
+    List<PopularityCounts> findAll();
+
+    void saveAll(Collection<PopularityCounts> counts);
+
+    /**
+     * @param totalOrders lifetime number of completed orders containing the product
+     * @param score       time-decayed order count at the moment of the flush
+     */
+    record PopularityCounts(ID productId, long totalOrders, double score) {
+
+    }
+}
@@ -1,8 +1,12 @@
 package com.hexagonal.application.port.out;
 
 import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.Specification;
 import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.ProductStatus;
+import com.hexagonal.domain.vo.Quantity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,11 +15,59 @@ import java.util.Optional;
  */
 public interface ProductRepositoryPort {
     Product save(Product product);
+
     Optional<Product> findById(ID id);
+
+    /**
+     * Loads the products with the given ids in one query. Unknown ids are skipped; order is not guaranteed.
+     */
+    List<Product> findAllById(Collection<ID> ids);
+
+    /**
+     * Atomically removes {@code quantity} from the stock if at least that much is available, in a single
+     * conditional write without reading the product first. A product whose stock reaches zero while ACTIVE
+     * becomes OUT_OF_STOCK, as in {@link Product#removeStock}.
+     *
+     * @return false if the product does not exist or has less stock than requested; nothing is changed then
+     */
+    boolean decrementStockIfAvailable(ID productId, Quantity quantity);
+
+    /**
+     * Atomically adds {@code quantity} to the stock; an OUT_OF_STOCK product becomes ACTIVE again, as in
+     * {@link Product#addStock}. Used to give back stock taken by {@link #decrementStockIfAvailable}.
+     *
+     * @return false if the product does not exist
+     */
+    boolean incrementStock(ID productId, Quantity quantity);
+
+    /**
+     * Sets the stock to {@code stock} without reading the product, with the status rules of {@link Product#setStock}.
+     *
+     * @return false if the product does not exist
+     */
+    boolean updateStock(ID productId, Quantity stock);
+
     Optional<Product> findBySku(String sku);
     List<Product> findAll();
+
+    /**
+     * Returns the products satisfying the specification.
+     * Adapters translate the specification into a store-side query where they can.
+     */
+    List<Product> findAll(Specification<Product> specification);
+
+    /**
+     * Offset pagination: returns page {@code page} (0-based) of products with the given status, ordered by id.
+     */
+    List<Product> findAllByStatus(ProductStatus status, int page, int size);
+
+    /**
+     * Keyset pagination: returns up to {@code limit} products with the given status whose id comes
+     * after {@code after} in store order. A null cursor starts from the first product.
+     */
+    List<Product> findAllByStatusAfter(ProductStatus status, ID after, int limit);
+
     void deleteById(ID id);
     boolean existsById(ID id);
     boolean existsBySku(String sku);
 }
-
@@ -0,0 +1,27 @@
+package com.hexagonal.application.port.out;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Output Port - Ürün arama indeksi
+ * Ürün adı ve açıklamasındaki terimleri ürün ID'lerine eşleyen inverted index
+ */
+public interface ProductSearchIndexPort {
+    /**
+     * Returns the IDs of products whose indexed text contains every term of the query.
+     * Terms are matched by prefix, so partially typed words still hit.
+     */
+    Set<ID> search(String query);
+
+    // Adds the product to the index or replaces its previously indexed terms.
+    void index(Product product);
+
+    void remove(ID productId);
+
+    // Drops the current index and rebuilds it from the given products.
+    void rebuild(Collection<Product> products);
+}
@@ -3,6 +3,7 @@ package com.hexagonal.application.service.command.admin.category;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.admin.category.AssignProductsToCategoryUseCase;
 import com.hexagonal.application.port.out.CategoryRepositoryPort;
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Category;
 import com.hexagonal.domain.entity.Product;
@@ -19,19 +20,23 @@ import java.util.Set;
  * - ProductDomainService'i kullanarak domain logic'i çalıştırır
  * - Repository'lerden sorumludur (Port adapter)
  * - Üretilen domain olaylarını işler
+ * - Kategori indeksini günceller
  */
 @UseCase
 public class AssignProductsToCategoryService implements AssignProductsToCategoryUseCase {
     private final CategoryRepositoryPort categoryRepository;
     private final ProductRepositoryPort productRepository;
     private final ProductDomainService productDomainService;
+    private final ProductCategoryIndexPort productCategoryIndex;
 
     public AssignProductsToCategoryService(CategoryRepositoryPort categoryRepository,
                                            ProductRepositoryPort productRepository,
-                                           ProductDomainService productDomainService) {
+                                           ProductDomainService productDomainService,
+                                           ProductCategoryIndexPort productCategoryIndex) {
         this.categoryRepository = categoryRepository;
         this.productRepository = productRepository;
         this.productDomainService = productDomainService;
+        this.productCategoryIndex = productCategoryIndex;
     }
 
     /**
@@ -39,6 +44,7 @@ public class AssignProductsToCategoryService implements AssignProductsToCategory
      * 1. Kategori mevcudiyetini kontrol et
      * 2. Her ürün için domain servisi çağır (statefulness)
      * 3. Güncellenmiş ürünleri repository'ye kaydet
+     * 4. Kategori indeksini güncelle
      */
     @Override
     public void execute(ID categoryId, java.util.Set<ID> productIds) {
@@ -55,7 +61,8 @@ public class AssignProductsToCategoryService implements AssignProductsToCategory
             productDomainService.assignCategoriesToProduct(product, java.util.Set.of(categoryId));
 
             // Güncellenmiş ürünü kaydet
-            productRepository.save(product);
+            Product saved = productRepository.save(product);
+            productCategoryIndex.index(saved);
         }
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.hexagonal.application.dto.CreateCategoryCommand;
 import com.hexagonal.application.port.in.admin.category.CreateCategoryUseCase;
 import com.hexagonal.application.port.out.CategoryCachePort;
 import com.hexagonal.application.port.out.CategoryRepositoryPort;
+import com.hexagonal.application.port.out.CategoryTreePort;
 import com.hexagonal.domain.entity.Category;
 import com.hexagonal.domain.vo.ID;
 
@@ -12,10 +13,13 @@ import com.hexagonal.domain.vo.ID;
 public class CreateCategoryService implements CreateCategoryUseCase {
     private final CategoryRepositoryPort categoryRepository;
     private final CategoryCachePort categoryCache;
+    private final CategoryTreePort categoryTree;
 
-    public CreateCategoryService(CategoryRepositoryPort categoryRepository, CategoryCachePort categoryCache) {
+    public CreateCategoryService(CategoryRepositoryPort categoryRepository, CategoryCachePort categoryCache,
+                                 CategoryTreePort categoryTree) {
         this.categoryRepository = categoryRepository;
         this.categoryCache = categoryCache;
+        this.categoryTree = categoryTree;
     }
     @Override
     public Category execute(CreateCategoryCommand command) {
@@ -27,6 +31,7 @@ public class CreateCategoryService implements CreateCategoryUseCase {
         Category saved = categoryRepository.save(category);
         // read-after-write: put the created category into per-id cache and update all-list cache
         categoryCache.putById(saved.getId().toString(), saved);
+        categoryTree.place(saved);
         return saved;
     }
 }
\ No newline at end of file
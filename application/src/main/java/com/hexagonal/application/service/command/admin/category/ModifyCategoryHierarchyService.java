@@ -4,6 +4,7 @@ import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.admin.category.ModifyCategoryHierarchyUseCase;
 import com.hexagonal.application.port.out.CategoryCachePort;
 import com.hexagonal.application.port.out.CategoryRepositoryPort;
+import com.hexagonal.application.port.out.CategoryTreePort;
 import com.hexagonal.domain.entity.Category;
 import com.hexagonal.domain.vo.ID;
 
@@ -11,18 +12,26 @@ import com.hexagonal.domain.vo.ID;
 public class ModifyCategoryHierarchyService implements ModifyCategoryHierarchyUseCase {
     private final CategoryRepositoryPort categoryRepository;
     private final CategoryCachePort categoryCache;
+    private final CategoryTreePort categoryTree;
 
-    public ModifyCategoryHierarchyService(CategoryRepositoryPort categoryRepository, CategoryCachePort categoryCache) {
+    public ModifyCategoryHierarchyService(CategoryRepositoryPort categoryRepository, CategoryCachePort categoryCache,
+                                          CategoryTreePort categoryTree) {
         this.categoryRepository = categoryRepository;
         this.categoryCache = categoryCache;
+        this.categoryTree = categoryTree;
     }
     @Override
     public void setParentCategory(ID categoryId, ID parentCategoryId) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
+        // Kategori kendi alt ağacındaki bir kategorinin altına taşınamaz (döngü oluşur)
+        if (parentCategoryId != null && categoryTree.isInSubtree(categoryId, parentCategoryId)) {
+            throw new IllegalArgumentException("Category cannot be moved under its own subcategory");
+        }
         category.setParentCategory(parentCategoryId);
         categoryRepository.save(category);
         categoryCache.invalidateById(categoryId.toString());
+        categoryTree.place(category);
     }
 
     @Override
@@ -32,5 +41,6 @@ public class ModifyCategoryHierarchyService implements ModifyCategoryHierarchyUs
         category.removeParentCategory();
         categoryRepository.save(category);
         categoryCache.invalidateById(categoryId.toString());
+        categoryTree.place(category);
     }
 }
\ No newline at end of file
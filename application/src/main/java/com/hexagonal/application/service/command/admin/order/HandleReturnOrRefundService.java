@@ -3,19 +3,24 @@ package com.hexagonal.application.service.command.admin.order;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.admin.order.HandleReturnOrRefundUseCase;
 import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.application.port.out.OrderStatisticsPort;
 import com.hexagonal.application.port.out.PaymentRepositoryPort;
 import com.hexagonal.application.dto.RefundCommand;
 import com.hexagonal.domain.entity.Order;
 import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.OrderStatus;
 
 @UseCase
 public class HandleReturnOrRefundService implements HandleReturnOrRefundUseCase {
     private final OrderRepositoryPort orderRepository;
     private final PaymentRepositoryPort paymentRepository;
+    private final OrderStatisticsPort orderStatistics;
 
-    public HandleReturnOrRefundService(OrderRepositoryPort orderRepository, PaymentRepositoryPort paymentRepository) {
+    public HandleReturnOrRefundService(OrderRepositoryPort orderRepository, PaymentRepositoryPort paymentRepository,
+                                       OrderStatisticsPort orderStatistics) {
         this.orderRepository = orderRepository;
         this.paymentRepository = paymentRepository;
+        this.orderStatistics = orderStatistics;
     }
 
     @Override
@@ -32,9 +37,12 @@ public class HandleReturnOrRefundService implements HandleReturnOrRefundUseCase
         paymentRepository.createRefund(orderId, command.getAmount(), command.getReason());
 
         // set order status to CANCELLED if refundable, otherwise keep or set appropriate status
+        OrderStatus previousStatus = order.getStatus();
         order.cancel();
 
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        orderStatistics.recordTransition(savedOrder, previousStatus);
+        return savedOrder;
     }
 }
 
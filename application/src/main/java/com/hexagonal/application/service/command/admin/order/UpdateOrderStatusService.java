@@ -3,6 +3,7 @@ package com.hexagonal.application.service.command.admin.order;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.admin.order.UpdateOrderStatusUseCase;
 import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.application.port.out.OrderStatisticsPort;
 import com.hexagonal.domain.vo.ID;
 import com.hexagonal.domain.vo.OrderStatus;
 import com.hexagonal.domain.entity.Order;
@@ -10,15 +11,18 @@ import com.hexagonal.domain.entity.Order;
 @UseCase
 public class UpdateOrderStatusService implements UpdateOrderStatusUseCase {
     private final OrderRepositoryPort orderRepository;
+    private final OrderStatisticsPort orderStatistics;
 
-    public UpdateOrderStatusService(OrderRepositoryPort orderRepository) {
+    public UpdateOrderStatusService(OrderRepositoryPort orderRepository, OrderStatisticsPort orderStatistics) {
         this.orderRepository = orderRepository;
+        this.orderStatistics = orderStatistics;
     }
 
     @Override
     public Order execute(ID orderId, OrderStatus newStatus) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        OrderStatus previousStatus = order.getStatus();
 
         // perform transition depending on newStatus
         switch (newStatus) {
@@ -31,7 +35,11 @@ public class UpdateOrderStatusService implements UpdateOrderStatusUseCase {
             default -> throw new IllegalArgumentException("Unsupported status: " + newStatus);
         }
 
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+
+        // İstatistik sayaçları yalnızca kaydedilen geçişle güncellenir
+        orderStatistics.recordTransition(savedOrder, previousStatus);
+        return savedOrder;
     }
 }
 
@@ -3,7 +3,10 @@ package com.hexagonal.application.service.command.admin.product;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.dto.CreateProductCommand;
 import com.hexagonal.application.port.in.admin.product.CreateProductUseCase;
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.port.out.ProductSearchIndexPort;
 import com.hexagonal.domain.entity.Product;
 import com.hexagonal.domain.exception.DuplicateEntityException;
 import com.hexagonal.domain.service.ProductDomainService;
@@ -22,16 +25,26 @@ import java.util.Set;
  * - Product entity'sini oluşturur
  * - ProductDomainService'i çağırarak ürün özelliklerini ayarlar
  * - Repository'ye kaydeder
+ * - Arama ve kategori indekslerine, katalog görünümlerine ekler
  */
 @UseCase
 public class CreateProductService implements CreateProductUseCase {
     private final ProductRepositoryPort productRepository;
     private final ProductDomainService productDomainService;
+    private final ProductSearchIndexPort productSearchIndex;
+    private final ProductCategoryIndexPort productCategoryIndex;
+    private final CatalogViewPort catalogView;
 
     public CreateProductService(ProductRepositoryPort productRepository,
-                                ProductDomainService productDomainService) {
+                                ProductDomainService productDomainService,
+                                ProductSearchIndexPort productSearchIndex,
+                                ProductCategoryIndexPort productCategoryIndex,
+                                CatalogViewPort catalogView) {
         this.productRepository = productRepository;
         this.productDomainService = productDomainService;
+        this.productSearchIndex = productSearchIndex;
+        this.productCategoryIndex = productCategoryIndex;
+        this.catalogView = catalogView;
     }
 
     /**
@@ -40,6 +53,7 @@ public class CreateProductService implements CreateProductUseCase {
      * 2. Ürünü oluştur
      * 3. Domain service'i kullanarak ürün özelliklerini ayarla
      * 4. Repository'ye kaydet
+     * 5. Arama ve kategori indekslerine, katalog görünümlerine ekle
      */
     @Override
     public Product execute(CreateProductCommand command) {
@@ -85,7 +99,11 @@ public class CreateProductService implements CreateProductUseCase {
             product.setDimensions(dimensions);
         }
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productSearchIndex.index(saved);
+        productCategoryIndex.index(saved);
+        catalogView.index(saved);
+        return saved;
     }
 }
 
@@ -3,10 +3,10 @@ package com.hexagonal.application.service.command.admin.product;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.dto.ManageStockCommand;
 import com.hexagonal.application.port.in.admin.product.ManageProductStockUseCase;
+import com.hexagonal.application.port.out.CatalogViewPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Product;
 import com.hexagonal.domain.exception.EntityNotFoundException;
-import com.hexagonal.domain.service.ProductDomainService;
 import com.hexagonal.domain.vo.ID;
 import com.hexagonal.domain.vo.Quantity;
 
@@ -14,51 +14,68 @@ import com.hexagonal.domain.vo.Quantity;
  * Application Service - Manage Product Stock Use Case Implementation
  *
  * Orkestrasyon Servisi:
- * - Repository'den ürünü alır
- * - ProductDomainService çağırarak domain logicini uygular
- * - Güncellenmiş ürünü repository'ye kaydeder
+ * - Stok değişikliğini ürünü okuyup yazmadan, repository'nin atomik stok işlemleriyle uygular
+ * - Ürünün varlığını yalnızca işlem hiçbir satırı değiştirmediğinde kontrol eder
+ * - Güncel ürünü repository'den okur
+ * - Stok durumu değişen ürünü katalog görünümlerinde günceller
  */
 @UseCase
 public class ManageProductStockService implements ManageProductStockUseCase {
     private final ProductRepositoryPort productRepository;
-    private final ProductDomainService productDomainService;
+    private final CatalogViewPort catalogView;
 
     public ManageProductStockService(ProductRepositoryPort productRepository,
-                                     ProductDomainService productDomainService) {
+                                     CatalogViewPort catalogView) {
         this.productRepository = productRepository;
-        this.productDomainService = productDomainService;
+        this.catalogView = catalogView;
     }
 
     /**
      * Stok yönetimi use case'i
-     * 1. Ürünü repository'den al
-     * 2. Domain service'i çağırarak stok işlemini yap
-     * 3. Güncellenmiş ürünü kaydet
+     * 1. Stok işlemini atomik olarak uygula (eşzamanlı satışlarla kayıp güncelleme olmaz)
+     * 2. İşlem uygulanmadıysa nedenini bul: ürün yok ya da stok yetersiz
+     * 3. Güncel ürünü oku
+     * 4. Katalog görünümlerini güncelle (stok bitince ürün aktif listeden çıkar)
      */
     @Override
     public Product execute(ManageStockCommand command) {
         ID productId = ID.of(command.getProductId());
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("Product", productId));
-
         Quantity quantity = Quantity.of(command.getQuantity());
 
-        // Domain service'i çağır
+        boolean applied;
         switch (command.getOperation()) {
             case ADD:
-                productDomainService.addStock(product, quantity);
+                requirePositive(quantity);
+                applied = productRepository.incrementStock(productId, quantity);
                 break;
             case REMOVE:
-                productDomainService.removeStock(product, quantity);
+                requirePositive(quantity);
+                applied = productRepository.decrementStockIfAvailable(productId, quantity);
                 break;
             case SET:
-                productDomainService.setStock(product, quantity);
+                applied = productRepository.updateStock(productId, quantity);
                 break;
             default:
                 throw new IllegalArgumentException("Unknown stock operation: " + command.getOperation());
         }
 
-        return productRepository.save(product);
+        if (!applied) {
+            if (!productRepository.existsById(productId)) {
+                throw new EntityNotFoundException("Product", productId);
+            }
+            // Var olan bir üründe yalnızca REMOVE başarısız olabilir; Product#removeStock ile aynı hata
+            throw new IllegalArgumentException("Insufficient stock");
+        }
+
+        Product updated = productRepository.findById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product", productId));
+        catalogView.index(updated);
+        return updated;
     }
-}
 
+    private void requirePositive(Quantity quantity) {
+        if (quantity.isZero()) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.hexagonal.application.service.command.admin.product;
 
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.admin.product.RemoveProductUseCase;
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.port.out.ProductSearchIndexPort;
 import com.hexagonal.domain.entity.Product;
 import com.hexagonal.domain.exception.EntityNotFoundException;
 import com.hexagonal.domain.vo.ID;
@@ -14,13 +17,23 @@ import com.hexagonal.domain.vo.ID;
  * - Ürünü repository'den alır
  * - Soft delete yaparak ürünü silinmiş olarak işaretler
  * - Hard delete için ayrı bir metod sunar
+ * - Ürünü arama ve kategori indekslerinden, katalog görünümlerinden çıkarır
  */
 @UseCase
 public class RemoveProductService implements RemoveProductUseCase {
     private final ProductRepositoryPort productRepository;
+    private final ProductSearchIndexPort productSearchIndex;
+    private final ProductCategoryIndexPort productCategoryIndex;
+    private final CatalogViewPort catalogView;
 
-    public RemoveProductService(ProductRepositoryPort productRepository) {
+    public RemoveProductService(ProductRepositoryPort productRepository,
+                                ProductSearchIndexPort productSearchIndex,
+                                ProductCategoryIndexPort productCategoryIndex,
+                                CatalogViewPort catalogView) {
         this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.productCategoryIndex = productCategoryIndex;
+        this.catalogView = catalogView;
     }
 
     /**
@@ -40,6 +53,9 @@ public class RemoveProductService implements RemoveProductUseCase {
         // Soft delete: silinmiş olarak işaretle
         product.markAsDiscontinued();
         productRepository.save(product);
+        productSearchIndex.remove(id);
+        productCategoryIndex.remove(id);
+        catalogView.remove(id);
     }
 
     /**
@@ -58,6 +74,9 @@ public class RemoveProductService implements RemoveProductUseCase {
 
         // Hard delete - dikkatli kullan!
         productRepository.deleteById(id);
+        productSearchIndex.remove(id);
+        productCategoryIndex.remove(id);
+        catalogView.remove(id);
     }
 }
 
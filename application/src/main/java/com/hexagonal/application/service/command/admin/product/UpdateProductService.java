@@ -3,7 +3,10 @@ package com.hexagonal.application.service.command.admin.product;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.dto.UpdateProductCommand;
 import com.hexagonal.application.port.in.admin.product.UpdateProductUseCase;
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.port.out.ProductSearchIndexPort;
 import com.hexagonal.domain.entity.Product;
 import com.hexagonal.domain.exception.EntityNotFoundException;
 import com.hexagonal.domain.service.ProductDomainService;
@@ -21,16 +24,26 @@ import java.util.Set;
  * - Repository'den ürün alır
  * - ProductDomainService kullanarak ürün özelliklerini günceller
  * - Güncellenmiş ürünü repository'ye kaydeder
+ * - Arama ve kategori indekslerini, katalog görünümlerini günceller
  */
 @UseCase
 public class UpdateProductService implements UpdateProductUseCase {
     private final ProductRepositoryPort productRepository;
     private final ProductDomainService productDomainService;
+    private final ProductSearchIndexPort productSearchIndex;
+    private final ProductCategoryIndexPort productCategoryIndex;
+    private final CatalogViewPort catalogView;
 
     public UpdateProductService(ProductRepositoryPort productRepository,
-                                ProductDomainService productDomainService) {
+                                ProductDomainService productDomainService,
+                                ProductSearchIndexPort productSearchIndex,
+                                ProductCategoryIndexPort productCategoryIndex,
+                                CatalogViewPort catalogView) {
         this.productRepository = productRepository;
         this.productDomainService = productDomainService;
+        this.productSearchIndex = productSearchIndex;
+        this.productCategoryIndex = productCategoryIndex;
+        this.catalogView = catalogView;
     }
 
     /**
@@ -38,6 +51,7 @@ public class UpdateProductService implements UpdateProductUseCase {
      * 1. Ürünü repository'den al
      * 2. Domain service kullanarak ürün özelliklerini güncelle
      * 3. Güncellenmiş ürünü kaydet
+     * 4. Arama ve kategori indekslerini, katalog görünümlerini güncelle
      */
     @Override
     public Product execute(UpdateProductCommand command) {
@@ -97,7 +111,11 @@ public class UpdateProductService implements UpdateProductUseCase {
             product.removeDimensions();
         }
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productSearchIndex.index(saved);
+        productCategoryIndex.index(saved);
+        catalogView.index(saved);
+        return saved;
     }
 }
 
@@ -50,12 +50,9 @@ public class AddProductToCartService implements AddProductToCartUseCase {
         ID customerId = ID.of(command.getCustomerId());
         ID productId = ID.of(command.getProductId());
 
-        // Sepeti al veya oluştur
+        // Sepeti al veya oluştur; yeni sepet ürünle birlikte tek seferde kaydedilir
         Cart cart = cartRepository.findByCustomerId(customerId)
-                .orElseGet(() -> {
-                    Cart newCart = Cart.create(customerId);
-                    return cartRepository.save(newCart);
-                });
+                .orElseGet(() -> Cart.create(customerId));
 
         // Ürünü repository'den al
         Product product = productRepository.findById(productId)
@@ -3,38 +3,133 @@ package com.hexagonal.application.service.command.customer.catalog;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.dto.SortProductsCommand;
 import com.hexagonal.application.port.in.customer.catalog.SortProductsUseCase;
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductPopularityPort;
+import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.ProductSpecifications;
+import com.hexagonal.domain.vo.ID;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Application Service - Sort Products Use Case Implementation
+ *
+ * Query Service:
+ * - Verilen listeyi tamamen veya sınırlı heap ile sayfa bazında sıralar
+ * - Katalog sayfalarını önceden sıralanmış katalog görünümlerinden dilim olarak okur; görünümler kurulana kadar
+ *   sayfa sınırlı heap ile seçilir
+ * - Popülerlik sıralamasında tamamlanan siparişlerden gelen sönümlü skorları kullanır
+ */
 @UseCase
 public class SortProductsService implements SortProductsUseCase {
-    public SortProductsService() {
+    private final CatalogViewPort catalogView;
+    private final ProductRepositoryPort productRepository;
+    private final ProductPopularityPort productPopularity;
+
+    public SortProductsService(CatalogViewPort catalogView,
+                               ProductRepositoryPort productRepository,
+                               ProductPopularityPort productPopularity) {
+        this.catalogView = catalogView;
+        this.productRepository = productRepository;
+        this.productPopularity = productPopularity;
     }
 
     @Override
     public List<Product> execute(List<Product> products, SortProductsCommand command) {
+        validate(products, command);
+
+        Comparator<Product> comparator = getComparator(command, products);
+        
+        if (isDescending(command)) {
+            comparator = comparator.reversed();
+        }
+
+        return products.stream()
+                .sorted(comparator)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sayfalı sıralama
+     * - Sadece offset + limit kadar ürün sınırlı bir heap'te tutulur, liste tamamen sıralanmaz
+     * - Sonuç tam sıralamanın [offset, offset + limit) aralığı ile aynıdır
+     */
+    @Override
+    public List<Product> execute(List<Product> products, SortProductsCommand command, int offset, int limit) {
+        validate(products, command);
+        validatePage(offset, limit);
+
+        TopKProductSelector.SortKey sortKey = getSortKey(command);
+        if (!TopKProductSelector.supports(products, sortKey)) {
+            // Fiyatı long anahtara sığmayan ürün varsa tam sıralama kullanılır
+            List<Product> sorted = execute(products, command);
+            return sorted.subList(Math.min(offset, sorted.size()), (int) Math.min((long) offset + limit, sorted.size()));
+        }
+        return TopKProductSelector.select(products, sortKey, isDescending(command), offset, limit);
+    }
+
+    /**
+     * Katalog görünümünden sayfalı sıralama
+     * 1. Sıralama alanını katalog görünümü anahtarına çevir
+     * 2. Görünümden istenen dilimdeki ürün ID'lerini al
+     * 3. Sadece bu ürünleri repository'den tek sorguda yükle, görünümdeki sırayı koru
+     * Görünümler henüz kurulmadıysa (başlangıçtaki yeniden kurulum bitmeden) sayfa aktif ürünlerden
+     * sınırlı heap ile seçilir
+     */
+    @Override
+    public List<Product> execute(SortProductsCommand command, int offset, int limit) {
+        if (command == null) {
+            throw new IllegalArgumentException("SortProductsCommand cannot be null");
+        }
+        validatePage(offset, limit);
+
+        if (!catalogView.isBuilt()) {
+            return execute(productRepository.findAll(ProductSpecifications.isActive()), command, offset, limit);
+        }
+
+        List<ID> productIds = catalogView.slice(getViewKey(command), isDescending(command), offset, limit);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        // findAllById sıra garantisi vermez; sonuçlar görünümün sırasına göre dizilir
+        Map<ID, Product> productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .filter(Product::isActive)
+                .collect(Collectors.toList());
+    }
+
+    private void validate(List<Product> products, SortProductsCommand command) {
         if (products == null) {
             throw new IllegalArgumentException("Products list cannot be null");
         }
         if (command == null) {
             throw new IllegalArgumentException("SortProductsCommand cannot be null");
         }
+    }
 
-        Comparator<Product> comparator = getComparator(command);
-        
-        if ("desc".equalsIgnoreCase(command.getSortOrder())) {
-            comparator = comparator.reversed();
+    private void validatePage(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
         }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+    }
 
-        return products.stream()
-                .sorted(comparator)
-                .collect(Collectors.toList());
+    private boolean isDescending(SortProductsCommand command) {
+        return "desc".equalsIgnoreCase(command.getSortOrder());
     }
 
-    private Comparator<Product> getComparator(SortProductsCommand command) {
+    private Comparator<Product> getComparator(SortProductsCommand command, List<Product> products) {
         String sortBy = command.getSortBy().toLowerCase();
         
         switch (sortBy) {
@@ -43,12 +138,45 @@ public class SortProductsService implements SortProductsUseCase {
             case "name":
                 return Comparator.comparing(Product::getName);
             case "popularity":
-                // Note: Popularity would typically be based on order count or views
-                // For now, we'll use a default sort by name
-                return Comparator.comparing(Product::getName);
+                // Skorlar sıralama sırasında değişebilir, karşılaştırıcının tutarlı kalması için önce kopyalanır
+                Map<ID, Long> scores = products.stream()
+                        .map(Product::getId)
+                        .distinct()
+                        .collect(Collectors.toMap(id -> id, productPopularity::score));
+                return Comparator.<Product>comparingLong(product -> scores.get(product.getId()))
+                        .thenComparing(Product::getName);
             default:
                 throw new IllegalArgumentException("Invalid sort by field: " + command.getSortBy());
         }
     }
-}
 
+    private TopKProductSelector.SortKey getSortKey(SortProductsCommand command) {
+        String sortBy = command.getSortBy().toLowerCase();
+
+        switch (sortBy) {
+            case "price":
+                return TopKProductSelector.SortKey.PRICE;
+            case "name":
+                return TopKProductSelector.SortKey.NAME;
+            case "popularity":
+                return TopKProductSelector.SortKey.popularity(product -> productPopularity.score(product.getId()));
+            default:
+                throw new IllegalArgumentException("Invalid sort by field: " + command.getSortBy());
+        }
+    }
+
+    private CatalogViewPort.SortKey getViewKey(SortProductsCommand command) {
+        String sortBy = command.getSortBy().toLowerCase();
+
+        switch (sortBy) {
+            case "price":
+                return CatalogViewPort.SortKey.PRICE;
+            case "name":
+                return CatalogViewPort.SortKey.NAME;
+            case "popularity":
+                return CatalogViewPort.SortKey.POPULARITY;
+            default:
+                throw new IllegalArgumentException("Invalid sort by field: " + command.getSortBy());
+        }
+    }
+}
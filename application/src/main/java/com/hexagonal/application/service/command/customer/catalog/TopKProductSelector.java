@@ -0,0 +1,223 @@
+package com.hexagonal.application.service.command.customer.catalog;
+
+import com.hexagonal.domain.entity.Product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sınırlı heap ile top-K seçimi
+ * - Listeyi tamamen sıralamadan sıralamadaki ilk k ürünü seçer: O(n log k), sadece k elemanlık bellek
+ * - Sıralama anahtarı ürün başına bir kez primitive long olarak hesaplanır, karşılaştırmalarda boxing yoktur
+ * - Eşit anahtarlarda listedeki sıra korunur, sonuç kararlı (stable) tam sıralama ile aynıdır
+ */
+final class TopKProductSelector {
+
+    // Currency.getDefaultFractionDigits() en fazla 4 olduğu için tüm tutarlar bu ölçeğe kayıpsız çevrilir
+    private static final int PRICE_KEY_SCALE = 4;
+    private static final BigDecimal MAX_PRICE_KEY = BigDecimal.valueOf(Long.MAX_VALUE, PRICE_KEY_SCALE);
+
+    /**
+     * Sıralama anahtarı: ürün başına bir kez hesaplanan long anahtar ve anahtarlar eşitse kullanılan tam karşılaştırma
+     */
+    static final class SortKey {
+        // Yalnızca supports() ile long anahtara sığdığı doğrulanan tutarlar için kullanılır
+        static final SortKey PRICE = new SortKey(
+                product -> product.getPrice().getAmount()
+                        .setScale(PRICE_KEY_SCALE, RoundingMode.UNNECESSARY)
+                        .unscaledValue()
+                        .longValueExact(),
+                TopKProductSelector::hasPriceKey,
+                false,
+                (left, right) -> 0);
+
+        // İlk 4 UTF-16 karakteri long'a paketlenir; işaretsiz karşılaştırma String.compareTo sırasını korur
+        static final SortKey NAME = new SortKey(
+                product -> namePrefix(product.getName()),
+                product -> true,
+                true,
+                Comparator.comparing(Product::getName));
+
+        private final ToLongFunction<Product> keyFunction;
+        private final Predicate<Product> hasKey;
+        private final boolean unsignedKeys;
+        private final Comparator<Product> ties;
+
+        private SortKey(ToLongFunction<Product> keyFunction, Predicate<Product> hasKey, boolean unsignedKeys,
+                        Comparator<Product> ties) {
+            this.keyFunction = keyFunction;
+            this.hasKey = hasKey;
+            this.unsignedKeys = unsignedKeys;
+            this.ties = ties;
+        }
+
+        // Popülerlik skoru eşit olan ürünler isme göre sıralanır
+        static SortKey popularity(ToLongFunction<Product> scoreFunction) {
+            return new SortKey(scoreFunction, product -> true, false, Comparator.comparing(Product::getName));
+        }
+
+        long keyOf(Product product) {
+            return keyFunction.applyAsLong(product);
+        }
+
+        int compareKeys(long left, long right) {
+            return unsignedKeys ? Long.compareUnsigned(left, right) : Long.compare(left, right);
+        }
+
+        int compareTies(Product left, Product right) {
+            return ties.compare(left, right);
+        }
+
+        private static long namePrefix(String name) {
+            long key = 0;
+            for (int i = 0; i < 4; i++) {
+                key = (key << 16) | (i < name.length() ? name.charAt(i) : 0);
+            }
+            return key;
+        }
+    }
+
+    private final SortKey sortKey;
+    private final boolean descending;
+    private final Product[] heapProducts;
+    private final long[] heapKeys;
+    private final int[] heapPositions;
+    private int size;
+
+    private TopKProductSelector(SortKey sortKey, boolean descending, int capacity) {
+        this.sortKey = sortKey;
+        this.descending = descending;
+        this.heapProducts = new Product[capacity];
+        this.heapKeys = new long[capacity];
+        this.heapPositions = new int[capacity];
+    }
+
+    /**
+     * Listedeki her ürünün anahtarı long'a kayıpsız sığıyorsa true; değilse çağıran tam sıralama kullanır.
+     */
+    static boolean supports(List<Product> products, SortKey sortKey) {
+        for (Product product : products) {
+            if (!sortKey.hasKey.test(product)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sıralamada offset'ten sonra gelen en fazla limit ürünü döndürür. Anahtarlar önce {@link #supports} ile
+     * doğrulanmalıdır.
+     */
+    static List<Product> select(List<Product> products, SortKey sortKey, boolean descending, int offset, int limit) {
+        int capacity = (int) Math.min((long) offset + limit, products.size());
+        if (capacity <= offset) {
+            return new ArrayList<>();
+        }
+
+        TopKProductSelector selector = new TopKProductSelector(sortKey, descending, capacity);
+        int position = 0;
+        for (Product product : products) {
+            selector.offer(product, position++);
+        }
+        return selector.drain(offset);
+    }
+
+    // Tutar PRICE_KEY_SCALE ölçeğinde long aralığında kalıyorsa anahtar kayıpsızdır
+    private static boolean hasPriceKey(Product product) {
+        BigDecimal amount = product.getPrice().getAmount();
+        return amount.scale() <= PRICE_KEY_SCALE && amount.abs().compareTo(MAX_PRICE_KEY) <= 0;
+    }
+
+    private void offer(Product product, int position) {
+        long key = sortKey.keyOf(product);
+        if (size < heapProducts.length) {
+            set(size, product, key, position);
+            siftUp(size++);
+        } else if (compare(product, key, position, 0) < 0) {
+            // Kökte tutulanların en kötüsü var, yeni ürün ondan iyiyse yerine geçer
+            set(0, product, key, position);
+            siftDown(0);
+        }
+    }
+
+    private List<Product> drain(int offset) {
+        Product[] sorted = new Product[size];
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = heapProducts[0];
+            size--;
+            if (size > 0) {
+                set(0, heapProducts[size], heapKeys[size], heapPositions[size]);
+                siftDown(0);
+            }
+            heapProducts[size] = null;
+        }
+        return new ArrayList<>(Arrays.asList(sorted).subList(offset, sorted.length));
+    }
+
+    // Max-heap: her düğüm çocuklarından sıralamada daha sonra gelir
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compareSlots(index, parent) <= 0) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && compareSlots(left, largest) > 0) {
+                largest = left;
+            }
+            if (right < size && compareSlots(right, largest) > 0) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(index, largest);
+            index = largest;
+        }
+    }
+
+    private int compareSlots(int left, int right) {
+        return compare(heapProducts[left], heapKeys[left], heapPositions[left], right);
+    }
+
+    private int compare(Product product, long key, int position, int slot) {
+        int result = sortKey.compareKeys(key, heapKeys[slot]);
+        if (result == 0) {
+            result = sortKey.compareTies(product, heapProducts[slot]);
+        }
+        if (descending) {
+            result = -result;
+        }
+        // Eşitlikte listedeki sıra korunur
+        return result != 0 ? result : Integer.compare(position, heapPositions[slot]);
+    }
+
+    private void set(int slot, Product product, long key, int position) {
+        heapProducts[slot] = product;
+        heapKeys[slot] = key;
+        heapPositions[slot] = position;
+    }
+
+    private void swap(int left, int right) {
+        Product product = heapProducts[left];
+        long key = heapKeys[left];
+        int position = heapPositions[left];
+        set(left, heapProducts[right], heapKeys[right], heapPositions[right]);
+        set(right, product, key, position);
+    }
+}
@@ -4,33 +4,47 @@ import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.dto.CompletePurchaseCommand;
 import com.hexagonal.application.port.in.customer.checkout.CompletePurchaseUseCase;
 import com.hexagonal.application.port.out.CartRepositoryPort;
+import com.hexagonal.application.port.out.CatalogViewPort;
 import com.hexagonal.application.port.out.CustomerRepositoryPort;
 import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.application.port.out.OrderStatisticsPort;
+import com.hexagonal.application.port.out.ProductCachePort;
+import com.hexagonal.application.port.out.ProductPopularityPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.entity.CartItem;
 import com.hexagonal.domain.entity.Customer;
 import com.hexagonal.domain.entity.Order;
 import com.hexagonal.domain.entity.OrderItem;
 import com.hexagonal.domain.entity.Product;
 import com.hexagonal.domain.exception.EntityNotFoundException;
 import com.hexagonal.domain.exception.InsufficientStockException;
-import com.hexagonal.domain.service.ProductDomainService;
 import com.hexagonal.domain.vo.Address;
 import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Quantity;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Application Service - Complete Purchase Use Case Implementation
  *
  * Karmaşık Orkestrasyon Servisi:
  * - Müşteri ve sepet bilgisini alır
- * - Stok kontrolü yapar
- * - ProductDomainService'i çağırarak stok azaltır
+ * - Sepetteki ürünleri önce cache'den toplu okur, yalnızca eksikleri repository'den yükler
+ * - Stok kontrolü yapar (cache'den gelen stok yetmiyorsa repository'den doğrular)
+ * - Stoğu ürün başına atomik koşullu güncelleme ile azaltır, hata olursa geri verir
  * - Order entity'sini oluşturur
  * - Sepeti sipariş haline dönüştürür
  * - Tüm değişiklikleri kaydeder
+ * - Stok durumu değişen ürünleri katalog görünümlerinde günceller
+ * - Siparişteki ürünleri popülerlik sayaçlarına işler
  */
 @UseCase
 public class CompletePurchaseService implements CompletePurchaseUseCase {
@@ -38,30 +52,40 @@ public class CompletePurchaseService implements CompletePurchaseUseCase {
     private final CustomerRepositoryPort customerRepository;
     private final OrderRepositoryPort orderRepository;
     private final ProductRepositoryPort productRepository;
-    private final ProductDomainService productDomainService;
+    private final CatalogViewPort catalogView;
+    private final ProductPopularityPort productPopularity;
+    private final ProductCachePort productCache;
+    private final OrderStatisticsPort orderStatistics;
 
     public CompletePurchaseService(
             CartRepositoryPort cartRepository,
             CustomerRepositoryPort customerRepository,
             OrderRepositoryPort orderRepository,
             ProductRepositoryPort productRepository,
-            ProductDomainService productDomainService) {
+            CatalogViewPort catalogView,
+            ProductPopularityPort productPopularity,
+            ProductCachePort productCache,
+            OrderStatisticsPort orderStatistics) {
         this.cartRepository = cartRepository;
         this.customerRepository = customerRepository;
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
-        this.productDomainService = productDomainService;
+        this.catalogView = catalogView;
+        this.productPopularity = productPopularity;
+        this.productCache = productCache;
+        this.orderStatistics = orderStatistics;
     }
 
     /**
      * Satın alım tamamlama use case'i
      * 1. Müşteri ve sepeti al
      * 2. Sepet boş olmadığını kontrol et
-     * 3. Sepet ürünlerini sipariş ürünlerine dönüştür ve stok kontrol et
-     * 4. ProductDomainService kullanarak stok azalt
+     * 3. Sepetteki ürünleri cache'den tek seferde al (eksikler tek sorguda yüklenir), sipariş ürünlerine dönüştür ve stok kontrol et
+     * 4. Stoğu ürün başına koşullu güncelleme ile azalt (stok yetmezse önceki düşümler geri alınır)
      * 5. Order entity'sini oluştur
      * 6. Sepeti sipariş haline dönüştür
      * 7. Tüm değişiklikleri kaydet
+     * 8. Katalog görünümlerini, popülerlik ve sipariş istatistik sayaçlarını güncelle
      */
     @Override
     public Order execute(CompletePurchaseCommand command) {
@@ -83,19 +107,29 @@ public class CompletePurchaseService implements CompletePurchaseUseCase {
             throw new IllegalStateException("Cannot complete purchase with empty cart");
         }
 
-        // Sepet ürünlerini sipariş ürünlerine dönüştür ve stok kontrol et
+        // Sepetteki tüm ürünleri cache'den tek seferde al, bulunamayanları tek sorguda yükle
+        List<ID> productIds = cart.getItems().stream()
+                .map(CartItem::getProductId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<ID, Product> products = new HashMap<>(productCache.getAll(productIds));
+        Set<ID> cachedProductIds = new HashSet<>(products.keySet());
+        List<ID> missingProductIds = productIds.stream()
+                .filter(productId -> !products.containsKey(productId))
+                .collect(Collectors.toList());
+        if (!missingProductIds.isEmpty()) {
+            List<Product> loaded = productRepository.findAllById(missingProductIds);
+            productCache.putAll(loaded);
+            loaded.forEach(product -> products.put(product.getId(), product));
+        }
+
+        // Sepet ürünlerini sipariş ürünlerine dönüştür, ürün başına istenen toplam miktarı hesapla
         List<OrderItem> orderItems = new ArrayList<>();
+        Map<ID, Quantity> requestedQuantities = new LinkedHashMap<>();
         for (var cartItem : cart.getItems()) {
-            Product product = productRepository.findById(cartItem.getProductId())
-                    .orElseThrow(() -> new EntityNotFoundException("Product", cartItem.getProductId()));
-
-            // Stok doğrulaması
-            if (!product.hasStock(cartItem.getQuantity())) {
-                throw new InsufficientStockException(
-                        cartItem.getProductId(),
-                        cartItem.getQuantity(),
-                        product.getStockQuantity()
-                );
+            Product product = products.get(cartItem.getProductId());
+            if (product == null) {
+                throw new EntityNotFoundException("Product", cartItem.getProductId());
             }
 
             // Sipariş ürünü oluştur
@@ -106,29 +140,87 @@ public class CompletePurchaseService implements CompletePurchaseUseCase {
                     cartItem.getUnitPrice()
             );
             orderItems.add(orderItem);
-
-            // Domain service kullanarak stok azalt
-            productDomainService.removeStock(product, cartItem.getQuantity());
-            productRepository.save(product);
+            requestedQuantities.merge(cartItem.getProductId(), cartItem.getQuantity(), Quantity::add);
         }
 
+        // Yüklenen stok ile ön kontrol: yetmeyeceği belli olan siparişte hiçbir yazma yapılmaz.
+        // Cache'deki stok eski olabilir; yetmiyorsa karar repository'deki güncel stokla verilir.
+        // findById aynı cache'den okuyabileceği için güncel stok findAllById ile okunur, eski kayıt cache'den düşülür.
+        requestedQuantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (!product.hasStock(quantity) && cachedProductIds.contains(productId)) {
+                product = productRepository.findAllById(List.of(productId)).stream().findFirst().orElse(product);
+                productCache.invalidateById(productId);
+            }
+            if (!product.hasStock(quantity)) {
+                throw new InsufficientStockException(productId, quantity, product.getStockQuantity());
+            }
+        });
+
         // Gönderim adresini al
         Address shippingAddress = customer.getAddress();
         if (shippingAddress == null) {
             throw new IllegalStateException("Shipping address is required to complete purchase");
         }
 
+        // Stok, ürün başına tek bir koşullu güncelleme ile düşülür (okuma-değiştirme-yazma yok)
+        Map<ID, Quantity> reserved = reserveStock(requestedQuantities);
+
         // Order entity'sini oluştur (gönderim adresi fatura adresi olarak da kullanılır)
         Order order = Order.create(customerId, orderItems, shippingAddress, shippingAddress);
 
-        // Order'ı kaydet
-        Order savedOrder = orderRepository.save(order);
+        // Order'ı kaydet; kaydedilemezse düşülen stok geri verilir
+        Order savedOrder;
+        try {
+            savedOrder = orderRepository.save(order);
+        } catch (RuntimeException e) {
+            releaseStock(reserved);
+            throw e;
+        }
 
         // Sepeti sipariş haline dönüştür
         cart.convertToOrder();
         cartRepository.save(cart);
 
+        // Stok değişikliklerini sıralı katalog görünümlerine yansıt (güncel stok tek sorguda okunur).
+        // Ürün cache'ini stok güncellemesini yapan repository adapter'ı commit sonrası günceller.
+        List<Product> updatedProducts = productRepository.findAllById(reserved.keySet());
+        updatedProducts.forEach(catalogView::index);
+
+        // Popülerlik sayaçları kilitsizdir, satın alma akışını yavaşlatmaz
+        savedOrder.getItems().stream()
+                .map(OrderItem::getProductId)
+                .distinct()
+                .forEach(productPopularity::recordOrder);
+        orderStatistics.recordTransition(savedOrder, null);
+
         return savedOrder;
     }
+
+    /**
+     * Ürünlerin stoğunu sırayla koşullu olarak düşer.
+     * Bir üründe stok yetmezse (eşzamanlı başka bir alım düşmüş olabilir) o ana kadar düşülenler geri verilir.
+     */
+    private Map<ID, Quantity> reserveStock(Map<ID, Quantity> requestedQuantities) {
+        Map<ID, Quantity> reserved = new LinkedHashMap<>();
+        for (Map.Entry<ID, Quantity> requested : requestedQuantities.entrySet()) {
+            if (!productRepository.decrementStockIfAvailable(requested.getKey(), requested.getValue())) {
+                releaseStock(reserved);
+                throw new InsufficientStockException(
+                        requested.getKey(),
+                        requested.getValue(),
+                        productRepository.findById(requested.getKey())
+                                .map(Product::getStockQuantity)
+                                .orElse(Quantity.zero())
+                );
+            }
+            reserved.put(requested.getKey(), requested.getValue());
+        }
+        return reserved;
+    }
+
+    private void releaseStock(Map<ID, Quantity> reserved) {
+        reserved.forEach(productRepository::incrementStock);
+    }
 }
 
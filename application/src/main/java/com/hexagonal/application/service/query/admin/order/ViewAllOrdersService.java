@@ -4,11 +4,23 @@ import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.admin.order.ViewAllOrdersUseCase;
 import com.hexagonal.domain.entity.Order;
 import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.domain.specification.OrderSpecifications;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
 import java.util.List;
+import java.util.stream.Stream;
 
 @UseCase
 public class ViewAllOrdersService implements ViewAllOrdersUseCase {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepositoryPort orderRepository;
 
     public ViewAllOrdersService(OrderRepositoryPort orderRepository) {
@@ -19,5 +31,70 @@ public class ViewAllOrdersService implements ViewAllOrdersUseCase {
     public List<Order> execute() {
         return orderRepository.findAll();
     }
-}
 
+    /**
+     * Admin sipariş arama use case'i
+     * - Filtreler OrderSpecifications ile birleştirilir ve veritabanında çalışır
+     * - Sonuçlar en yeniden eskiye, keyset (after) ile sayfalanır
+     */
+    @Override
+    public List<Order> execute(SearchOrdersQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("SearchOrdersQuery cannot be null");
+        }
+        if (query.from() != null && query.to() != null && !query.from().isBefore(query.to())) {
+            throw new IllegalArgumentException("Date range start must be before its end");
+        }
+
+        ID after = query.after() != null && !query.after().isBlank() ? ID.of(query.after()) : null;
+        return orderRepository.findAll(toSpecification(query), after, resolveSize(query.size()));
+    }
+
+    /**
+     * Tüm siparişleri bellekte toplamadan akıtır; dışa aktarım bu yolu kullanır.
+     * Stream veritabanı cursor'ını tuttuğu için çağıran kapatmalıdır.
+     */
+    @Override
+    public Stream<Order> stream() {
+        return orderRepository.streamAll();
+    }
+
+    private Specification<Order> toSpecification(SearchOrdersQuery query) {
+        List<Specification<Order>> filters = new ArrayList<>();
+        if (query.status() != null && !query.status().isBlank()) {
+            filters.add(OrderSpecifications.hasStatus(OrderStatus.valueOf(query.status())));
+        }
+        if (query.customerId() != null && !query.customerId().isBlank()) {
+            filters.add(OrderSpecifications.belongsToCustomer(ID.of(query.customerId())));
+        }
+        if (query.from() != null) {
+            filters.add(OrderSpecifications.createdFrom(query.from()));
+        }
+        if (query.to() != null) {
+            filters.add(OrderSpecifications.createdBefore(query.to()));
+        }
+        if (query.minTotal() != null) {
+            filters.add(OrderSpecifications.totalAmountGreaterThan(money(query.minTotal(), query.currency())));
+        }
+        if (query.maxTotal() != null) {
+            filters.add(OrderSpecifications.totalAmountLessThan(money(query.maxTotal(), query.currency())));
+        }
+
+        // Filtre yoksa null: tüm siparişler
+        return filters.stream().reduce(Specification::and).orElse(null);
+    }
+
+    private static Money money(BigDecimal amount, String currency) {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("Currency is required for a total amount range");
+        }
+        return Money.of(amount, Currency.getInstance(currency));
+    }
+
+    private int resolveSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
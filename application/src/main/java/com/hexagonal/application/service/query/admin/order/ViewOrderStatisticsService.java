@@ -0,0 +1,60 @@
+package com.hexagonal.application.service.query.admin.order;
+
+import com.hexagonal.application.common.UseCase;
+import com.hexagonal.application.port.in.admin.order.ViewOrderStatisticsUseCase;
+import com.hexagonal.application.port.out.OrderStatisticsPort;
+import com.hexagonal.application.port.out.OrderStatisticsPort.OrderStatistics;
+import com.hexagonal.domain.vo.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@UseCase
+public class ViewOrderStatisticsService implements ViewOrderStatisticsUseCase {
+    static final int DEFAULT_DAYS = 30;
+    static final int MAX_DAYS = 366;
+
+    private final OrderStatisticsPort orderStatistics;
+
+    public ViewOrderStatisticsService(OrderStatisticsPort orderStatistics) {
+        this.orderStatistics = orderStatistics;
+    }
+
+    /**
+     * Admin sipariş panosu use case'i
+     * - Değerler durum geçişlerinde güncellenen sayaçlardan okunur, siparişler taranmaz
+     * - Her durum ve her gün için tek bir sayaç okunur; gün aralığı MAX_DAYS ile sınırlıdır
+     */
+    @Override
+    public OrderDashboard execute(String currencyCode, LocalDate from, LocalDate to) {
+        if (currencyCode == null || currencyCode.isBlank()) {
+            throw new IllegalArgumentException("Currency cannot be null or empty");
+        }
+        Currency currency = Currency.getInstance(currencyCode);
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Date range start must not be after its end");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Date range cannot be longer than " + MAX_DAYS + " days");
+        }
+
+        Map<OrderStatus, OrderStatistics> byStatus = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, orderStatistics.byStatus(status, currency));
+        }
+
+        Map<LocalDate, OrderStatistics> byDay = new LinkedHashMap<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            byDay.put(day, orderStatistics.byDay(day, currency));
+        }
+
+        return new OrderDashboard(currency.getCurrencyCode(), orderStatistics.byCurrency(currency), byStatus, byDay);
+    }
+}
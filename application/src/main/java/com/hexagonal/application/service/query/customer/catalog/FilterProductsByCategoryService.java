@@ -3,26 +3,39 @@ package com.hexagonal.application.service.query.customer.catalog;
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.dto.FilterProductsByCategoryCommand;
 import com.hexagonal.application.port.in.customer.catalog.FilterProductsByCategoryUseCase;
+import com.hexagonal.application.port.out.CategoryTreePort;
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.ProductSpecifications;
+import com.hexagonal.domain.specification.Specification;
 import com.hexagonal.domain.vo.ID;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Application Service - Filter Products By Category Use Case Implementation
  *
  * Query Service:
- * - Repository'den tüm ürünleri alır
- * - Kategori ve durum bazında filtreler
+ * - Kategori indeksinden eşleşen ürün ID'lerini alır (çoklu kategoride kesişim/birleşim)
+ * - Alt ağaç sorgularında kategori ve altındaki tüm kategorileri ağaç indeksinden tek aralık olarak alır
+ * - Sadece eşleşen ürünleri repository'den yükler
+ * - Yüklenen ürünlere specification'ı tekrar uygular, böylece indeks ile repository arasındaki farklar sonuca yansımaz
  */
 @UseCase
 public class FilterProductsByCategoryService implements FilterProductsByCategoryUseCase {
     private final ProductRepositoryPort productRepository;
+    private final ProductCategoryIndexPort productCategoryIndex;
+    private final CategoryTreePort categoryTree;
 
-    public FilterProductsByCategoryService(ProductRepositoryPort productRepository) {
+    public FilterProductsByCategoryService(ProductRepositoryPort productRepository,
+                                           ProductCategoryIndexPort productCategoryIndex,
+                                           CategoryTreePort categoryTree) {
         this.productRepository = productRepository;
+        this.productCategoryIndex = productCategoryIndex;
+        this.categoryTree = categoryTree;
     }
 
     /**
@@ -35,11 +48,76 @@ public class FilterProductsByCategoryService implements FilterProductsByCategory
             throw new IllegalArgumentException("FilterProductsByCategoryCommand cannot be null");
         }
 
-        ID categoryId = ID.of(command.getCategoryId());
-        return productRepository.findAll().stream()
-                .filter(Product::isActive)
-                .filter(product -> product.hasCategory(categoryId))
+        Set<ID> categoryIds = Set.of(ID.of(command.getCategoryId()));
+        return load(productCategoryIndex.findByAnyCategory(categoryIds),
+                ProductSpecifications.isActive().and(ProductSpecifications.hasAnyCategory(categoryIds)));
+    }
+
+    /**
+     * Ürünleri birden fazla kategoriye göre filtreleme use case'i
+     * 1. Kategori ID'lerini doğrula
+     * 2. matchAll ise tüm kategorilerde, değilse en az birinde olan ürün ID'lerini indeksten al
+     * 3. Aktif ürünleri döndür
+     */
+    @Override
+    public List<Product> execute(FilterProductsByCategoriesQuery query) {
+        if (query == null || query.categoryIds() == null || query.categoryIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one category id is required");
+        }
+
+        Set<ID> categoryIds = query.categoryIds().stream()
+                .map(ID::of)
+                .collect(Collectors.toSet());
+
+        if (query.matchAll()) {
+            return load(productCategoryIndex.findByAllCategories(categoryIds),
+                    ProductSpecifications.isActive().and(ProductSpecifications.hasAllCategories(categoryIds)));
+        }
+        return load(productCategoryIndex.findByAnyCategory(categoryIds),
+                ProductSpecifications.isActive().and(ProductSpecifications.hasAnyCategory(categoryIds)));
+    }
+
+    /**
+     * Kategori ve altındaki tüm kategorilerdeki ürünleri filtreleme use case'i
+     * - Alt ağaç, ağaç indeksinden tek aralık olarak alınır (repository'ye özyinelemeli çağrı yok)
+     * - Aktif ürünleri döndür
+     */
+    @Override
+    public List<Product> execute(FilterProductsBySubtreeQuery query) {
+        if (query == null || query.categoryId() == null) {
+            throw new IllegalArgumentException("Category id is required");
+        }
+
+        Set<ID> categoryIds = subtree(query.categoryId());
+        return load(productCategoryIndex.findByAnyCategory(categoryIds),
+                ProductSpecifications.isActive().and(ProductSpecifications.hasAnyCategory(categoryIds)));
+    }
+
+    /**
+     * Kategori alt ağacındaki farklı ürün sayısı (indeksteki bitmap birleşiminin kardinalitesi, ürünler yüklenmez)
+     */
+    @Override
+    public int countProductsInSubtree(String categoryId) {
+        if (categoryId == null) {
+            throw new IllegalArgumentException("Category id is required");
+        }
+        return productCategoryIndex.countByAnyCategory(subtree(categoryId));
+    }
+
+    private Set<ID> subtree(String categoryId) {
+        ID rootId = ID.of(categoryId);
+        List<ID> subtree = categoryTree.subtreeOf(rootId);
+        // Ağaçta henüz olmayan kategori yalnızca kendisiyle sorgulanır
+        return subtree.isEmpty() ? Set.of(rootId) : Set.copyOf(subtree);
+    }
+
+    private List<Product> load(Set<ID> productIds, Specification<Product> specification) {
+        // Sadece indeksteki eşleşmeler tek sorguda yüklenir, tüm katalog taranmaz
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findAllById(productIds).stream()
+                .filter(specification::isSatisfiedBy)
                 .collect(Collectors.toList());
     }
 }
-
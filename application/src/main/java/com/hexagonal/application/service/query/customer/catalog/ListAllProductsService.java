@@ -4,19 +4,24 @@ import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.customer.catalog.ListAllProductsUseCase;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.ProductSpecifications;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.ProductStatus;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Application Service - List All Products Use Case Implementation
  *
  * Query Service:
- * - Repository'den tüm ürünleri alır
- * - Sadece aktif ürünleri filtreler
+ * - Repository'den sadece aktif ürünleri alır (filtre veritabanında çalışır)
+ * - Sayfalı (page/size) ve cursor (after) bazlı listeleme sunar
  */
 @UseCase
 public class ListAllProductsService implements ListAllProductsUseCase {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepositoryPort productRepository;
 
     public ListAllProductsService(ProductRepositoryPort productRepository) {
@@ -29,9 +34,36 @@ public class ListAllProductsService implements ListAllProductsUseCase {
      */
     @Override
     public List<Product> execute() {
-        return productRepository.findAll().stream()
-                .filter(Product::isActive)
-                .collect(Collectors.toList());
+        return productRepository.findAll(ProductSpecifications.isActive());
     }
-}
 
+    /**
+     * Sayfalı ürün listeleme use case'i
+     * - Filtreleme veritabanında yapılır, sadece istenen sayfa yüklenir
+     * - after verilmişse keyset (cursor) sayfalama kullanılır
+     */
+    @Override
+    public List<Product> execute(ListProductsQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("ListProductsQuery cannot be null");
+        }
+
+        int size = resolveSize(query.size());
+        if (query.after() != null && !query.after().isBlank()) {
+            return productRepository.findAllByStatusAfter(ProductStatus.ACTIVE, ID.of(query.after()), size);
+        }
+
+        int page = query.page() != null ? query.page() : 0;
+        if (page < 0) {
+            throw new IllegalArgumentException("Page cannot be negative");
+        }
+        return productRepository.findAllByStatus(ProductStatus.ACTIVE, page, size);
+    }
+
+    private int resolveSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
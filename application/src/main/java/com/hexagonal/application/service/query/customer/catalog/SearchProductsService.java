@@ -4,17 +4,30 @@ import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.dto.SearchProductsCommand;
 import com.hexagonal.application.port.in.customer.catalog.SearchProductsUseCase;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.port.out.ProductSearchIndexPort;
 import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Application Service - Search Products Use Case Implementation
+ *
+ * Query Service:
+ * - Arama indeksinden eşleşen ürün ID'lerini alır
+ * - Sadece eşleşen ürünleri repository'den yükler ve aktif olanları döndürür
+ */
 @UseCase
 public class SearchProductsService implements SearchProductsUseCase {
     private final ProductRepositoryPort productRepository;
+    private final ProductSearchIndexPort productSearchIndex;
 
-    public SearchProductsService(ProductRepositoryPort productRepository) {
+    public SearchProductsService(ProductRepositoryPort productRepository,
+                                 ProductSearchIndexPort productSearchIndex) {
         this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
     }
 
     @Override
@@ -28,12 +41,13 @@ public class SearchProductsService implements SearchProductsUseCase {
             return List.of();
         }
 
-        return productRepository.findAll().stream()
+        // Sadece indeksteki eşleşmeler tek sorguda yüklenir, tüm katalog taranmaz
+        Set<ID> productIds = productSearchIndex.search(searchTerm);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findAllById(productIds).stream()
                 .filter(Product::isActive)
-                .filter(product -> 
-                    product.getName().toLowerCase().contains(searchTerm) ||
-                    (product.getDescription() != null && product.getDescription().toLowerCase().contains(searchTerm))
-                )
                 .collect(Collectors.toList());
     }
 }
@@ -2,6 +2,7 @@ package com.hexagonal.application.service.query.customer.checkout;
 
 import com.hexagonal.application.common.UseCase;
 import com.hexagonal.application.port.in.customer.checkout.ReceiveOrderConfirmationUseCase;
+import com.hexagonal.application.port.out.OrderCachePort;
 import com.hexagonal.application.port.out.OrderRepositoryPort;
 import com.hexagonal.domain.entity.Order;
 import com.hexagonal.domain.exception.EntityNotFoundException;
@@ -10,9 +11,11 @@ import com.hexagonal.domain.vo.ID;
 @UseCase
 public class ReceiveOrderConfirmationService implements ReceiveOrderConfirmationUseCase {
     private final OrderRepositoryPort orderRepository;
+    private final OrderCachePort orderCache;
 
-    public ReceiveOrderConfirmationService(OrderRepositoryPort orderRepository) {
+    public ReceiveOrderConfirmationService(OrderRepositoryPort orderRepository, OrderCachePort orderCache) {
         this.orderRepository = orderRepository;
+        this.orderCache = orderCache;
     }
 
     @Override
@@ -22,8 +25,12 @@ public class ReceiveOrderConfirmationService implements ReceiveOrderConfirmation
         }
 
         ID id = ID.of(orderId);
-        return orderRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Order", id));
+        // Onay sayfası siparişten hemen sonra okunur; kaydeden adapter siparişi cache'e koymuştur
+        return orderCache.getById(id).orElseGet(() -> {
+            Order order = orderRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Order", id));
+            orderCache.put(order);
+            return order;
+        });
     }
 }
-
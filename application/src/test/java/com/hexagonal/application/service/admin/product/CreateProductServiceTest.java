@@ -1,7 +1,10 @@
 package com.hexagonal.application.service.admin.product;
 
 import com.hexagonal.application.dto.CreateProductCommand;
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
 import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.port.out.ProductSearchIndexPort;
 import com.hexagonal.application.service.command.admin.product.CreateProductService;
 import com.hexagonal.domain.entity.Product;
 import com.hexagonal.domain.exception.DuplicateEntityException;
@@ -34,6 +37,15 @@ class CreateProductServiceTest {
     @Mock
     private ProductDomainService productDomainService;
 
+    @Mock
+    private ProductSearchIndexPort productSearchIndex;
+
+    @Mock
+    private ProductCategoryIndexPort productCategoryIndex;
+
+    @Mock
+    private CatalogViewPort catalogView;
+
     @InjectMocks
     private CreateProductService createProductService;
 
@@ -81,6 +93,9 @@ class CreateProductServiceTest {
         assertThat(result.getSku()).isEqualTo(command.getSku());
         verify(productRepository).existsBySku(command.getSku());
         verify(productRepository).save(any(Product.class));
+        verify(productSearchIndex).index(savedProduct);
+        verify(productCategoryIndex).index(savedProduct);
+        verify(catalogView).index(savedProduct);
     }
 
     @Test
@@ -98,6 +113,8 @@ class CreateProductServiceTest {
 
         verify(productRepository).existsBySku(command.getSku());
         verify(productRepository, never()).save(any(Product.class));
+        verify(productSearchIndex, never()).index(any(Product.class));
+        verify(productCategoryIndex, never()).index(any(Product.class));
     }
 
     @Test
@@ -137,5 +137,16 @@ public class CategoryCacheIntegrationTest {
                 this.all = filtered;
             }
         }
+
+        @Override
+        public Optional<List<Category>> getChildren(String parentCategoryId) {
+            if (all == null) return Optional.empty();
+            List<Category> children = new ArrayList<>();
+            for (Category c : all) {
+                String parent = c.getParentCategoryId() == null ? null : c.getParentCategoryId().toString();
+                if (parentCategoryId == null ? parent == null : parentCategoryId.equals(parent)) children.add(c);
+            }
+            return Optional.of(children);
+        }
     }
 }
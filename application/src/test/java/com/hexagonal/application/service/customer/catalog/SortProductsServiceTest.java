@@ -0,0 +1,174 @@
+package com.hexagonal.application.service.customer.catalog;
+
+import com.hexagonal.application.dto.SortProductsCommand;
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductPopularityPort;
+import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.service.command.customer.catalog.SortProductsService;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SortProductsService Tests")
+class SortProductsServiceTest {
+
+    @Mock
+    private CatalogViewPort catalogView;
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private ProductPopularityPort productPopularity;
+
+    @InjectMocks
+    private SortProductsService sortProductsService;
+
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        // Sabit seed: aynı fiyat ve aynı isim ön ekleri bilerek sık tekrarlanır
+        Random random = new Random(42);
+        Currency usd = Currency.getInstance("USD");
+        products = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String name = "Item " + (char) ('A' + random.nextInt(5)) + random.nextInt(50);
+            BigDecimal price = BigDecimal.valueOf(random.nextInt(2000), 2);
+            products.add(Product.create(name, Money.of(price, usd), "SKU-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the same page as the full sort for every field and order")
+    void shouldMatchFullSortPage() {
+        for (String sortBy : List.of("price", "name", "popularity")) {
+            for (String sortOrder : List.of("asc", "desc")) {
+                // Given
+                SortProductsCommand command = new SortProductsCommand(sortBy, sortOrder);
+                List<Product> fullSort = sortProductsService.execute(products, command);
+
+                // When
+                List<Product> page = sortProductsService.execute(products, command, 40, 20);
+
+                // Then
+                assertThat(page).as("%s %s", sortBy, sortOrder).containsExactlyElementsOf(fullSort.subList(40, 60));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should return a short or empty page past the end of the list")
+    void shouldReturnShortPagePastTheEnd() {
+        SortProductsCommand command = new SortProductsCommand("price", "asc");
+        List<Product> fullSort = sortProductsService.execute(products, command);
+
+        assertThat(sortProductsService.execute(products, command, 490, 20))
+            .containsExactlyElementsOf(fullSort.subList(490, 500));
+        assertThat(sortProductsService.execute(products, command, 500, 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject negative offset and non-positive limit")
+    void shouldRejectInvalidPaging() {
+        SortProductsCommand command = new SortProductsCommand("name", "asc");
+
+        assertThatThrownBy(() -> sortProductsService.execute(products, command, -1, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sortProductsService.execute(products, command, 0, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should rank by popularity score and fall back to name for equal scores")
+    void shouldSortByPopularityScore() {
+        // Given
+        Product popular = products.get(10);
+        Product trending = products.get(20);
+        when(productPopularity.score(any())).thenReturn(0L);
+        when(productPopularity.score(popular.getId())).thenReturn(50L);
+        when(productPopularity.score(trending.getId())).thenReturn(80L);
+        SortProductsCommand command = new SortProductsCommand("popularity", "desc");
+
+        // When
+        List<Product> fullSort = sortProductsService.execute(products, command);
+        List<Product> page = sortProductsService.execute(products, command, 0, 5);
+
+        // Then
+        assertThat(fullSort).startsWith(trending, popular);
+        assertThat(page).containsExactlyElementsOf(fullSort.subList(0, 5));
+    }
+
+    @Test
+    @DisplayName("Should serve a catalog page from the popularity view and skip products that are no longer active")
+    void shouldServePageFromCatalogView() {
+        // Given
+        Product bestSeller = products.get(0);
+        Product discontinued = products.get(1);
+        Product runnerUp = products.get(2);
+        discontinued.markAsDiscontinued();
+        List<ID> slice = List.of(bestSeller.getId(), discontinued.getId(), runnerUp.getId());
+        when(catalogView.isBuilt()).thenReturn(true);
+        when(catalogView.slice(CatalogViewPort.SortKey.POPULARITY, true, 0, 3)).thenReturn(slice);
+        when(productRepository.findAllById(slice)).thenReturn(List.of(runnerUp, discontinued, bestSeller));
+
+        // When
+        List<Product> page = sortProductsService.execute(new SortProductsCommand("popularity", "desc"), 0, 3);
+
+        // Then: one query for the page, in the view's order
+        assertThat(page).containsExactly(bestSeller, runnerUp);
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should select the page from the active products while the catalog view is not built yet")
+    void shouldSelectPageWhileViewIsNotBuilt() {
+        // Given
+        when(catalogView.isBuilt()).thenReturn(false);
+        when(productRepository.findAll(any(Specification.class))).thenReturn(products);
+        SortProductsCommand command = new SortProductsCommand("price", "asc");
+
+        // When
+        List<Product> page = sortProductsService.execute(command, 10, 5);
+
+        // Then
+        assertThat(page).containsExactlyElementsOf(sortProductsService.execute(products, command).subList(10, 15));
+        verify(catalogView, never()).slice(any(), anyBoolean(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should sort fully when a price does not fit the heap's long key")
+    void shouldSortFullyWhenPriceKeyOverflows() {
+        // Given
+        List<Product> withHugePrice = new ArrayList<>(products);
+        Product huge = Product.create("Item Z", Money.of(new BigDecimal("1000000000000000.00"), "USD"), "SKU-HUGE");
+        withHugePrice.add(huge);
+        SortProductsCommand command = new SortProductsCommand("price", "desc");
+
+        // When
+        List<Product> page = sortProductsService.execute(withHugePrice, command, 0, 3);
+
+        // Then
+        assertThat(page).containsExactlyElementsOf(sortProductsService.execute(withHugePrice, command).subList(0, 3));
+        assertThat(page.get(0)).isSameAs(huge);
+    }
+}
@@ -0,0 +1,195 @@
+package com.hexagonal.application.service.customer.checkout;
+
+import com.hexagonal.application.dto.CompletePurchaseCommand;
+import com.hexagonal.application.port.out.CartRepositoryPort;
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.CustomerRepositoryPort;
+import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.application.port.out.OrderStatisticsPort;
+import com.hexagonal.application.port.out.ProductCachePort;
+import com.hexagonal.application.port.out.ProductPopularityPort;
+import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.service.command.customer.checkout.CompletePurchaseService;
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.entity.Customer;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.exception.InsufficientStockException;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.Email;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompletePurchaseService Tests")
+class CompletePurchaseServiceTest {
+
+    @Mock
+    private CartRepositoryPort cartRepository;
+
+    @Mock
+    private CustomerRepositoryPort customerRepository;
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private CatalogViewPort catalogView;
+
+    @Mock
+    private ProductPopularityPort productPopularity;
+
+    @Mock
+    private ProductCachePort productCache;
+
+    @Mock
+    private OrderStatisticsPort orderStatistics;
+
+    @InjectMocks
+    private CompletePurchaseService completePurchaseService;
+
+    private Customer customer;
+    private Cart cart;
+    private Product laptop;
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        Currency usd = Currency.getInstance("USD");
+        customer = Customer.create("John", "Doe", Email.of("john.doe@example.com"));
+        customer.updateAddress(Address.of("Main Street 1", "Istanbul", "34000", "TR"));
+
+        laptop = Product.create("Laptop", Money.of(new BigDecimal("1500.00"), usd), "LAP-001");
+        laptop.addStock(Quantity.of(5));
+        phone = Product.create("Phone", Money.of(new BigDecimal("700.00"), usd), "PHN-001");
+        phone.addStock(Quantity.of(5));
+
+        cart = Cart.create(customer.getId());
+        cart.addItem(laptop.getId(), Quantity.of(2), laptop.getPrice());
+        cart.addItem(phone.getId(), Quantity.of(1), phone.getPrice());
+
+        when(customerRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(cartRepository.findByCustomerId(customer.getId())).thenReturn(Optional.of(cart));
+    }
+
+    @Test
+    @DisplayName("Should decrement stock with one conditional update per product")
+    void shouldDecrementStockWithConditionalUpdates() {
+        // Given
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of(laptop, phone));
+        when(productRepository.decrementStockIfAvailable(any(), any())).thenReturn(true);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Order order = completePurchaseService.execute(purchaseCommand());
+
+        // Then
+        assertThat(order.getItems()).hasSize(2);
+        verify(productRepository).decrementStockIfAvailable(laptop.getId(), Quantity.of(2));
+        verify(productRepository).decrementStockIfAvailable(phone.getId(), Quantity.of(1));
+        verify(productRepository, never()).save(any());
+        verify(productRepository, never()).incrementStock(any(), any());
+        verify(productPopularity).recordOrder(laptop.getId());
+        verify(productPopularity).recordOrder(phone.getId());
+        verify(orderStatistics).recordTransition(order, null);
+    }
+
+    @Test
+    @DisplayName("Should write nothing when loaded stock is already insufficient")
+    void shouldWriteNothingWhenStockIsInsufficient() {
+        // Given
+        cart.addItem(phone.getId(), Quantity.of(10), phone.getPrice());
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of(laptop, phone));
+
+        // When & Then
+        assertThatThrownBy(() -> completePurchaseService.execute(purchaseCommand()))
+            .isInstanceOf(InsufficientStockException.class);
+        verify(productRepository, never()).decrementStockIfAvailable(any(), any());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should give back reserved stock when a concurrent purchase took the last items")
+    void shouldReleaseReservedStockWhenDecrementFails() {
+        // Given
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of(laptop, phone));
+        when(productRepository.decrementStockIfAvailable(laptop.getId(), Quantity.of(2))).thenReturn(true);
+        when(productRepository.decrementStockIfAvailable(phone.getId(), Quantity.of(1))).thenReturn(false);
+        when(productRepository.findById(phone.getId())).thenReturn(Optional.of(phone));
+
+        // When & Then
+        assertThatThrownBy(() -> completePurchaseService.execute(purchaseCommand()))
+            .isInstanceOf(InsufficientStockException.class);
+        verify(productRepository).incrementStock(laptop.getId(), Quantity.of(2));
+        verify(productRepository, never()).incrementStock(eq(phone.getId()), any());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should load only the cart products missing from the cache")
+    void shouldLoadOnlyProductsMissingFromCache() {
+        // Given
+        when(productCache.getAll(anyCollection())).thenReturn(Map.of(laptop.getId(), laptop));
+        when(productRepository.findAllById(List.of(phone.getId()))).thenReturn(List.of(phone));
+        when(productRepository.findAllById(Set.of(laptop.getId(), phone.getId()))).thenReturn(List.of(laptop, phone));
+        when(productRepository.decrementStockIfAvailable(any(), any())).thenReturn(true);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Order order = completePurchaseService.execute(purchaseCommand());
+
+        // Then
+        assertThat(order.getItems()).hasSize(2);
+        verify(productRepository).findAllById(List.of(phone.getId()));
+        verify(productCache).putAll(List.of(phone));
+        verify(productCache, never()).putAll(List.of(laptop, phone));
+    }
+
+    @Test
+    @DisplayName("Should check stale cached stock against the repository before rejecting")
+    void shouldRecheckStaleCachedStock() {
+        // Given: the cache still holds a laptop with one item left, the repository has five
+        Product staleLaptop = Product.of(laptop.getId(), laptop.getName(), laptop.getPrice(), laptop.getSku());
+        staleLaptop.addStock(Quantity.of(1));
+        when(productCache.getAll(anyCollection())).thenReturn(Map.of(laptop.getId(), staleLaptop, phone.getId(), phone));
+        when(productRepository.findAllById(anyCollection())).thenReturn(List.of(laptop, phone));
+        when(productRepository.findAllById(List.of(laptop.getId()))).thenReturn(List.of(laptop));
+        when(productRepository.decrementStockIfAvailable(any(), any())).thenReturn(true);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Order order = completePurchaseService.execute(purchaseCommand());
+
+        // Then
+        assertThat(order.getItems()).hasSize(2);
+        verify(productRepository).findAllById(List.of(laptop.getId()));
+        verify(productRepository, never()).findById(laptop.getId());
+        verify(productCache).invalidateById(laptop.getId());
+        verify(productRepository).decrementStockIfAvailable(laptop.getId(), Quantity.of(2));
+    }
+
+    private CompletePurchaseCommand purchaseCommand() {
+        return new CompletePurchaseCommand(customer.getId().toString(), null, null, null, null);
+    }
+}
@@ -51,6 +51,18 @@ public class Cart {
         return cart;
     }
 
+    public static Cart of(ID id, ID customerId, CartStatus status, List<CartItem> items,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Cart cart = new Cart(id, customerId);
+        cart.status = status;
+        for (CartItem item : items) {
+            cart.items.add(CartItem.create(item.getProductId(), item.getQuantity(), item.getUnitPrice()));
+        }
+        cart.createdAt = createdAt;
+        cart.updatedAt = updatedAt;
+        return cart;
+    }
+
     public void addItem(ID productId, Quantity quantity, Money unitPrice) {
         if (status != CartStatus.ACTIVE) {
             throw new IllegalStateException("Cannot add item to cart with status: " + status);
@@ -27,6 +27,8 @@ public class Order {
     private TrackingInformation trackingInformation;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Optimistic lock version of the stored order; null until the order is first saved
+    private Long version;
 
     private Order(ID id, ID customerId, List<OrderItem> items, Address shippingAddress) {
         if (id == null) {
@@ -83,6 +85,25 @@ public class Order {
         return order;
     }
 
+    public static Order of(ID id, ID customerId, List<OrderItem> items, Address shippingAddress, Address billingAddress,
+                          Money taxAmount, Money discountAmount, OrderStatus status, TrackingInformation trackingInformation,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Order order = of(id, customerId, items, shippingAddress, billingAddress, taxAmount, discountAmount, status,
+                trackingInformation);
+        order.createdAt = createdAt;
+        order.updatedAt = updatedAt;
+        return order;
+    }
+
+    public static Order of(ID id, ID customerId, List<OrderItem> items, Address shippingAddress, Address billingAddress,
+                          Money taxAmount, Money discountAmount, OrderStatus status, TrackingInformation trackingInformation,
+                          LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        Order order = of(id, customerId, items, shippingAddress, billingAddress, taxAmount, discountAmount, status,
+                trackingInformation, createdAt, updatedAt);
+        order.version = version;
+        return order;
+    }
+
     public void confirm() {
         if (!status.canTransitionTo(OrderStatus.CONFIRMED)) {
             throw new IllegalStateException("Cannot confirm order with status: " + status);
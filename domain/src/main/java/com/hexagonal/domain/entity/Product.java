@@ -186,6 +186,25 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Copy of this product with the given stock. The product itself is left unchanged, so this is safe on
+     * instances shared through a cache.
+     */
+    public Product withStock(Quantity quantity) {
+        Product copy = new Product(id, name, price, sku);
+        copy.description = description;
+        copy.stockQuantity = stockQuantity;
+        copy.categoryIds = new HashSet<>(categoryIds);
+        copy.images = new ArrayList<>(images);
+        copy.status = status;
+        copy.weight = weight;
+        copy.dimensions = dimensions;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.setStock(quantity);
+        return copy;
+    }
+
     public void addImage(String imageUrl) {
         if (imageUrl != null && !imageUrl.isBlank() && !images.contains(imageUrl)) {
             this.images.add(imageUrl.trim());
@@ -1,7 +1,9 @@
 package com.hexagonal.domain.specification;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+@Getter
 @RequiredArgsConstructor
 public class NotSpecification<T> implements Specification<T> {
     private final Specification<T> specification;
@@ -5,18 +5,45 @@ import com.hexagonal.domain.vo.ID;
 import com.hexagonal.domain.vo.Money;
 import com.hexagonal.domain.vo.OrderStatus;
 
+import java.time.LocalDateTime;
+
+/**
+ * Order specifications.
+ * Leaf specifications are records so that persistence adapters can inspect them
+ * and translate a specification tree into a store-side query.
+ */
 public class OrderSpecifications {
-    
+
     public static Specification<Order> hasStatus(OrderStatus status) {
-        return order -> order.getStatus().equals(status);
+        return new StatusIs(status);
     }
 
     public static Specification<Order> belongsToCustomer(ID customerId) {
-        return order -> order.getCustomerId().equals(customerId);
+        return new CustomerIs(customerId);
     }
 
     public static Specification<Order> totalAmountGreaterThan(Money amount) {
-        return order -> order.getTotalAmount().isGreaterThan(amount) || order.getTotalAmount().equals(amount);
+        return new TotalAtLeast(amount);
+    }
+
+    public static Specification<Order> totalAmountLessThan(Money amount) {
+        return new TotalAtMost(amount);
+    }
+
+    public static Specification<Order> totalAmountBetween(Money minAmount, Money maxAmount) {
+        return totalAmountGreaterThan(minAmount).and(totalAmountLessThan(maxAmount));
+    }
+
+    public static Specification<Order> createdFrom(LocalDateTime from) {
+        return new CreatedFrom(from);
+    }
+
+    public static Specification<Order> createdBefore(LocalDateTime to) {
+        return new CreatedBefore(to);
+    }
+
+    public static Specification<Order> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return createdFrom(from).and(createdBefore(to));
     }
 
     public static Specification<Order> canBeCancelled() {
@@ -34,5 +61,54 @@ public class OrderSpecifications {
     public static Specification<Order> isDelivered() {
         return hasStatus(OrderStatus.DELIVERED);
     }
-}
 
+    public record StatusIs(OrderStatus status) implements Specification<Order> {
+        @Override
+        public boolean isSatisfiedBy(Order order) {
+            return order.getStatus().equals(status);
+        }
+    }
+
+    public record CustomerIs(ID customerId) implements Specification<Order> {
+        @Override
+        public boolean isSatisfiedBy(Order order) {
+            return order.getCustomerId().equals(customerId);
+        }
+    }
+
+    // Inclusive lower bound; orders in another currency do not match
+    public record TotalAtLeast(Money minAmount) implements Specification<Order> {
+        @Override
+        public boolean isSatisfiedBy(Order order) {
+            Money total = order.getTotalAmount();
+            return total.getCurrency().equals(minAmount.getCurrency())
+                    && (total.isGreaterThan(minAmount) || total.equals(minAmount));
+        }
+    }
+
+    // Inclusive upper bound; orders in another currency do not match
+    public record TotalAtMost(Money maxAmount) implements Specification<Order> {
+        @Override
+        public boolean isSatisfiedBy(Order order) {
+            Money total = order.getTotalAmount();
+            return total.getCurrency().equals(maxAmount.getCurrency())
+                    && (total.isLessThan(maxAmount) || total.equals(maxAmount));
+        }
+    }
+
+    // Inclusive lower bound
+    public record CreatedFrom(LocalDateTime from) implements Specification<Order> {
+        @Override
+        public boolean isSatisfiedBy(Order order) {
+            return !order.getCreatedAt().isBefore(from);
+        }
+    }
+
+    // Exclusive upper bound, so consecutive ranges do not overlap
+    public record CreatedBefore(LocalDateTime to) implements Specification<Order> {
+        @Override
+        public boolean isSatisfiedBy(Order order) {
+            return order.getCreatedAt().isBefore(to);
+        }
+    }
+}
@@ -7,46 +7,51 @@ import com.hexagonal.domain.vo.ProductStatus;
 
 import java.util.Set;
 
+/**
+ * Product specifications.
+ * Leaf specifications are records so that persistence adapters can inspect them
+ * and translate a specification tree into a store-side query.
+ */
 public class ProductSpecifications {
-    
+
     public static Specification<Product> isActive() {
-        return Product::isActive;
+        return hasStatus(ProductStatus.ACTIVE);
     }
 
     public static Specification<Product> hasStatus(ProductStatus status) {
-        return product -> product.getStatus().equals(status);
+        return new StatusIs(status);
     }
 
     public static Specification<Product> isDiscontinued() {
-        return Product::isDiscontinued;
+        return hasStatus(ProductStatus.DISCONTINUED);
     }
 
     public static Specification<Product> isOutOfStock() {
-        return Product::isOutOfStock;
+        return hasStatus(ProductStatus.OUT_OF_STOCK);
     }
 
     public static Specification<Product> isInStock() {
-        return Product::isInStock;
+        return new InStock();
     }
 
     public static Specification<Product> hasCategory(ID categoryId) {
-        return product -> product.hasCategory(categoryId);
+        return new HasCategory(categoryId);
     }
 
     public static Specification<Product> hasAnyCategory(Set<ID> categoryIds) {
-        return product -> categoryIds.stream().anyMatch(product::hasCategory);
+        return new HasAnyCategory(Set.copyOf(categoryIds));
     }
 
     public static Specification<Product> hasAllCategories(Set<ID> categoryIds) {
-        return product -> product.getCategoryIds().containsAll(categoryIds);
+        return new HasAllCategories(Set.copyOf(categoryIds));
     }
 
     public static Specification<Product> priceLessThan(Money maxPrice) {
-        return product -> product.getPrice().isLessThan(maxPrice) || product.getPrice().equals(maxPrice);
+        return new PriceAtMost(maxPrice);
     }
 
     public static Specification<Product> priceGreaterThan(Money minPrice) {
-        return product -> product.getPrice().isGreaterThan(minPrice) || product.getPrice().equals(minPrice);
+        return new PriceAtLeast(minPrice);
     }
 
     public static Specification<Product> priceBetween(Money minPrice, Money maxPrice) {
@@ -54,15 +59,79 @@ public class ProductSpecifications {
     }
 
     public static Specification<Product> hasSku(String sku) {
-        return product -> product.getSku().equalsIgnoreCase(sku);
+        return new SkuEquals(sku);
     }
 
     public static Specification<Product> nameContains(String searchTerm) {
-        return product -> product.getName().toLowerCase().contains(searchTerm.toLowerCase());
+        return new NameContains(searchTerm);
     }
 
     public static Specification<Product> isActiveAndInStock() {
         return isActive().and(isInStock());
     }
-}
 
+    public record StatusIs(ProductStatus status) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.getStatus().equals(status);
+        }
+    }
+
+    public record InStock() implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.isInStock();
+        }
+    }
+
+    public record HasCategory(ID categoryId) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.hasCategory(categoryId);
+        }
+    }
+
+    public record HasAnyCategory(Set<ID> categoryIds) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return categoryIds.stream().anyMatch(product::hasCategory);
+        }
+    }
+
+    public record HasAllCategories(Set<ID> categoryIds) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.getCategoryIds().containsAll(categoryIds);
+        }
+    }
+
+    // Inclusive upper bound
+    public record PriceAtMost(Money maxPrice) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.getPrice().isLessThan(maxPrice) || product.getPrice().equals(maxPrice);
+        }
+    }
+
+    // Inclusive lower bound
+    public record PriceAtLeast(Money minPrice) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.getPrice().isGreaterThan(minPrice) || product.getPrice().equals(minPrice);
+        }
+    }
+
+    public record SkuEquals(String sku) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.getSku().equalsIgnoreCase(sku);
+        }
+    }
+
+    public record NameContains(String searchTerm) implements Specification<Product> {
+        @Override
+        public boolean isSatisfiedBy(Product product) {
+            return product.getName().toLowerCase().contains(searchTerm.toLowerCase());
+        }
+    }
+}
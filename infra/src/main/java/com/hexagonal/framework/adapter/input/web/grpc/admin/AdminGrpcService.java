@@ -13,14 +13,18 @@ import com.hexagonal.domain.entity.Order;
 import com.hexagonal.domain.entity.Product;
 import com.hexagonal.domain.vo.ID;
 import com.hexagonal.domain.vo.OrderStatus;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
 import java.util.Currency;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * gRPC Service Implementation for Admin
@@ -130,6 +134,49 @@ public class AdminGrpcService extends AdminServiceGrpc.AdminServiceImplBase {
         }
     }
     
+    /**
+     * Server-streams all orders. Orders are read from the store only while the client keeps up
+     * (isReady), so a slow client never makes the server buffer the export in memory.
+     */
+    @Override
+    public void exportOrders(ExportOrdersRequest request, StreamObserver<OrderResponse> responseObserver) {
+        ServerCallStreamObserver<OrderResponse> observer = (ServerCallStreamObserver<OrderResponse>) responseObserver;
+        Stream<Order> orders;
+        try {
+            orders = viewAllOrdersUseCase.stream();
+        } catch (Exception e) {
+            responseObserver.onError(e);
+            return;
+        }
+        Iterator<Order> iterator = orders.iterator();
+        AtomicBoolean done = new AtomicBoolean();
+        
+        observer.setOnCancelHandler(() -> {
+            done.set(true);
+            orders.close();
+        });
+        // gRPC runs the handlers of one call one at a time, so the iterator is never used concurrently
+        observer.setOnReadyHandler(() -> {
+            if (done.get()) {
+                return;
+            }
+            try {
+                while (observer.isReady() && iterator.hasNext()) {
+                    observer.onNext(toOrderResponse(iterator.next()));
+                }
+                if (!iterator.hasNext() && done.compareAndSet(false, true)) {
+                    orders.close();
+                    observer.onCompleted();
+                }
+            } catch (Exception e) {
+                if (done.compareAndSet(false, true)) {
+                    orders.close();
+                    observer.onError(e);
+                }
+            }
+        });
+    }
+    
     @Override
     public void updateOrderStatus(UpdateOrderStatusRequest request, StreamObserver<OrderResponse> responseObserver) {
         try {
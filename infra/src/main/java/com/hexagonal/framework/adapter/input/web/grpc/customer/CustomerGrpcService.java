@@ -106,15 +106,22 @@ public class CustomerGrpcService extends CustomerServiceGrpc.CustomerServiceImpl
     @Override
     public void listProducts(ListProductsRequest request, StreamObserver<ListProductsResponse> responseObserver) {
         try {
-            List<Product> products = listAllProductsUseCase.execute();
+            ListAllProductsUseCase.ListProductsQuery query = new ListAllProductsUseCase.ListProductsQuery(
+                request.getPage(),
+                request.getPageSize(),
+                request.getAfter()
+            );
+            List<Product> products = listAllProductsUseCase.execute(query);
             
-            ListProductsResponse response = ListProductsResponse.newBuilder()
+            ListProductsResponse.Builder response = ListProductsResponse.newBuilder()
                 .addAllProducts(products.stream()
                     .map(this::toProductResponse)
-                    .collect(Collectors.toList()))
-                .build();
+                    .collect(Collectors.toList()));
+            if (!products.isEmpty()) {
+                response.setNextCursor(products.get(products.size() - 1).getId().getValue().toString());
+            }
             
-            responseObserver.onNext(response);
+            responseObserver.onNext(response.build());
             responseObserver.onCompleted();
         } catch (Exception e) {
             responseObserver.onError(e);
@@ -1,34 +1,56 @@
 package com.hexagonal.framework.adapter.input.web.rest.admin;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.hexagonal.application.dto.RefundCommand;
 import com.hexagonal.application.port.in.admin.order.HandleReturnOrRefundUseCase;
 import com.hexagonal.application.port.in.admin.order.UpdateOrderStatusUseCase;
 import com.hexagonal.application.port.in.admin.order.ViewAllOrdersUseCase;
+import com.hexagonal.application.port.in.admin.order.ViewOrderStatisticsUseCase;
+import com.hexagonal.application.port.in.admin.order.ViewOrderStatisticsUseCase.OrderDashboard;
 import com.hexagonal.domain.entity.Order;
 import com.hexagonal.domain.vo.ID;
 import com.hexagonal.domain.vo.OrderStatus;
 import com.hexagonal.framework.adapter.input.web.WebAdapter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @WebAdapter
 @RestController
 @RequestMapping("/api/admin/orders")
 public class AdminOrderController {
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final ViewAllOrdersUseCase viewAllOrdersUseCase;
     private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
     private final HandleReturnOrRefundUseCase handleReturnOrRefundUseCase;
+    private final ViewOrderStatisticsUseCase viewOrderStatisticsUseCase;
+    private final ObjectWriter orderWriter;
     
     public AdminOrderController(
             ViewAllOrdersUseCase viewAllOrdersUseCase,
             UpdateOrderStatusUseCase updateOrderStatusUseCase,
-            HandleReturnOrRefundUseCase handleReturnOrRefundUseCase) {
+            HandleReturnOrRefundUseCase handleReturnOrRefundUseCase,
+            ViewOrderStatisticsUseCase viewOrderStatisticsUseCase,
+            ObjectMapper objectMapper) {
         this.viewAllOrdersUseCase = viewAllOrdersUseCase;
         this.updateOrderStatusUseCase = updateOrderStatusUseCase;
         this.handleReturnOrRefundUseCase = handleReturnOrRefundUseCase;
+        this.viewOrderStatisticsUseCase = viewOrderStatisticsUseCase;
+        this.orderWriter = objectMapper.writerFor(Order.class);
     }
     
     @GetMapping
@@ -37,6 +59,61 @@ public class AdminOrderController {
         return ResponseEntity.ok(orders);
     }
     
+    /**
+     * Searches orders by status, customer, creation time ({@code from} inclusive, {@code to} exclusive, ISO date-time)
+     * and total amount range in {@code currency}, newest first. Pass {@code after} (the X-Next-Cursor header of the
+     * previous response) for the next page.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Order>> searchOrders(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) BigDecimal minTotal,
+            @RequestParam(required = false) BigDecimal maxTotal,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String after) {
+        List<Order> orders = viewAllOrdersUseCase.execute(new ViewAllOrdersUseCase.SearchOrdersQuery(
+            status, customerId, from, to, minTotal, maxTotal, currency, size, after));
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!orders.isEmpty()) {
+            response.header(NEXT_CURSOR_HEADER, orders.get(orders.size() - 1).getId().toString());
+        }
+        return response.body(orders);
+    }
+    
+    /**
+     * Exports all orders as NDJSON, one order per line, newest first. Orders are written as they are read
+     * from the store, so the export runs in constant memory however many orders there are.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody body = out -> {
+            try (Stream<Order> orders = viewAllOrdersUseCase.stream()) {
+                orders.forEach(order -> writeLine(out, order));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+    
+    /**
+     * Order dashboard in {@code currency}: booked revenue, order count and average basket overall, per status
+     * and per creation day from {@code from} to {@code to} (ISO dates, inclusive, last 30 days by default).
+     * Read from running totals, so it does not scan the orders.
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<OrderDashboard> viewOrderStatistics(
+            @RequestParam String currency,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(viewOrderStatisticsUseCase.execute(currency, from, to));
+    }
+    
     @PutMapping("/{orderId}/status")
     public ResponseEntity<Order> updateOrderStatus(
             @PathVariable String orderId,
@@ -58,5 +135,13 @@ public class AdminOrderController {
         );
         return ResponseEntity.ok(order);
     }
+    
+    private void writeLine(OutputStream out, Order order) {
+        try {
+            out.write(orderWriter.writeValueAsBytes(order));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
-
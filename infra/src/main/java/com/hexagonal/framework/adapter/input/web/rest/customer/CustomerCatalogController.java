@@ -13,12 +13,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @WebAdapter
 @RestController
 @RequestMapping("/api/customer/catalog")
 public class CustomerCatalogController {
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final ListAllProductsUseCase listAllProductsUseCase;
     private final SearchProductsUseCase searchProductsUseCase;
     private final FilterProductsByCategoryUseCase filterProductsByCategoryUseCase;
@@ -35,10 +38,24 @@ public class CustomerCatalogController {
         this.sortProductsUseCase = sortProductsUseCase;
     }
     
+    /**
+     * Lists active products one page at a time.
+     * Pass {@code after} (the X-Next-Cursor header of the previous response) for keyset paging,
+     * or {@code page} for offset paging.
+     */
     @GetMapping("/products")
-    public ResponseEntity<List<Product>> listAllProducts() {
-        List<Product> products = listAllProductsUseCase.execute();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<List<Product>> listAllProducts(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String after) {
+        List<Product> products = listAllProductsUseCase.execute(
+            new ListAllProductsUseCase.ListProductsQuery(page, size, after));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!products.isEmpty()) {
+            response.header(NEXT_CURSOR_HEADER, products.get(products.size() - 1).getId().toString());
+        }
+        return response.body(products);
     }
     
     @GetMapping("/products/search")
@@ -48,15 +65,50 @@ public class CustomerCatalogController {
         return ResponseEntity.ok(products);
     }
     
+    /**
+     * Filters active products by category. {@code categoryId} may be repeated;
+     * with {@code matchAll=true} a product must be in every given category, otherwise in any of them.
+     * With {@code includeSubcategories=true} a single category also matches every category below it.
+     */
     @GetMapping("/products/filter")
-    public ResponseEntity<List<Product>> filterProductsByCategory(@RequestParam String categoryId) {
-        FilterProductsByCategoryCommand command = new FilterProductsByCategoryCommand(categoryId);
-        List<Product> products = filterProductsByCategoryUseCase.execute(command);
+    public ResponseEntity<List<Product>> filterProductsByCategory(
+            @RequestParam List<String> categoryId,
+            @RequestParam(defaultValue = "false") boolean matchAll,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories) {
+        if (categoryId.size() == 1 && includeSubcategories) {
+            return ResponseEntity.ok(filterProductsByCategoryUseCase.execute(
+                new FilterProductsByCategoryUseCase.FilterProductsBySubtreeQuery(categoryId.get(0))));
+        }
+        if (categoryId.size() == 1) {
+            FilterProductsByCategoryCommand command = new FilterProductsByCategoryCommand(categoryId.get(0));
+            return ResponseEntity.ok(filterProductsByCategoryUseCase.execute(command));
+        }
+        List<Product> products = filterProductsByCategoryUseCase.execute(
+            new FilterProductsByCategoryUseCase.FilterProductsByCategoriesQuery(Set.copyOf(categoryId), matchAll));
         return ResponseEntity.ok(products);
     }
     
+    /**
+     * Number of distinct products in the category and every category below it.
+     */
+    @GetMapping("/categories/{categoryId}/product-count")
+    public ResponseEntity<Integer> countProductsInCategoryTree(@PathVariable String categoryId) {
+        return ResponseEntity.ok(filterProductsByCategoryUseCase.countProductsInSubtree(categoryId));
+    }
+    
+    /**
+     * Sorts active products. With {@code limit} the page is sliced from the pre-sorted catalog views
+     * instead of loading and sorting the whole catalog; until the views are built after startup it is
+     * selected from the active products with a bounded heap.
+     */
     @PostMapping("/products/sort")
-    public ResponseEntity<List<Product>> sortProducts(@RequestBody SortProductsCommand command) {
+    public ResponseEntity<List<Product>> sortProducts(
+            @RequestBody SortProductsCommand command,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer limit) {
+        if (limit != null) {
+            return ResponseEntity.ok(sortProductsUseCase.execute(command, offset, limit));
+        }
         List<Product> allProducts = listAllProductsUseCase.execute();
         List<Product> sortedProducts = sortProductsUseCase.execute(allProducts, command);
         return ResponseEntity.ok(sortedProducts);
@@ -0,0 +1,150 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Customer;
+import com.hexagonal.domain.vo.Email;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through access to the {@code customers} cache shared by the customer persistence adapters.
+ *
+ * Entries: {@code <id>} and {@code email:<email>} hold the customer, {@code all} the unmodifiable list of all
+ * customers. Reads go through the {@link SingleFlightCacheLoader}. A write clears the cache after its
+ * transaction commits; customers change rarely enough that patching entries is not worth it.
+ *
+ * The application services read the same entries through {@link CustomerCachePortAdapter}.
+ */
+public class CustomerCache {
+
+    public static final String CACHE_NAME = "customers";
+
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String ALL_KEY = "all";
+
+    private final Cache cache;
+    private final SingleFlightCacheLoader cacheLoader;
+    private final CacheMultiGet multiGet;
+
+    public CustomerCache(CacheManager cacheManager, SingleFlightCacheLoader cacheLoader) {
+        this(cacheManager, cacheLoader, new CacheMultiGet(null));
+    }
+
+    public CustomerCache(CacheManager cacheManager, SingleFlightCacheLoader cacheLoader, CacheMultiGet multiGet) {
+        this.cache = cacheManager == null ? null : cacheManager.getCache(CACHE_NAME);
+        this.cacheLoader = cacheLoader;
+        this.multiGet = multiGet;
+    }
+
+    public Optional<Customer> findById(ID id, Function<ID, Optional<Customer>> loader) {
+        return Optional.ofNullable(cacheLoader.get(cache, idKey(id), Customer.class,
+            () -> loader.apply(id).orElse(null)));
+    }
+
+    public Optional<Customer> findByEmail(Email email, Function<Email, Optional<Customer>> loader) {
+        return Optional.ofNullable(cacheLoader.get(cache, EMAIL_PREFIX + email.getValue(), Customer.class,
+            () -> loader.apply(email).orElse(null)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Customer> findAll(Supplier<List<Customer>> loader) {
+        return cacheLoader.get(cache, ALL_KEY, List.class, () -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Returns the cached customer without loading it on a miss.
+     */
+    public Optional<Customer> getIfPresent(ID id) {
+        return cache == null ? Optional.empty() : Optional.ofNullable(cache.get(idKey(id), Customer.class));
+    }
+
+    /**
+     * Returns the cached customers of the given ids in one multi-get, without loading the missing ones.
+     */
+    public Map<ID, Customer> getAllPresent(Collection<ID> ids) {
+        Map<ID, Customer> found = new LinkedHashMap<>();
+        if (cache == null || ids.isEmpty()) {
+            return found;
+        }
+        Map<String, Object> cached = multiGet.getAllPresent(cache, ids.stream().map(CustomerCache::idKey).toList());
+        for (ID id : ids) {
+            if (cached.get(idKey(id)) instanceof Customer customer) {
+                found.put(id, customer);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Fills the id and email entries with customers read outside a write. Entries that already exist are kept.
+     */
+    public void fill(Collection<Customer> customers) {
+        fill(cache, customers);
+    }
+
+    /**
+     * Fills the id and email entries of a {@code customers} cache with customers read at warm-up, like
+     * {@link #fill(Collection)}.
+     */
+    public static void preload(CacheManager cacheManager, Collection<Customer> customers) {
+        fill(cacheManager == null ? null : cacheManager.getCache(CACHE_NAME), customers);
+    }
+
+    private static void fill(Cache cache, Collection<Customer> customers) {
+        if (cache == null) {
+            return;
+        }
+        for (Customer customer : customers) {
+            cache.putIfAbsent(customer.getId().getValue().toString(), customer);
+            cache.putIfAbsent(EMAIL_PREFIX + customer.getEmail().getValue(), customer);
+        }
+    }
+
+    /**
+     * Evicts one customer's id and email entries and the list once the current transaction commits. If the
+     * customer is not cached its email is unknown; that entry then lives until its TTL.
+     */
+    public void evict(ID id) {
+        if (cache == null) {
+            return;
+        }
+        ProductCache.afterCommit(() -> {
+            Customer cached = cache.get(idKey(id), Customer.class);
+            if (cached != null) {
+                cacheLoader.written(cache, EMAIL_PREFIX + cached.getEmail().getValue());
+                cache.evict(EMAIL_PREFIX + cached.getEmail().getValue());
+            }
+            cacheLoader.written(cache, idKey(id));
+            cache.evict(idKey(id));
+            cacheLoader.written(cache, ALL_KEY);
+            cache.evict(ALL_KEY);
+        });
+    }
+
+    /**
+     * Clears the cache once the current transaction commits.
+     */
+    public void changed() {
+        if (cache == null) {
+            return;
+        }
+        ProductCache.afterCommit(() -> {
+            cacheLoader.cleared(cache);
+            cache.clear();
+        });
+    }
+
+    private static String idKey(ID id) {
+        return id.getValue().toString();
+    }
+}
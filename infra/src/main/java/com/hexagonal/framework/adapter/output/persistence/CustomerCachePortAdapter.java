@@ -0,0 +1,83 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.application.port.out.CustomerCachePort;
+import com.hexagonal.domain.entity.Customer;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Customer cache port over the {@code customers} cache of the customer persistence adapters (see
+ * {@link CustomerCache}), so the services read the entries every customer writer clears.
+ *
+ * Puts only fill missing entries. {@link #getAll} reads every id in one multi-get (see {@link CacheMultiGet}).
+ * Hits and misses are reported per id to the {@link CacheStatsRecorder} as {@code customers}.
+ */
+public class CustomerCachePortAdapter implements CustomerCachePort {
+
+    private final CustomerCache customerCache;
+    private final CacheStatsRecorder stats;
+
+    public CustomerCachePortAdapter(CacheManager cacheManager, SingleFlightCacheLoader cacheLoader,
+                                    CacheMultiGet multiGet, CacheStatsRecorder stats) {
+        this.customerCache = new CustomerCache(cacheManager, cacheLoader, multiGet);
+        this.stats = stats;
+    }
+
+    @Override
+    public Optional<Customer> getById(ID id) {
+        if (id == null) return Optional.empty();
+        Optional<Customer> customer = customerCache.getIfPresent(id);
+        record(id, customer.isPresent());
+        return customer;
+    }
+
+    @Override
+    public Map<ID, Customer> getAll(Collection<ID> ids) {
+        if (ids == null || ids.isEmpty()) return Map.of();
+        Map<ID, Customer> found = customerCache.getAllPresent(new LinkedHashSet<>(ids));
+        for (ID id : new LinkedHashSet<>(ids)) {
+            record(id, found.containsKey(id));
+        }
+        return found;
+    }
+
+    @Override
+    public void put(Customer customer) {
+        if (customer == null) return;
+        customerCache.fill(List.of(customer));
+    }
+
+    @Override
+    public void putAll(Collection<Customer> customers) {
+        if (customers == null || customers.isEmpty()) return;
+        customerCache.fill(customers);
+    }
+
+    @Override
+    public void invalidateById(ID id) {
+        if (id == null) return;
+        customerCache.evict(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        customerCache.changed();
+    }
+
+    private void record(ID id, boolean hit) {
+        if (hit) {
+            stats.hit(CustomerCache.CACHE_NAME, id);
+        } else {
+            stats.miss(CustomerCache.CACHE_NAME, id);
+        }
+    }
+}
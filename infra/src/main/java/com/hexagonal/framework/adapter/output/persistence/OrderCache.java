@@ -0,0 +1,101 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The {@code orders} cache: one {@code <id>} entry per order, written by the order persistence adapters and
+ * read by the application services through {@link OrderCachePortAdapter}.
+ *
+ * The adapters themselves do not read through it: status changes read the stored order, so their optimistic
+ * lock version is current. A save puts the saved order (with its new version) after the transaction commits,
+ * a delete evicts it. Fills from reads only add missing entries, so they never replace a saved order.
+ * When no cache named {@code orders} is configured every call is a no-op or a miss.
+ */
+public class OrderCache {
+
+    public static final String CACHE_NAME = "orders";
+
+    private final Cache cache;
+    private final CacheMultiGet multiGet;
+
+    public OrderCache(CacheManager cacheManager, CacheMultiGet multiGet) {
+        this.cache = cacheManager == null ? null : cacheManager.getCache(CACHE_NAME);
+        this.multiGet = multiGet;
+    }
+
+    public Optional<Order> getIfPresent(ID id) {
+        return cache == null ? Optional.empty() : Optional.ofNullable(cache.get(idKey(id), Order.class));
+    }
+
+    /**
+     * Returns the cached orders of the given ids in one multi-get, without loading the missing ones.
+     */
+    public Map<ID, Order> getAllPresent(Collection<ID> ids) {
+        Map<ID, Order> found = new LinkedHashMap<>();
+        if (cache == null || ids.isEmpty()) {
+            return found;
+        }
+        Map<String, Object> cached = multiGet.getAllPresent(cache, ids.stream().map(OrderCache::idKey).toList());
+        for (ID id : ids) {
+            if (cached.get(idKey(id)) instanceof Order order) {
+                found.put(id, order);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Fills the entries of orders read outside a write. Entries that already exist are kept.
+     */
+    public void fill(Collection<Order> orders) {
+        if (cache == null) {
+            return;
+        }
+        for (Order order : orders) {
+            cache.putIfAbsent(idKey(order.getId()), order);
+        }
+    }
+
+    /**
+     * Puts a saved order once the current transaction commits.
+     */
+    public void saved(Order order) {
+        if (cache == null) {
+            return;
+        }
+        ProductCache.afterCommit(() -> cache.put(idKey(order.getId()), order));
+    }
+
+    /**
+     * Evicts one order once the current transaction commits.
+     */
+    public void evict(ID id) {
+        if (cache == null) {
+            return;
+        }
+        ProductCache.afterCommit(() -> cache.evict(idKey(id)));
+    }
+
+    /**
+     * Drops every entry once the current transaction commits.
+     */
+    public void clear() {
+        if (cache == null) {
+            return;
+        }
+        ProductCache.afterCommit(cache::clear);
+    }
+
+    private static String idKey(ID id) {
+        return id.getValue().toString();
+    }
+}
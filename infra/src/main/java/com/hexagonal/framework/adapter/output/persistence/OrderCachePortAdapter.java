@@ -0,0 +1,82 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.application.port.out.OrderCachePort;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Order cache port over the {@code orders} cache that the order persistence adapters write on every save (see
+ * {@link OrderCache}).
+ *
+ * Puts only fill missing entries, so an order read by a service never replaces one saved later.
+ * {@link #getAll} reads every id in one multi-get (see {@link CacheMultiGet}). Hits and misses are reported
+ * per id to the {@link CacheStatsRecorder} as {@code orders}.
+ */
+public class OrderCachePortAdapter implements OrderCachePort {
+
+    private final OrderCache orderCache;
+    private final CacheStatsRecorder stats;
+
+    public OrderCachePortAdapter(CacheManager cacheManager, CacheMultiGet multiGet, CacheStatsRecorder stats) {
+        this.orderCache = new OrderCache(cacheManager, multiGet);
+        this.stats = stats;
+    }
+
+    @Override
+    public Optional<Order> getById(ID id) {
+        if (id == null) return Optional.empty();
+        Optional<Order> order = orderCache.getIfPresent(id);
+        record(id, order.isPresent());
+        return order;
+    }
+
+    @Override
+    public Map<ID, Order> getAll(Collection<ID> ids) {
+        if (ids == null || ids.isEmpty()) return Map.of();
+        Map<ID, Order> found = orderCache.getAllPresent(new LinkedHashSet<>(ids));
+        for (ID id : new LinkedHashSet<>(ids)) {
+            record(id, found.containsKey(id));
+        }
+        return found;
+    }
+
+    @Override
+    public void put(Order order) {
+        if (order == null) return;
+        orderCache.fill(List.of(order));
+    }
+
+    @Override
+    public void putAll(Collection<Order> orders) {
+        if (orders == null || orders.isEmpty()) return;
+        orderCache.fill(orders);
+    }
+
+    @Override
+    public void invalidateById(ID id) {
+        if (id == null) return;
+        orderCache.evict(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        orderCache.clear();
+    }
+
+    private void record(ID id, boolean hit) {
+        if (hit) {
+            stats.hit(OrderCache.CACHE_NAME, id);
+        } else {
+            stats.miss(OrderCache.CACHE_NAME, id);
+        }
+    }
+}
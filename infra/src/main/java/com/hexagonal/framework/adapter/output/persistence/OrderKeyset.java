@@ -0,0 +1,49 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.specification.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Position of an order in the newest-first order listing: createdAt descending, then id descending.
+ * The order adapters page with it instead of offsets, so a page deep into the listing costs as much as
+ * the first one.
+ */
+public record OrderKeyset(LocalDateTime createdAt, UUID id) {
+
+    public static OrderKeyset of(Order order) {
+        return new OrderKeyset(order.getCreatedAt(), order.getId().getValue());
+    }
+
+    /**
+     * Collects up to {@code limit} orders after {@code start} (null for the newest). {@code fetch} returns the
+     * next batch of at most {@code batchSize} orders after a position from the store. When part of the
+     * specification could not be pushed down, {@code residual} is checked in memory and batches are fetched
+     * until the page is full or the store has no more orders.
+     */
+    public static List<Order> collect(OrderKeyset start, int limit, Specification<Order> residual,
+                                      BiFunction<OrderKeyset, Integer, List<Order>> fetch) {
+        List<Order> page = new ArrayList<>(limit);
+        OrderKeyset position = start;
+        while (true) {
+            List<Order> batch = fetch.apply(position, limit);
+            for (Order order : batch) {
+                if (residual == null || residual.isSatisfiedBy(order)) {
+                    page.add(order);
+                    if (page.size() == limit) {
+                        return page;
+                    }
+                }
+            }
+            if (batch.size() < limit) {
+                return page;
+            }
+            position = of(batch.get(batch.size() - 1));
+        }
+    }
+}
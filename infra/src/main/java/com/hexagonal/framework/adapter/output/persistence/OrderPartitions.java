@@ -0,0 +1,20 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time-based partition key of stored orders.
+ *
+ * Orders are partitioned by the month they were created in, as {@code yyyyMM}. The key never changes after an
+ * order is created, so an order stays in its partition for life; both order adapters store it next to
+ * {@code createdAt}.
+ */
+public final class OrderPartitions {
+
+    private OrderPartitions() {
+    }
+
+    public static int monthOf(LocalDateTime createdAt) {
+        return createdAt.getYear() * 100 + createdAt.getMonthValue();
+    }
+}
@@ -0,0 +1,306 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Key-targeted maintenance of the {@code products} cache shared by the product persistence adapters.
+ *
+ * Entries:
+ * - {@code <id>}: the product
+ * - {@code sku:<sku>}: the product id. The SKU of a product never changes, so this entry stays valid
+ *   across updates and is resolved through the id entry
+ * - {@code all:version}: a random token naming the current list entry
+ * - {@code all:<token>}: the ids of all products, in the order they were listed
+ *
+ * The list holds ids only: a reader resolves them against the id entries with one multi-get and loads the
+ * missing products with one query by ids, so the list always shows the products as their id entries do.
+ *
+ * A write that adds, removes or changes a product puts the products it saved under their id keys and retires
+ * the list: it stores a new token and evicts the old list. The token lives in the cache itself, so with a
+ * shared cache (Redis, near cache) every node and every restart reads the same one. A reader that loaded the
+ * list while a write happened, on this node or another, stores it under the retired token that nobody reads
+ * any more. The list is not patched in place: with several nodes two concurrent patches of the same list
+ * could drop one another.
+ *
+ * Stock updates are partial writes of one column; they evict the product's id entry instead of reading the
+ * product back, so a checkout costs one UPDATE per line and no extra query. They keep the list: its ids are
+ * unchanged, and the next list read loads the evicted products again.
+ *
+ * Cache updates of a write run after its transaction commits, so a concurrent reader cannot put the
+ * pre-commit state back. Misses and refreshes go through the {@link SingleFlightCacheLoader}, so an expired
+ * hot entry costs one query. When no cache named {@code products} is configured every call goes to the loader.
+ *
+ * The application services read the same entries through {@link ProductCachePortAdapter}, so there is one
+ * product cache and every product writer keeps it current.
+ */
+public class ProductCache {
+
+    public static final String CACHE_NAME = "products";
+
+    private static final String SKU_PREFIX = "sku:";
+    private static final String ALL_PREFIX = "all:";
+    private static final String ALL_VERSION_KEY = ALL_PREFIX + "version";
+
+    private final Cache cache;
+    private final SingleFlightCacheLoader cacheLoader;
+    private final CacheMultiGet multiGet;
+
+    public ProductCache(CacheManager cacheManager, SingleFlightCacheLoader cacheLoader) {
+        this(cacheManager, cacheLoader, new CacheMultiGet(null));
+    }
+
+    public ProductCache(CacheManager cacheManager, SingleFlightCacheLoader cacheLoader, CacheMultiGet multiGet) {
+        this.cache = cacheManager == null ? null : cacheManager.getCache(CACHE_NAME);
+        this.cacheLoader = cacheLoader;
+        this.multiGet = multiGet;
+    }
+
+    public Optional<Product> findById(ID id, Function<ID, Optional<Product>> loader) {
+        if (cache == null) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(cacheLoader.get(cache, idKey(id), Product.class, () -> loader.apply(id).orElse(null)));
+    }
+
+    public Optional<Product> findBySku(String sku, Function<String, Optional<Product>> skuLoader,
+                                       Function<ID, Optional<Product>> idLoader) {
+        if (cache == null) {
+            return skuLoader.apply(sku);
+        }
+        String productId = cacheLoader.get(cache, SKU_PREFIX + sku, String.class, () -> skuLoader.apply(sku)
+            .map(product -> {
+                cache.putIfAbsent(idKey(product.getId()), product);
+                return idKey(product.getId());
+            })
+            .orElse(null));
+        if (productId == null) {
+            return Optional.empty();
+        }
+        Optional<Product> product = findById(ID.of(productId), idLoader);
+        if (product.isEmpty()) {
+            cache.evict(SKU_PREFIX + sku);
+        }
+        return product;
+    }
+
+    /**
+     * Returns all products: the cached id list resolved against the id entries, loading the products whose
+     * entries are missing with one {@code idsLoader} call. A list loaded now is returned as loaded.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Product> findAll(Supplier<List<Product>> loader, Function<Collection<ID>, List<Product>> idsLoader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        List<Product> loaded = new ArrayList<>();
+        // A write retires the token, so a list loaded across a write is stored where nobody reads it
+        List<String> ids = cacheLoader.get(cache, ALL_PREFIX + allVersion(), List.class, () -> {
+            loaded.addAll(loader.get());
+            return loaded.stream().map(product -> idKey(product.getId())).toList();
+        });
+        if (!loaded.isEmpty()) {
+            return List.copyOf(loaded);
+        }
+
+        Map<String, Object> cached = new HashMap<>(multiGet.getAllPresent(cache, ids));
+        List<String> missing = ids.stream().filter(id -> !(cached.get(id) instanceof Product)).toList();
+        if (!missing.isEmpty()) {
+            cached.putAll(cacheLoader.loadAll(cache, missing, keys -> idsLoader.apply(keys.stream().map(ID::of).toList())
+                .stream()
+                .collect(Collectors.toMap(product -> idKey(product.getId()), product -> product))));
+        }
+        // Ids of products deleted since the list was loaded have no product; the delete retires the list
+        List<Product> products = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            if (cached.get(id) instanceof Product product) {
+                products.add(product);
+            }
+        }
+        return Collections.unmodifiableList(products);
+    }
+
+    /**
+     * Returns the cached product without loading it on a miss.
+     */
+    public Optional<Product> getIfPresent(ID id) {
+        return cache == null ? Optional.empty() : Optional.ofNullable(cache.get(idKey(id), Product.class));
+    }
+
+    /**
+     * Returns the cached products of the given ids in one multi-get, without loading the missing ones.
+     */
+    public Map<ID, Product> getAllPresent(Collection<ID> ids) {
+        Map<ID, Product> found = new LinkedHashMap<>();
+        if (cache == null || ids.isEmpty()) {
+            return found;
+        }
+        Map<String, Object> cached = multiGet.getAllPresent(cache, ids.stream().map(ProductCache::idKey).toList());
+        for (ID id : ids) {
+            if (cached.get(idKey(id)) instanceof Product product) {
+                found.put(id, product);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Fills the id and SKU entries with products read outside a write. Entries that already exist are kept,
+     * so a value stored by a writer is never replaced by an older read.
+     */
+    public void fill(Collection<Product> products) {
+        fill(cache, products);
+    }
+
+    /**
+     * Fills the id and SKU entries of a {@code products} cache with products read at warm-up, like
+     * {@link #fill(Collection)}.
+     */
+    public static void preload(CacheManager cacheManager, Collection<Product> products) {
+        fill(cacheManager == null ? null : cacheManager.getCache(CACHE_NAME), products);
+    }
+
+    private static void fill(Cache cache, Collection<Product> products) {
+        if (cache == null) {
+            return;
+        }
+        for (Product product : products) {
+            cache.putIfAbsent(idKey(product.getId()), product);
+            cache.putIfAbsent(SKU_PREFIX + product.getSku(), idKey(product.getId()));
+        }
+    }
+
+    /**
+     * Puts saved products under their id and SKU keys and retires the cached list.
+     */
+    public void saved(Collection<Product> products) {
+        if (cache == null || products.isEmpty()) {
+            return;
+        }
+        List<Product> saved = List.copyOf(products);
+        afterCommit(() -> {
+            for (Product product : saved) {
+                cacheLoader.written(cache, idKey(product.getId()));
+                cache.put(idKey(product.getId()), product);
+                cache.put(SKU_PREFIX + product.getSku(), idKey(product.getId()));
+            }
+            retireAll();
+        });
+    }
+
+    /**
+     * Drops a deleted product from every entry. If the product itself is not cached its SKU is unknown;
+     * the SKU entry then resolves to a missing id and is evicted on its next lookup.
+     */
+    public void deleted(ID id) {
+        if (cache == null) {
+            return;
+        }
+        afterCommit(() -> {
+            Product cached = cache.get(idKey(id), Product.class);
+            if (cached != null) {
+                cacheLoader.written(cache, SKU_PREFIX + cached.getSku());
+                cache.evict(SKU_PREFIX + cached.getSku());
+            }
+            evictProduct(id);
+        });
+    }
+
+    /**
+     * Evicts a product whose stock was updated in place; it is read again on its next lookup only.
+     * The SKU entry and the list hold the id and stay valid.
+     */
+    public void stockChanged(ID id) {
+        if (cache == null) {
+            return;
+        }
+        afterCommit(() -> {
+            cacheLoader.written(cache, idKey(id));
+            cache.evict(idKey(id));
+        });
+    }
+
+    /**
+     * Evicts one product and retires the cached list; the next lookups read them again.
+     */
+    public void evict(ID id) {
+        if (cache == null) {
+            return;
+        }
+        afterCommit(() -> evictProduct(id));
+    }
+
+    /**
+     * Drops every entry, including the list token.
+     */
+    public void clear() {
+        if (cache == null) {
+            return;
+        }
+        afterCommit(() -> {
+            cacheLoader.cleared(cache);
+            cache.clear();
+        });
+    }
+
+    private void evictProduct(ID id) {
+        cacheLoader.written(cache, idKey(id));
+        cache.evict(idKey(id));
+        retireAll();
+    }
+
+    private String allVersion() {
+        String version = cache.get(ALL_VERSION_KEY, String.class);
+        if (version != null) {
+            return version;
+        }
+        Cache.ValueWrapper existing = cache.putIfAbsent(ALL_VERSION_KEY, UUID.randomUUID().toString());
+        // Another reader may have stored a token first, possibly on another node
+        return existing != null && existing.get() != null ? (String) existing.get() : cache.get(ALL_VERSION_KEY, String.class);
+    }
+
+    private void retireAll() {
+        String retired = cache.get(ALL_VERSION_KEY, String.class);
+        cache.put(ALL_VERSION_KEY, UUID.randomUUID().toString());
+        if (retired != null) {
+            cacheLoader.written(cache, ALL_PREFIX + retired);
+            cache.evict(ALL_PREFIX + retired);
+        }
+    }
+
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String idKey(ID id) {
+        return id.getValue().toString();
+    }
+}
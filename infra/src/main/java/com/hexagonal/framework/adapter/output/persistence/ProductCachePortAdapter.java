@@ -0,0 +1,85 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.application.port.out.ProductCachePort;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Product cache port over the {@code products} cache of the product persistence adapters (see
+ * {@link ProductCache}), so the services read the entries every product writer maintains.
+ *
+ * Puts only fill missing entries: the persistence adapters update the cache after their writes commit, and a
+ * value read earlier by a service must not replace theirs. Invalidations evict the id entry and retire the
+ * cached product list. {@link #getAll} reads every id in one multi-get (see {@link CacheMultiGet}). Hits and
+ * misses are reported per id to the {@link CacheStatsRecorder} as {@code products}.
+ */
+public class ProductCachePortAdapter implements ProductCachePort {
+
+    private final ProductCache productCache;
+    private final CacheStatsRecorder stats;
+
+    public ProductCachePortAdapter(CacheManager cacheManager, SingleFlightCacheLoader cacheLoader,
+                                   CacheMultiGet multiGet, CacheStatsRecorder stats) {
+        this.productCache = new ProductCache(cacheManager, cacheLoader, multiGet);
+        this.stats = stats;
+    }
+
+    @Override
+    public Optional<Product> getById(ID id) {
+        if (id == null) return Optional.empty();
+        Optional<Product> product = productCache.getIfPresent(id);
+        record(id, product.isPresent());
+        return product;
+    }
+
+    @Override
+    public Map<ID, Product> getAll(Collection<ID> ids) {
+        if (ids == null || ids.isEmpty()) return Map.of();
+        Map<ID, Product> found = productCache.getAllPresent(new LinkedHashSet<>(ids));
+        for (ID id : new LinkedHashSet<>(ids)) {
+            record(id, found.containsKey(id));
+        }
+        return found;
+    }
+
+    @Override
+    public void put(Product product) {
+        if (product == null) return;
+        productCache.fill(List.of(product));
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        if (products == null || products.isEmpty()) return;
+        productCache.fill(products);
+    }
+
+    @Override
+    public void invalidateById(ID id) {
+        if (id == null) return;
+        productCache.evict(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        productCache.clear();
+    }
+
+    private void record(ID id, boolean hit) {
+        if (hit) {
+            stats.hit(ProductCache.CACHE_NAME, id);
+        } else {
+            stats.miss(ProductCache.CACHE_NAME, id);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.hexagonal.framework.adapter.output.persistence.h2;
+
+import com.hexagonal.application.port.out.CartRepositoryPort;
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.vo.CartStatus;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.h2.mapper.CartJpaMapper;
+import com.hexagonal.framework.adapter.output.persistence.h2.repository.CartJpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Store of record for carts. Carts are usually reached through the write-behind cart repository
+ * (see CartWriteBehindConfiguration), which keeps active carts in memory and flushes them here.
+ */
+@PersistenceAdapter
+public class CartH2Adapter implements CartRepositoryPort {
+    
+    private final CartJpaRepository jpaRepository;
+    
+    public CartH2Adapter(CartJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    public Cart save(Cart cart) {
+        var savedEntity = jpaRepository.save(CartJpaMapper.toEntity(cart));
+        return CartJpaMapper.toDomain(savedEntity);
+    }
+    
+    @Override
+    public Optional<Cart> findById(ID id) {
+        return jpaRepository.findById(id.getValue()).map(CartJpaMapper::toDomain);
+    }
+    
+    /**
+     * The customer's active cart; converted, abandoned and expired carts are history.
+     */
+    @Override
+    public Optional<Cart> findByCustomerId(ID customerId) {
+        return jpaRepository.findFirstByCustomerIdAndStatusOrderByUpdatedAtDesc(customerId.getValue(), CartStatus.ACTIVE.name())
+            .map(CartJpaMapper::toDomain);
+    }
+    
+    @Override
+    public void deleteById(ID id) {
+        jpaRepository.deleteById(id.getValue());
+    }
+    
+    @Override
+    public boolean existsById(ID id) {
+        return jpaRepository.existsById(id.getValue());
+    }
+}
@@ -4,11 +4,13 @@ import com.hexagonal.application.port.out.CustomerRepositoryPort;
 import com.hexagonal.domain.entity.Customer;
 import com.hexagonal.framework.adapter.output.persistence.h2.mapper.CustomerJpaMapper;
 import com.hexagonal.framework.adapter.output.persistence.h2.repository.CustomerJpaRepository;
+import com.hexagonal.framework.adapter.output.persistence.CustomerCache;
 import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
 import com.hexagonal.domain.vo.Email;
 import com.hexagonal.domain.vo.ID;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -20,45 +22,52 @@ import java.util.stream.Collectors;
 public class CustomerH2Adapter implements CustomerRepositoryPort {
     
     private final CustomerJpaRepository jpaRepository;
+    private final CustomerCache customerCache;
     
-    public CustomerH2Adapter(CustomerJpaRepository jpaRepository) {
+    public CustomerH2Adapter(CustomerJpaRepository jpaRepository, CacheManager cacheManager,
+                             SingleFlightCacheLoader cacheLoader) {
         this.jpaRepository = jpaRepository;
+        this.customerCache = new CustomerCache(cacheManager, cacheLoader);
     }
     
     @Override
-    @CacheEvict(value = "customers", allEntries = true)
     public Customer save(Customer customer) {
         var entity = CustomerJpaMapper.toEntity(customer);
         var savedEntity = jpaRepository.save(entity);
+        customerCache.changed();
         return CustomerJpaMapper.toDomain(savedEntity);
     }
     
     @Override
-    @Cacheable(value = "customers", key = "#id.value.toString()")
     public Optional<Customer> findById(ID id) {
-        return jpaRepository.findById(id.getValue())
-            .map(CustomerJpaMapper::toDomain);
+        return customerCache.findById(id, customerId -> jpaRepository.findById(customerId.getValue())
+            .map(CustomerJpaMapper::toDomain));
     }
     
     @Override
-    @Cacheable(value = "customers", key = "'email:' + #email.getValue()")
     public Optional<Customer> findByEmail(Email email) {
-        return jpaRepository.findByEmail(email.getValue())
-            .map(CustomerJpaMapper::toDomain);
+        return customerCache.findByEmail(email, address -> jpaRepository.findByEmail(address.getValue())
+            .map(CustomerJpaMapper::toDomain));
     }
     
     @Override
-    @Cacheable(value = "customers", key = "'all'")
     public List<Customer> findAll() {
-        return jpaRepository.findAll().stream()
+        return customerCache.findAll(() -> jpaRepository.findAll().stream()
+            .map(CustomerJpaMapper::toDomain)
+            .collect(Collectors.toList()));
+    }
+    
+    @Override
+    public List<Customer> findRecentlyUpdated(int limit) {
+        return jpaRepository.findAllByOrderByUpdatedAtDesc(PageRequest.of(0, limit)).stream()
             .map(CustomerJpaMapper::toDomain)
             .collect(Collectors.toList());
     }
     
     @Override
-    @CacheEvict(value = "customers", allEntries = true)
     public void deleteById(ID id) {
         jpaRepository.deleteById(id.getValue());
+        customerCache.changed();
     }
     
     @Override
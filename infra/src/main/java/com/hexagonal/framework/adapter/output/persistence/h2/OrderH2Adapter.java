@@ -0,0 +1,175 @@
+package com.hexagonal.framework.adapter.output.persistence.h2;
+
+import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.OrderCache;
+import com.hexagonal.framework.adapter.output.persistence.OrderKeyset;
+import com.hexagonal.framework.adapter.output.persistence.OrderPartitions;
+import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.h2.mapper.OrderJpaMapper;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.OrderJpaEntity;
+import com.hexagonal.framework.adapter.output.persistence.h2.repository.OrderJpaRepository;
+import com.hexagonal.framework.adapter.output.persistence.h2.specification.OrderJpaSpecificationTranslator;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Store of record for orders. An order is one row plus its rows in {@code order_items}, read together;
+ * a customer's history is served by the (customerId, createdAt) index, newest order first.
+ */
+@PersistenceAdapter
+public class OrderH2Adapter implements OrderRepositoryPort {
+    
+    // Items are fetched in the same query; the rows of one order are adjacent, so each order is complete when streamed
+    private static final String STREAM_ALL_QUERY =
+        "select o from OrderJpaEntity o left join fetch o.items order by o.createdAt desc, o.id desc";
+    
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    
+    private final OrderJpaRepository jpaRepository;
+    private final OrderJpaSpecificationTranslator specificationTranslator = new OrderJpaSpecificationTranslator();
+    private final EntityManagerFactory entityManagerFactory;
+    private final int fetchSize;
+    private final OrderCache orderCache;
+    
+    public OrderH2Adapter(OrderJpaRepository jpaRepository, EntityManagerFactory entityManagerFactory,
+                          @Value("${order.export.fetchSize:500}") int fetchSize,
+                          CacheManager cacheManager, CacheMultiGet cacheMultiGet) {
+        this.jpaRepository = jpaRepository;
+        this.orderCache = new OrderCache(cacheManager, cacheMultiGet);
+        this.entityManagerFactory = entityManagerFactory;
+        this.fetchSize = fetchSize;
+    }
+    
+    @Override
+    public Order save(Order order) {
+        var savedEntity = jpaRepository.save(OrderJpaMapper.toEntity(order));
+        Order saved = OrderJpaMapper.toDomain(savedEntity);
+        orderCache.saved(saved);
+        return saved;
+    }
+    
+    @Override
+    public Optional<Order> findById(ID id) {
+        return jpaRepository.findById(id.getValue()).map(OrderJpaMapper::toDomain);
+    }
+    
+    @Override
+    public List<Order> findAll() {
+        return jpaRepository.findAllByOrderByCreatedAtDesc().stream()
+            .map(OrderJpaMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Streams over a JDBC cursor that reads {@code order.export.fetchSize} rows per round trip. The stream has
+     * its own entity manager and read-only transaction, so it can be consumed on any thread; each order is
+     * detached once mapped, keeping memory flat however many orders pass through.
+     */
+    @Override
+    public Stream<Order> streamAll() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+            return entityManager.createQuery(STREAM_ALL_QUERY, OrderJpaEntity.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()
+                .map(entity -> {
+                    Order order = OrderJpaMapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return order;
+                })
+                .onClose(() -> close(entityManager));
+        } catch (RuntimeException e) {
+            close(entityManager);
+            throw e;
+        }
+    }
+    
+    @Override
+    public List<Order> findAll(Specification<Order> specification, ID after, int limit) {
+        OrderKeyset start = null;
+        if (after != null) {
+            Optional<OrderJpaEntity> cursor = jpaRepository.findById(after.getValue());
+            if (cursor.isEmpty()) {
+                return List.of();
+            }
+            start = new OrderKeyset(cursor.get().getCreatedAt(), cursor.get().getId());
+        }
+        
+        var translation = specification != null ? specificationTranslator.translatePartially(specification) : null;
+        var pushed = translation != null ? translation.query() : null;
+        // Only part of the specification runs in the database, the rest is checked in memory
+        Specification<Order> residual = translation != null && !translation.exact() ? specification : null;
+        
+        return OrderKeyset.collect(start, limit, residual, (position, batchSize) -> {
+            List<org.springframework.data.jpa.domain.Specification<OrderJpaEntity>> predicates = new ArrayList<>();
+            if (pushed != null) {
+                predicates.add(pushed);
+            }
+            if (position != null) {
+                predicates.add(after(position));
+            }
+            return jpaRepository.findBy(org.springframework.data.jpa.domain.Specification.allOf(predicates),
+                    query -> query.sortBy(NEWEST_FIRST).limit(batchSize).all()).stream()
+                .map(OrderJpaMapper::toDomain)
+                .collect(Collectors.toList());
+        });
+    }
+    
+    @Override
+    public List<Order> findByCustomerId(ID customerId) {
+        return jpaRepository.findAllByCustomerIdOrderByCreatedAtDesc(customerId.getValue()).stream()
+            .map(OrderJpaMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void deleteById(ID id) {
+        jpaRepository.deleteById(id.getValue());
+        orderCache.evict(id);
+    }
+    
+    @Override
+    public boolean existsById(ID id) {
+        return jpaRepository.existsById(id.getValue());
+    }
+    
+    // Orders older than the position; orders of later months are never read
+    private static org.springframework.data.jpa.domain.Specification<OrderJpaEntity> after(OrderKeyset position) {
+        return (root, query, cb) -> cb.and(
+            cb.le(root.<Integer>get("createdMonth"), OrderPartitions.monthOf(position.createdAt())),
+            cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), position.createdAt()),
+                cb.and(
+                    cb.equal(root.get("createdAt"), position.createdAt()),
+                    cb.lessThan(root.<UUID>get("id"), position.id()))));
+    }
+    
+    private static void close(EntityManager entityManager) {
+        try {
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+}
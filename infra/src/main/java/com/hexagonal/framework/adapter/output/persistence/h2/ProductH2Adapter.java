@@ -2,60 +2,148 @@ package com.hexagonal.framework.adapter.output.persistence.h2;
 
 import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.Specification;
 import com.hexagonal.framework.adapter.output.persistence.h2.mapper.ProductJpaMapper;
 import com.hexagonal.framework.adapter.output.persistence.h2.repository.ProductJpaRepository;
+import com.hexagonal.framework.adapter.output.persistence.h2.specification.ProductJpaSpecificationTranslator;
 import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.ProductCache;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
 import com.hexagonal.domain.vo.ID;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import com.hexagonal.domain.vo.ProductStatus;
+import com.hexagonal.domain.vo.Quantity;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @PersistenceAdapter
 public class ProductH2Adapter implements ProductRepositoryPort {
     
     private final ProductJpaRepository jpaRepository;
+    private final ProductCache productCache;
+    private final ProductJpaSpecificationTranslator specificationTranslator = new ProductJpaSpecificationTranslator();
     
-    public ProductH2Adapter(ProductJpaRepository jpaRepository) {
+    public ProductH2Adapter(ProductJpaRepository jpaRepository, CacheManager cacheManager,
+                            SingleFlightCacheLoader cacheLoader, CacheMultiGet cacheMultiGet) {
         this.jpaRepository = jpaRepository;
+        this.productCache = new ProductCache(cacheManager, cacheLoader, cacheMultiGet);
     }
     
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public Product save(Product product) {
         var entity = ProductJpaMapper.toEntity(product);
-        var savedEntity = jpaRepository.save(entity);
-        return ProductJpaMapper.toDomain(savedEntity);
+        var saved = ProductJpaMapper.toDomain(jpaRepository.save(entity));
+        productCache.saved(List.of(saved));
+        return saved;
     }
     
     @Override
-    @Cacheable(value = "products", key = "#id.value.toString()")
     public Optional<Product> findById(ID id) {
-        return jpaRepository.findById(id.getValue())
-            .map(ProductJpaMapper::toDomain);
+        return productCache.findById(id, this::loadById);
+    }
+    
+    @Override
+    public List<Product> findAllById(Collection<ID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids.stream().map(ID::getValue).collect(Collectors.toSet())).stream()
+            .map(ProductJpaMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * A single conditional UPDATE: no SELECT first and no lost update between concurrent buyers,
+     * the row lock is held only for the statement itself.
+     */
+    @Override
+    @Transactional
+    public boolean decrementStockIfAvailable(ID productId, Quantity quantity) {
+        boolean decremented = jpaRepository.decrementStockIfAvailable(productId.getValue(), quantity.getValue(), LocalDateTime.now()) == 1;
+        if (decremented) {
+            productCache.stockChanged(productId);
+        }
+        return decremented;
+    }
+    
+    @Override
+    @Transactional
+    public boolean incrementStock(ID productId, Quantity quantity) {
+        boolean incremented = jpaRepository.incrementStock(productId.getValue(), quantity.getValue(), LocalDateTime.now()) == 1;
+        if (incremented) {
+            productCache.stockChanged(productId);
+        }
+        return incremented;
+    }
+    
+    @Override
+    @Transactional
+    public boolean updateStock(ID productId, Quantity stock) {
+        boolean updated = jpaRepository.updateStock(productId.getValue(), stock.getValue(), LocalDateTime.now()) == 1;
+        if (updated) {
+            productCache.stockChanged(productId);
+        }
+        return updated;
     }
     
     @Override
-    @Cacheable(value = "products", key = "'sku:' + #sku")
     public Optional<Product> findBySku(String sku) {
-        return jpaRepository.findBySku(sku)
-            .map(ProductJpaMapper::toDomain);
+        return productCache.findBySku(sku,
+            key -> jpaRepository.findBySku(key).map(ProductJpaMapper::toDomain),
+            this::loadById);
     }
     
     @Override
-    @Cacheable(value = "products", key = "'all'")
     public List<Product> findAll() {
-        return jpaRepository.findAll().stream()
+        return productCache.findAll(() -> jpaRepository.findAll().stream()
+            .map(ProductJpaMapper::toDomain)
+            .collect(Collectors.toList()), this::findAllById);
+    }
+    
+    @Override
+    public List<Product> findAll(Specification<Product> specification) {
+        var translation = specificationTranslator.translatePartially(specification);
+        var entities = translation.query() != null
+            ? jpaRepository.findAll(translation.query())
+            : jpaRepository.findAll();
+        
+        Stream<Product> products = entities.stream().map(ProductJpaMapper::toDomain);
+        if (!translation.exact()) {
+            // Only part of the specification ran in the database, check the rest in memory
+            products = products.filter(specification::isSatisfiedBy);
+        }
+        return products.collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Product> findAllByStatus(ProductStatus status, int page, int size) {
+        return jpaRepository.findByStatusOrderByIdAsc(status.name(), PageRequest.of(page, size)).stream()
+            .map(ProductJpaMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Product> findAllByStatusAfter(ProductStatus status, ID after, int limit) {
+        if (after == null) {
+            return findAllByStatus(status, 0, limit);
+        }
+        return jpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status.name(), after.getValue(), PageRequest.of(0, limit)).stream()
             .map(ProductJpaMapper::toDomain)
             .collect(Collectors.toList());
     }
     
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public void deleteById(ID id) {
         jpaRepository.deleteById(id.getValue());
+        productCache.deleted(id);
     }
     
     @Override
@@ -67,5 +155,9 @@ public class ProductH2Adapter implements ProductRepositoryPort {
     public boolean existsBySku(String sku) {
         return jpaRepository.existsBySku(sku);
     }
+    
+    private Optional<Product> loadById(ID id) {
+        return jpaRepository.findById(id.getValue())
+            .map(ProductJpaMapper::toDomain);
+    }
 }
-
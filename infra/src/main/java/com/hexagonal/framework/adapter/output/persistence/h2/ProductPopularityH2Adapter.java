@@ -0,0 +1,36 @@
+package com.hexagonal.framework.adapter.output.persistence.h2;
+
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort;
+import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.h2.mapper.ProductPopularityJpaMapper;
+import com.hexagonal.framework.adapter.output.persistence.h2.repository.ProductPopularityJpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@PersistenceAdapter
+public class ProductPopularityH2Adapter implements ProductPopularityRepositoryPort {
+    
+    private final ProductPopularityJpaRepository jpaRepository;
+    
+    public ProductPopularityH2Adapter(ProductPopularityJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    public List<PopularityCounts> findAll() {
+        return jpaRepository.findAll().stream()
+            .map(ProductPopularityJpaMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void saveAll(Collection<PopularityCounts> counts) {
+        LocalDateTime now = LocalDateTime.now();
+        jpaRepository.saveAll(counts.stream()
+            .map(c -> ProductPopularityJpaMapper.toEntity(c, now))
+            .collect(Collectors.toList()));
+    }
+}
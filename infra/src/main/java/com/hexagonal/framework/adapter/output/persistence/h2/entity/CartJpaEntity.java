@@ -0,0 +1,45 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+@Table(name = "carts", indexes = {
+    // Serves the customer's current cart lookup
+    @Index(name = "idx_carts_customer_status", columnList = "customerId, status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartJpaEntity {
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+    
+    @Column(nullable = false, columnDefinition = "UUID")
+    private UUID customerId;
+    
+    @Column(nullable = false)
+    private String status;
+    
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "cart_items", joinColumns = @JoinColumn(name = "cart_id"))
+    @OrderColumn(name = "item_index")
+    @Builder.Default
+    private List<CartItemEmbeddable> items = new ArrayList<>();
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
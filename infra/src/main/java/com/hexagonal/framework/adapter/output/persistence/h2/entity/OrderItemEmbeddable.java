@@ -0,0 +1,33 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemEmbeddable {
+    @Column(nullable = false, columnDefinition = "UUID")
+    private UUID productId;
+    
+    @Column(nullable = false)
+    private String productName;
+    
+    @Column(nullable = false)
+    private Integer quantity;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal unitPriceAmount;
+    
+    @Column(nullable = false, length = 3)
+    private String unitPriceCurrency;
+}
@@ -0,0 +1,105 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Orders are append-mostly and read by customer or by time, so the table is laid out for time-based
+ * partitioning: {@code createdMonth} (yyyyMM of {@code createdAt}) is the partition key a production database
+ * range-partitions the table on, and every time-bounded query also bounds it so only the matching
+ * partitions are read.
+ */
+@Entity
+@Table(name = "orders", indexes = {
+    // Serves a customer's order history, newest first
+    @Index(name = "idx_orders_customer_created", columnList = "customerId, createdAt"),
+    // Serves admin listings by time within a partition
+    @Index(name = "idx_orders_month_created", columnList = "createdMonth, createdAt"),
+    // Serves the newest-first listing, keyset pages and export across all partitions
+    @Index(name = "idx_orders_created", columnList = "createdAt, id"),
+    // Serves admin searches by status, newest first
+    @Index(name = "idx_orders_status_created", columnList = "status, createdAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderJpaEntity {
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+    
+    @Column(nullable = false, columnDefinition = "UUID")
+    private UUID customerId;
+    
+    @Column(nullable = false)
+    private String status;
+    
+    // Items of a page of orders are loaded in batches of 100 orders, not with one query per order
+    @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
+    @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "item_index")
+    @Builder.Default
+    private List<OrderItemEmbeddable> items = new ArrayList<>();
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal taxAmount;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal discountAmount;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(nullable = false, length = 3)
+    private String currency;
+    
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "street", column = @Column(name = "shipping_street", nullable = false)),
+        @AttributeOverride(name = "city", column = @Column(name = "shipping_city", nullable = false)),
+        @AttributeOverride(name = "state", column = @Column(name = "shipping_state")),
+        @AttributeOverride(name = "zipCode", column = @Column(name = "shipping_zip_code", nullable = false)),
+        @AttributeOverride(name = "country", column = @Column(name = "shipping_country", nullable = false))
+    })
+    private AddressEmbeddable shippingAddress;
+    
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "street", column = @Column(name = "billing_street")),
+        @AttributeOverride(name = "city", column = @Column(name = "billing_city")),
+        @AttributeOverride(name = "state", column = @Column(name = "billing_state")),
+        @AttributeOverride(name = "zipCode", column = @Column(name = "billing_zip_code")),
+        @AttributeOverride(name = "country", column = @Column(name = "billing_country"))
+    })
+    private AddressEmbeddable billingAddress;
+    
+    private String trackingNumber;
+    private String trackingCarrier;
+    private String trackingUrl;
+    private LocalDateTime shippedAt;
+    
+    @Column(nullable = false)
+    private Integer createdMonth;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Null for a new order, so save() persists it; an update with a stale version fails instead of overwriting
+    @Version
+    private Long version;
+}
@@ -15,7 +15,10 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    // Serves status-filtered offset/keyset pagination ordered by id
+    @Index(name = "idx_products_status_id", columnList = "status, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,30 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "product_popularity")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPopularityJpaEntity {
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID productId;
+    
+    @Column(nullable = false)
+    private Long totalOrders;
+    
+    @Column(nullable = false)
+    private Double score;
+    
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,50 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.mapper;
+
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.entity.CartItem;
+import com.hexagonal.domain.vo.CartStatus;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.CartItemEmbeddable;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.CartJpaEntity;
+
+import java.util.Currency;
+import java.util.stream.Collectors;
+
+public class CartJpaMapper {
+    
+    public static CartJpaEntity toEntity(Cart cart) {
+        return CartJpaEntity.builder()
+            .id(cart.getId().getValue())
+            .customerId(cart.getCustomerId().getValue())
+            .status(cart.getStatus().name())
+            .items(cart.getItems().stream()
+                .map(item -> CartItemEmbeddable.builder()
+                    .productId(item.getProductId().getValue())
+                    .quantity(item.getQuantity().getValue())
+                    .unitPriceAmount(item.getUnitPrice().getAmount())
+                    .unitPriceCurrency(item.getUnitPrice().getCurrency().getCurrencyCode())
+                    .build())
+                .collect(Collectors.toList()))
+            .createdAt(cart.getCreatedAt())
+            .updatedAt(cart.getUpdatedAt())
+            .build();
+    }
+    
+    public static Cart toDomain(CartJpaEntity entity) {
+        return Cart.of(
+            ID.of(entity.getId()),
+            ID.of(entity.getCustomerId()),
+            CartStatus.valueOf(entity.getStatus()),
+            entity.getItems().stream()
+                .map(item -> CartItem.create(
+                    ID.of(item.getProductId()),
+                    Quantity.of(item.getQuantity()),
+                    Money.of(item.getUnitPriceAmount(), Currency.getInstance(item.getUnitPriceCurrency()))))
+                .collect(Collectors.toList()),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt()
+        );
+    }
+}
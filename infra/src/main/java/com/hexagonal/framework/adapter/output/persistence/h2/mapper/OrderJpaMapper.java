@@ -0,0 +1,107 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.mapper;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.domain.vo.TrackingInformation;
+import com.hexagonal.framework.adapter.output.persistence.OrderPartitions;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.AddressEmbeddable;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.OrderItemEmbeddable;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.OrderJpaEntity;
+
+import java.util.Currency;
+import java.util.stream.Collectors;
+
+public class OrderJpaMapper {
+    
+    public static OrderJpaEntity toEntity(Order order) {
+        OrderJpaEntity.OrderJpaEntityBuilder builder = OrderJpaEntity.builder()
+            .id(order.getId().getValue())
+            .customerId(order.getCustomerId().getValue())
+            .status(order.getStatus().name())
+            .items(order.getItems().stream()
+                .map(item -> OrderItemEmbeddable.builder()
+                    .productId(item.getProductId().getValue())
+                    .productName(item.getProductName())
+                    .quantity(item.getQuantity().getValue())
+                    .unitPriceAmount(item.getUnitPrice().getAmount())
+                    .unitPriceCurrency(item.getUnitPrice().getCurrency().getCurrencyCode())
+                    .build())
+                .collect(Collectors.toList()))
+            .taxAmount(order.getTaxAmount().getAmount())
+            .discountAmount(order.getDiscountAmount().getAmount())
+            .totalAmount(order.getTotalAmount().getAmount())
+            .currency(order.getTotalAmount().getCurrency().getCurrencyCode())
+            .shippingAddress(toEmbeddable(order.getShippingAddress()))
+            .billingAddress(toEmbeddable(order.getBillingAddress()))
+            .createdMonth(OrderPartitions.monthOf(order.getCreatedAt()))
+            .createdAt(order.getCreatedAt())
+            .updatedAt(order.getUpdatedAt())
+            .version(order.getVersion());
+        
+        TrackingInformation tracking = order.getTrackingInformation();
+        if (tracking != null) {
+            builder.trackingNumber(tracking.getTrackingNumber())
+                .trackingCarrier(tracking.getCarrier())
+                .trackingUrl(tracking.getTrackingUrl() != null ? tracking.getTrackingUrl().toString() : null)
+                .shippedAt(tracking.getShippedAt());
+        }
+        
+        return builder.build();
+    }
+    
+    public static Order toDomain(OrderJpaEntity entity) {
+        Currency currency = Currency.getInstance(entity.getCurrency());
+        TrackingInformation tracking = entity.getTrackingNumber() != null
+            ? TrackingInformation.of(entity.getTrackingNumber(), entity.getTrackingCarrier(), entity.getTrackingUrl(),
+                entity.getShippedAt())
+            : null;
+        
+        return Order.of(
+            ID.of(entity.getId()),
+            ID.of(entity.getCustomerId()),
+            entity.getItems().stream()
+                .map(item -> OrderItem.create(
+                    ID.of(item.getProductId()),
+                    item.getProductName(),
+                    Quantity.of(item.getQuantity()),
+                    Money.of(item.getUnitPriceAmount(), Currency.getInstance(item.getUnitPriceCurrency()))))
+                .collect(Collectors.toList()),
+            toDomain(entity.getShippingAddress()),
+            toDomain(entity.getBillingAddress()),
+            Money.of(entity.getTaxAmount(), currency),
+            Money.of(entity.getDiscountAmount(), currency),
+            OrderStatus.valueOf(entity.getStatus()),
+            tracking,
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getVersion()
+        );
+    }
+    
+    private static AddressEmbeddable toEmbeddable(Address address) {
+        if (address == null) {
+            return null;
+        }
+        return AddressEmbeddable.builder()
+            .street(address.getStreet())
+            .city(address.getCity())
+            .state(address.getState())
+            .zipCode(address.getZipCode())
+            .country(address.getCountry())
+            .build();
+    }
+    
+    private static Address toDomain(AddressEmbeddable address) {
+        // Hibernate leaves an embedded value whose columns are all null unset
+        if (address == null || address.getStreet() == null) {
+            return null;
+        }
+        return Address.of(address.getStreet(), address.getCity(), address.getState(), address.getZipCode(),
+            address.getCountry());
+    }
+}
@@ -0,0 +1,23 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.mapper;
+
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort.PopularityCounts;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.ProductPopularityJpaEntity;
+
+import java.time.LocalDateTime;
+
+public class ProductPopularityJpaMapper {
+    
+    public static ProductPopularityJpaEntity toEntity(PopularityCounts counts, LocalDateTime updatedAt) {
+        return ProductPopularityJpaEntity.builder()
+            .productId(counts.productId().getValue())
+            .totalOrders(counts.totalOrders())
+            .score(counts.score())
+            .updatedAt(updatedAt)
+            .build();
+    }
+    
+    public static PopularityCounts toDomain(ProductPopularityJpaEntity entity) {
+        return new PopularityCounts(ID.of(entity.getProductId()), entity.getTotalOrders(), entity.getScore());
+    }
+}
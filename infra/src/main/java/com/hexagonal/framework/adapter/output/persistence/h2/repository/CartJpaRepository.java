@@ -0,0 +1,13 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.repository;
+
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.CartJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CartJpaRepository extends JpaRepository<CartJpaEntity, UUID> {
+    Optional<CartJpaEntity> findFirstByCustomerIdAndStatusOrderByUpdatedAtDesc(UUID customerId, String status);
+}
@@ -2,8 +2,10 @@ package com.hexagonal.framework.adapter.output.persistence.h2.repository;
 
 import com.hexagonal.framework.adapter.output.persistence.h2.entity.CustomerJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,5 +13,6 @@ import java.util.UUID;
 public interface CustomerJpaRepository extends JpaRepository<CustomerJpaEntity, UUID> {
     Optional<CustomerJpaEntity> findByEmail(String email);
     boolean existsByEmail(String email);
+    List<CustomerJpaEntity> findAllByOrderByUpdatedAtDesc(Pageable pageable);
 }
 
@@ -0,0 +1,16 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.repository;
+
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.OrderJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID>, JpaSpecificationExecutor<OrderJpaEntity> {
+    List<OrderJpaEntity> findAllByCustomerIdOrderByCreatedAtDesc(UUID customerId);
+    
+    List<OrderJpaEntity> findAllByOrderByCreatedAtDesc();
+}
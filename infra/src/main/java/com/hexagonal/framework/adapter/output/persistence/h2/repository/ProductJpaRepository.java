@@ -1,15 +1,51 @@
 package com.hexagonal.framework.adapter.output.persistence.h2.repository;
 
 import com.hexagonal.framework.adapter.output.persistence.h2.entity.ProductJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UUID> {
+public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UUID>, JpaSpecificationExecutor<ProductJpaEntity> {
     Optional<ProductJpaEntity> findBySku(String sku);
     boolean existsBySku(String sku);
-}
 
+    // Offset pagination; returns a plain List so no count query is issued
+    List<ProductJpaEntity> findByStatusOrderByIdAsc(String status, Pageable pageable);
+
+    // Keyset pagination: WHERE status = ? AND id > ? ORDER BY id, served by the primary key index
+    List<ProductJpaEntity> findByStatusAndIdGreaterThanOrderByIdAsc(String status, UUID after, Pageable pageable);
+
+    // Conditional decrement in one statement: the row is only touched while enough stock is left.
+    // SET expressions see the old row values, so the status check compares the stock before the decrement.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductJpaEntity p SET p.stockQuantity = p.stockQuantity - :quantity, " +
+           "p.status = CASE WHEN p.stockQuantity = :quantity AND p.status = 'ACTIVE' THEN 'OUT_OF_STOCK' ELSE p.status END, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decrementStockIfAvailable(@Param("id") UUID id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductJpaEntity p SET p.stockQuantity = p.stockQuantity + :quantity, " +
+           "p.status = CASE WHEN p.status = 'OUT_OF_STOCK' THEN 'ACTIVE' ELSE p.status END, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id")
+    int incrementStock(@Param("id") UUID id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductJpaEntity p SET p.stockQuantity = :stock, " +
+           "p.status = CASE WHEN :stock = 0 AND p.status = 'ACTIVE' THEN 'OUT_OF_STOCK' " +
+           "WHEN :stock > 0 AND p.status = 'OUT_OF_STOCK' THEN 'ACTIVE' ELSE p.status END, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id")
+    int updateStock(@Param("id") UUID id, @Param("stock") int stock, @Param("now") LocalDateTime now);
+}
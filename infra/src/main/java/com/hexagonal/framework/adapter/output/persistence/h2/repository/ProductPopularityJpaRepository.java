@@ -0,0 +1,11 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.repository;
+
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.ProductPopularityJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ProductPopularityJpaRepository extends JpaRepository<ProductPopularityJpaEntity, UUID> {
+}
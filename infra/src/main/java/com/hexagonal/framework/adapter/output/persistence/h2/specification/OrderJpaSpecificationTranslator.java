@@ -0,0 +1,67 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.specification;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.specification.AndSpecification;
+import com.hexagonal.domain.specification.NotSpecification;
+import com.hexagonal.domain.specification.OrSpecification;
+import com.hexagonal.domain.specification.OrderSpecifications.CreatedBefore;
+import com.hexagonal.domain.specification.OrderSpecifications.CreatedFrom;
+import com.hexagonal.domain.specification.OrderSpecifications.CustomerIs;
+import com.hexagonal.domain.specification.OrderSpecifications.StatusIs;
+import com.hexagonal.domain.specification.OrderSpecifications.TotalAtLeast;
+import com.hexagonal.domain.specification.OrderSpecifications.TotalAtMost;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.framework.adapter.output.persistence.OrderPartitions;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.OrderJpaEntity;
+import com.hexagonal.framework.adapter.output.persistence.specification.SpecificationTranslator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Translates order specifications into Spring Data JPA specifications (JPA Criteria predicates).
+ *
+ * Date bounds also bound {@code createdMonth}, the partition key, so a time-bounded search only reads the
+ * partitions of the months it covers.
+ */
+public class OrderJpaSpecificationTranslator
+        extends SpecificationTranslator<Order, org.springframework.data.jpa.domain.Specification<OrderJpaEntity>> {
+
+    @Override
+    public Optional<org.springframework.data.jpa.domain.Specification<OrderJpaEntity>> translate(Specification<Order> specification) {
+        return switch (specification) {
+            case AndSpecification<Order> and -> translate(and.getLeft())
+                    .flatMap(left -> translate(and.getRight()).map(left::and));
+            case OrSpecification<Order> or -> translate(or.getLeft())
+                    .flatMap(left -> translate(or.getRight()).map(left::or));
+            case NotSpecification<Order> not -> translate(not.getSpecification())
+                    .map(org.springframework.data.jpa.domain.Specification::not);
+            case StatusIs statusIs -> Optional.of((root, query, cb) ->
+                    cb.equal(root.get("status"), statusIs.status().name()));
+            case CustomerIs customerIs -> Optional.of((root, query, cb) ->
+                    cb.equal(root.get("customerId"), customerIs.customerId().getValue()));
+            // Orders in another currency never match, as in the domain rule
+            case TotalAtLeast atLeast -> Optional.of((root, query, cb) -> cb.and(
+                    cb.equal(root.get("currency"), atLeast.minAmount().getCurrency().getCurrencyCode()),
+                    cb.ge(root.<BigDecimal>get("totalAmount"), atLeast.minAmount().getAmount())));
+            case TotalAtMost atMost -> Optional.of((root, query, cb) -> cb.and(
+                    cb.equal(root.get("currency"), atMost.maxAmount().getCurrency().getCurrencyCode()),
+                    cb.le(root.<BigDecimal>get("totalAmount"), atMost.maxAmount().getAmount())));
+            case CreatedFrom from -> Optional.of((root, query, cb) -> cb.and(
+                    cb.ge(root.<Integer>get("createdMonth"), OrderPartitions.monthOf(from.from())),
+                    cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), from.from())));
+            case CreatedBefore before -> Optional.of((root, query, cb) -> cb.and(
+                    cb.le(root.<Integer>get("createdMonth"), OrderPartitions.monthOf(before.to())),
+                    cb.lessThan(root.<LocalDateTime>get("createdAt"), before.to())));
+            default -> Optional.empty();
+        };
+    }
+
+    @Override
+    protected org.springframework.data.jpa.domain.Specification<OrderJpaEntity> and(
+            List<org.springframework.data.jpa.domain.Specification<OrderJpaEntity>> specifications) {
+        return org.springframework.data.jpa.domain.Specification.allOf(specifications);
+    }
+}
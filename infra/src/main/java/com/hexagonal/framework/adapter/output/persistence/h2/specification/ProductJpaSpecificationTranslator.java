@@ -0,0 +1,84 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.specification;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.AndSpecification;
+import com.hexagonal.domain.specification.NotSpecification;
+import com.hexagonal.domain.specification.OrSpecification;
+import com.hexagonal.domain.specification.ProductSpecifications.HasAllCategories;
+import com.hexagonal.domain.specification.ProductSpecifications.HasAnyCategory;
+import com.hexagonal.domain.specification.ProductSpecifications.HasCategory;
+import com.hexagonal.domain.specification.ProductSpecifications.InStock;
+import com.hexagonal.domain.specification.ProductSpecifications.NameContains;
+import com.hexagonal.domain.specification.ProductSpecifications.PriceAtLeast;
+import com.hexagonal.domain.specification.ProductSpecifications.PriceAtMost;
+import com.hexagonal.domain.specification.ProductSpecifications.SkuEquals;
+import com.hexagonal.domain.specification.ProductSpecifications.StatusIs;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.ProductJpaEntity;
+import com.hexagonal.framework.adapter.output.persistence.specification.SpecificationTranslator;
+import jakarta.persistence.criteria.Predicate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Translates product specifications into Spring Data JPA specifications (JPA Criteria predicates).
+ */
+public class ProductJpaSpecificationTranslator
+        extends SpecificationTranslator<Product, org.springframework.data.jpa.domain.Specification<ProductJpaEntity>> {
+
+    @Override
+    public Optional<org.springframework.data.jpa.domain.Specification<ProductJpaEntity>> translate(Specification<Product> specification) {
+        return switch (specification) {
+            case AndSpecification<Product> and -> translate(and.getLeft())
+                    .flatMap(left -> translate(and.getRight()).map(left::and));
+            case OrSpecification<Product> or -> translate(or.getLeft())
+                    .flatMap(left -> translate(or.getRight()).map(left::or));
+            case NotSpecification<Product> not -> translate(not.getSpecification())
+                    .map(org.springframework.data.jpa.domain.Specification::not);
+            case StatusIs statusIs -> Optional.of((root, query, cb) ->
+                    cb.equal(root.get("status"), statusIs.status().name()));
+            case InStock inStock -> Optional.of((root, query, cb) ->
+                    cb.gt(root.<Integer>get("stockQuantity"), 0));
+            case HasCategory hasCategory -> Optional.of((root, query, cb) ->
+                    cb.isMember(hasCategory.categoryId().getValue(), root.<Set<UUID>>get("categoryIds")));
+            case HasAnyCategory hasAny -> Optional.of((root, query, cb) ->
+                    cb.or(hasAny.categoryIds().stream()
+                            .map(ID::getValue)
+                            .map(id -> cb.isMember(id, root.<Set<UUID>>get("categoryIds")))
+                            .toArray(Predicate[]::new)));
+            case HasAllCategories hasAll -> Optional.of((root, query, cb) ->
+                    cb.and(hasAll.categoryIds().stream()
+                            .map(ID::getValue)
+                            .map(id -> cb.isMember(id, root.<Set<UUID>>get("categoryIds")))
+                            .toArray(Predicate[]::new)));
+            // Products priced in another currency never match instead of throwing as Money comparison does
+            case PriceAtMost atMost -> Optional.of((root, query, cb) -> cb.and(
+                    cb.equal(root.get("priceCurrency"), atMost.maxPrice().getCurrency().getCurrencyCode()),
+                    cb.le(root.<BigDecimal>get("priceAmount"), atMost.maxPrice().getAmount())));
+            case PriceAtLeast atLeast -> Optional.of((root, query, cb) -> cb.and(
+                    cb.equal(root.get("priceCurrency"), atLeast.minPrice().getCurrency().getCurrencyCode()),
+                    cb.ge(root.<BigDecimal>get("priceAmount"), atLeast.minPrice().getAmount())));
+            case SkuEquals skuEquals -> Optional.of((root, query, cb) ->
+                    cb.equal(cb.upper(root.<String>get("sku")), skuEquals.sku().toUpperCase(Locale.ROOT)));
+            case NameContains nameContains -> Optional.of((root, query, cb) ->
+                    cb.like(cb.lower(root.<String>get("name")), "%" + escapeLike(nameContains.searchTerm().toLowerCase()) + "%", '\\'));
+            default -> Optional.empty();
+        };
+    }
+
+    @Override
+    protected org.springframework.data.jpa.domain.Specification<ProductJpaEntity> and(
+            List<org.springframework.data.jpa.domain.Specification<ProductJpaEntity>> specifications) {
+        return org.springframework.data.jpa.domain.Specification.allOf(specifications);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
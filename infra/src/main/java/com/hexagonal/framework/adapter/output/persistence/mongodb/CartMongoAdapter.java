@@ -0,0 +1,57 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb;
+
+import com.hexagonal.application.port.out.CartRepositoryPort;
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.vo.CartStatus;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.mapper.CartDocumentMapper;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.repository.CartMongoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.Optional;
+
+/**
+ * Store of record for carts. Carts are usually reached through the write-behind cart repository
+ * (see CartWriteBehindConfiguration), which keeps active carts in memory and flushes them here.
+ */
+@PersistenceAdapter
+@ConditionalOnProperty(name = "spring.data.mongodb.uri")
+public class CartMongoAdapter implements CartRepositoryPort {
+    
+    private final CartMongoRepository mongoRepository;
+    
+    public CartMongoAdapter(CartMongoRepository mongoRepository) {
+        this.mongoRepository = mongoRepository;
+    }
+    
+    @Override
+    public Cart save(Cart cart) {
+        var savedDocument = mongoRepository.save(CartDocumentMapper.toDocument(cart));
+        return CartDocumentMapper.toDomain(savedDocument);
+    }
+    
+    @Override
+    public Optional<Cart> findById(ID id) {
+        return mongoRepository.findById(id.getValue()).map(CartDocumentMapper::toDomain);
+    }
+    
+    /**
+     * The customer's active cart; converted, abandoned and expired carts are history.
+     */
+    @Override
+    public Optional<Cart> findByCustomerId(ID customerId) {
+        return mongoRepository.findFirstByCustomerIdAndStatusOrderByUpdatedAtDesc(customerId.getValue(), CartStatus.ACTIVE.name())
+            .map(CartDocumentMapper::toDomain);
+    }
+    
+    @Override
+    public void deleteById(ID id) {
+        mongoRepository.deleteById(id.getValue());
+    }
+    
+    @Override
+    public boolean existsById(ID id) {
+        return mongoRepository.existsById(id.getValue());
+    }
+}
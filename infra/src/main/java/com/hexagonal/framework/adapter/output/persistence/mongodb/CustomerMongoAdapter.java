@@ -4,12 +4,14 @@ import com.hexagonal.application.port.out.CustomerRepositoryPort;
 import com.hexagonal.domain.entity.Customer;
 import com.hexagonal.framework.adapter.output.persistence.mongodb.mapper.CustomerDocumentMapper;
 import com.hexagonal.framework.adapter.output.persistence.mongodb.repository.CustomerMongoRepository;
+import com.hexagonal.framework.adapter.output.persistence.CustomerCache;
 import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
 import com.hexagonal.domain.vo.Email;
 import com.hexagonal.domain.vo.ID;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,45 +24,52 @@ import java.util.stream.Collectors;
 public class CustomerMongoAdapter implements CustomerRepositoryPort {
     
     private final CustomerMongoRepository mongoRepository;
+    private final CustomerCache customerCache;
     
-    public CustomerMongoAdapter(CustomerMongoRepository mongoRepository) {
+    public CustomerMongoAdapter(CustomerMongoRepository mongoRepository, CacheManager cacheManager,
+                                SingleFlightCacheLoader cacheLoader) {
         this.mongoRepository = mongoRepository;
+        this.customerCache = new CustomerCache(cacheManager, cacheLoader);
     }
     
     @Override
-    @CacheEvict(value = "customers", allEntries = true)
     public Customer save(Customer customer) {
         var document = CustomerDocumentMapper.toDocument(customer);
         var savedDocument = mongoRepository.save(document);
+        customerCache.changed();
         return CustomerDocumentMapper.toDomain(savedDocument);
     }
     
     @Override
-    @Cacheable(value = "customers", key = "#id.value.toString()")
     public Optional<Customer> findById(ID id) {
-        return mongoRepository.findById(id.getValue())
-            .map(CustomerDocumentMapper::toDomain);
+        return customerCache.findById(id, customerId -> mongoRepository.findById(customerId.getValue())
+            .map(CustomerDocumentMapper::toDomain));
     }
     
     @Override
-    @Cacheable(value = "customers", key = "'email:' + #email.getValue()")
     public Optional<Customer> findByEmail(Email email) {
-        return mongoRepository.findByEmail(email.getValue())
-            .map(CustomerDocumentMapper::toDomain);
+        return customerCache.findByEmail(email, address -> mongoRepository.findByEmail(address.getValue())
+            .map(CustomerDocumentMapper::toDomain));
     }
     
     @Override
-    @Cacheable(value = "customers", key = "'all'")
     public List<Customer> findAll() {
-        return mongoRepository.findAll().stream()
+        return customerCache.findAll(() -> mongoRepository.findAll().stream()
+            .map(CustomerDocumentMapper::toDomain)
+            .collect(Collectors.toList()));
+    }
+    
+    @Override
+    public List<Customer> findRecentlyUpdated(int limit) {
+        return mongoRepository.findAllByOrderByUpdatedAtDesc(PageRequest.of(0, limit)).stream()
             .map(CustomerDocumentMapper::toDomain)
             .collect(Collectors.toList());
     }
     
     @Override
-    @CacheEvict(value = "customers", allEntries = true)
     public void deleteById(ID id) {
         mongoRepository.deleteById(id.getValue());
+        customerCache.changed();
     }
     
     @Override
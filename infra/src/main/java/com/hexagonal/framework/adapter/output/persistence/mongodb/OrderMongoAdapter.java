@@ -0,0 +1,146 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb;
+
+import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.OrderCache;
+import com.hexagonal.framework.adapter.output.persistence.OrderKeyset;
+import com.hexagonal.framework.adapter.output.persistence.OrderPartitions;
+import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.OrderDocument;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.mapper.OrderDocumentMapper;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.repository.OrderMongoRepository;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.specification.OrderCriteriaTranslator;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Store of record for orders. An order is one document with its items embedded; a customer's history is
+ * served by the (customerId, createdAt) index, newest order first. When Mongo is configured it is the
+ * order store, taking precedence over the H2 adapter.
+ */
+@PersistenceAdapter
+@Primary
+@ConditionalOnProperty(name = "spring.data.mongodb.uri")
+public class OrderMongoAdapter implements OrderRepositoryPort {
+    
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    
+    private final OrderMongoRepository mongoRepository;
+    private final OrderCriteriaTranslator criteriaTranslator = new OrderCriteriaTranslator();
+    private final MongoTemplate mongoTemplate;
+    private final int fetchSize;
+    private final OrderCache orderCache;
+    
+    public OrderMongoAdapter(OrderMongoRepository mongoRepository, MongoTemplate mongoTemplate,
+                             @Value("${order.export.fetchSize:500}") int fetchSize,
+                             CacheManager cacheManager, CacheMultiGet cacheMultiGet) {
+        this.mongoRepository = mongoRepository;
+        this.orderCache = new OrderCache(cacheManager, cacheMultiGet);
+        this.mongoTemplate = mongoTemplate;
+        this.fetchSize = fetchSize;
+    }
+    
+    @Override
+    public Order save(Order order) {
+        var savedDocument = mongoRepository.save(OrderDocumentMapper.toDocument(order));
+        Order saved = OrderDocumentMapper.toDomain(savedDocument);
+        orderCache.saved(saved);
+        return saved;
+    }
+    
+    @Override
+    public Optional<Order> findById(ID id) {
+        return mongoRepository.findById(id.getValue()).map(OrderDocumentMapper::toDomain);
+    }
+    
+    @Override
+    public List<Order> findAll() {
+        return mongoRepository.findAllByOrderByCreatedAtDesc().stream()
+            .map(OrderDocumentMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Streams over a server-side cursor that returns {@code order.export.fetchSize} documents per batch.
+     */
+    @Override
+    public Stream<Order> streamAll() {
+        Query query = new Query()
+            .with(NEWEST_FIRST)
+            .cursorBatchSize(fetchSize);
+        return mongoTemplate.stream(query, OrderDocument.class).map(OrderDocumentMapper::toDomain);
+    }
+    
+    @Override
+    public List<Order> findAll(Specification<Order> specification, ID after, int limit) {
+        OrderKeyset start = null;
+        if (after != null) {
+            Optional<OrderDocument> cursor = mongoRepository.findById(after.getValue());
+            if (cursor.isEmpty()) {
+                return List.of();
+            }
+            start = new OrderKeyset(cursor.get().getCreatedAt(), cursor.get().getId());
+        }
+        
+        var translation = specification != null ? criteriaTranslator.translatePartially(specification) : null;
+        var pushed = translation != null ? translation.query() : null;
+        // Only part of the specification runs in the database, the rest is checked in memory
+        Specification<Order> residual = translation != null && !translation.exact() ? specification : null;
+        
+        return OrderKeyset.collect(start, limit, residual, (position, batchSize) -> {
+            List<Criteria> criteria = new ArrayList<>();
+            if (pushed != null) {
+                criteria.add(pushed);
+            }
+            if (position != null) {
+                criteria.add(after(position));
+            }
+            Query query = criteria.isEmpty() ? new Query() : new Query(new Criteria().andOperator(criteria));
+            return mongoTemplate.find(query.with(NEWEST_FIRST).limit(batchSize), OrderDocument.class).stream()
+                .map(OrderDocumentMapper::toDomain)
+                .collect(Collectors.toList());
+        });
+    }
+    
+    @Override
+    public List<Order> findByCustomerId(ID customerId) {
+        return mongoRepository.findAllByCustomerIdOrderByCreatedAtDesc(customerId.getValue()).stream()
+            .map(OrderDocumentMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void deleteById(ID id) {
+        mongoRepository.deleteById(id.getValue());
+        orderCache.evict(id);
+    }
+    
+    @Override
+    public boolean existsById(ID id) {
+        return mongoRepository.existsById(id.getValue());
+    }
+    
+    // Orders older than the position; orders of later months are never read
+    private static Criteria after(OrderKeyset position) {
+        return new Criteria().andOperator(
+            Criteria.where("createdMonth").lte(OrderPartitions.monthOf(position.createdAt())),
+            new Criteria().orOperator(
+                Criteria.where("createdAt").lt(position.createdAt()),
+                Criteria.where("createdAt").is(position.createdAt()).and("id").lt(position.id())));
+    }
+}
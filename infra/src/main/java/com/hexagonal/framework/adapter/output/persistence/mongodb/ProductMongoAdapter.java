@@ -2,62 +2,190 @@ package com.hexagonal.framework.adapter.output.persistence.mongodb;
 
 import com.hexagonal.application.port.out.ProductRepositoryPort;
 import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.Specification;
 import com.hexagonal.framework.adapter.output.persistence.mongodb.mapper.ProductDocumentMapper;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.ProductDocument;
 import com.hexagonal.framework.adapter.output.persistence.mongodb.repository.ProductMongoRepository;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.specification.ProductCriteriaTranslator;
 import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.ProductCache;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
 import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.ProductStatus;
+import com.hexagonal.domain.vo.Quantity;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.BooleanOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @PersistenceAdapter
 @ConditionalOnProperty(name = "spring.data.mongodb.uri")
 public class ProductMongoAdapter implements ProductRepositoryPort {
     
     private final ProductMongoRepository mongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ProductCache productCache;
+    private final ProductCriteriaTranslator criteriaTranslator = new ProductCriteriaTranslator();
     
-    public ProductMongoAdapter(ProductMongoRepository mongoRepository) {
+    public ProductMongoAdapter(ProductMongoRepository mongoRepository, MongoTemplate mongoTemplate, CacheManager cacheManager,
+                               SingleFlightCacheLoader cacheLoader, CacheMultiGet cacheMultiGet) {
         this.mongoRepository = mongoRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.productCache = new ProductCache(cacheManager, cacheLoader, cacheMultiGet);
     }
     
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public Product save(Product product) {
         var document = ProductDocumentMapper.toDocument(product);
-        var savedDocument = mongoRepository.save(document);
-        return ProductDocumentMapper.toDomain(savedDocument);
+        var saved = ProductDocumentMapper.toDomain(mongoRepository.save(document));
+        productCache.saved(List.of(saved));
+        return saved;
     }
     
     @Override
-    @Cacheable(value = "products", key = "#id.value.toString()")
     public Optional<Product> findById(ID id) {
-        return mongoRepository.findById(id.getValue())
-            .map(ProductDocumentMapper::toDomain);
+        return productCache.findById(id, this::loadById);
+    }
+    
+    @Override
+    public List<Product> findAllById(Collection<ID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return mongoRepository.findAllById(ids.stream().map(ID::getValue).collect(Collectors.toSet())).stream()
+            .map(ProductDocumentMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * One conditional single-document update, which MongoDB applies atomically. The update is a pipeline
+     * so the status can be derived from the stock in the same write; all fields of one $set stage see the
+     * values before the update.
+     */
+    @Override
+    public boolean decrementStockIfAvailable(ID productId, Quantity quantity) {
+        var query = Query.query(Criteria.where("_id").is(productId.getValue())
+            .and("stockQuantity").gte(quantity.getValue()));
+        var becomesOutOfStock = BooleanOperators.And.and(
+            ComparisonOperators.valueOf("stockQuantity").equalToValue(quantity.getValue()),
+            ComparisonOperators.valueOf("status").equalToValue(ProductStatus.ACTIVE.name()));
+        var update = AggregationUpdate.update().set(SetOperation
+            .set("stockQuantity").toValue(ArithmeticOperators.valueOf("stockQuantity").subtract(quantity.getValue()))
+            .and().set("status").toValue(ConditionalOperators.when(becomesOutOfStock)
+                .then(ProductStatus.OUT_OF_STOCK.name())
+                .otherwiseValueOf("status"))
+            .and().set("updatedAt").toValue(LocalDateTime.now()));
+        boolean decremented = mongoTemplate.updateFirst(query, update, ProductDocument.class).getModifiedCount() == 1;
+        if (decremented) {
+            productCache.stockChanged(productId);
+        }
+        return decremented;
+    }
+    
+    @Override
+    public boolean incrementStock(ID productId, Quantity quantity) {
+        var query = Query.query(Criteria.where("_id").is(productId.getValue()));
+        var update = AggregationUpdate.update().set(SetOperation
+            .set("stockQuantity").toValue(ArithmeticOperators.valueOf("stockQuantity").add(quantity.getValue()))
+            .and().set("status").toValue(ConditionalOperators
+                .when(ComparisonOperators.valueOf("status").equalToValue(ProductStatus.OUT_OF_STOCK.name()))
+                .then(ProductStatus.ACTIVE.name())
+                .otherwiseValueOf("status"))
+            .and().set("updatedAt").toValue(LocalDateTime.now()));
+        boolean incremented = mongoTemplate.updateFirst(query, update, ProductDocument.class).getMatchedCount() == 1;
+        if (incremented) {
+            productCache.stockChanged(productId);
+        }
+        return incremented;
+    }
+    
+    @Override
+    public boolean updateStock(ID productId, Quantity stock) {
+        var query = Query.query(Criteria.where("_id").is(productId.getValue()));
+        var status = stock.isZero()
+            ? ConditionalOperators.when(ComparisonOperators.valueOf("status").equalToValue(ProductStatus.ACTIVE.name()))
+                .then(ProductStatus.OUT_OF_STOCK.name())
+                .otherwiseValueOf("status")
+            : ConditionalOperators.when(ComparisonOperators.valueOf("status").equalToValue(ProductStatus.OUT_OF_STOCK.name()))
+                .then(ProductStatus.ACTIVE.name())
+                .otherwiseValueOf("status");
+        var update = AggregationUpdate.update().set(SetOperation
+            .set("stockQuantity").toValue(stock.getValue())
+            .and().set("status").toValue(status)
+            .and().set("updatedAt").toValue(LocalDateTime.now()));
+        boolean updated = mongoTemplate.updateFirst(query, update, ProductDocument.class).getMatchedCount() == 1;
+        if (updated) {
+            productCache.stockChanged(productId);
+        }
+        return updated;
     }
     
     @Override
-    @Cacheable(value = "products", key = "'sku:' + #sku")
     public Optional<Product> findBySku(String sku) {
-        return mongoRepository.findBySku(sku)
-            .map(ProductDocumentMapper::toDomain);
+        return productCache.findBySku(sku,
+            key -> mongoRepository.findBySku(key).map(ProductDocumentMapper::toDomain),
+            this::loadById);
     }
     
     @Override
-    @Cacheable(value = "products", key = "'all'")
     public List<Product> findAll() {
-        return mongoRepository.findAll().stream()
+        return productCache.findAll(() -> mongoRepository.findAll().stream()
+            .map(ProductDocumentMapper::toDomain)
+            .collect(Collectors.toList()), this::findAllById);
+    }
+    
+    @Override
+    public List<Product> findAll(Specification<Product> specification) {
+        var translation = criteriaTranslator.translatePartially(specification);
+        var documents = translation.query() != null
+            ? mongoTemplate.find(Query.query(translation.query()), ProductDocument.class)
+            : mongoRepository.findAll();
+        
+        Stream<Product> products = documents.stream().map(ProductDocumentMapper::toDomain);
+        if (!translation.exact()) {
+            // Only part of the specification ran in MongoDB, check the rest in memory
+            products = products.filter(specification::isSatisfiedBy);
+        }
+        return products.collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Product> findAllByStatus(ProductStatus status, int page, int size) {
+        return mongoRepository.findByStatusOrderByIdAsc(status.name(), PageRequest.of(page, size)).stream()
+            .map(ProductDocumentMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Product> findAllByStatusAfter(ProductStatus status, ID after, int limit) {
+        if (after == null) {
+            return findAllByStatus(status, 0, limit);
+        }
+        return mongoRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status.name(), after.getValue(), PageRequest.of(0, limit)).stream()
             .map(ProductDocumentMapper::toDomain)
             .collect(Collectors.toList());
     }
     
     @Override
-    @CacheEvict(value = "products", allEntries = true)
     public void deleteById(ID id) {
         mongoRepository.deleteById(id.getValue());
+        productCache.deleted(id);
     }
     
     @Override
@@ -69,5 +197,9 @@ public class ProductMongoAdapter implements ProductRepositoryPort {
     public boolean existsBySku(String sku) {
         return mongoRepository.existsBySku(sku);
     }
+    
+    private Optional<Product> loadById(ID id) {
+        return mongoRepository.findById(id.getValue())
+            .map(ProductDocumentMapper::toDomain);
+    }
 }
-
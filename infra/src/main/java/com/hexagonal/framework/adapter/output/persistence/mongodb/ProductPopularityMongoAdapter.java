@@ -0,0 +1,38 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb;
+
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort;
+import com.hexagonal.framework.adapter.output.persistence.PersistenceAdapter;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.mapper.ProductPopularityDocumentMapper;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.repository.ProductPopularityMongoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@PersistenceAdapter
+@ConditionalOnProperty(name = "spring.data.mongodb.uri")
+public class ProductPopularityMongoAdapter implements ProductPopularityRepositoryPort {
+    
+    private final ProductPopularityMongoRepository mongoRepository;
+    
+    public ProductPopularityMongoAdapter(ProductPopularityMongoRepository mongoRepository) {
+        this.mongoRepository = mongoRepository;
+    }
+    
+    @Override
+    public List<PopularityCounts> findAll() {
+        return mongoRepository.findAll().stream()
+            .map(ProductPopularityDocumentMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void saveAll(Collection<PopularityCounts> counts) {
+        LocalDateTime now = LocalDateTime.now();
+        mongoRepository.saveAll(counts.stream()
+            .map(c -> ProductPopularityDocumentMapper.toDocument(c, now))
+            .collect(Collectors.toList()));
+    }
+}
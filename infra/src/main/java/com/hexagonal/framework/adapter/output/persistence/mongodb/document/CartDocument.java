@@ -0,0 +1,32 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Document(collection = "carts")
+@CompoundIndex(name = "customer_status", def = "{'customerId': 1, 'status': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartDocument {
+    @Id
+    private UUID id;
+    
+    private UUID customerId;
+    private String status;
+    @Builder.Default
+    private List<CartItemDocument> items = new ArrayList<>();
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
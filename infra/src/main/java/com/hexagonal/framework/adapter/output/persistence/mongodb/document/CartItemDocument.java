@@ -0,0 +1,20 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartItemDocument {
+    private UUID productId;
+    private Integer quantity;
+    private BigDecimal unitPriceAmount;
+    private String unitPriceCurrency;
+}
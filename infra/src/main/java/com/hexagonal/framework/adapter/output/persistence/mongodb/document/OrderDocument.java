@@ -0,0 +1,62 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An order with its items embedded. {@code createdMonth} (yyyyMM of {@code createdAt}) is the partition key;
+ * on a sharded cluster the collection is range-sharded on {@code (createdMonth, customerId)}.
+ */
+@Document(collection = "orders")
+@CompoundIndexes({
+    @CompoundIndex(name = "customer_created", def = "{'customerId': 1, 'createdAt': -1}"),
+    @CompoundIndex(name = "month_created", def = "{'createdMonth': 1, 'createdAt': -1}"),
+    @CompoundIndex(name = "created", def = "{'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "status_created", def = "{'status': 1, 'createdAt': -1}")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDocument {
+    @Id
+    private UUID id;
+    
+    private UUID customerId;
+    private String status;
+    @Builder.Default
+    private List<OrderItemDocument> items = new ArrayList<>();
+    private BigDecimal taxAmount;
+    private BigDecimal discountAmount;
+    // Decimal128 rather than the default string, so total ranges compare numerically
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal totalAmount;
+    private String currency;
+    private AddressDocument shippingAddress;
+    private AddressDocument billingAddress;
+    private String trackingNumber;
+    private String trackingCarrier;
+    private String trackingUrl;
+    private LocalDateTime shippedAt;
+    private Integer createdMonth;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // Null for a new order, so save() inserts it; an update with a stale version fails instead of overwriting
+    @Version
+    private Long version;
+}
@@ -0,0 +1,21 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemDocument {
+    private UUID productId;
+    private String productName;
+    private Integer quantity;
+    private BigDecimal unitPriceAmount;
+    private String unitPriceCurrency;
+}
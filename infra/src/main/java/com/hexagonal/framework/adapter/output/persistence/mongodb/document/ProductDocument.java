@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -16,6 +17,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Document(collection = "products")
+@CompoundIndex(name = "status_id", def = "{'status': 1, '_id': 1}")
 @Data
 @Builder
 @NoArgsConstructor
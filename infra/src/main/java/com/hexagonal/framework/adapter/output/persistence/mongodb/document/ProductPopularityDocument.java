@@ -0,0 +1,25 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Document(collection = "product_popularity")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPopularityDocument {
+    @Id
+    private UUID productId;
+    
+    private Long totalOrders;
+    private Double score;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,50 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.mapper;
+
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.entity.CartItem;
+import com.hexagonal.domain.vo.CartStatus;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.CartDocument;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.CartItemDocument;
+
+import java.util.Currency;
+import java.util.stream.Collectors;
+
+public class CartDocumentMapper {
+    
+    public static CartDocument toDocument(Cart cart) {
+        return CartDocument.builder()
+            .id(cart.getId().getValue())
+            .customerId(cart.getCustomerId().getValue())
+            .status(cart.getStatus().name())
+            .items(cart.getItems().stream()
+                .map(item -> CartItemDocument.builder()
+                    .productId(item.getProductId().getValue())
+                    .quantity(item.getQuantity().getValue())
+                    .unitPriceAmount(item.getUnitPrice().getAmount())
+                    .unitPriceCurrency(item.getUnitPrice().getCurrency().getCurrencyCode())
+                    .build())
+                .collect(Collectors.toList()))
+            .createdAt(cart.getCreatedAt())
+            .updatedAt(cart.getUpdatedAt())
+            .build();
+    }
+    
+    public static Cart toDomain(CartDocument document) {
+        return Cart.of(
+            ID.of(document.getId()),
+            ID.of(document.getCustomerId()),
+            CartStatus.valueOf(document.getStatus()),
+            document.getItems().stream()
+                .map(item -> CartItem.create(
+                    ID.of(item.getProductId()),
+                    Quantity.of(item.getQuantity()),
+                    Money.of(item.getUnitPriceAmount(), Currency.getInstance(item.getUnitPriceCurrency()))))
+                .collect(Collectors.toList()),
+            document.getCreatedAt(),
+            document.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.mapper;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.domain.vo.TrackingInformation;
+import com.hexagonal.framework.adapter.output.persistence.OrderPartitions;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.AddressDocument;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.OrderItemDocument;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.OrderDocument;
+
+import java.util.Currency;
+import java.util.stream.Collectors;
+
+public class OrderDocumentMapper {
+    
+    public static OrderDocument toDocument(Order order) {
+        OrderDocument.OrderDocumentBuilder builder = OrderDocument.builder()
+            .id(order.getId().getValue())
+            .customerId(order.getCustomerId().getValue())
+            .status(order.getStatus().name())
+            .items(order.getItems().stream()
+                .map(item -> OrderItemDocument.builder()
+                    .productId(item.getProductId().getValue())
+                    .productName(item.getProductName())
+                    .quantity(item.getQuantity().getValue())
+                    .unitPriceAmount(item.getUnitPrice().getAmount())
+                    .unitPriceCurrency(item.getUnitPrice().getCurrency().getCurrencyCode())
+                    .build())
+                .collect(Collectors.toList()))
+            .taxAmount(order.getTaxAmount().getAmount())
+            .discountAmount(order.getDiscountAmount().getAmount())
+            .totalAmount(order.getTotalAmount().getAmount())
+            .currency(order.getTotalAmount().getCurrency().getCurrencyCode())
+            .shippingAddress(toDocument(order.getShippingAddress()))
+            .billingAddress(toDocument(order.getBillingAddress()))
+            .createdMonth(OrderPartitions.monthOf(order.getCreatedAt()))
+            .createdAt(order.getCreatedAt())
+            .updatedAt(order.getUpdatedAt())
+            .version(order.getVersion());
+        
+        TrackingInformation tracking = order.getTrackingInformation();
+        if (tracking != null) {
+            builder.trackingNumber(tracking.getTrackingNumber())
+                .trackingCarrier(tracking.getCarrier())
+                .trackingUrl(tracking.getTrackingUrl() != null ? tracking.getTrackingUrl().toString() : null)
+                .shippedAt(tracking.getShippedAt());
+        }
+        
+        return builder.build();
+    }
+    
+    public static Order toDomain(OrderDocument document) {
+        Currency currency = Currency.getInstance(document.getCurrency());
+        TrackingInformation tracking = document.getTrackingNumber() != null
+            ? TrackingInformation.of(document.getTrackingNumber(), document.getTrackingCarrier(), document.getTrackingUrl(),
+                document.getShippedAt())
+            : null;
+        
+        return Order.of(
+            ID.of(document.getId()),
+            ID.of(document.getCustomerId()),
+            document.getItems().stream()
+                .map(item -> OrderItem.create(
+                    ID.of(item.getProductId()),
+                    item.getProductName(),
+                    Quantity.of(item.getQuantity()),
+                    Money.of(item.getUnitPriceAmount(), Currency.getInstance(item.getUnitPriceCurrency()))))
+                .collect(Collectors.toList()),
+            toDomain(document.getShippingAddress()),
+            toDomain(document.getBillingAddress()),
+            Money.of(document.getTaxAmount(), currency),
+            Money.of(document.getDiscountAmount(), currency),
+            OrderStatus.valueOf(document.getStatus()),
+            tracking,
+            document.getCreatedAt(),
+            document.getUpdatedAt(),
+            document.getVersion()
+        );
+    }
+    
+    private static AddressDocument toDocument(Address address) {
+        if (address == null) {
+            return null;
+        }
+        return AddressDocument.builder()
+            .street(address.getStreet())
+            .city(address.getCity())
+            .state(address.getState())
+            .zipCode(address.getZipCode())
+            .country(address.getCountry())
+            .build();
+    }
+    
+    private static Address toDomain(AddressDocument address) {
+        if (address == null) {
+            return null;
+        }
+        return Address.of(address.getStreet(), address.getCity(), address.getState(), address.getZipCode(),
+            address.getCountry());
+    }
+}
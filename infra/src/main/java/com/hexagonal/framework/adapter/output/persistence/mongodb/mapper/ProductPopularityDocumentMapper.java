@@ -0,0 +1,23 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.mapper;
+
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort.PopularityCounts;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.ProductPopularityDocument;
+
+import java.time.LocalDateTime;
+
+public class ProductPopularityDocumentMapper {
+    
+    public static ProductPopularityDocument toDocument(PopularityCounts counts, LocalDateTime updatedAt) {
+        return ProductPopularityDocument.builder()
+            .productId(counts.productId().getValue())
+            .totalOrders(counts.totalOrders())
+            .score(counts.score())
+            .updatedAt(updatedAt)
+            .build();
+    }
+    
+    public static PopularityCounts toDomain(ProductPopularityDocument document) {
+        return new PopularityCounts(ID.of(document.getProductId()), document.getTotalOrders(), document.getScore());
+    }
+}
@@ -0,0 +1,13 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.repository;
+
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.CartDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CartMongoRepository extends MongoRepository<CartDocument, UUID> {
+    Optional<CartDocument> findFirstByCustomerIdAndStatusOrderByUpdatedAtDesc(UUID customerId, String status);
+}
@@ -2,8 +2,10 @@ package com.hexagonal.framework.adapter.output.persistence.mongodb.repository;
 
 import com.hexagonal.framework.adapter.output.persistence.mongodb.document.CustomerDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,5 +13,6 @@ import java.util.UUID;
 public interface CustomerMongoRepository extends MongoRepository<CustomerDocument, UUID> {
     Optional<CustomerDocument> findByEmail(String email);
     boolean existsByEmail(String email);
+    List<CustomerDocument> findAllByOrderByUpdatedAtDesc(Pageable pageable);
 }
 
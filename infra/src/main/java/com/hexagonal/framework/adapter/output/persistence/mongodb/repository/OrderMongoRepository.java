@@ -0,0 +1,15 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.repository;
+
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.OrderDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderMongoRepository extends MongoRepository<OrderDocument, UUID> {
+    List<OrderDocument> findAllByCustomerIdOrderByCreatedAtDesc(UUID customerId);
+    
+    List<OrderDocument> findAllByOrderByCreatedAtDesc();
+}
@@ -1,9 +1,11 @@
 package com.hexagonal.framework.adapter.output.persistence.mongodb.repository;
 
 import com.hexagonal.framework.adapter.output.persistence.mongodb.document.ProductDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,5 +13,8 @@ import java.util.UUID;
 public interface ProductMongoRepository extends MongoRepository<ProductDocument, UUID> {
     Optional<ProductDocument> findBySku(String sku);
     boolean existsBySku(String sku);
-}
 
+    List<ProductDocument> findByStatusOrderByIdAsc(String status, Pageable pageable);
+
+    List<ProductDocument> findByStatusAndIdGreaterThanOrderByIdAsc(String status, UUID after, Pageable pageable);
+}
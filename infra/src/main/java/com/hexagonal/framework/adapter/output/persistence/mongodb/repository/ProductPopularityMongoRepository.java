@@ -0,0 +1,11 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.repository;
+
+import com.hexagonal.framework.adapter.output.persistence.mongodb.document.ProductPopularityDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ProductPopularityMongoRepository extends MongoRepository<ProductPopularityDocument, UUID> {
+}
@@ -0,0 +1,57 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.specification;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.specification.AndSpecification;
+import com.hexagonal.domain.specification.NotSpecification;
+import com.hexagonal.domain.specification.OrSpecification;
+import com.hexagonal.domain.specification.OrderSpecifications.CreatedBefore;
+import com.hexagonal.domain.specification.OrderSpecifications.CreatedFrom;
+import com.hexagonal.domain.specification.OrderSpecifications.CustomerIs;
+import com.hexagonal.domain.specification.OrderSpecifications.StatusIs;
+import com.hexagonal.domain.specification.OrderSpecifications.TotalAtLeast;
+import com.hexagonal.domain.specification.OrderSpecifications.TotalAtMost;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.framework.adapter.output.persistence.OrderPartitions;
+import com.hexagonal.framework.adapter.output.persistence.specification.SpecificationTranslator;
+import org.bson.types.Decimal128;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Translates order specifications into MongoDB {@link Criteria}.
+ *
+ * Unlike product prices, order totals are stored as Decimal128, so total bounds are compared numerically
+ * in the store. Date bounds also bound {@code createdMonth}, the partition key.
+ */
+public class OrderCriteriaTranslator extends SpecificationTranslator<Order, Criteria> {
+
+    @Override
+    public Optional<Criteria> translate(Specification<Order> specification) {
+        return switch (specification) {
+            case AndSpecification<Order> and -> translate(and.getLeft())
+                    .flatMap(left -> translate(and.getRight()).map(right -> new Criteria().andOperator(left, right)));
+            case OrSpecification<Order> or -> translate(or.getLeft())
+                    .flatMap(left -> translate(or.getRight()).map(right -> new Criteria().orOperator(left, right)));
+            case NotSpecification<Order> not -> translate(not.getSpecification())
+                    .map(inner -> new Criteria().norOperator(inner));
+            case StatusIs statusIs -> Optional.of(Criteria.where("status").is(statusIs.status().name()));
+            case CustomerIs customerIs -> Optional.of(Criteria.where("customerId").is(customerIs.customerId().getValue()));
+            case TotalAtLeast atLeast -> Optional.of(Criteria.where("currency").is(atLeast.minAmount().getCurrency().getCurrencyCode())
+                    .and("totalAmount").gte(new Decimal128(atLeast.minAmount().getAmount())));
+            case TotalAtMost atMost -> Optional.of(Criteria.where("currency").is(atMost.maxAmount().getCurrency().getCurrencyCode())
+                    .and("totalAmount").lte(new Decimal128(atMost.maxAmount().getAmount())));
+            case CreatedFrom from -> Optional.of(Criteria.where("createdMonth").gte(OrderPartitions.monthOf(from.from()))
+                    .and("createdAt").gte(from.from()));
+            case CreatedBefore before -> Optional.of(Criteria.where("createdMonth").lte(OrderPartitions.monthOf(before.to()))
+                    .and("createdAt").lt(before.to()));
+            default -> Optional.empty();
+        };
+    }
+
+    @Override
+    protected Criteria and(List<Criteria> criteria) {
+        return new Criteria().andOperator(criteria);
+    }
+}
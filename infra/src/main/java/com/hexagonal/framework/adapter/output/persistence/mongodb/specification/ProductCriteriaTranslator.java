@@ -0,0 +1,62 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.specification;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.AndSpecification;
+import com.hexagonal.domain.specification.NotSpecification;
+import com.hexagonal.domain.specification.OrSpecification;
+import com.hexagonal.domain.specification.ProductSpecifications.HasAllCategories;
+import com.hexagonal.domain.specification.ProductSpecifications.HasAnyCategory;
+import com.hexagonal.domain.specification.ProductSpecifications.HasCategory;
+import com.hexagonal.domain.specification.ProductSpecifications.InStock;
+import com.hexagonal.domain.specification.ProductSpecifications.NameContains;
+import com.hexagonal.domain.specification.ProductSpecifications.SkuEquals;
+import com.hexagonal.domain.specification.ProductSpecifications.StatusIs;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.adapter.output.persistence.specification.SpecificationTranslator;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Translates product specifications into MongoDB {@link Criteria}.
+ *
+ * Price bounds are not translated: BigDecimal amounts are stored as strings by the default
+ * Mongo converter, so range comparisons would be lexicographic. They are evaluated in memory
+ * on the narrowed result instead.
+ */
+public class ProductCriteriaTranslator extends SpecificationTranslator<Product, Criteria> {
+
+    @Override
+    public Optional<Criteria> translate(Specification<Product> specification) {
+        return switch (specification) {
+            case AndSpecification<Product> and -> translate(and.getLeft())
+                    .flatMap(left -> translate(and.getRight()).map(right -> new Criteria().andOperator(left, right)));
+            case OrSpecification<Product> or -> translate(or.getLeft())
+                    .flatMap(left -> translate(or.getRight()).map(right -> new Criteria().orOperator(left, right)));
+            case NotSpecification<Product> not -> translate(not.getSpecification())
+                    .map(inner -> new Criteria().norOperator(inner));
+            case StatusIs statusIs -> Optional.of(Criteria.where("status").is(statusIs.status().name()));
+            case InStock inStock -> Optional.of(Criteria.where("stockQuantity").gt(0));
+            case HasCategory hasCategory -> Optional.of(Criteria.where("categoryIds").is(hasCategory.categoryId().getValue()));
+            case HasAnyCategory hasAny -> Optional.of(Criteria.where("categoryIds")
+                    .in(hasAny.categoryIds().stream().map(ID::getValue).toList()));
+            // $all with an empty list matches nothing, while the domain rule matches everything
+            case HasAllCategories hasAll -> Optional.of(hasAll.categoryIds().isEmpty()
+                    ? new Criteria()
+                    : Criteria.where("categoryIds").all(hasAll.categoryIds().stream().map(ID::getValue).toList()));
+            case SkuEquals skuEquals -> Optional.of(Criteria.where("sku").is(skuEquals.sku().toUpperCase(Locale.ROOT)));
+            case NameContains nameContains -> Optional.of(Criteria.where("name")
+                    .regex(Pattern.compile(Pattern.quote(nameContains.searchTerm()), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)));
+            default -> Optional.empty();
+        };
+    }
+
+    @Override
+    protected Criteria and(List<Criteria> criteria) {
+        return new Criteria().andOperator(criteria);
+    }
+}
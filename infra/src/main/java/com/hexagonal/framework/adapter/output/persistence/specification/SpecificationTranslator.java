@@ -0,0 +1,60 @@
+package com.hexagonal.framework.adapter.output.persistence.specification;
+
+import com.hexagonal.domain.specification.AndSpecification;
+import com.hexagonal.domain.specification.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Translates a domain {@link Specification} tree over {@code T} into a store-specific query of type {@code Q}.
+ *
+ * Subclasses translate individual nodes exactly or not at all. When only part of the tree can be
+ * translated, the translatable top-level AND conjuncts are still pushed down and the caller
+ * re-applies the full specification in memory on the (already narrowed) result.
+ */
+public abstract class SpecificationTranslator<T, Q> {
+
+    /**
+     * Translates the whole specification, or returns empty if any node has no store-side equivalent.
+     */
+    public abstract Optional<Q> translate(Specification<T> specification);
+
+    protected abstract Q and(List<Q> queries);
+
+    public Translation<Q> translatePartially(Specification<T> specification) {
+        Optional<Q> exact = translate(specification);
+        if (exact.isPresent()) {
+            return new Translation<>(exact.get(), true);
+        }
+
+        List<Q> pushed = new ArrayList<>();
+        for (Specification<T> conjunct : conjuncts(specification)) {
+            translate(conjunct).ifPresent(pushed::add);
+        }
+        return new Translation<>(pushed.isEmpty() ? null : and(pushed), false);
+    }
+
+    private List<Specification<T>> conjuncts(Specification<T> specification) {
+        List<Specification<T>> result = new ArrayList<>();
+        collectConjuncts(specification, result);
+        return result;
+    }
+
+    private void collectConjuncts(Specification<T> specification, List<Specification<T>> result) {
+        if (specification instanceof AndSpecification<T> and) {
+            collectConjuncts(and.getLeft(), result);
+            collectConjuncts(and.getRight(), result);
+        } else {
+            result.add(specification);
+        }
+    }
+
+    /**
+     * @param query the query to run in the store, or null when nothing could be pushed down
+     * @param exact whether the query alone is equivalent to the specification
+     */
+    public record Translation<Q>(Q query, boolean exact) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.hexagonal.framework.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations between the nodes that share a second-level cache, so each node
+ * can drop the entries of its local first-level cache that another node changed.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    /**
+     * One invalidated key of a cache, or the whole cache when {@code key} is null.
+     *
+     * @param origin id of the node that made the change, so it can skip its own messages
+     */
+    record CacheInvalidation(String origin, String cacheName, String key) {
+
+        public boolean clearsAll() {
+            return key == null;
+        }
+    }
+}
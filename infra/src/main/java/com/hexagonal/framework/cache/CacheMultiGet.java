@@ -0,0 +1,118 @@
+package com.hexagonal.framework.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads many keys of a Spring {@link Cache} in one call, which the {@code Cache} interface itself cannot do:
+ * - Caffeine caches: one {@code getAllPresent} on the native cache
+ * - Redis caches: one MGET of the prefixed keys, values read with the cache's own value serializer
+ * - Two-tier caches: the local tier first, then one MGET for the keys it does not hold (see
+ *   {@link TwoTierCache#getAllPresent})
+ * - Any other cache, e.g. the ConcurrentMap caches of spring.cache.type=simple: one {@code get} per key
+ *
+ * Transaction-aware decorators are unwrapped; they only defer writes. A failed Redis read counts every key as
+ * missing, like a miss of the single-key read path. Without a connection factory Redis caches are read key by key.
+ */
+public class CacheMultiGet {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheMultiGet.class);
+
+    private final RedisConnectionFactory connectionFactory;
+
+    public CacheMultiGet(RedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Returns the cached values of the given keys; keys without a value are left out.
+     */
+    public Map<String, Object> getAllPresent(Cache cache, Collection<String> keys) {
+        if (cache == null || keys.isEmpty()) {
+            return Map.of();
+        }
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache instanceof TwoTierCache twoTier) {
+            return twoTier.getAllPresent(keys, this);
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> found = (Map<String, Object>) (Map<?, ?>)
+                ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine).getAllPresent(keys);
+            return found;
+        }
+        if (cache instanceof RedisCache redisCache && connectionFactory != null) {
+            return getAllPresent(redisCache, List.copyOf(new LinkedHashSet<>(keys)));
+        }
+        Map<String, Object> found = new HashMap<>();
+        for (String key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    private Map<String, Object> getAllPresent(RedisCache cache, List<String> keys) {
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        String prefix = configuration.usePrefix() ? configuration.getKeyPrefixFor(cache.getName()) : "";
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = ByteUtils.getBytes(configuration.getKeySerializationPair().write(prefix + keys.get(i)));
+        }
+
+        List<byte[]> rawValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        } catch (DataAccessException e) {
+            logger.warn("Redis multi-get of {} keys in cache {} failed; treating them as cache misses",
+                keys.size(), cache.getName(), e);
+            return Map.of();
+        }
+        if (rawValues == null) {
+            return Map.of();
+        }
+
+        Map<String, Object> found = new HashMap<>();
+        for (int i = 0; i < keys.size() && i < rawValues.size(); i++) {
+            byte[] raw = rawValues.get(i);
+            Object value = raw == null ? null : configuration.getValueSerializationPair().read(ByteBuffer.wrap(raw));
+            if (value != null) {
+                found.put(keys.get(i), value);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The keys of {@code keys} that {@code found} holds no value for, in their original order.
+     */
+    static List<String> missing(Collection<String> keys, Map<String, Object> found) {
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            if (!found.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,15 @@
+package com.hexagonal.framework.cache;
+
+/**
+ * Reloads entries of one named cache in the background once its {@code refreshAfterWrite} period has
+ * passed. Until the reload completes, readers keep getting the current value.
+ */
+public interface CacheRefreshLoader {
+
+    String cacheName();
+
+    /**
+     * Loads the current value for {@code key}; returning null removes the entry.
+     */
+    Object load(Object key);
+}
@@ -0,0 +1,30 @@
+package com.hexagonal.framework.cache;
+
+/**
+ * Receives access, load and removal events of the application's caches, so hit ratios, load latency and
+ * eviction causes can be reported per cache whatever the cache backend is.
+ * Implementations are called on the request path and must not block.
+ */
+public interface CacheStatsRecorder {
+
+    CacheStatsRecorder NONE = new CacheStatsRecorder() {
+    };
+
+    default void hit(String cacheName, Object key) {
+    }
+
+    default void miss(String cacheName, Object key) {
+    }
+
+    /**
+     * A read-through load of a missing or stale entry finished after {@code nanos}.
+     */
+    default void loaded(String cacheName, long nanos, boolean success) {
+    }
+
+    /**
+     * An entry left the cache; {@code cause} is the backend's removal cause, e.g. SIZE or EXPIRED.
+     */
+    default void removed(String cacheName, String cause) {
+    }
+}
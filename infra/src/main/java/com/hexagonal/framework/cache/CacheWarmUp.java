@@ -0,0 +1,166 @@
+package com.hexagonal.framework.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Preloads the caches' hot working set after startup, so the first requests after a deploy do not all go
+ * to the database.
+ *
+ * Every registered source is read once, in parallel with the others, and handed to its sink; sources
+ * registered with {@link #loadInBatches} are handed over in batches of {@code batchSize} that are filled
+ * in parallel, so no single cache write (e.g. a Redis pipeline) grows with the catalog. A failing source
+ * is logged and skipped.
+ *
+ * The node counts as warm when every source is done or once {@code deadline} has passed since
+ * {@link #start()}, whichever comes first; the readiness probe reports {@link #isReady()}.
+ */
+public class CacheWarmUp {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmUp.class);
+
+    public enum State { PENDING, WARMING, COMPLETE, DEADLINE_PASSED }
+
+    private final long deadlineNanos;
+    private final int batchSize;
+    private final int threads;
+    private final LongSupplier nanoTime;
+
+    private final List<Source<?>> sources = new ArrayList<>();
+    private final Map<String, AtomicInteger> loaded = new ConcurrentHashMap<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private long startedAt;
+    private volatile boolean started;
+
+    public CacheWarmUp(Duration deadline, int batchSize, int threads) {
+        this(deadline, batchSize, threads, System::nanoTime);
+    }
+
+    CacheWarmUp(Duration deadline, int batchSize, int threads, LongSupplier nanoTime) {
+        if (batchSize <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("batchSize and threads must be positive");
+        }
+        this.deadlineNanos = deadline.toNanos();
+        this.batchSize = batchSize;
+        this.threads = threads;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Registers a source whose entries are handed to {@code sink} in one call (e.g. a cached full list).
+     */
+    public <T> CacheWarmUp load(String name, Supplier<? extends Collection<T>> loader, Consumer<List<T>> sink) {
+        sources.add(new Source<>(name, loader, sink, false));
+        return this;
+    }
+
+    /**
+     * Registers a source whose entries are handed to {@code batchSink} in parallel batches.
+     */
+    public <T> CacheWarmUp loadInBatches(String name, Supplier<? extends Collection<T>> loader, Consumer<List<T>> batchSink) {
+        sources.add(new Source<>(name, loader, batchSink, true));
+        return this;
+    }
+
+    /**
+     * Starts the warm-up in the background and returns immediately; later calls do nothing.
+     */
+    public void start() {
+        if (started) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        start(executor).whenComplete((ignored, failure) -> executor.shutdown());
+    }
+
+    synchronized CompletableFuture<Void> start(Executor executor) {
+        if (started) {
+            return completion;
+        }
+        startedAt = nanoTime.getAsLong();
+        started = true;
+        CompletableFuture<?>[] warming = sources.stream()
+            .map(source -> warm(source, executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(warming).whenComplete((ignored, failure) -> {
+            logger.info("Cache warm-up finished in {} ms: {}", Duration.ofNanos(nanoTime.getAsLong() - startedAt).toMillis(), loaded());
+            completion.complete(null);
+        });
+        return completion;
+    }
+
+    public State state() {
+        if (!started) {
+            return State.PENDING;
+        }
+        if (completion.isDone()) {
+            return State.COMPLETE;
+        }
+        return nanoTime.getAsLong() - startedAt >= deadlineNanos ? State.DEADLINE_PASSED : State.WARMING;
+    }
+
+    public boolean isReady() {
+        State state = state();
+        return state == State.COMPLETE || state == State.DEADLINE_PASSED;
+    }
+
+    /**
+     * Entries handed to the sinks so far, per source.
+     */
+    public Map<String, Integer> loaded() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        sources.forEach(source -> counts.put(source.name(), count(source.name()).get()));
+        return counts;
+    }
+
+    private <T> CompletableFuture<Void> warm(Source<T> source, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> List.copyOf(source.loader().get()), executor)
+            .thenCompose(entries -> {
+                if (!source.batched()) {
+                    source.sink().accept(entries);
+                    count(source.name()).addAndGet(entries.size());
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                List<CompletableFuture<Void>> batches = new ArrayList<>();
+                for (int from = 0; from < entries.size(); from += batchSize) {
+                    List<T> batch = entries.subList(from, Math.min(from + batchSize, entries.size()));
+                    batches.add(CompletableFuture.runAsync(() -> {
+                        source.sink().accept(batch);
+                        count(source.name()).addAndGet(batch.size());
+                    }, executor));
+                }
+                return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new));
+            })
+            .exceptionally(failure -> {
+                logger.warn("Cache warm-up of {} failed; it stays cold until requests fill it", source.name(), failure);
+                return null;
+            });
+    }
+
+    private AtomicInteger count(String name) {
+        return loaded.computeIfAbsent(name, key -> new AtomicInteger());
+    }
+
+    private record Source<T>(String name, Supplier<? extends Collection<T>> loader, Consumer<List<T>> sink, boolean batched) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.hexagonal.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the native Caffeine cache behind one named Spring cache from a Caffeine specification string,
+ * e.g. {@code maximumSize=10000,expireAfterWrite=1h,refreshAfterWrite=10m}.
+ *
+ * - Statistics are always recorded, so hits, misses and evictions show up in the cache metrics
+ * - With {@code maximumWeight}, collections weigh their element count and every other value weighs 1,
+ *   so a cached list counts as much as the entries it holds
+ * - {@code refreshAfterWrite} needs a {@link CacheRefreshLoader} for the cache
+ * - Removals are reported to the {@link CacheStatsRecorder} with their cause (SIZE, EXPIRED, EXPLICIT, ...)
+ */
+public final class CaffeineCacheBuilder {
+
+    private CaffeineCacheBuilder() {
+    }
+
+    public static Cache<Object, Object> build(String cacheName, String spec, CacheRefreshLoader refreshLoader) {
+        return build(cacheName, spec, refreshLoader, CacheStatsRecorder.NONE);
+    }
+
+    public static Cache<Object, Object> build(String cacheName, String spec, CacheRefreshLoader refreshLoader,
+                                              CacheStatsRecorder stats) {
+        Map<String, String> options = Arrays.stream(spec.split(","))
+            .map(String::trim)
+            .filter(option -> !option.isEmpty())
+            .collect(Collectors.toMap(option -> option.split("=", 2)[0].trim(), option -> option, (first, last) -> last));
+        // recordStats is added below; a second call would be rejected by the builder
+        options.remove("recordStats");
+
+        Caffeine<Object, Object> builder = Caffeine.from(String.join(",", options.values())).recordStats();
+        if (stats != CacheStatsRecorder.NONE) {
+            builder = builder.removalListener((Object key, Object value, RemovalCause cause) -> stats.removed(cacheName, cause.name()));
+        }
+        if (options.containsKey("maximumWeight")) {
+            builder = builder.weigher((Object key, Object value) ->
+                value instanceof Collection<?> collection ? Math.max(1, collection.size()) : 1);
+        }
+
+        if (options.containsKey("refreshAfterWrite")) {
+            if (refreshLoader == null) {
+                throw new IllegalStateException("Cache '" + cacheName + "' sets refreshAfterWrite but has no CacheRefreshLoader");
+            }
+            return builder.build(refreshLoader::load);
+        }
+        return builder.build();
+    }
+}
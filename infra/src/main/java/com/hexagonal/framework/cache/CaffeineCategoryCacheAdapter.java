@@ -1,95 +1,194 @@
 package com.hexagonal.framework.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hexagonal.application.port.out.CategoryCachePort;
 import com.hexagonal.domain.entity.Category;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
 
 /**
- * Caffeine-backed cache adapter for categories.
- * Maintains a full-list cache and per-id entries.
+ * In-memory cache adapter for categories.
+ *
+ * The cached state is one immutable snapshot (ordered full list, id -> category map and
+ * parent -> children index) swapped atomically through an {@link AtomicReference}. Reads are a map or
+ * field lookup on the current snapshot and never lock; writes build a new snapshot and publish it with
+ * a compare-and-set. Category writes are rare admin operations, so copying the snapshot on write is
+ * cheaper overall than keeping the views consistent under locks.
+ *
+ * A snapshot expires {@code ttlSeconds} after it was first filled; per-id entries cached without the
+ * full list are bounded by {@code maximumSize}.
+ *
+ * Reads are reported to the {@link CacheStatsRecorder} as {@value #CACHE_NAME}; a list read counts as one access.
  */
 public class CaffeineCategoryCacheAdapter implements CategoryCachePort {
-    private static final String KEY_ALL = "categories:all";
+    public static final String CACHE_NAME = "categories-port";
+    private static final String ROOT = "";
 
-    private final Cache<String, List<Category>> allCache;
-    private final Cache<String, Category> byIdCache;
+    private final long ttlNanos;
+    private final long maximumSize;
+    private final LongSupplier nanoTime;
+    private final CacheStatsRecorder stats;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
 
     public CaffeineCategoryCacheAdapter(long ttlSeconds, long maximumSize) {
-        this.allCache = Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
-                .maximumSize(maximumSize)
-                .build();
+        this(ttlSeconds, maximumSize, CacheStatsRecorder.NONE);
+    }
+
+    public CaffeineCategoryCacheAdapter(long ttlSeconds, long maximumSize, CacheStatsRecorder stats) {
+        this(ttlSeconds, maximumSize, System::nanoTime, stats);
+    }
+
+    CaffeineCategoryCacheAdapter(long ttlSeconds, long maximumSize, LongSupplier nanoTime) {
+        this(ttlSeconds, maximumSize, nanoTime, CacheStatsRecorder.NONE);
+    }
 
-        this.byIdCache = Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
-                .maximumSize(maximumSize * 2)
-                .build();
+    CaffeineCategoryCacheAdapter(long ttlSeconds, long maximumSize, LongSupplier nanoTime, CacheStatsRecorder stats) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maximumSize = maximumSize;
+        this.nanoTime = nanoTime;
+        this.stats = stats;
     }
 
     @Override
     public Optional<List<Category>> getAll() {
-        return Optional.ofNullable(allCache.getIfPresent(KEY_ALL));
+        return Optional.ofNullable(record("all", current().all()));
     }
 
     @Override
     public void putAll(List<Category> categories) {
         if (categories == null) return;
-        List<Category> copy = List.copyOf(categories);
-        allCache.put(KEY_ALL, copy);
-        // populate per-id cache as well
-        copy.forEach(cat -> byIdCache.put(cat.getId().toString(), cat));
+        Snapshot filled = Snapshot.of(List.copyOf(categories), nanoTime.getAsLong() + ttlNanos);
+        snapshot.set(filled);
     }
 
     @Override
     public void invalidateAll() {
-        allCache.invalidate(KEY_ALL);
-        byIdCache.asMap().keySet().forEach(byIdCache::invalidate);
+        snapshot.set(Snapshot.EMPTY);
     }
 
     @Override
     public Optional<Category> getById(String categoryId) {
         if (categoryId == null) return Optional.empty();
-        Category c = byIdCache.getIfPresent(categoryId);
-        // if not present, and we have full list, try to find
-        if (c == null) {
-            List<Category> all = allCache.getIfPresent(KEY_ALL);
-            if (all != null) {
-                c = all.stream().filter(cat -> categoryId.equals(cat.getId().toString())).findFirst().orElse(null);
-                if (c != null) byIdCache.put(categoryId, c);
-            }
-        }
-        return Optional.ofNullable(c);
+        return Optional.ofNullable(record(categoryId, current().byId().get(categoryId)));
+    }
+
+    /**
+     * Children of {@code parentCategoryId} (roots for null), or empty when the full list is not cached.
+     */
+    @Override
+    public Optional<List<Category>> getChildren(String parentCategoryId) {
+        Snapshot current = current();
+        String parent = parentCategoryId == null ? ROOT : parentCategoryId;
+        if (record("children:" + parent, current.all()) == null) return Optional.empty();
+        return Optional.of(current.children().getOrDefault(parent, List.of()));
     }
 
     @Override
     public void putById(String categoryId, Category category) {
         if (categoryId == null || category == null) return;
-        byIdCache.put(categoryId, category);
-        // also update all cache if present
-        List<Category> all = allCache.getIfPresent(KEY_ALL);
-        if (all != null) {
-            List<Category> updated = all.stream()
-                    .map(c -> c.getId().toString().equals(categoryId) ? category : c)
-                    .collect(Collectors.toList());
-            allCache.put(KEY_ALL, List.copyOf(updated));
-        }
+        update(current -> {
+            if (current.all() != null) {
+                // Replace in place, or append a category created after the list was cached
+                List<Category> all = new ArrayList<>(current.all());
+                Category previous = current.byId().get(categoryId);
+                int index = previous == null ? -1 : all.indexOf(previous);
+                if (index >= 0) {
+                    all.set(index, category);
+                } else {
+                    all.add(category);
+                }
+                return Snapshot.of(List.copyOf(all), current.expiresAt());
+            }
+            if (!current.byId().containsKey(categoryId) && current.byId().size() >= maximumSize) {
+                return current;
+            }
+            Map<String, Category> byId = new HashMap<>(current.byId());
+            byId.put(categoryId, category);
+            long expiresAt = current == Snapshot.EMPTY ? nanoTime.getAsLong() + ttlNanos : current.expiresAt();
+            return new Snapshot(null, Map.copyOf(byId), Map.of(), expiresAt);
+        });
     }
 
     @Override
     public void invalidateById(String categoryId) {
         if (categoryId == null) return;
-        byIdCache.invalidate(categoryId);
-        // Also remove from all cache if present
-        List<Category> all = allCache.getIfPresent(KEY_ALL);
-        if (all != null) {
-            List<Category> filtered = all.stream().filter(c -> !categoryId.equals(c.getId().toString())).collect(Collectors.toList());
-            allCache.put(KEY_ALL, List.copyOf(filtered));
+        update(current -> {
+            Category removed = current.byId().get(categoryId);
+            if (removed == null) {
+                return current;
+            }
+            if (current.all() != null) {
+                List<Category> all = new ArrayList<>(current.all());
+                all.remove(removed);
+                return Snapshot.of(List.copyOf(all), current.expiresAt());
+            }
+            Map<String, Category> byId = new HashMap<>(current.byId());
+            byId.remove(categoryId);
+            return new Snapshot(null, Map.copyOf(byId), Map.of(), current.expiresAt());
+        });
+    }
+
+    /**
+     * Number of categories held, counting the full list or the per-id entries cached without it.
+     */
+    public long estimatedSize() {
+        Snapshot current = current();
+        return current.all() != null ? current.all().size() : current.byId().size();
+    }
+
+    private <V> V record(String key, V value) {
+        if (value != null) {
+            stats.hit(CACHE_NAME, key);
+        } else {
+            stats.miss(CACHE_NAME, key);
+        }
+        return value;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != Snapshot.EMPTY && nanoTime.getAsLong() - current.expiresAt() >= 0) {
+            snapshot.compareAndSet(current, Snapshot.EMPTY);
+            return Snapshot.EMPTY;
+        }
+        return current;
+    }
+
+    private void update(UnaryOperator<Snapshot> change) {
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = current();
+            next = change.apply(current);
+        } while (current != next && !snapshot.compareAndSet(current, next));
+    }
+
+    /**
+     * all is null when only single categories are cached; children is then empty.
+     */
+    private record Snapshot(List<Category> all, Map<String, Category> byId, Map<String, List<Category>> children,
+                            long expiresAt) {
+
+        static final Snapshot EMPTY = new Snapshot(null, Map.of(), Map.of(), 0);
+
+        static Snapshot of(List<Category> all, long expiresAt) {
+            Map<String, Category> byId = new HashMap<>();
+            Map<String, List<Category>> children = new LinkedHashMap<>();
+            for (Category category : all) {
+                byId.put(category.getId().toString(), category);
+                String parent = category.getParentCategoryId() == null ? ROOT : category.getParentCategoryId().toString();
+                children.computeIfAbsent(parent, key -> new ArrayList<>()).add(category);
+            }
+            children.replaceAll((parent, list) -> List.copyOf(list));
+            return new Snapshot(all, Map.copyOf(byId), Map.copyOf(children), expiresAt);
         }
     }
 }
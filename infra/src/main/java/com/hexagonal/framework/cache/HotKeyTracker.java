@@ -0,0 +1,88 @@
+package com.hexagonal.framework.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Approximate top-k of the most accessed keys of one cache (Space-Saving algorithm).
+ *
+ * At most {@code capacity} keys are counted. A key that is not counted replaces the key with the lowest
+ * count and inherits that count as its possible over-estimate, so every key accessed more often than
+ * 1/capacity of all accesses is guaranteed to be in the table. Only one in {@code sampleRate} accesses is
+ * counted, which keeps the lock off most requests; reported counts are scaled back up.
+ */
+public class HotKeyTracker {
+
+    private final int capacity;
+    private final int sampleRate;
+    private final Map<String, Slot> slots = new HashMap<>();
+
+    public HotKeyTracker(int capacity, int sampleRate) {
+        if (capacity <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("capacity and sampleRate must be positive");
+        }
+        this.capacity = capacity;
+        this.sampleRate = sampleRate;
+    }
+
+    public void record(Object key) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+        String name = String.valueOf(key);
+        synchronized (slots) {
+            Slot slot = slots.get(name);
+            if (slot != null) {
+                slot.count++;
+                return;
+            }
+            if (slots.size() < capacity) {
+                slots.put(name, new Slot(1, 0));
+                return;
+            }
+            // O(capacity) scan, paid only by sampled accesses of keys outside the table
+            Map.Entry<String, Slot> coldest = null;
+            for (Map.Entry<String, Slot> entry : slots.entrySet()) {
+                if (coldest == null || entry.getValue().count < coldest.getValue().count) {
+                    coldest = entry;
+                }
+            }
+            slots.remove(coldest.getKey());
+            long inherited = coldest.getValue().count;
+            slots.put(name, new Slot(inherited + 1, inherited));
+        }
+    }
+
+    /**
+     * The {@code limit} hottest keys, hottest first, with their estimated access counts.
+     */
+    public List<HotKey> top(int limit) {
+        List<HotKey> keys = new ArrayList<>();
+        synchronized (slots) {
+            slots.forEach((key, slot) -> keys.add(new HotKey(key, slot.count * sampleRate, slot.error * sampleRate)));
+        }
+        keys.sort(Comparator.comparingLong(HotKey::accesses).reversed());
+        return keys.size() > limit ? List.copyOf(keys.subList(0, limit)) : List.copyOf(keys);
+    }
+
+    /**
+     * @param accesses estimated accesses of the key
+     * @param maxOverestimate how much of {@code accesses} may belong to keys this one replaced
+     */
+    public record HotKey(String key, long accesses, long maxOverestimate) {
+    }
+
+    private static final class Slot {
+        private long count;
+        private final long error;
+
+        private Slot(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hexagonal.framework.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cache invalidation bus over Redis pub/sub.
+ *
+ * Messages are {@code E|origin|cache|key} for one key and {@code C|origin|cache} for a whole cache; the
+ * key comes last so it may contain the separator. Pub/sub is fire-and-forget: a node that misses a
+ * message keeps the stale entry until its first-level TTL expires, which is why that TTL is kept short.
+ */
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChannelTopic topic;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+                                     String channel) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        listenerContainer.addMessageListener(this, topic);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), encode(invalidation));
+        } catch (RuntimeException e) {
+            // The change itself is already stored; other nodes catch up when their local entry expires
+            logger.warn("Could not publish cache invalidation for cache {}", invalidation.cacheName(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation = decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null) {
+            logger.warn("Ignoring malformed cache invalidation message");
+            return;
+        }
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    static String encode(CacheInvalidation invalidation) {
+        return invalidation.clearsAll()
+            ? "C|" + invalidation.origin() + "|" + invalidation.cacheName()
+            : "E|" + invalidation.origin() + "|" + invalidation.cacheName() + "|" + invalidation.key();
+    }
+
+    static CacheInvalidation decode(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length == 3 && parts[0].equals("C")) {
+            return new CacheInvalidation(parts[1], parts[2], null);
+        }
+        if (parts.length == 4 && parts[0].equals("E")) {
+            return new CacheInvalidation(parts[1], parts[2], parts[3]);
+        }
+        return null;
+    }
+}
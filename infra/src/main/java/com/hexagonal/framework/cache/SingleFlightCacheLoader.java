@@ -0,0 +1,291 @@
+package com.hexagonal.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Read-through loading for the repository adapters' caches.
+ *
+ * - Single flight: concurrent misses for the same key share one load; the other callers wait for its result
+ * - Stale-while-revalidate: an entry older than {@code freshFor} is still served while one background load
+ *   replaces it; the cache's own TTL stays the hard limit
+ * - Probabilistic early refresh: an entry is refreshed before it goes stale with a probability that grows
+ *   towards its staleness and with the time its load took ({@code now - loadTime * beta * ln(random)}),
+ *   so hot keys are usually reloaded by a single request before they expire
+ *
+ * A load stores its result only if no write touched the key (or cleared the cache) while it ran, so a load
+ * that read the database before a write committed cannot overwrite the written value. Writers report their
+ * changes through {@link #written(Cache, Object)} and {@link #cleared(Cache)}. Write generations are kept in
+ * a fixed number of hash stripes; two keys sharing a stripe only cost an extra load.
+ *
+ * Hits, misses and load times are reported to the {@link CacheStatsRecorder}.
+ *
+ * Load times are tracked per node. An entry loaded elsewhere (another node, a write) counts as loaded when
+ * this node first reads it.
+ */
+public class SingleFlightCacheLoader implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlightCacheLoader.class);
+
+    private static final int STRIPES = 1024;
+
+    private final long freshForNanos;
+    private final double beta;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoTime;
+    private final DoubleSupplier random;
+    private final CacheStatsRecorder stats;
+
+    private final ConcurrentMap<LoadKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final com.github.benmanes.caffeine.cache.Cache<LoadKey, LoadInfo> loads;
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(STRIPES);
+    private final ConcurrentMap<String, AtomicLong> cacheGenerations = new ConcurrentHashMap<>();
+
+    public SingleFlightCacheLoader(Duration freshFor, double beta, int refreshThreads, long maxTrackedKeys) {
+        this(freshFor, beta, refreshThreads, maxTrackedKeys, CacheStatsRecorder.NONE);
+    }
+
+    public SingleFlightCacheLoader(Duration freshFor, double beta, int refreshThreads, long maxTrackedKeys,
+                                   CacheStatsRecorder stats) {
+        this(freshFor, beta, refreshExecutor(refreshThreads), maxTrackedKeys, System::nanoTime,
+            () -> 1.0 - ThreadLocalRandom.current().nextDouble(), stats);
+    }
+
+    SingleFlightCacheLoader(Duration freshFor, double beta, Executor refreshExecutor, long maxTrackedKeys,
+                            LongSupplier nanoTime, DoubleSupplier random) {
+        this(freshFor, beta, refreshExecutor, maxTrackedKeys, nanoTime, random, CacheStatsRecorder.NONE);
+    }
+
+    SingleFlightCacheLoader(Duration freshFor, double beta, Executor refreshExecutor, long maxTrackedKeys,
+                            LongSupplier nanoTime, DoubleSupplier random, CacheStatsRecorder stats) {
+        if (beta < 0) {
+            throw new IllegalArgumentException("beta must not be negative");
+        }
+        this.freshForNanos = freshFor.toNanos();
+        this.beta = beta;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoTime = nanoTime;
+        this.random = random;
+        this.stats = stats;
+        this.loads = Caffeine.newBuilder().maximumSize(maxTrackedKeys).build();
+    }
+
+    /**
+     * Returns the cached value, or loads, stores and returns it. A null result is returned but not cached.
+     * Without a cache every call goes to the loader.
+     */
+    public <T> T get(Cache cache, Object key, Class<T> type, Supplier<? extends T> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        LoadKey loadKey = new LoadKey(cache.getName(), key);
+        T cached = cache.get(key, type);
+        if (cached != null) {
+            stats.hit(cache.getName(), key);
+            refreshIfDue(cache, loadKey, loader);
+            return cached;
+        }
+        stats.miss(cache.getName(), key);
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(loadKey, load);
+        if (running != null) {
+            return type.cast(await(running));
+        }
+        try {
+            // The previous load may have finished between our miss and taking over
+            cached = cache.get(key, type);
+            if (cached != null) {
+                load.complete(cached);
+                return cached;
+            }
+            return type.cast(load(cache, loadKey, loader, load, false));
+        } finally {
+            inFlight.remove(loadKey, load);
+        }
+    }
+
+    /**
+     * Loads many missing keys with one loader call, e.g. one query by ids, and stores each loaded value whose key
+     * no write touched (and whose cache was not cleared) while the loader ran. Values already cached are kept.
+     * Every key counts as a miss; single-key loads running meanwhile are not joined.
+     */
+    public <V> Map<String, V> loadAll(Cache cache, Collection<String> keys, Function<Collection<String>, Map<String, V>> loader) {
+        if (cache == null || keys.isEmpty()) {
+            return loader.apply(keys);
+        }
+        List<String> missing = List.copyOf(keys);
+        long[] generations = new long[missing.size()];
+        for (int i = 0; i < missing.size(); i++) {
+            stats.miss(cache.getName(), missing.get(i));
+            generations[i] = keyGenerations.get(stripe(cache.getName(), missing.get(i)));
+        }
+        long cacheGeneration = cacheGeneration(cache.getName());
+        long start = nanoTime.getAsLong();
+        Map<String, V> values;
+        try {
+            values = loader.apply(missing);
+        } catch (RuntimeException e) {
+            stats.loaded(cache.getName(), nanoTime.getAsLong() - start, false);
+            throw e;
+        }
+        long end = nanoTime.getAsLong();
+        stats.loaded(cache.getName(), end - start, true);
+
+        if (cacheGeneration(cache.getName()) != cacheGeneration) {
+            return values;
+        }
+        for (int i = 0; i < missing.size(); i++) {
+            String key = missing.get(i);
+            V value = values.get(key);
+            if (value != null && keyGenerations.get(stripe(cache.getName(), key)) == generations[i]) {
+                cache.putIfAbsent(key, value);
+                loads.put(new LoadKey(cache.getName(), key), new LoadInfo(end, end - start));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reports that a writer changed or evicted {@code key}; loads of the key that are running are not stored.
+     * Call it before the cache is updated.
+     */
+    public void written(Cache cache, Object key) {
+        if (cache != null) {
+            keyGenerations.incrementAndGet(stripe(cache.getName(), key));
+            loads.invalidate(new LoadKey(cache.getName(), key));
+        }
+    }
+
+    /**
+     * Reports that a writer cleared {@code cache}; no running load of it is stored.
+     */
+    public void cleared(Cache cache) {
+        if (cache != null) {
+            cacheGenerations.computeIfAbsent(cache.getName(), name -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void refreshIfDue(Cache cache, LoadKey loadKey, Supplier<?> loader) {
+        long now = nanoTime.getAsLong();
+        LoadInfo info = loads.get(loadKey, key -> new LoadInfo(now, 0));
+        double earlyBy = info.loadNanos() * beta * -Math.log(random.getAsDouble());
+        if (now + earlyBy < info.loadedAt() + freshForNanos) {
+            return;
+        }
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(loadKey, refresh) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(cache, loadKey, loader, refresh, true);
+                } catch (RuntimeException e) {
+                    logger.warn("Background refresh of cache {} failed; serving the stale entry", loadKey.cacheName(), e);
+                } finally {
+                    inFlight.remove(loadKey, refresh);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(loadKey, refresh);
+            refresh.complete(null);
+        }
+    }
+
+    private Object load(Cache cache, LoadKey loadKey, Supplier<?> loader, CompletableFuture<Object> load, boolean refresh) {
+        int stripe = stripe(loadKey.cacheName(), loadKey.key());
+        long keyGeneration = keyGenerations.get(stripe);
+        long cacheGeneration = cacheGeneration(loadKey.cacheName());
+        long start = nanoTime.getAsLong();
+        Object value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            stats.loaded(loadKey.cacheName(), nanoTime.getAsLong() - start, false);
+            load.completeExceptionally(e);
+            throw e;
+        }
+        long end = nanoTime.getAsLong();
+        stats.loaded(loadKey.cacheName(), end - start, true);
+
+        if (value != null && keyGenerations.get(stripe) == keyGeneration
+                && cacheGeneration(loadKey.cacheName()) == cacheGeneration) {
+            // A refresh replaces the entry it found; a miss must not replace a value a writer put meanwhile
+            if (refresh) {
+                cache.put(loadKey.key(), value);
+            } else {
+                cache.putIfAbsent(loadKey.key(), value);
+            }
+            loads.put(loadKey, new LoadInfo(end, end - start));
+        }
+        load.complete(value);
+        return value;
+    }
+
+    private long cacheGeneration(String cacheName) {
+        AtomicLong generation = cacheGenerations.get(cacheName);
+        return generation == null ? 0 : generation.get();
+    }
+
+    private static Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int stripe(String cacheName, Object key) {
+        int hash = 31 * cacheName.hashCode() + key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private static ExecutorService refreshExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record LoadKey(String cacheName, Object key) {
+    }
+
+    private record LoadInfo(long loadedAt, long loadNanos) {
+    }
+}
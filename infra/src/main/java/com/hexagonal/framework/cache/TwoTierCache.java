@@ -0,0 +1,183 @@
+package com.hexagonal.framework.cache;
+
+import com.hexagonal.framework.cache.CacheInvalidationBus.CacheInvalidation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A node-local first-level cache in front of a shared second-level cache.
+ *
+ * - Reads try the local cache first and fill it from the shared cache on a miss
+ * - {@code put}, {@code evict} and {@code clear} write the shared cache and the local cache, then tell the
+ *   other nodes to drop the key from their local cache
+ * - Fills on a miss ({@code putIfAbsent}, the value loader of {@link #get(Object, Callable)}) write both
+ *   tiers without a message: no other node can hold a newer value than the shared cache
+ *
+ * A shared-cache read that overlaps an invalidation does not fill the local cache, so an invalidation
+ * that arrives while the old value is in flight cannot be undone by it. Local keys are the string form of
+ * the key, which is also what the Redis cache and the invalidation messages use.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache local;
+    private final Cache shared;
+    private final CacheInvalidationBus invalidationBus;
+    private final String origin;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TwoTierCache(Cache local, Cache shared, CacheInvalidationBus invalidationBus, String origin) {
+        this.local = local;
+        this.shared = shared;
+        this.invalidationBus = invalidationBus;
+        this.origin = origin;
+    }
+
+    @Override
+    public String getName() {
+        return shared.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.get(localKey);
+        if (cached != null) {
+            return cached;
+        }
+        long seen = invalidations.get();
+        ValueWrapper loaded = shared.get(key);
+        if (loaded != null && loaded.get() != null && invalidations.get() == seen) {
+            local.put(localKey, loaded.get());
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Reads many keys: the local tier in one call, then the shared tier in one call for the keys the local tier
+     * does not hold. Values read from the shared tier fill the local one unless an invalidation arrived meanwhile.
+     */
+    Map<String, Object> getAllPresent(Collection<String> keys, CacheMultiGet multiGet) {
+        Map<String, Object> found = new HashMap<>(multiGet.getAllPresent(local, keys));
+        List<String> missing = CacheMultiGet.missing(keys, found);
+        if (missing.isEmpty()) {
+            return found;
+        }
+        long seen = invalidations.get();
+        Map<String, Object> loaded = multiGet.getAllPresent(shared, missing);
+        if (invalidations.get() == seen) {
+            loaded.forEach(local::put);
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        shared.put(key, value);
+        invalidations.incrementAndGet();
+        local.put(localKey(key), value);
+        publish(localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = shared.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        if (current != null) {
+            local.put(localKey(key), current);
+        }
+        return existing != null ? new SimpleValueWrapper(current) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        shared.evict(key);
+        evictLocal(localKey(key));
+        publish(localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        shared.clear();
+        clearLocal();
+        publish(null);
+    }
+
+    /**
+     * Applies an invalidation published by another node.
+     */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (origin.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.clearsAll()) {
+            clearLocal();
+        } else {
+            evictLocal(invalidation.key());
+        }
+    }
+
+    private void evictLocal(String localKey) {
+        invalidations.incrementAndGet();
+        local.evict(localKey);
+    }
+
+    private void clearLocal() {
+        invalidations.incrementAndGet();
+        local.clear();
+    }
+
+    private void publish(String key) {
+        invalidationBus.publish(new CacheInvalidation(origin, getName(), key));
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
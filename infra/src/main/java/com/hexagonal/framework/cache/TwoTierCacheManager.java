@@ -0,0 +1,69 @@
+package com.hexagonal.framework.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Pairs each node-local cache with the shared cache of the same name and keeps the local caches of all
+ * nodes coherent through a {@link CacheInvalidationBus}. Only the given cache names are served; they are
+ * fixed when the manager is created.
+ *
+ * A transaction-aware shared cache is unwrapped and the two-tier cache is decorated instead, so the local
+ * write and the invalidation message are deferred to the commit together with the shared write.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches;
+    private final Map<String, Cache> exposedCaches;
+
+    public TwoTierCacheManager(Map<String, Cache> localCaches, CacheManager sharedCacheManager,
+                               CacheInvalidationBus invalidationBus) {
+        Map<String, TwoTierCache> twoTierCaches = new LinkedHashMap<>();
+        Map<String, Cache> exposed = new LinkedHashMap<>();
+        localCaches.forEach((name, local) -> {
+            Cache shared = sharedCacheManager.getCache(name);
+            if (shared == null) {
+                throw new IllegalStateException("No shared cache named '" + name + "' for the local cache");
+            }
+            boolean transactionAware = false;
+            if (shared instanceof TransactionAwareCacheDecorator decorator) {
+                shared = decorator.getTargetCache();
+                transactionAware = true;
+            }
+            TwoTierCache cache = new TwoTierCache(local, shared, invalidationBus, nodeId);
+            twoTierCaches.put(name, cache);
+            exposed.put(name, transactionAware ? new TransactionAwareCacheDecorator(cache) : cache);
+        });
+        this.caches = Collections.unmodifiableMap(twoTierCaches);
+        this.exposedCaches = Collections.unmodifiableMap(exposed);
+
+        invalidationBus.subscribe(invalidation -> {
+            TwoTierCache cache = caches.get(invalidation.cacheName());
+            if (cache != null) {
+                cache.onInvalidation(invalidation);
+            }
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return exposedCaches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return exposedCaches.keySet();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
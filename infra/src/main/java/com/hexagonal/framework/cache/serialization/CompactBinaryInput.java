@@ -0,0 +1,109 @@
+package com.hexagonal.framework.cache.serialization;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Reads what {@link CompactBinaryOutput} writes. A truncated or corrupt value fails with a
+ * {@link SerializationException}.
+ */
+final class CompactBinaryInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    CompactBinaryInput(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    int readVarInt() {
+        long value = readVarLong();
+        if (value > 0xFFFFFFFFL) {
+            throw new SerializationException("Varint does not fit in an int");
+        }
+        return (int) value;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint");
+    }
+
+    long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        require(length - 1);
+        String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+        position += length - 1;
+        return value;
+    }
+
+    BigDecimal readDecimal() {
+        int scale = Math.toIntExact(readZigZagLong());
+        int length = readVarInt();
+        return new BigDecimal(new BigInteger(readBytes(length)), scale);
+    }
+
+    byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    byte[] readRemaining() {
+        return readBytes(buffer.length - position);
+    }
+
+    boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new SerializationException("Truncated cache value");
+        }
+    }
+}
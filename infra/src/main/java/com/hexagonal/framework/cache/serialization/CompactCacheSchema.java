@@ -0,0 +1,275 @@
+package com.hexagonal.framework.cache.serialization;
+
+import com.hexagonal.domain.entity.Customer;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.Dimensions;
+import com.hexagonal.domain.vo.Email;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import com.hexagonal.domain.vo.ProductStatus;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.domain.vo.TrackingInformation;
+import com.hexagonal.domain.vo.Weight;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Field layout of the domain types in the compact cache format.
+ *
+ * Fields are written in a fixed order without names; enums are written as their ordinal and currencies as
+ * an index into {@link #CURRENCIES}. Adding, removing or reordering fields or enum constants, or changing the
+ * currency table other than by appending, needs a new format version in {@link CompactRedisSerializer}.
+ *
+ * Entities are rebuilt the way the persistence mappers rebuild them. Orders keep their creation and update
+ * timestamps, which order history and statistics read; products and customers are rebuilt without them.
+ */
+final class CompactCacheSchema {
+
+    static final List<String> CURRENCIES = List.of("USD", "EUR", "TRY", "GBP", "JPY", "CHF", "CAD", "AUD");
+
+    private CompactCacheSchema() {
+    }
+
+    static void writeProduct(CompactBinaryOutput out, Product product) {
+        out.writeUuid(product.getId().getValue());
+        out.writeString(product.getName());
+        out.writeString(product.getDescription());
+        writeMoney(out, product.getPrice());
+        out.writeString(product.getSku());
+        out.writeByte(product.getStatus().ordinal());
+        out.writeVarInt(product.getStockQuantity().getValue());
+
+        out.writeVarInt(product.getCategoryIds().size());
+        product.getCategoryIds().forEach(categoryId -> out.writeUuid(categoryId.getValue()));
+        out.writeVarInt(product.getImages().size());
+        product.getImages().forEach(out::writeString);
+
+        Weight weight = product.getWeight();
+        out.writeBoolean(weight != null);
+        if (weight != null) {
+            out.writeDecimal(weight.getValue());
+            out.writeByte(weight.getUnit().ordinal());
+        }
+        Dimensions dimensions = product.getDimensions();
+        out.writeBoolean(dimensions != null);
+        if (dimensions != null) {
+            out.writeDecimal(dimensions.getLength());
+            out.writeDecimal(dimensions.getWidth());
+            out.writeDecimal(dimensions.getHeight());
+            out.writeByte(dimensions.getUnit().ordinal());
+        }
+    }
+
+    static Product readProduct(CompactBinaryInput in) {
+        ID id = ID.of(in.readUuid());
+        String name = in.readString();
+        String description = in.readString();
+        Money price = readMoney(in);
+        String sku = in.readString();
+        ProductStatus status = enumValue(ProductStatus.values(), in.readByte());
+
+        Product product = Product.of(id, name, price, sku, status);
+        if (description != null) {
+            product.updateDescription(description);
+        }
+        product.setStock(Quantity.of(in.readVarInt()));
+
+        int categoryCount = in.readVarInt();
+        for (int i = 0; i < categoryCount; i++) {
+            product.addCategory(ID.of(in.readUuid()));
+        }
+        int imageCount = in.readVarInt();
+        for (int i = 0; i < imageCount; i++) {
+            product.addImage(in.readString());
+        }
+
+        if (in.readBoolean()) {
+            BigDecimal value = in.readDecimal();
+            product.setWeight(Weight.of(value, enumValue(Weight.WeightUnit.values(), in.readByte())));
+        }
+        if (in.readBoolean()) {
+            BigDecimal length = in.readDecimal();
+            BigDecimal width = in.readDecimal();
+            BigDecimal height = in.readDecimal();
+            product.setDimensions(Dimensions.of(length, width, height,
+                enumValue(Dimensions.LengthUnit.values(), in.readByte())));
+        }
+        return product;
+    }
+
+    static void writeCustomer(CompactBinaryOutput out, Customer customer) {
+        out.writeUuid(customer.getId().getValue());
+        out.writeString(customer.getFirstName());
+        out.writeString(customer.getLastName());
+        out.writeString(customer.getEmail().getValue());
+        out.writeString(customer.getPhoneNumber());
+        writeAddress(out, customer.getAddress());
+        out.writeBoolean(customer.isActive());
+    }
+
+    static Customer readCustomer(CompactBinaryInput in) {
+        Customer customer = Customer.of(ID.of(in.readUuid()), in.readString(), in.readString(), Email.of(in.readString()));
+        String phoneNumber = in.readString();
+        if (phoneNumber != null) {
+            customer.updatePhoneNumber(phoneNumber);
+        }
+        Address address = readAddress(in);
+        if (address != null) {
+            customer.updateAddress(address);
+        }
+        if (!in.readBoolean()) {
+            customer.deactivate();
+        }
+        return customer;
+    }
+
+    static void writeOrder(CompactBinaryOutput out, Order order) {
+        out.writeUuid(order.getId().getValue());
+        out.writeUuid(order.getCustomerId().getValue());
+        out.writeVarInt(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            out.writeUuid(item.getProductId().getValue());
+            out.writeString(item.getProductName());
+            out.writeVarInt(item.getQuantity().getValue());
+            writeMoney(out, item.getUnitPrice());
+        }
+        out.writeByte(order.getStatus().ordinal());
+        writeAddress(out, order.getShippingAddress());
+        writeAddress(out, order.getBillingAddress());
+        writeMoney(out, order.getTaxAmount());
+        writeMoney(out, order.getDiscountAmount());
+
+        TrackingInformation tracking = order.getTrackingInformation();
+        out.writeBoolean(tracking != null);
+        if (tracking != null) {
+            out.writeString(tracking.getTrackingNumber());
+            out.writeString(tracking.getCarrier());
+            out.writeString(tracking.getTrackingUrl() != null ? tracking.getTrackingUrl().toString() : null);
+            writeDateTime(out, tracking.getShippedAt());
+        }
+        writeOptionalDateTime(out, order.getCreatedAt());
+        writeOptionalDateTime(out, order.getUpdatedAt());
+        out.writeBoolean(order.getVersion() != null);
+        if (order.getVersion() != null) {
+            out.writeVarLong(order.getVersion());
+        }
+    }
+
+    static Order readOrder(CompactBinaryInput in) {
+        ID id = ID.of(in.readUuid());
+        ID customerId = ID.of(in.readUuid());
+        int itemCount = in.readVarInt();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.create(ID.of(in.readUuid()), in.readString(), Quantity.of(in.readVarInt()), readMoney(in)));
+        }
+        OrderStatus status = enumValue(OrderStatus.values(), in.readByte());
+        Address shippingAddress = readAddress(in);
+        Address billingAddress = readAddress(in);
+        Money taxAmount = readMoney(in);
+        Money discountAmount = readMoney(in);
+
+        TrackingInformation tracking = null;
+        if (in.readBoolean()) {
+            String trackingNumber = in.readString();
+            String carrier = in.readString();
+            String trackingUrl = in.readString();
+            tracking = TrackingInformation.of(trackingNumber, carrier, trackingUrl, readDateTime(in));
+        }
+        LocalDateTime createdAt = readOptionalDateTime(in);
+        LocalDateTime updatedAt = readOptionalDateTime(in);
+        Long version = in.readBoolean() ? in.readVarLong() : null;
+        return Order.of(id, customerId, items, shippingAddress, billingAddress, taxAmount, discountAmount, status, tracking,
+            createdAt, updatedAt, version);
+    }
+
+    /**
+     * Money is always at the default scale of its currency, so the unscaled amount is enough. The header
+     * varint is {@code currencyRef << 1 | big}: currencyRef is the table index plus one, or 0 followed by
+     * the currency code; big marks an amount that does not fit in a long and is written as a decimal.
+     */
+    static void writeMoney(CompactBinaryOutput out, Money money) {
+        int currencyRef = CURRENCIES.indexOf(money.getCurrency().getCurrencyCode()) + 1;
+        boolean big = money.getAmount().unscaledValue().bitLength() > 63;
+        out.writeVarInt(currencyRef << 1 | (big ? 1 : 0));
+        if (currencyRef == 0) {
+            out.writeString(money.getCurrency().getCurrencyCode());
+        }
+        if (big) {
+            out.writeDecimal(money.getAmount());
+        } else {
+            out.writeZigZagLong(money.getAmount().unscaledValue().longValue());
+        }
+    }
+
+    static Money readMoney(CompactBinaryInput in) {
+        int header = in.readVarInt();
+        int currencyRef = header >>> 1;
+        if (currencyRef > CURRENCIES.size()) {
+            throw new SerializationException("Unknown currency index " + currencyRef);
+        }
+        Currency currency = Currency.getInstance(currencyRef == 0 ? in.readString() : CURRENCIES.get(currencyRef - 1));
+        BigDecimal amount = (header & 1) != 0
+            ? in.readDecimal()
+            : BigDecimal.valueOf(in.readZigZagLong(), currency.getDefaultFractionDigits());
+        return Money.of(amount, currency);
+    }
+
+    /**
+     * Date-times are written as UTC epoch seconds (zigzag) followed by the nanosecond of the second.
+     */
+    private static void writeDateTime(CompactBinaryOutput out, LocalDateTime dateTime) {
+        out.writeZigZagLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeVarInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(CompactBinaryInput in) {
+        return LocalDateTime.ofEpochSecond(in.readZigZagLong(), in.readVarInt(), ZoneOffset.UTC);
+    }
+
+    private static void writeOptionalDateTime(CompactBinaryOutput out, LocalDateTime dateTime) {
+        out.writeBoolean(dateTime != null);
+        if (dateTime != null) {
+            writeDateTime(out, dateTime);
+        }
+    }
+
+    private static LocalDateTime readOptionalDateTime(CompactBinaryInput in) {
+        return in.readBoolean() ? readDateTime(in) : null;
+    }
+
+    private static void writeAddress(CompactBinaryOutput out, Address address) {
+        out.writeBoolean(address != null);
+        if (address != null) {
+            out.writeString(address.getStreet());
+            out.writeString(address.getCity());
+            out.writeString(address.getState());
+            out.writeString(address.getZipCode());
+            out.writeString(address.getCountry());
+        }
+    }
+
+    private static Address readAddress(CompactBinaryInput in) {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return Address.of(in.readString(), in.readString(), in.readString(), in.readString(), in.readString());
+    }
+
+    private static <E extends Enum<E>> E enumValue(E[] values, int ordinal) {
+        if (ordinal >= values.length) {
+            throw new SerializationException("Unknown ordinal " + ordinal + " for " + values[0].getDeclaringClass().getSimpleName());
+        }
+        return values[ordinal];
+    }
+}
@@ -0,0 +1,141 @@
+package com.hexagonal.framework.cache.serialization;
+
+import com.hexagonal.domain.entity.Customer;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.Product;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis cache value serializer with a compact binary layout for the cached domain types.
+ *
+ * A value starts with a header byte: the format version in the low four bits and {@link #LZ4_FLAG} when
+ * the body is LZ4 compressed. The body is a type tag followed by the fields of that type, see
+ * {@link CompactCacheSchema}. Strings and lists of supported values have their own tags; any other value
+ * is written by the fallback serializer.
+ *
+ * A value with another format version (e.g. JSON written before the switch, or an older layout) reads as
+ * null, which the cache treats as a miss, so a format change only costs one reload per key.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactRedisSerializer.class);
+
+    static final int FORMAT_VERSION = 3;
+    static final int LZ4_FLAG = 0x10;
+
+    private static final int TAG_STRING = 1;
+    private static final int TAG_LIST = 2;
+    private static final int TAG_PRODUCT = 3;
+    private static final int TAG_CUSTOMER = 4;
+    private static final int TAG_ORDER = 5;
+    private static final int TAG_FALLBACK = 15;
+
+    private final RedisSerializer<Object> fallback;
+    private final Lz4Compression compression;
+
+    /**
+     * @param compressionThreshold bodies of at least this many bytes are LZ4 compressed; 0 disables
+     *                             compression
+     */
+    public CompactRedisSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.fallback = fallback;
+        this.compression = compressionThreshold > 0 ? new Lz4Compression(compressionThreshold) : null;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        CompactBinaryOutput out = new CompactBinaryOutput(128);
+        writeValue(out, value);
+        byte[] body = out.toByteArray();
+
+        byte[] compressed = compression != null ? compression.compress(body) : null;
+        byte[] payload = compressed != null ? compressed : body;
+        byte[] result = new byte[payload.length + 1];
+        result[0] = (byte) (FORMAT_VERSION | (compressed != null ? LZ4_FLAG : 0));
+        System.arraycopy(payload, 0, result, 1, payload.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int header = bytes[0] & 0xFF;
+        if ((header & 0x0F) != FORMAT_VERSION || (header & ~(0x0F | LZ4_FLAG)) != 0) {
+            logger.debug("Ignoring cache value with unknown header {}", header);
+            return null;
+        }
+        CompactBinaryInput in;
+        if ((header & LZ4_FLAG) != 0) {
+            in = new CompactBinaryInput(Lz4Compression.decompress(bytes, 1), 0);
+        } else {
+            in = new CompactBinaryInput(bytes, 1);
+        }
+        Object value = readValue(in);
+        if (in.hasRemaining()) {
+            throw new SerializationException("Trailing bytes after cache value");
+        }
+        return value;
+    }
+
+    private void writeValue(CompactBinaryOutput out, Object value) {
+        if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            out.writeString(string);
+        } else if (value instanceof Product product) {
+            out.writeByte(TAG_PRODUCT);
+            CompactCacheSchema.writeProduct(out, product);
+        } else if (value instanceof Customer customer) {
+            out.writeByte(TAG_CUSTOMER);
+            CompactCacheSchema.writeCustomer(out, customer);
+        } else if (value instanceof Order order) {
+            out.writeByte(TAG_ORDER);
+            CompactCacheSchema.writeOrder(out, order);
+        } else if (value instanceof List<?> list && list.stream().allMatch(CompactRedisSerializer::isCompact)) {
+            out.writeByte(TAG_LIST);
+            out.writeVarInt(list.size());
+            list.forEach(element -> writeValue(out, element));
+        } else {
+            out.writeByte(TAG_FALLBACK);
+            out.writeBytes(fallback.serialize(value));
+        }
+    }
+
+    private Object readValue(CompactBinaryInput in) {
+        int tag = in.readByte();
+        return switch (tag) {
+            case TAG_STRING -> in.readString();
+            case TAG_PRODUCT -> CompactCacheSchema.readProduct(in);
+            case TAG_CUSTOMER -> CompactCacheSchema.readCustomer(in);
+            case TAG_ORDER -> CompactCacheSchema.readOrder(in);
+            case TAG_LIST -> {
+                int size = in.readVarInt();
+                List<Object> list = new ArrayList<>(Math.min(size, 1024));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                yield Collections.unmodifiableList(list);
+            }
+            case TAG_FALLBACK -> fallback.deserialize(in.readRemaining());
+            default -> throw new SerializationException("Unknown cache value tag " + tag);
+        };
+    }
+
+    private static boolean isCompact(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().allMatch(CompactRedisSerializer::isCompact);
+        }
+        return value instanceof String || value instanceof Product || value instanceof Customer || value instanceof Order;
+    }
+}
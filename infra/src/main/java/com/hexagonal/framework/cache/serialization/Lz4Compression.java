@@ -0,0 +1,61 @@
+package com.hexagonal.framework.cache.serialization;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * LZ4 block compression of cache value bodies, written as the varint raw length followed by the
+ * compressed block. Small bodies and bodies that do not shrink are left as they are.
+ */
+final class Lz4Compression {
+
+    private static final LZ4Factory FACTORY = LZ4Factory.fastestInstance();
+    /** Upper bound for the raw length read from a value, so a corrupt header cannot allocate gigabytes */
+    private static final int MAX_RAW_LENGTH = 64 * 1024 * 1024;
+
+    private final LZ4Compressor compressor = FACTORY.fastCompressor();
+    private final int threshold;
+
+    Lz4Compression(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the compressed form, or null when the body is below the threshold or does not get smaller.
+     */
+    byte[] compress(byte[] body) {
+        if (body.length < threshold) {
+            return null;
+        }
+        byte[] block = compressor.compress(body);
+        CompactBinaryOutput out = new CompactBinaryOutput(block.length + 5);
+        out.writeVarInt(body.length);
+        out.writeBytes(block);
+        byte[] compressed = out.toByteArray();
+        return compressed.length < body.length ? compressed : null;
+    }
+
+    static byte[] decompress(byte[] bytes, int offset) {
+        CompactBinaryInput in = new CompactBinaryInput(bytes, offset);
+        int rawLength = in.readVarInt();
+        if (rawLength > MAX_RAW_LENGTH) {
+            throw new SerializationException("Compressed cache value is too large: " + rawLength);
+        }
+        byte[] block = in.readRemaining();
+        // The safe decompressor checks every offset against the input, which comes from outside the JVM
+        LZ4SafeDecompressor decompressor = FACTORY.safeDecompressor();
+        try {
+            byte[] raw = new byte[rawLength];
+            int length = decompressor.decompress(block, 0, block.length, raw, 0, rawLength);
+            if (length != rawLength) {
+                throw new SerializationException("Compressed cache value has the wrong length");
+            }
+            return raw;
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Corrupt LZ4 cache value", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hexagonal.framework.cart;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically writes the carts changed in the {@link WriteBehindCartRepositoryAdapter} to the store of
+ * record, so the store sees one write per changed cart and interval instead of one per click.
+ */
+public class CartFlusher {
+
+    private final WriteBehindCartRepositoryAdapter cartRepository;
+
+    public CartFlusher(WriteBehindCartRepositoryAdapter cartRepository) {
+        this.cartRepository = cartRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${cart.writeBehind.flushInterval:PT1S}", initialDelayString = "${cart.writeBehind.flushInterval:PT1S}")
+    public void flush() {
+        cartRepository.flush();
+    }
+}
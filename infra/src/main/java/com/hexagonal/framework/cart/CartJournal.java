@@ -0,0 +1,263 @@
+package com.hexagonal.framework.cart;
+
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.entity.CartItem;
+import com.hexagonal.domain.vo.CartStatus;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal of one cart shard on local disk.
+ *
+ * Every cart write is appended as a record {@code (length, payload, crc)} before it is acknowledged. A
+ * record holds the whole cart (or a deletion of it) rather than the change, so replaying a record that
+ * was already persisted is harmless and recovery never has to know where the last flush stopped.
+ * A cart always maps to the same shard, so its records are in write order within the shard's segments.
+ *
+ * The journal is split into segments: {@link #rotate()} closes the current segment before a flush; the
+ * segment file is deleted once the flush has persisted every cart written to it.
+ */
+final class CartJournal implements AutoCloseable {
+
+    static final String FILE_SUFFIX = ".wal";
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path directory;
+    private final int shard;
+    private final boolean fsync;
+    // Reused under the journal's lock
+    private final ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+    private final DataOutputStream out = new DataOutputStream(payload);
+    private final CRC32 crc = new CRC32();
+
+    private long segment;
+    private Path file;
+    private FileChannel channel;
+
+    CartJournal(Path directory, int shard, boolean fsync) {
+        this.directory = directory;
+        this.shard = shard;
+        this.fsync = fsync;
+        openSegment();
+    }
+
+    synchronized void put(Cart cart) {
+        payload.reset();
+        try {
+            out.writeByte(PUT);
+            writeId(cart.getId());
+            writeId(cart.getCustomerId());
+            out.writeUTF(cart.getStatus().name());
+            out.writeUTF(cart.getCreatedAt().toString());
+            out.writeUTF(cart.getUpdatedAt().toString());
+            out.writeInt(cart.getItems().size());
+            for (CartItem item : cart.getItems()) {
+                writeId(item.getProductId());
+                out.writeInt(item.getQuantity().getValue());
+                out.writeUTF(item.getUnitPrice().getAmount().toPlainString());
+                out.writeUTF(item.getUnitPrice().getCurrency().getCurrencyCode());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        append();
+    }
+
+    synchronized void delete(ID cartId) {
+        payload.reset();
+        try {
+            out.writeByte(DELETE);
+            writeId(cartId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        append();
+    }
+
+    /**
+     * Closes the current segment and returns its file; later records go to a new segment.
+     */
+    synchronized Path rotate() {
+        Path closed = file;
+        closeChannel();
+        segment++;
+        openSegment();
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeChannel();
+    }
+
+    /**
+     * Reads every segment left in {@code directory} and returns the last state per cart, empty for a
+     * deleted cart. A torn or corrupt record ends the segment it is in; the records before it are kept.
+     */
+    static Map<ID, Optional<Cart>> replay(Path directory) {
+        Map<ID, Optional<Cart>> carts = new LinkedHashMap<>();
+        for (Path segment : segments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+                CRC32 checksum = new CRC32();
+                while (true) {
+                    if (!read(channel, length.clear())) {
+                        break;
+                    }
+                    int size = length.flip().getInt();
+                    if (size <= 0 || size > channel.size()) {
+                        break;
+                    }
+                    ByteBuffer record = ByteBuffer.allocate(size + Integer.BYTES);
+                    if (!read(channel, record)) {
+                        break;
+                    }
+                    checksum.reset();
+                    checksum.update(record.array(), 0, size);
+                    if (record.flip().getInt(size) != (int) checksum.getValue()) {
+                        break;
+                    }
+                    DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.array(), 0, size));
+                    byte type = in.readByte();
+                    ID cartId = readId(in);
+                    carts.remove(cartId);
+                    carts.put(cartId, type == PUT ? Optional.of(readCart(cartId, in)) : Optional.empty());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot replay cart journal " + segment, e);
+            }
+        }
+        return carts;
+    }
+
+    /**
+     * Segment files in {@code directory}, in write order per shard.
+     */
+    static List<Path> segments(Path directory) {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "cart-*" + FILE_SUFFIX)) {
+            files.forEach(segments::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list cart journal " + directory, e);
+        }
+        segments.sort(Comparator.comparingLong((Path file) -> part(file, 1)).thenComparingLong(file -> part(file, 2)));
+        return segments;
+    }
+
+    static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete cart journal segment " + file, e);
+        }
+    }
+
+    private void append() {
+        byte[] bytes = payload.toByteArray();
+        crc.reset();
+        crc.update(bytes, 0, bytes.length);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES * 2 + bytes.length)
+            .putInt(bytes.length)
+            .put(bytes)
+            .putInt((int) crc.getValue())
+            .flip();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to cart journal " + file, e);
+        }
+    }
+
+    private void writeId(ID id) throws IOException {
+        UUID value = id.getValue();
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static ID readId(DataInputStream in) throws IOException {
+        return ID.of(new UUID(in.readLong(), in.readLong()));
+    }
+
+    private static Cart readCart(ID cartId, DataInputStream in) throws IOException {
+        ID customerId = readId(in);
+        CartStatus status = CartStatus.valueOf(in.readUTF());
+        LocalDateTime createdAt = LocalDateTime.parse(in.readUTF());
+        LocalDateTime updatedAt = LocalDateTime.parse(in.readUTF());
+        int count = in.readInt();
+        List<CartItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ID productId = readId(in);
+            Quantity quantity = Quantity.of(in.readInt());
+            Money unitPrice = Money.of(new BigDecimal(in.readUTF()), in.readUTF());
+            items.add(CartItem.create(productId, quantity, unitPrice));
+        }
+        return Cart.of(cartId, customerId, status, items, createdAt, updatedAt);
+    }
+
+    private static boolean read(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // read the whole buffer
+        }
+        return !buffer.hasRemaining();
+    }
+
+    // cart-<shard>-<segment>.wal
+    private static long part(Path file, int index) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - FILE_SUFFIX.length()).split("-")[index]);
+    }
+
+    private void openSegment() {
+        file = directory.resolve("cart-" + shard + "-" + segment + FILE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open cart journal " + file, e);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close cart journal " + file, e);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.hexagonal.framework.cart;
+
+import com.hexagonal.application.port.out.CartRepositoryPort;
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.framework.cache.CacheInvalidationBus;
+import com.hexagonal.framework.cache.CacheInvalidationBus.CacheInvalidation;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Cart repository that serves carts from memory and writes them to the store of record in the background.
+ *
+ * - Hot tier: the latest cart of every customer seen recently, keyed by customer id. Reads of a hot cart
+ *   never touch the store
+ * - Write-behind: a save is appended to the local journal of the cart's shard and applied to the hot tier,
+ *   then returns; the cart is queued for the next {@link #flush()}
+ * - Coalescing: a flush writes the latest state of every cart changed since the previous flush once, however
+ *   many times it was saved in between
+ * - Recovery: on startup, carts the journal still holds from a previous run are written to the store
+ *   before anything is served
+ *
+ * Carts are handed out as copies, so a caller changing a cart before saving it never changes what other
+ * readers see. Concurrent saves of one cart are last-writer-wins, as they are against the store.
+ *
+ * A customer's latest cart stays hot while it has unflushed changes; clean carts leave the hot tier after
+ * {@code idleTimeout} without reads or writes. As with the store adapters, only an active cart is returned
+ * by {@link #findByCustomerId(ID)}.
+ *
+ * The hot tier and the unflushed changes live in this JVM only, so with several nodes the load balancer
+ * must route every request of a customer to the same node (sticky by customer). Given a
+ * {@link CacheInvalidationBus}, every save and delete publishes the customer id under {@value #INVALIDATION_NAME},
+ * and the other nodes drop their clean hot copy of that customer's cart. This covers a customer moving to
+ * another node, e.g. after a failover or rebalancing; it does not make concurrent writers on two nodes safe:
+ * - The change reaches the store only with the writing node's next flush, so another node may read the
+ *   previous cart until then
+ * - A hot cart with unflushed changes is kept, and its flush overwrites the other node's change
+ *
+ * Reads served from memory count as hits of {@value #INVALIDATION_NAME} in the {@link CacheStatsRecorder},
+ * reads that go to the store as misses.
+ */
+public class WriteBehindCartRepositoryAdapter implements CartRepositoryPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindCartRepositoryAdapter.class);
+
+    /**
+     * Cache name of the hot tier's invalidations and statistics; the key is the customer id.
+     */
+    public static final String INVALIDATION_NAME = "cart-hot-tier";
+
+    private final CartRepositoryPort store;
+    private final Path journalDirectory;
+    private final CartJournal[] journals;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoTime;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheStatsRecorder stats;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentHashMap<ID, HotCart> hot = new ConcurrentHashMap<>();
+    // Cart id -> customer id of hot carts, for lookups by cart id
+    private final ConcurrentHashMap<ID, ID> customers = new ConcurrentHashMap<>();
+    // Unflushed writes by cart id; empty marks a deletion
+    private final ConcurrentHashMap<ID, Optional<Cart>> pending = new ConcurrentHashMap<>();
+    // Closed segments whose carts are not persisted yet, retried on the next flush
+    private final Deque<Path> unflushed = new ArrayDeque<>();
+    private final Object flushLock = new Object();
+
+    public WriteBehindCartRepositoryAdapter(CartRepositoryPort store, Path journalDirectory, int shards,
+                                            boolean fsync, Duration idleTimeout) {
+        this(store, journalDirectory, shards, fsync, idleTimeout, null);
+    }
+
+    /**
+     * @param invalidationBus bus shared with the other nodes, or null when this node runs alone
+     */
+    public WriteBehindCartRepositoryAdapter(CartRepositoryPort store, Path journalDirectory, int shards,
+                                            boolean fsync, Duration idleTimeout, CacheInvalidationBus invalidationBus) {
+        this(store, journalDirectory, shards, fsync, idleTimeout, invalidationBus, CacheStatsRecorder.NONE);
+    }
+
+    public WriteBehindCartRepositoryAdapter(CartRepositoryPort store, Path journalDirectory, int shards,
+                                            boolean fsync, Duration idleTimeout, CacheInvalidationBus invalidationBus,
+                                            CacheStatsRecorder stats) {
+        this(store, journalDirectory, shards, fsync, idleTimeout, invalidationBus, stats, System::nanoTime);
+    }
+
+    WriteBehindCartRepositoryAdapter(CartRepositoryPort store, Path journalDirectory, int shards, boolean fsync,
+                                     Duration idleTimeout, CacheInvalidationBus invalidationBus, LongSupplier nanoTime) {
+        this(store, journalDirectory, shards, fsync, idleTimeout, invalidationBus, CacheStatsRecorder.NONE, nanoTime);
+    }
+
+    WriteBehindCartRepositoryAdapter(CartRepositoryPort store, Path journalDirectory, int shards, boolean fsync,
+                                     Duration idleTimeout, CacheInvalidationBus invalidationBus, CacheStatsRecorder stats,
+                                     LongSupplier nanoTime) {
+        if (shards <= 0 || Integer.bitCount(shards) != 1) {
+            throw new IllegalArgumentException("Shard count must be a power of two");
+        }
+        this.store = store;
+        this.journalDirectory = journalDirectory;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoTime = nanoTime;
+        this.invalidationBus = invalidationBus;
+        this.stats = stats;
+        recover();
+        this.journals = new CartJournal[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            journals[shard] = new CartJournal(journalDirectory, shard, fsync);
+        }
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(this::onInvalidation);
+        }
+    }
+
+    @Override
+    public Cart save(Cart cart) {
+        Cart snapshot = copy(cart);
+        CartJournal journal = journal(cart.getCustomerId());
+        // Journal order, pending and hot tier change together, so the last journaled state is the one kept
+        synchronized (journal) {
+            journal.put(snapshot);
+            pending.put(snapshot.getId(), Optional.of(snapshot));
+            customers.put(snapshot.getId(), snapshot.getCustomerId());
+            HotCart previous = hot.put(snapshot.getCustomerId(), new HotCart(snapshot.getId(), snapshot, nanoTime.getAsLong()));
+            if (previous != null && !previous.cartId().equals(snapshot.getId())) {
+                // The customer's previous cart is now only reachable through pending or the store
+                customers.remove(previous.cartId(), snapshot.getCustomerId());
+            }
+        }
+        publish(snapshot.getCustomerId());
+        return copy(snapshot);
+    }
+
+    @Override
+    public Optional<Cart> findById(ID id) {
+        Optional<Cart> unflushed = pending.get(id);
+        if (unflushed != null) {
+            stats.hit(INVALIDATION_NAME, id);
+            return unflushed.map(WriteBehindCartRepositoryAdapter::copy);
+        }
+        ID customerId = customers.get(id);
+        HotCart cached = customerId == null ? null : hot.get(customerId);
+        if (cached != null && cached.cartId().equals(id)) {
+            stats.hit(INVALIDATION_NAME, customerId);
+            return Optional.ofNullable(touch(customerId, cached).cart()).map(WriteBehindCartRepositoryAdapter::copy);
+        }
+        stats.miss(INVALIDATION_NAME, id);
+        return store.findById(id);
+    }
+
+    @Override
+    public Optional<Cart> findByCustomerId(ID customerId) {
+        HotCart cached = hot.get(customerId);
+        if (cached != null) {
+            stats.hit(INVALIDATION_NAME, customerId);
+            Cart cart = touch(customerId, cached).cart();
+            return cart != null && cart.isActive() ? Optional.of(copy(cart)) : Optional.empty();
+        }
+        stats.miss(INVALIDATION_NAME, customerId);
+        Optional<Cart> loaded = store.findByCustomerId(customerId);
+        loaded.ifPresent(cart -> {
+            Cart snapshot = copy(cart);
+            if (hot.putIfAbsent(customerId, new HotCart(snapshot.getId(), snapshot, nanoTime.getAsLong())) == null) {
+                customers.put(snapshot.getId(), customerId);
+            }
+        });
+        return loaded;
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        Optional<Cart> known = findById(id);
+        if (known.isEmpty()) {
+            return;
+        }
+        ID customerId = known.get().getCustomerId();
+        CartJournal journal = journal(customerId);
+        synchronized (journal) {
+            journal.delete(id);
+            pending.put(id, Optional.empty());
+            hot.computeIfPresent(customerId, (customer, cached) ->
+                cached.cartId().equals(id) ? new HotCart(id, null, nanoTime.getAsLong()) : cached);
+        }
+        publish(customerId);
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Writes every cart changed since the previous flush to the store, then drops clean carts that have been
+     * idle for longer than the idle timeout. If the store fails, the journal segments stay on disk and the
+     * carts not written yet are retried with the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            for (CartJournal journal : journals) {
+                unflushed.add(journal.rotate());
+            }
+            Map<ID, Optional<Cart>> changes = new HashMap<>(pending);
+            try {
+                changes.forEach((cartId, change) -> {
+                    if (change.isPresent()) {
+                        store.save(change.get());
+                    } else {
+                        store.deleteById(cartId);
+                    }
+                    // A save that came in meanwhile stays pending for the next flush
+                    pending.remove(cartId, change);
+                });
+            } catch (RuntimeException e) {
+                logger.warn("Cart flush failed, {} carts will be retried", pending.size(), e);
+                return;
+            }
+            while (!unflushed.isEmpty()) {
+                CartJournal.delete(unflushed.poll());
+            }
+            evictIdle();
+        }
+    }
+
+    /**
+     * Flushes what is left and closes the journals.
+     */
+    @Override
+    public void close() {
+        flush();
+        for (CartJournal journal : journals) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Number of carts in the hot tier.
+     */
+    public int hotCarts() {
+        return hot.size();
+    }
+
+    /**
+     * Number of carts written since the last successful flush.
+     */
+    public int pendingCarts() {
+        return pending.size();
+    }
+
+    private void recover() {
+        Map<ID, Optional<Cart>> carts = CartJournal.replay(journalDirectory);
+        if (!carts.isEmpty()) {
+            logger.info("Recovering {} carts from the journal", carts.size());
+            carts.forEach((cartId, cart) -> {
+                if (cart.isPresent()) {
+                    store.save(cart.get());
+                } else {
+                    store.deleteById(cartId);
+                }
+            });
+        }
+        CartJournal.segments(journalDirectory).forEach(CartJournal::delete);
+    }
+
+    private void publish(ID customerId) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(new CacheInvalidation(nodeId, INVALIDATION_NAME, customerId.getValue().toString()));
+        }
+    }
+
+    /**
+     * Drops the clean hot carts another node changed; they are read from the store again on the next lookup.
+     */
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!INVALIDATION_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.clearsAll()) {
+            hot.keySet().forEach(this::evictClean);
+        } else {
+            evictClean(ID.of(invalidation.key()));
+        }
+    }
+
+    private void evictClean(ID customerId) {
+        synchronized (journal(customerId)) {
+            HotCart cached = hot.get(customerId);
+            if (cached != null && !pending.containsKey(cached.cartId()) && hot.remove(customerId, cached)) {
+                customers.remove(cached.cartId(), customerId);
+            }
+        }
+    }
+
+    private void evictIdle() {
+        long now = nanoTime.getAsLong();
+        hot.forEach((customerId, cached) -> {
+            if (now - cached.touchedAt() >= idleTimeoutNanos && !pending.containsKey(cached.cartId())
+                    && hot.remove(customerId, cached)) {
+                customers.remove(cached.cartId(), customerId);
+            }
+        });
+    }
+
+    private HotCart touch(ID customerId, HotCart cached) {
+        // Refreshed only once a second has passed, so hot reads do not write to the map every time
+        long now = nanoTime.getAsLong();
+        if (now - cached.touchedAt() >= 1_000_000_000L) {
+            hot.replace(customerId, cached, new HotCart(cached.cartId(), cached.cart(), now));
+        }
+        return cached;
+    }
+
+    private CartJournal journal(ID customerId) {
+        return journals[customerId.getValue().hashCode() & (journals.length - 1)];
+    }
+
+    private static Cart copy(Cart cart) {
+        return Cart.of(cart.getId(), cart.getCustomerId(), cart.getStatus(), cart.getItems(),
+            cart.getCreatedAt(), cart.getUpdatedAt());
+    }
+
+    /**
+     * The latest cart of a customer; cart is null once it was deleted.
+     */
+    private record HotCart(ID cartId, Cart cart, long touchedAt) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.hexagonal.framework.catalog;
+
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory materialized orderings of the active catalog, one per {@link CatalogViewPort.SortKey}.
+ *
+ * Each ordering is a sorted set that is updated in O(log n) when a product or its popularity changes.
+ * Reads are served from an array snapshot of that set: a valid snapshot is read without locking, and a
+ * write only invalidates the snapshots of the orderings it actually moved, which are re-materialized
+ * once on the next read. A sorted page is therefore a slice of an array instead of a sort per request.
+ *
+ * Each ordering only looks at its own sort fields, so an entry stored in one ordering may carry stale
+ * values for the other fields; {@code entries} always holds the current values for all of them.
+ *
+ * Scope: single node. The orderings are built at startup and moved by the product, stock and popularity
+ * changes of this node only; stock sold through another node does not take a product out of the active
+ * catalog here (see SearchConfiguration).
+ */
+public class SortedCatalogViewAdapter implements CatalogViewPort {
+
+    private static final Comparator<Entry> BY_ID = Comparator.comparing(entry -> entry.id().getValue());
+    private static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::name).thenComparing(BY_ID);
+
+    private static final SortKey[] SORT_KEYS = SortKey.values();
+
+    private final Map<ID, Entry> entries = new HashMap<>();
+    private final Map<ID, Long> popularity = new HashMap<>();
+    private final Map<SortKey, NavigableSet<Entry>> orderings = new EnumMap<>(SortKey.class);
+    private final AtomicReferenceArray<ID[]> snapshots = new AtomicReferenceArray<>(SORT_KEYS.length);
+    private volatile boolean built;
+
+    public SortedCatalogViewAdapter() {
+        orderings.put(SortKey.PRICE, new TreeSet<>(Comparator.comparing(Entry::price).thenComparing(BY_ID)));
+        orderings.put(SortKey.NAME, new TreeSet<>(BY_NAME));
+        orderings.put(SortKey.POPULARITY, new TreeSet<>(Comparator.comparingLong(Entry::popularity).thenComparing(BY_NAME)));
+    }
+
+    @Override
+    public List<ID> slice(SortKey sortKey, boolean descending, int offset, int limit) {
+        ID[] ordered = snapshot(sortKey);
+        int from = Math.min(offset, ordered.length);
+        int to = (int) Math.min((long) offset + limit, ordered.length);
+        if (from >= to) {
+            return List.of();
+        }
+
+        ID[] page = new ID[to - from];
+        for (int i = 0; i < page.length; i++) {
+            page[i] = descending ? ordered[ordered.length - 1 - from - i] : ordered[from + i];
+        }
+        return List.of(page);
+    }
+
+    @Override
+    public synchronized void index(Product product) {
+        if (product == null) return;
+        if (!product.isActive()) {
+            removeInternal(product.getId());
+            return;
+        }
+
+        Entry previous = entries.get(product.getId());
+        Entry current = new Entry(product.getId(), product.getPrice().getAmount(), product.getName(),
+                popularity.getOrDefault(product.getId(), 0L));
+        if (current.equals(previous)) {
+            return;
+        }
+        for (SortKey sortKey : SORT_KEYS) {
+            NavigableSet<Entry> ordering = orderings.get(sortKey);
+            // Same position in this ordering: nothing to move, snapshot stays valid
+            if (previous != null && ordering.comparator().compare(previous, current) == 0) {
+                continue;
+            }
+            if (previous != null) {
+                ordering.remove(previous);
+            }
+            ordering.add(current);
+            snapshots.set(sortKey.ordinal(), null);
+        }
+        entries.put(current.id(), current);
+    }
+
+    @Override
+    public synchronized void remove(ID productId) {
+        if (productId == null) return;
+        removeInternal(productId);
+    }
+
+    @Override
+    public synchronized void updatePopularity(Map<ID, Long> scores) {
+        if (scores == null) return;
+
+        NavigableSet<Entry> ordering = orderings.get(SortKey.POPULARITY);
+        boolean moved = false;
+        for (Map.Entry<ID, Long> score : scores.entrySet()) {
+            Long previousScore = popularity.put(score.getKey(), score.getValue());
+            Entry previous = entries.get(score.getKey());
+            if (previous == null || score.getValue().equals(previousScore)) {
+                continue;
+            }
+            Entry current = new Entry(previous.id(), previous.price(), previous.name(), score.getValue());
+            ordering.remove(previous);
+            ordering.add(current);
+            entries.put(current.id(), current);
+            moved = true;
+        }
+        if (moved) {
+            snapshots.set(SortKey.POPULARITY.ordinal(), null);
+        }
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Product> products) {
+        entries.clear();
+        orderings.values().forEach(NavigableSet::clear);
+        for (int i = 0; i < SORT_KEYS.length; i++) {
+            snapshots.set(i, null);
+        }
+        if (products != null) {
+            products.forEach(this::index);
+        }
+        built = true;
+    }
+
+    @Override
+    public boolean isBuilt() {
+        return built;
+    }
+
+    private void removeInternal(ID productId) {
+        Entry previous = entries.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (SortKey sortKey : SORT_KEYS) {
+            orderings.get(sortKey).remove(previous);
+            snapshots.set(sortKey.ordinal(), null);
+        }
+    }
+
+    private ID[] snapshot(SortKey sortKey) {
+        ID[] ordered = snapshots.get(sortKey.ordinal());
+        if (ordered != null) {
+            return ordered;
+        }
+        synchronized (this) {
+            ordered = snapshots.get(sortKey.ordinal());
+            if (ordered == null) {
+                ordered = orderings.get(sortKey).stream().map(Entry::id).toArray(ID[]::new);
+                snapshots.set(sortKey.ordinal(), ordered);
+            }
+            return ordered;
+        }
+    }
+
+    private record Entry(ID id, BigDecimal price, String name, long popularity) {
+    }
+}
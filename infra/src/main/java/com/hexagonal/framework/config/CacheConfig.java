@@ -1,26 +1,43 @@
 package com.hexagonal.framework.config;
 
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.CacheRefreshLoader;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import com.hexagonal.framework.cache.CaffeineCacheBuilder;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
+import com.hexagonal.framework.cache.serialization.CompactRedisSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Cache Configuration
  * 
  * In-Memory Cache: Spring Boot built-in cache (ConcurrentMapCacheManager)
+ * Caffeine Cache: Bounded in-memory caches with per-cache size, TTL and refresh (spring.cache.type=caffeine)
  * Redis Cache: For future use when Redis is available
+ * Near Cache: Caffeine L1 per node in front of Redis, invalidated over pub/sub (see NearCacheConfig)
  * 
  * To use Redis in the future:
  * 1. Set spring.cache.type=redis in application.yaml
@@ -31,6 +48,8 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
+    static final List<String> CACHE_NAMES = List.of("products", "customers", "categories", "orders");
+
     /**
      * In-Memory Cache Manager (Default)
      * Used when Redis is not configured
@@ -40,17 +59,43 @@ public class CacheConfig {
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "simple", matchIfMissing = true)
     public CacheManager inMemoryCacheManager() {
         ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-            "products",
-            "customers",
-            "categories",
-            "orders",
-            "carts"
-        ));
+        cacheManager.setCacheNames(CACHE_NAMES);
         cacheManager.setAllowNullValues(false);
         return cacheManager;
     }
 
+    /**
+     * Caffeine Cache Manager
+     * Activated when spring.cache.type=caffeine
+     *
+     * Each cache is built from the Caffeine specification in cache.caffeine.<name>, falling back to
+     * cache.caffeine.default, e.g. maximumSize=10000,expireAfterWrite=1h. Caches that set
+     * refreshAfterWrite need a CacheRefreshLoader bean for their name.
+     *
+     * Statistics are always recorded; the actuator binds every cache of this manager to Micrometer as
+     * cache.gets (hit/miss), cache.puts, cache.evictions and cache.size, tagged with the cache name.
+     * Removals are also reported with their cause to the CacheStatsRecorder (richbank.cache.removals).
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine")
+    public CacheManager caffeineCacheManager(Environment environment, ObjectProvider<CacheRefreshLoader> refreshLoaders,
+                                             CacheStatsRecorder cacheStatsRecorder) {
+        Map<String, CacheRefreshLoader> loaders = refreshLoaders.orderedStream()
+            .collect(Collectors.toMap(CacheRefreshLoader::cacheName, Function.identity()));
+        String defaultSpec = environment.getProperty("cache.caffeine.default", "maximumSize=10000,expireAfterWrite=1h");
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        for (String cacheName : CACHE_NAMES) {
+            String spec = environment.getProperty("cache.caffeine." + cacheName, defaultSpec);
+            cacheManager.registerCustomCache(cacheName, CaffeineCacheBuilder.build(cacheName, spec, loaders.get(cacheName), cacheStatsRecorder));
+        }
+        // Only the configured caches exist; unknown names are not created on the fly
+        cacheManager.setCacheNames(List.of());
+        return cacheManager;
+    }
+
     /**
      * Redis Cache Manager (For future use)
      * Activated when spring.cache.type=redis
@@ -69,11 +114,11 @@ public class CacheConfig {
      */
     @Bean
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory, RedisSerializer<Object> cacheValueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofHours(1))
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer))
             .disableCachingNullValues();
 
         return RedisCacheManager.builder(connectionFactory)
@@ -82,9 +127,52 @@ public class CacheConfig {
             .withCacheConfiguration("customers", config.entryTtl(Duration.ofHours(1)))
             .withCacheConfiguration("categories", config.entryTtl(Duration.ofDays(1)))
             .withCacheConfiguration("orders", config.entryTtl(Duration.ofMinutes(30)))
-            .withCacheConfiguration("carts", config.entryTtl(Duration.ofMinutes(15)))
             .transactionAware()
             .build();
     }
-}
 
+    /**
+     * Read-through loading for the persistence adapters' caches
+     * Concurrent misses of a key share one load; entries older than cache.load.freshFor are served while
+     * one background load replaces them, and hot entries are refreshed early with a probability scaled by
+     * cache.load.earlyRefreshBeta (0 = only after freshFor). Hits, misses and load times go to the
+     * CacheStatsRecorder
+     */
+    @Bean(destroyMethod = "close")
+    public SingleFlightCacheLoader singleFlightCacheLoader(
+            @Value("${cache.load.freshFor:PT5M}") Duration freshFor,
+            @Value("${cache.load.earlyRefreshBeta:1.0}") double earlyRefreshBeta,
+            @Value("${cache.load.refreshThreads:2}") int refreshThreads,
+            @Value("${cache.load.maxTrackedKeys:100000}") long maxTrackedKeys,
+            CacheStatsRecorder cacheStatsRecorder) {
+        return new SingleFlightCacheLoader(freshFor, earlyRefreshBeta, refreshThreads, maxTrackedKeys, cacheStatsRecorder);
+    }
+
+    /**
+     * Bulk reads of the Spring caches for the cache ports
+     * One getAllPresent on Caffeine caches, one MGET on Redis caches (the connection factory is only used for
+     * those), the local tier first on near caches
+     */
+    @Bean
+    public CacheMultiGet cacheMultiGet(ObjectProvider<RedisConnectionFactory> connectionFactory) {
+        return new CacheMultiGet(connectionFactory.getIfAvailable());
+    }
+
+    /**
+     * Redis cache value serializer
+     * cache.redis.serializer=compact (default): binary layout for products, customers and orders, JSON for
+     * anything else; bodies of at least cache.redis.compressionThreshold bytes are LZ4 compressed (0 = off)
+     * cache.redis.serializer=json: GenericJackson2JsonRedisSerializer for every value
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public RedisSerializer<Object> cacheValueSerializer(@Value("${cache.redis.serializer:compact}") String serializer,
+                                                        @Value("${cache.redis.compressionThreshold:512}") int compressionThreshold) {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        return switch (serializer) {
+            case "compact" -> new CompactRedisSerializer(json, compressionThreshold);
+            case "json" -> json;
+            default -> throw new IllegalArgumentException("Unknown cache.redis.serializer: " + serializer);
+        };
+    }
+}
@@ -1,8 +1,18 @@
 package com.hexagonal.framework.config;
 
 import com.hexagonal.application.port.out.CategoryCachePort;
+import com.hexagonal.application.port.out.CustomerCachePort;
+import com.hexagonal.application.port.out.OrderCachePort;
+import com.hexagonal.application.port.out.ProductCachePort;
+import com.hexagonal.framework.adapter.output.persistence.CustomerCachePortAdapter;
+import com.hexagonal.framework.adapter.output.persistence.OrderCachePortAdapter;
+import com.hexagonal.framework.adapter.output.persistence.ProductCachePortAdapter;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
 import com.hexagonal.framework.cache.CaffeineCategoryCacheAdapter;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,8 +22,37 @@ public class CacheConfiguration {
     @Bean
     public CategoryCachePort categoryCachePort(
             @Value("${cache.category.ttlSeconds:300}") long ttlSeconds,
-            @Value("${cache.category.maxSize:1000}") long maxSize
+            @Value("${cache.category.maxSize:1000}") long maxSize,
+            CacheStatsRecorder cacheStatsRecorder
     ) {
-        return new CaffeineCategoryCacheAdapter(ttlSeconds, maxSize);
+        return new CaffeineCategoryCacheAdapter(ttlSeconds, maxSize, cacheStatsRecorder);
+    }
+
+    /**
+     * The product, customer and order cache ports read and fill the {@code products}, {@code customers} and
+     * {@code orders} caches of the persistence adapters, so they follow spring.cache.type and every write.
+     * Their bulk reads are one multi-get: Caffeine getAllPresent locally, MGET on Redis.
+     */
+    @Bean
+    public ProductCachePort productCachePort(CacheManager cacheManager,
+                                             SingleFlightCacheLoader cacheLoader,
+                                             CacheMultiGet cacheMultiGet,
+                                             CacheStatsRecorder cacheStatsRecorder) {
+        return new ProductCachePortAdapter(cacheManager, cacheLoader, cacheMultiGet, cacheStatsRecorder);
+    }
+
+    @Bean
+    public CustomerCachePort customerCachePort(CacheManager cacheManager,
+                                               SingleFlightCacheLoader cacheLoader,
+                                               CacheMultiGet cacheMultiGet,
+                                               CacheStatsRecorder cacheStatsRecorder) {
+        return new CustomerCachePortAdapter(cacheManager, cacheLoader, cacheMultiGet, cacheStatsRecorder);
+    }
+
+    @Bean
+    public OrderCachePort orderCachePort(CacheManager cacheManager,
+                                         CacheMultiGet cacheMultiGet,
+                                         CacheStatsRecorder cacheStatsRecorder) {
+        return new OrderCachePortAdapter(cacheManager, cacheMultiGet, cacheStatsRecorder);
     }
 }
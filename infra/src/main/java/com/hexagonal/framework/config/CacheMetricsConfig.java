@@ -0,0 +1,70 @@
+package com.hexagonal.framework.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hexagonal.application.port.out.CategoryCachePort;
+import com.hexagonal.framework.cache.CaffeineCategoryCacheAdapter;
+import com.hexagonal.framework.crosscutting.metric.CacheHotKeysEndpoint;
+import com.hexagonal.framework.crosscutting.metric.MetricsRegistry;
+import com.hexagonal.framework.crosscutting.metric.MicrometerCacheStatsRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Cache Metrics Configuration
+ *
+ * Every cache reports hits, misses, read-through load times and removal causes to one
+ * MicrometerCacheStatsRecorder, published as richbank.cache.* with a cache tag:
+ * - Spring caches (products, customers, ...): read-through hits, misses and load times from the
+ *   SingleFlightCacheLoader; removals from the Caffeine caches of spring.cache.type=caffeine
+ * - Cache ports: hits and misses per id; the product, customer and order ports report under products,
+ *   customers and orders, the category port under categories-port
+ * - Cart hot tier: hits, misses and size under cart-hot-tier (see CartWriteBehindConfiguration)
+ *
+ * richbank.cache.size is registered for the local caches once the context has started. The
+ * cachehotkeys actuator endpoint lists the cache.metrics.hotKeys.limit hottest keys per cache, counted
+ * over cache.metrics.hotKeys.capacity keys per cache from one in cache.metrics.hotKeys.sampleRate reads.
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public MicrometerCacheStatsRecorder cacheStatsRecorder(MetricsRegistry metricsRegistry,
+                                                           @Value("${cache.metrics.hotKeys.capacity:200}") int capacity,
+                                                           @Value("${cache.metrics.hotKeys.sampleRate:16}") int sampleRate) {
+        return new MicrometerCacheStatsRecorder(metricsRegistry, capacity, sampleRate);
+    }
+
+    @Bean
+    public CacheHotKeysEndpoint cacheHotKeysEndpoint(MicrometerCacheStatsRecorder cacheStatsRecorder,
+                                                     @Value("${cache.metrics.hotKeys.limit:20}") int limit) {
+        return new CacheHotKeysEndpoint(cacheStatsRecorder, limit);
+    }
+
+    /**
+     * Size gauges for the primary cache manager's local caches and the category cache port. Redis caches
+     * are left out; their size would cost a round trip per scrape.
+     */
+    @Bean
+    public ApplicationRunner cacheSizeMetrics(MicrometerCacheStatsRecorder cacheStatsRecorder,
+                                              CacheManager cacheManager,
+                                              CategoryCachePort categoryCache) {
+        return args -> {
+            for (String cacheName : cacheManager.getCacheNames()) {
+                Object nativeCache = cacheManager.getCache(cacheName).getNativeCache();
+                if (nativeCache instanceof Cache<?, ?> caffeine) {
+                    cacheStatsRecorder.registerSize(cacheName, caffeine::estimatedSize);
+                } else if (nativeCache instanceof Map<?, ?> map) {
+                    cacheStatsRecorder.registerSize(cacheName, map::size);
+                }
+            }
+            if (categoryCache instanceof CaffeineCategoryCacheAdapter adapter) {
+                cacheStatsRecorder.registerSize(CaffeineCategoryCacheAdapter.CACHE_NAME, adapter::estimatedSize);
+            }
+        };
+    }
+}
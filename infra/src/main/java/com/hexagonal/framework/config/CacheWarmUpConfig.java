@@ -0,0 +1,83 @@
+package com.hexagonal.framework.config;
+
+import com.hexagonal.application.port.out.CategoryCachePort;
+import com.hexagonal.application.port.out.CategoryRepositoryPort;
+import com.hexagonal.application.port.out.CustomerRepositoryPort;
+import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.framework.adapter.output.persistence.CustomerCache;
+import com.hexagonal.framework.adapter.output.persistence.ProductCache;
+import com.hexagonal.framework.cache.CacheWarmUp;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cache warm-up on startup
+ * Activated unless cache.warmup.enabled=false
+ *
+ * Preloads categories, all products and the cache.warmup.recentCustomers most recently updated customers
+ * into the Spring caches and the category cache port, in batches of cache.warmup.batchSize on
+ * cache.warmup.threads threads. The cacheWarmUp health contributor is part of the readiness group
+ * (management.endpoint.health.group.readiness), so the node reports not-ready until warm-up finishes or
+ * cache.warmup.deadline has passed. The contributor exists even when warm-up is disabled and then reports UP,
+ * since the readiness group names it and Spring Boot rejects groups with unknown members at startup.
+ */
+@Configuration
+public class CacheWarmUpConfig {
+
+    private static final String ENABLED = "cache.warmup.enabled";
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true", matchIfMissing = true)
+    public CacheWarmUp cacheWarmUp(@Value("${cache.warmup.deadline:PT2M}") Duration deadline,
+                                   @Value("${cache.warmup.batchSize:500}") int batchSize,
+                                   @Value("${cache.warmup.threads:4}") int threads,
+                                   @Value("${cache.warmup.recentCustomers:10000}") int recentCustomers,
+                                   CacheManager cacheManager,
+                                   ObjectProvider<CategoryRepositoryPort> categoryRepository,
+                                   ObjectProvider<ProductRepositoryPort> productRepository,
+                                   ObjectProvider<CustomerRepositoryPort> customerRepository,
+                                   CategoryCachePort categoryCache) {
+        CacheWarmUp warmUp = new CacheWarmUp(deadline, batchSize, threads);
+        categoryRepository.ifAvailable(repository ->
+            warmUp.load("categories", repository::findAll, categoryCache::putAll));
+        productRepository.ifAvailable(repository ->
+            warmUp.loadInBatches("products", repository::findAll, batch -> ProductCache.preload(cacheManager, batch)));
+        customerRepository.ifAvailable(repository ->
+            warmUp.loadInBatches("customers", () -> repository.findRecentlyUpdated(recentCustomers),
+                batch -> CustomerCache.preload(cacheManager, batch)));
+        return warmUp;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner cacheWarmUpRunner(CacheWarmUp cacheWarmUp) {
+        return args -> cacheWarmUp.start();
+    }
+
+    /**
+     * OUT_OF_SERVICE while the caches are warming, UP once warm-up finished or its deadline passed, or when
+     * warm-up is disabled.
+     */
+    @Bean
+    public HealthIndicator cacheWarmUpHealthIndicator(ObjectProvider<CacheWarmUp> cacheWarmUpProvider) {
+        return () -> {
+            CacheWarmUp cacheWarmUp = cacheWarmUpProvider.getIfAvailable();
+            if (cacheWarmUp == null) {
+                return Health.up().withDetail("state", "DISABLED").build();
+            }
+            return (cacheWarmUp.isReady() ? Health.up() : Health.outOfService())
+                .withDetail("state", cacheWarmUp.state())
+                .withDetail("loaded", cacheWarmUp.loaded())
+                .build();
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.hexagonal.framework.config;
+
+import com.hexagonal.application.port.out.CartRepositoryPort;
+import com.hexagonal.framework.adapter.output.persistence.h2.CartH2Adapter;
+import com.hexagonal.framework.adapter.output.persistence.mongodb.CartMongoAdapter;
+import com.hexagonal.framework.cache.CacheInvalidationBus;
+import com.hexagonal.framework.cart.CartFlusher;
+import com.hexagonal.framework.cart.WriteBehindCartRepositoryAdapter;
+import com.hexagonal.framework.crosscutting.metric.MetricsRegistry;
+import com.hexagonal.framework.crosscutting.metric.MicrometerCacheStatsRecorder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Write-behind cart repository, enabled unless {@code cart.writeBehind.enabled=false}.
+ * The write-behind repository becomes the primary {@link CartRepositoryPort}; the Mongo adapter (when
+ * spring.data.mongodb.uri is set) or the H2 adapter stays the store of record behind it.
+ *
+ * The hot tier is per node, so several nodes need sticky routing by customer. When the near cache's
+ * invalidation bus exists (cache.near.enabled=true with spring.cache.type=redis), cart saves are published
+ * on it and the other nodes drop their hot copy.
+ *
+ * The hot tier reports hits and misses under the cart-hot-tier cache, its size as richbank.cache.size and the
+ * carts waiting for the next flush as richbank.cart.pending.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "cart.writeBehind.enabled", havingValue = "true", matchIfMissing = true)
+public class CartWriteBehindConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public WriteBehindCartRepositoryAdapter writeBehindCartRepositoryPort(
+            ObjectProvider<CartMongoAdapter> mongoStore,
+            CartH2Adapter h2Store,
+            ObjectProvider<CacheInvalidationBus> invalidationBus,
+            MicrometerCacheStatsRecorder cacheStatsRecorder,
+            MetricsRegistry metricsRegistry,
+            @Value("${cart.writeBehind.journalDir:data/cart-journal}") String journalDir,
+            @Value("${cart.writeBehind.shards:16}") int shards,
+            @Value("${cart.writeBehind.fsync:false}") boolean fsync,
+            @Value("${cart.writeBehind.idleTimeout:PT30M}") Duration idleTimeout
+    ) {
+        CartRepositoryPort store = mongoStore.getIfAvailable(() -> h2Store);
+        WriteBehindCartRepositoryAdapter repository = new WriteBehindCartRepositoryAdapter(store, Path.of(journalDir),
+            shards, fsync, idleTimeout, invalidationBus.getIfAvailable(), cacheStatsRecorder);
+        cacheStatsRecorder.registerSize(WriteBehindCartRepositoryAdapter.INVALIDATION_NAME, repository::hotCarts);
+        metricsRegistry.recordGauge("richbank.cart.pending", repository::pendingCarts);
+        return repository;
+    }
+
+    @Bean
+    public CartFlusher cartFlusher(WriteBehindCartRepositoryAdapter writeBehindCartRepositoryPort) {
+        return new CartFlusher(writeBehindCartRepositoryPort);
+    }
+}
@@ -0,0 +1,67 @@
+package com.hexagonal.framework.config;
+
+import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.framework.adapter.output.persistence.h2.ProductH2Adapter;
+import com.hexagonal.framework.inventory.LedgerProductRepositoryAdapter;
+import com.hexagonal.framework.inventory.StockLedger;
+import com.hexagonal.framework.inventory.StockLedgerFlusher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+/**
+ * Optional in-memory stock ledger for flash-sale traffic, enabled with {@code inventory.ledger.enabled=true}.
+ * The ledger's repository becomes the primary {@link ProductRepositoryPort}; the H2 adapter stays the
+ * store of record behind it.
+ *
+ * The ledger flushes absolute stock values and never re-reads a product it has loaded, so it must be the
+ * only writer of stock: a second node, or any stock write that does not go through this node's
+ * repository, would be overwritten by the next flush. Startup therefore fails when the configuration
+ * points at a shared deployment: a MongoDB store ({@code spring.data.mongodb.uri}) or the shared Redis
+ * caches ({@code spring.cache.type=redis}).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "inventory.ledger.enabled", havingValue = "true")
+public class InventoryLedgerConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public StockLedger stockLedger(
+            ProductH2Adapter productStore,
+            @Value("${inventory.ledger.journalDir:data/stock-journal}") String journalDir,
+            @Value("${inventory.ledger.shards:16}") int shards,
+            @Value("${inventory.ledger.fsync:false}") boolean fsync,
+            Environment environment
+    ) {
+        requireSingleOwner(environment);
+        return new StockLedger(StockLedger.StockStore.of(productStore), Path.of(journalDir), shards, fsync);
+    }
+
+    @Bean
+    @Primary
+    public ProductRepositoryPort ledgerProductRepositoryPort(ProductH2Adapter productStore, StockLedger stockLedger) {
+        return new LedgerProductRepositoryAdapter(productStore, stockLedger);
+    }
+
+    private static void requireSingleOwner(Environment environment) {
+        if (environment.containsProperty("spring.data.mongodb.uri")) {
+            throw new IllegalStateException(
+                "inventory.ledger.enabled requires the H2 product store; unset spring.data.mongodb.uri or disable the ledger");
+        }
+        if ("redis".equals(environment.getProperty("spring.cache.type"))) {
+            throw new IllegalStateException(
+                "inventory.ledger.enabled supports a single node only; spring.cache.type=redis indicates several nodes");
+        }
+    }
+
+    @Bean
+    public StockLedgerFlusher stockLedgerFlusher(StockLedger stockLedger) {
+        return new StockLedgerFlusher(stockLedger);
+    }
+}
@@ -0,0 +1,73 @@
+package com.hexagonal.framework.config;
+
+import com.hexagonal.framework.cache.CacheInvalidationBus;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import com.hexagonal.framework.cache.CaffeineCacheBuilder;
+import com.hexagonal.framework.cache.RedisCacheInvalidationBus;
+import com.hexagonal.framework.cache.TwoTierCacheManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Near Cache Configuration
+ * Activated when spring.cache.type=redis and cache.near.enabled=true
+ *
+ * Every node keeps a small Caffeine cache (L1) in front of the Redis caches (L2), so hot product and
+ * customer reads do not leave the JVM. Writes and evictions go to Redis and are broadcast on the
+ * cache.near.channel pub/sub channel; the other nodes drop the key from their L1.
+ *
+ * L1 caches are built from cache.near.l1.<name>, falling back to cache.near.l1.default. Pub/sub does not
+ * redeliver missed messages, so the L1 TTL bounds how long a node can serve a value changed elsewhere.
+ * L1 removals are reported to the CacheStatsRecorder as <name>-l1.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true")
+public class NearCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                                     RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                     @Value("${cache.near.channel:richbank:cache-invalidation}") String channel) {
+        return new RedisCacheInvalidationBus(redisTemplate, cacheInvalidationListenerContainer, channel);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public CacheManager nearCacheManager(Environment environment,
+                                         @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+                                         CacheInvalidationBus cacheInvalidationBus,
+                                         CacheStatsRecorder cacheStatsRecorder) {
+        String defaultSpec = environment.getProperty("cache.near.l1.default", "maximumSize=10000,expireAfterWrite=1m");
+
+        Map<String, Cache> localCaches = new LinkedHashMap<>();
+        for (String cacheName : CacheConfig.CACHE_NAMES) {
+            String spec = environment.getProperty("cache.near.l1." + cacheName, defaultSpec);
+            localCaches.put(cacheName, new CaffeineCache(cacheName, CaffeineCacheBuilder.build(cacheName + "-l1", spec, null, cacheStatsRecorder), false));
+        }
+        return new TwoTierCacheManager(localCaches, redisCacheManager, cacheInvalidationBus);
+    }
+}
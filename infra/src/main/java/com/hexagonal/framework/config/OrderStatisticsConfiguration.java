@@ -0,0 +1,43 @@
+package com.hexagonal.framework.config;
+
+import com.hexagonal.application.port.out.OrderRepositoryPort;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.framework.statistics.InMemoryOrderStatisticsAdapter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.stream.Stream;
+
+/**
+ * Incremental order statistics for the admin dashboard
+ *
+ * The totals are kept in memory and updated by the order write paths. On startup they are rebuilt with
+ * a single streamed pass over the orders. Application runners run after the web server has started, so
+ * orders may change while the pass runs; the adapter holds those transitions back until the pass is done.
+ * Without an order repository there is nothing to rebuild from and counting starts right away.
+ */
+@Configuration
+public class OrderStatisticsConfiguration {
+
+    @Bean
+    public InMemoryOrderStatisticsAdapter orderStatisticsPort() {
+        return new InMemoryOrderStatisticsAdapter();
+    }
+
+    @Bean
+    public ApplicationRunner orderStatisticsInitializer(InMemoryOrderStatisticsAdapter orderStatistics,
+                                                        ObjectProvider<OrderRepositoryPort> orderRepository) {
+        return args -> {
+            OrderRepositoryPort repository = orderRepository.getIfAvailable();
+            if (repository == null) {
+                orderStatistics.rebuild(Stream.empty());
+                return;
+            }
+            try (Stream<Order> orders = repository.streamAll()) {
+                orderStatistics.rebuild(orders);
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.hexagonal.framework.config;
+
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort;
+import com.hexagonal.framework.popularity.DecayingProductPopularityAdapter;
+import com.hexagonal.framework.popularity.ProductPopularityScheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class PopularityConfiguration {
+
+    @Bean
+    public DecayingProductPopularityAdapter productPopularityPort(
+            @Value("${popularity.halfLifeWindows:24}") int halfLifeWindows
+    ) {
+        return new DecayingProductPopularityAdapter(halfLifeWindows);
+    }
+
+    @Bean
+    public ProductPopularityScheduler productPopularityScheduler(DecayingProductPopularityAdapter productPopularity,
+                                                                 ProductPopularityRepositoryPort popularityRepository,
+                                                                 CatalogViewPort catalogView) {
+        return new ProductPopularityScheduler(productPopularity, popularityRepository, catalogView);
+    }
+
+    @Bean
+    public ApplicationRunner productPopularityInitializer(ProductPopularityScheduler productPopularityScheduler) {
+        return args -> productPopularityScheduler.restore();
+    }
+}
@@ -0,0 +1,81 @@
+package com.hexagonal.framework.config;
+
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.CategoryRepositoryPort;
+import com.hexagonal.application.port.out.CategoryTreePort;
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
+import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.application.port.out.ProductSearchIndexPort;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.framework.catalog.SortedCatalogViewAdapter;
+import com.hexagonal.framework.search.BitmapProductCategoryIndexAdapter;
+import com.hexagonal.framework.search.InMemoryProductSearchIndexAdapter;
+import com.hexagonal.framework.search.NestedSetCategoryTreeAdapter;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * In-memory search and catalog structures, built from the repositories at startup
+ *
+ * Scope: single node. Each structure lives in this process and is kept current by the command services of
+ * this node only; writes made on other nodes are not propagated to it:
+ * - Product search index: a product renamed or deleted elsewhere is still found by its old terms
+ * - Product category index: category filters keep a product recategorized elsewhere in its old categories
+ * - Sorted catalog views: sorted pages show the price, stock and status a product had on this node
+ * - Category tree: subtree lookups miss categories added or moved elsewhere
+ *
+ * With several nodes behind a load balancer, these reads must be served by the node that takes the catalog
+ * writes, or the changes published to every node (e.g. over the CacheInvalidationBus) before scaling out.
+ */
+@Configuration
+public class SearchConfiguration {
+
+    @Bean
+    public ProductSearchIndexPort productSearchIndexPort() {
+        return new InMemoryProductSearchIndexAdapter();
+    }
+
+    @Bean
+    public ProductCategoryIndexPort productCategoryIndexPort() {
+        return new BitmapProductCategoryIndexAdapter();
+    }
+
+    @Bean
+    public CategoryTreePort categoryTreePort() {
+        return new NestedSetCategoryTreeAdapter();
+    }
+
+    @Bean
+    public CatalogViewPort catalogViewPort() {
+        return new SortedCatalogViewAdapter();
+    }
+
+    /**
+     * Builds the product search and category indexes and the sorted catalog views from the repository
+     * once the context is up. After that they are kept current by the product and checkout command services.
+     */
+    @Bean
+    public ApplicationRunner productIndexInitializer(ProductSearchIndexPort productSearchIndex,
+                                                     ProductCategoryIndexPort productCategoryIndex,
+                                                     CatalogViewPort catalogView,
+                                                     ProductRepositoryPort productRepository) {
+        return args -> {
+            List<Product> products = productRepository.findAll();
+            productSearchIndex.rebuild(products);
+            productCategoryIndex.rebuild(products);
+            catalogView.rebuild(products);
+        };
+    }
+
+    /**
+     * Builds the category tree from the repository once the context is up. After that it is kept current
+     * by the category command services.
+     */
+    @Bean
+    public ApplicationRunner categoryTreeInitializer(CategoryTreePort categoryTree, CategoryRepositoryPort categoryRepository) {
+        return args -> categoryTree.rebuild(categoryRepository.findAll());
+    }
+}
@@ -0,0 +1,40 @@
+package com.hexagonal.framework.crosscutting.metric;
+
+import com.hexagonal.framework.cache.HotKeyTracker;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing the most accessed keys of every cache (/actuator/cachehotkeys) or of one cache
+ * (/actuator/cachehotkeys/{cacheName}). Counts are estimates from sampled accesses since startup.
+ */
+@Endpoint(id = "cachehotkeys")
+public class CacheHotKeysEndpoint {
+
+    private final MicrometerCacheStatsRecorder recorder;
+    private final int limit;
+
+    public CacheHotKeysEndpoint(MicrometerCacheStatsRecorder recorder, int limit) {
+        this.recorder = recorder;
+        this.limit = limit;
+    }
+
+    @ReadOperation
+    public Map<String, List<HotKeyTracker.HotKey>> hotKeys() {
+        Map<String, List<HotKeyTracker.HotKey>> hotKeys = new LinkedHashMap<>();
+        for (String cacheName : recorder.cacheNames()) {
+            hotKeys.put(cacheName, recorder.hotKeys(cacheName, limit));
+        }
+        return hotKeys;
+    }
+
+    @ReadOperation
+    public List<HotKeyTracker.HotKey> hotKeys(@Selector String cacheName) {
+        return recorder.hotKeys(cacheName, limit);
+    }
+}
@@ -0,0 +1,102 @@
+package com.hexagonal.framework.crosscutting.metric;
+
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import com.hexagonal.framework.cache.HotKeyTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Publishes cache events to Micrometer and keeps the hottest keys of every cache.
+ *
+ * - richbank.cache.requests{cache, result=hit|miss}: hit ratio per cache
+ * - richbank.cache.load{cache, result=success|failure}: read-through load latency
+ * - richbank.cache.removals{cache, cause}: evictions by cause (SIZE, EXPIRED, EXPLICIT, ...)
+ * - richbank.cache.size{cache}: entries held, for caches registered through {@link #registerSize}
+ *
+ * Hits and misses are also counted per key in a {@link HotKeyTracker}, read by the cachehotkeys endpoint.
+ * The request counters and tracker of a cache are looked up once and kept, as they are hit on every read.
+ */
+public class MicrometerCacheStatsRecorder implements CacheStatsRecorder {
+
+    static final String REQUESTS = "richbank.cache.requests";
+    static final String LOAD = "richbank.cache.load";
+    static final String REMOVALS = "richbank.cache.removals";
+    static final String SIZE = "richbank.cache.size";
+
+    private final MetricsRegistry metricsRegistry;
+    private final int trackedKeys;
+    private final int sampleRate;
+    private final ConcurrentMap<String, Requests> requests = new ConcurrentHashMap<>();
+
+    public MicrometerCacheStatsRecorder(MetricsRegistry metricsRegistry, int trackedKeys, int sampleRate) {
+        this.metricsRegistry = metricsRegistry;
+        this.trackedKeys = trackedKeys;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void hit(String cacheName, Object key) {
+        Requests cache = requests(cacheName);
+        cache.hits().increment();
+        cache.hotKeys().record(key);
+    }
+
+    @Override
+    public void miss(String cacheName, Object key) {
+        Requests cache = requests(cacheName);
+        cache.misses().increment();
+        cache.hotKeys().record(key);
+    }
+
+    @Override
+    public void loaded(String cacheName, long nanos, boolean success) {
+        metricsRegistry.getOrCreateTimer(LOAD, Tag.of("cache", cacheName), Tag.of("result", success ? "success" : "failure"))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void removed(String cacheName, String cause) {
+        metricsRegistry.incrementCounter(REMOVALS, Tag.of("cache", cacheName), Tag.of("cause", cause));
+    }
+
+    /**
+     * Publishes the number of entries of {@code cacheName} as read by {@code size} at scrape time.
+     */
+    public void registerSize(String cacheName, LongSupplier size) {
+        metricsRegistry.recordGauge(SIZE, () -> size.getAsLong(), Tag.of("cache", cacheName));
+    }
+
+    /**
+     * Names of the caches that have been read at least once.
+     */
+    public Set<String> cacheNames() {
+        return new TreeSet<>(requests.keySet());
+    }
+
+    /**
+     * The {@code limit} most accessed keys of {@code cacheName}, hottest first; empty for an unknown cache.
+     */
+    public List<HotKeyTracker.HotKey> hotKeys(String cacheName, int limit) {
+        Requests cache = requests.get(cacheName);
+        return cache == null ? List.of() : cache.hotKeys().top(limit);
+    }
+
+    private Requests requests(String cacheName) {
+        Requests cache = requests.get(cacheName);
+        return cache != null ? cache : requests.computeIfAbsent(cacheName, name -> new Requests(
+            metricsRegistry.getOrCreateCounter(REQUESTS, Tag.of("cache", name), Tag.of("result", "hit")),
+            metricsRegistry.getOrCreateCounter(REQUESTS, Tag.of("cache", name), Tag.of("result", "miss")),
+            new HotKeyTracker(trackedKeys, sampleRate)));
+    }
+
+    private record Requests(Counter hits, Counter misses, HotKeyTracker hotKeys) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.hexagonal.framework.inventory;
+
+import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.specification.Specification;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.ProductStatus;
+import com.hexagonal.domain.vo.Quantity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Product repository that routes stock updates through a {@link StockLedger} and everything else to the
+ * underlying store.
+ *
+ * Stock changes are served from memory and reach the store asynchronously, so products read from the
+ * store get the ledger's current stock applied before they are returned. Queries that filter on stock
+ * are evaluated by the store and may therefore be up to one flush interval behind.
+ */
+public class LedgerProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final StockLedger stockLedger;
+
+    public LedgerProductRepositoryAdapter(ProductRepositoryPort delegate, StockLedger stockLedger) {
+        this.delegate = delegate;
+        this.stockLedger = stockLedger;
+    }
+
+    @Override
+    public boolean decrementStockIfAvailable(ID productId, Quantity quantity) {
+        return stockLedger.tryReserve(productId, quantity);
+    }
+
+    @Override
+    public boolean incrementStock(ID productId, Quantity quantity) {
+        return stockLedger.release(productId, quantity);
+    }
+
+    @Override
+    public boolean updateStock(ID productId, Quantity stock) {
+        return stockLedger.set(productId, stock);
+    }
+
+    @Override
+    public Product save(Product product) {
+        return stockLedger.writeThrough(product, delegate::save);
+    }
+
+    @Override
+    public Optional<Product> findById(ID id) {
+        return delegate.findById(id).map(stockLedger::applyTo);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<ID> ids) {
+        return withLedgerStock(delegate.findAllById(ids));
+    }
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        return delegate.findBySku(sku).map(stockLedger::applyTo);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return withLedgerStock(delegate.findAll());
+    }
+
+    @Override
+    public List<Product> findAll(Specification<Product> specification) {
+        return withLedgerStock(delegate.findAll(specification)).stream()
+            .filter(specification::isSatisfiedBy)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Product> findAllByStatus(ProductStatus status, int page, int size) {
+        return withLedgerStock(delegate.findAllByStatus(status, page, size));
+    }
+
+    @Override
+    public List<Product> findAllByStatusAfter(ProductStatus status, ID after, int limit) {
+        return withLedgerStock(delegate.findAllByStatusAfter(status, after, limit));
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        delegate.deleteById(id);
+        stockLedger.forget(id);
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsBySku(String sku) {
+        return delegate.existsBySku(sku);
+    }
+
+    private List<Product> withLedgerStock(List<Product> products) {
+        return products.stream()
+            .map(stockLedger::applyTo)
+            .collect(Collectors.toList());
+    }
+}
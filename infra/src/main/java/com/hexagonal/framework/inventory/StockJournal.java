@@ -0,0 +1,172 @@
+package com.hexagonal.framework.inventory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal of one ledger shard on local disk.
+ *
+ * Every stock change is appended as a fixed-size record {@code (productId, state, crc)} before it is
+ * acknowledged, where {@code state} is the packed {@code (version, stock)} word of the ledger slot.
+ * Records hold absolute stock values rather than deltas, so replaying a record that was already
+ * persisted is harmless and recovery never has to know exactly where the last flush stopped.
+ *
+ * The journal is split into segments: {@link #rotate()} closes the current segment and hands it to
+ * the flusher together with the latest state per product written to it; the segment file is deleted
+ * once those states are persisted.
+ */
+final class StockJournal implements AutoCloseable {
+
+    static final String FILE_SUFFIX = ".wal";
+
+    private static final int RECORD_SIZE = Long.BYTES * 3 + Integer.BYTES;
+
+    private final Path directory;
+    private final int shard;
+    private final boolean fsync;
+    // Reused under the journal's lock, so appending allocates nothing
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private long segment;
+    private Path file;
+    private FileChannel channel;
+    private Map<UUID, Long> latest = new HashMap<>();
+
+    StockJournal(Path directory, int shard, boolean fsync) {
+        this.directory = directory;
+        this.shard = shard;
+        this.fsync = fsync;
+        openSegment();
+    }
+
+    /**
+     * A closed segment and the latest state per product written to it.
+     */
+    record Segment(Path file, Map<UUID, Long> latest) {
+    }
+
+    synchronized void append(UUID productId, long state) {
+        record.clear();
+        record.putLong(productId.getMostSignificantBits())
+            .putLong(productId.getLeastSignificantBits())
+            .putLong(state);
+        crc.reset();
+        crc.update(record.array(), 0, Long.BYTES * 3);
+        record.putInt((int) crc.getValue());
+        record.flip();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to stock journal " + file, e);
+        }
+        latest.merge(productId, state, StockLedger::newer);
+    }
+
+    synchronized Segment rotate() {
+        Segment closed = new Segment(file, latest);
+        closeChannel();
+        segment++;
+        latest = new HashMap<>();
+        openSegment();
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeChannel();
+    }
+
+    /**
+     * Reads every segment left in {@code directory} and returns the latest state per product.
+     * A torn or corrupt record ends the segment it is in; the records before it are kept.
+     */
+    static Map<UUID, Long> replay(Path directory) {
+        Map<UUID, Long> states = new HashMap<>();
+        for (Path segment : segments(directory)) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+                CRC32 checksum = new CRC32();
+                while (true) {
+                    buffer.clear();
+                    while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                        // read the whole record
+                    }
+                    if (buffer.hasRemaining()) {
+                        break;
+                    }
+                    checksum.reset();
+                    checksum.update(buffer.array(), 0, Long.BYTES * 3);
+                    buffer.flip();
+                    UUID productId = new UUID(buffer.getLong(), buffer.getLong());
+                    long state = buffer.getLong();
+                    if (buffer.getInt() != (int) checksum.getValue()) {
+                        break;
+                    }
+                    states.merge(productId, state, StockLedger::newer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot replay stock journal " + segment, e);
+            }
+        }
+        return states;
+    }
+
+    static List<Path> segments(Path directory) {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            files.forEach(segments::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list stock journal " + directory, e);
+        }
+        return segments;
+    }
+
+    static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete stock journal segment " + file, e);
+        }
+    }
+
+    private void openSegment() {
+        file = directory.resolve("stock-" + shard + "-" + segment + FILE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open stock journal " + file, e);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close stock journal " + file, e);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.hexagonal.framework.inventory;
+
+import com.hexagonal.application.port.out.ProductRepositoryPort;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Quantity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * In-memory stock ledger that takes stock updates off the database for hot products.
+ *
+ * Each product's available stock lives in one slot whose state word packs {@code (version, stock)}
+ * into a long and is only changed with a compare-and-set, so reserving stock is a lock-free CAS loop
+ * and concurrent buyers never wait on a row lock. Every successful change is appended to the
+ * write-ahead journal of the product's shard before it is acknowledged; shards have their own journal
+ * file and lock, so buyers of different products do not serialize on a single journal.
+ *
+ * {@link #flush()} persists the latest stock of every product changed since the previous flush in one
+ * pass, then drops the journal segments it covered. On startup, {@link #recover()} persists whatever
+ * the journal still holds from a previous run before any slot is loaded.
+ *
+ * Slots are loaded lazily from the store of record the first time a product's stock is touched. While
+ * the ledger runs, it is the only owner of the stock of every product it has loaded: flushes write
+ * absolute values, so a stock change made in the store by anyone else (another node, a manual restock)
+ * is overwritten by the next flush. InventoryLedgerConfiguration refuses to start in a shared setup.
+ */
+public class StockLedger implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockLedger.class);
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Slot.class, "state", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Store of record the ledger loads from and flushes to.
+     */
+    public interface StockStore {
+        Optional<Quantity> loadStock(ID productId);
+
+        void storeStock(ID productId, Quantity stock);
+
+        static StockStore of(ProductRepositoryPort productRepository) {
+            return new StockStore() {
+                @Override
+                public Optional<Quantity> loadStock(ID productId) {
+                    return productRepository.findById(productId).map(Product::getStockQuantity);
+                }
+
+                @Override
+                public void storeStock(ID productId, Quantity stock) {
+                    productRepository.updateStock(productId, stock);
+                }
+            };
+        }
+    }
+
+    private final StockStore store;
+    private final Path journalDirectory;
+    private final StockJournal[] journals;
+    private final ConcurrentHashMap<ID, Slot> slots = new ConcurrentHashMap<>();
+    // Closed segments whose states are not persisted yet, retried on the next flush
+    private final Deque<StockJournal.Segment> unflushed = new ArrayDeque<>();
+    private final Object flushLock = new Object();
+
+    public StockLedger(StockStore store, Path journalDirectory, int shards, boolean fsync) {
+        if (shards <= 0 || Integer.bitCount(shards) != 1) {
+            throw new IllegalArgumentException("Shard count must be a power of two");
+        }
+        this.store = store;
+        this.journalDirectory = journalDirectory;
+        recover();
+        this.journals = new StockJournal[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            journals[shard] = new StockJournal(journalDirectory, shard, fsync);
+        }
+    }
+
+    /**
+     * Removes {@code quantity} from the product's stock if at least that much is available.
+     *
+     * @return false if the product does not exist or has less stock than requested
+     */
+    public boolean tryReserve(ID productId, Quantity quantity) {
+        Slot slot = slot(productId);
+        if (slot == null) {
+            return false;
+        }
+        int requested = quantity.getValue();
+        while (true) {
+            long current = (long) STATE.getVolatile(slot);
+            int stock = stock(current);
+            if (stock < requested) {
+                return false;
+            }
+            long next = next(current, stock - requested);
+            if (STATE.compareAndSet(slot, current, next)) {
+                journal(productId, next);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds {@code quantity} to the product's stock; unknown products are ignored.
+     *
+     * @return false if the product does not exist
+     */
+    public boolean release(ID productId, Quantity quantity) {
+        return update(productId, stock -> Math.addExact(stock, quantity.getValue()));
+    }
+
+    /**
+     * Sets the product's stock; unknown products are ignored.
+     *
+     * @return false if the product does not exist
+     */
+    public boolean set(ID productId, Quantity stock) {
+        return update(productId, ignored -> stock.getValue());
+    }
+
+    /**
+     * Current stock of the product if the ledger has it loaded.
+     */
+    public Optional<Quantity> available(ID productId) {
+        Slot slot = slots.get(productId);
+        return slot == null ? Optional.empty() : Optional.of(Quantity.of(stock((long) STATE.getVolatile(slot))));
+    }
+
+    /**
+     * Applies the ledger's stock to a product about to be written as a whole and runs the write while no
+     * flush is in progress, so a full-product write can neither overwrite a newer stock value nor be
+     * overwritten by an older one.
+     */
+    public <T> T writeThrough(Product product, Function<Product, T> write) {
+        synchronized (flushLock) {
+            return write.apply(applyTo(product));
+        }
+    }
+
+    /**
+     * The product with the ledger's stock, if it has one. A differing stock is applied to a copy: products
+     * read from the store may be the instances held by the product cache and shared between threads.
+     */
+    public Product applyTo(Product product) {
+        if (product == null) {
+            return null;
+        }
+        return available(product.getId())
+            .filter(stock -> !stock.equals(product.getStockQuantity()))
+            .map(product::withStock)
+            .orElse(product);
+    }
+
+    /**
+     * Stops tracking a product, e.g. after it was deleted.
+     */
+    public void forget(ID productId) {
+        slots.remove(productId);
+    }
+
+    /**
+     * Persists the latest stock of every product changed since the previous flush. If the store fails,
+     * the segments stay on disk and are retried with the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            for (StockJournal journal : journals) {
+                unflushed.add(journal.rotate());
+            }
+            Map<UUID, Long> states = new HashMap<>();
+            for (StockJournal.Segment segment : unflushed) {
+                segment.latest().forEach((productId, state) -> states.merge(productId, state, StockLedger::newer));
+            }
+            try {
+                states.forEach((productId, state) -> {
+                    // The slot may already hold a newer state whose journal record lands in the next segment;
+                    // storing that one keeps a late record of an older state from being stored last
+                    Slot slot = slots.get(ID.of(productId));
+                    long latest = slot == null ? state : newer(state, (long) STATE.getVolatile(slot));
+                    store.storeStock(ID.of(productId), Quantity.of(stock(latest)));
+                });
+            } catch (RuntimeException e) {
+                logger.warn("Stock ledger flush failed, {} products will be retried", states.size(), e);
+                return;
+            }
+            while (!unflushed.isEmpty()) {
+                StockJournal.delete(unflushed.poll().file());
+            }
+        }
+    }
+
+    /**
+     * Flushes what is left and closes the journals.
+     */
+    @Override
+    public void close() {
+        flush();
+        for (StockJournal journal : journals) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Whichever of two states of the same slot was written later; versions wrap around as unsigned ints.
+     */
+    static long newer(long left, long right) {
+        return (int) ((right >>> 32) - (left >>> 32)) > 0 ? right : left;
+    }
+
+    private void recover() {
+        Map<UUID, Long> states = StockJournal.replay(journalDirectory);
+        if (!states.isEmpty()) {
+            logger.info("Recovering stock of {} products from the journal", states.size());
+            states.forEach((productId, state) -> store.storeStock(ID.of(productId), Quantity.of(stock(state))));
+        }
+        StockJournal.segments(journalDirectory).forEach(StockJournal::delete);
+    }
+
+    private boolean update(ID productId, IntUnaryOperator change) {
+        Slot slot = slot(productId);
+        if (slot == null) {
+            return false;
+        }
+        while (true) {
+            long current = (long) STATE.getVolatile(slot);
+            long next = next(current, change.applyAsInt(stock(current)));
+            if (STATE.compareAndSet(slot, current, next)) {
+                journal(productId, next);
+                return true;
+            }
+        }
+    }
+
+    private Slot slot(ID productId) {
+        Slot slot = slots.get(productId);
+        if (slot != null) {
+            return slot;
+        }
+        // Loaded once per product; the store is only read while the product has no slot yet
+        return slots.computeIfAbsent(productId, id -> store.loadStock(id)
+            .map(stock -> new Slot(next(0, stock.getValue())))
+            .orElse(null));
+    }
+
+    private void journal(ID productId, long state) {
+        UUID id = productId.getValue();
+        journals[id.hashCode() & (journals.length - 1)].append(id, state);
+    }
+
+    private static int stock(long state) {
+        return (int) state;
+    }
+
+    private static long next(long current, int stock) {
+        long version = (current >>> 32) + 1;
+        return (version << 32) | (stock & 0xFFFF_FFFFL);
+    }
+
+    private static final class Slot {
+        // (version << 32) | stock; only accessed through STATE
+        @SuppressWarnings("unused")
+        private volatile long state;
+
+        private Slot(long state) {
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hexagonal.framework.inventory;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically persists the stock changes collected by the {@link StockLedger}, so the store of record
+ * sees one write per changed product and interval instead of one per unit sold.
+ */
+public class StockLedgerFlusher {
+
+    private final StockLedger stockLedger;
+
+    public StockLedgerFlusher(StockLedger stockLedger) {
+        this.stockLedger = stockLedger;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.flushInterval:PT1S}", initialDelayString = "${inventory.ledger.flushInterval:PT1S}")
+    public void flush() {
+        stockLedger.flush();
+    }
+}
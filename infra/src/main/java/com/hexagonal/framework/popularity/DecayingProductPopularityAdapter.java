@@ -0,0 +1,110 @@
+package com.hexagonal.framework.popularity;
+
+import com.hexagonal.application.port.out.ProductPopularityPort;
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort.PopularityCounts;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory, time-decayed order counters per product.
+ *
+ * Orders in the current window go to a {@link LongAdder}, which stripes concurrent increments over
+ * per-thread cells, so the checkout path never contends on a shared counter or lock. On every window
+ * rotation the window count is folded into an exponentially decayed score:
+ * {@code score = score * decay + windowCount}, where {@code decay} halves a window's weight every
+ * {@code halfLifeWindows} rotations. Reads add the live window to the decayed score without locking.
+ *
+ * Rotation, snapshot and restore run on the scheduler thread only and are serialized with each other.
+ */
+public class DecayingProductPopularityAdapter implements ProductPopularityPort {
+
+    private final double decayPerWindow;
+    private final ConcurrentHashMap<ID, Counter> counters = new ConcurrentHashMap<>();
+
+    public DecayingProductPopularityAdapter(int halfLifeWindows) {
+        if (halfLifeWindows <= 0) {
+            throw new IllegalArgumentException("Half-life must be at least one window");
+        }
+        this.decayPerWindow = Math.pow(0.5, 1.0 / halfLifeWindows);
+    }
+
+    @Override
+    public void recordOrder(ID productId) {
+        if (productId == null) return;
+        // get() first: computeIfAbsent may lock the bin even when the key is already present
+        Counter counter = counters.get(productId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(productId, id -> new Counter());
+        }
+        counter.window.increment();
+    }
+
+    @Override
+    public long score(ID productId) {
+        Counter counter = counters.get(productId);
+        return counter == null ? 0 : counter.score();
+    }
+
+    @Override
+    public Map<ID, Long> scores() {
+        Map<ID, Long> scores = new HashMap<>(counters.size() * 2);
+        counters.forEach((productId, counter) -> scores.put(productId, counter.score()));
+        return scores;
+    }
+
+    /**
+     * Closes the current window and decays the older history by one step.
+     */
+    public synchronized void rotateWindow() {
+        for (Counter counter : counters.values()) {
+            // Cells are reset one by one with getAndSet, so concurrent increments land in this or the next window
+            long orders = counter.window.sumThenReset();
+            counter.totalOrders += orders;
+            counter.decayedScore = counter.decayedScore * decayPerWindow + orders;
+        }
+    }
+
+    /**
+     * Current counts of every product, including the still open window, for persisting.
+     */
+    public synchronized List<PopularityCounts> snapshot() {
+        List<PopularityCounts> snapshot = new ArrayList<>(counters.size());
+        counters.forEach((productId, counter) -> {
+            long windowOrders = counter.window.sum();
+            snapshot.add(new PopularityCounts(productId,
+                    counter.totalOrders + windowOrders,
+                    counter.decayedScore + windowOrders));
+        });
+        return snapshot;
+    }
+
+    /**
+     * Loads persisted counts on startup; orders already recorded since then are kept on top.
+     */
+    public synchronized void restore(Collection<PopularityCounts> persisted) {
+        if (persisted == null) return;
+        for (PopularityCounts counts : persisted) {
+            Counter counter = counters.computeIfAbsent(counts.productId(), id -> new Counter());
+            counter.totalOrders += counts.totalOrders();
+            counter.decayedScore += counts.score();
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder window = new LongAdder();
+        // Written only under the adapter's lock, read lock-free by score()
+        private volatile double decayedScore;
+        private volatile long totalOrders;
+
+        private long score() {
+            return Math.round(decayedScore + window.sum());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.hexagonal.framework.popularity;
+
+import com.hexagonal.application.port.out.CatalogViewPort;
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodic maintenance of the popularity counters: rotates the decay window, and flushes the
+ * counters to persistence and the current scores to the popularity ordering of the catalog views.
+ * Keeping this off the checkout path is what lets {@link DecayingProductPopularityAdapter#recordOrder} stay lock-free.
+ */
+public class ProductPopularityScheduler {
+
+    private final DecayingProductPopularityAdapter productPopularity;
+    private final ProductPopularityRepositoryPort popularityRepository;
+    private final CatalogViewPort catalogView;
+
+    public ProductPopularityScheduler(DecayingProductPopularityAdapter productPopularity,
+                                      ProductPopularityRepositoryPort popularityRepository,
+                                      CatalogViewPort catalogView) {
+        this.productPopularity = productPopularity;
+        this.popularityRepository = popularityRepository;
+        this.catalogView = catalogView;
+    }
+
+    @Scheduled(fixedRateString = "${popularity.window:PT1H}", initialDelayString = "${popularity.window:PT1H}")
+    public void rotateWindow() {
+        productPopularity.rotateWindow();
+    }
+
+    @Scheduled(fixedDelayString = "${popularity.flushInterval:PT1M}", initialDelayString = "${popularity.flushInterval:PT1M}")
+    public void flush() {
+        popularityRepository.saveAll(productPopularity.snapshot());
+        catalogView.updatePopularity(productPopularity.scores());
+    }
+
+    /**
+     * Restores the persisted counters and publishes them to the catalog views.
+     */
+    public void restore() {
+        productPopularity.restore(popularityRepository.findAll());
+        catalogView.updatePopularity(productPopularity.scores());
+    }
+}
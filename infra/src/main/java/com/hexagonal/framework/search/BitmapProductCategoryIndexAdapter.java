@@ -0,0 +1,220 @@
+package com.hexagonal.framework.search;
+
+import com.hexagonal.application.port.out.ProductCategoryIndexPort;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory category -> products index backed by bitmaps.
+ * Every indexed product gets a dense integer ordinal (ordinals of removed products are reused),
+ * so each category is a {@link BitSet} of roughly catalog-size / 8 bytes, and multi-category
+ * filters are a bitwise AND / OR instead of a scan over all products.
+ * A forward map (product id -> categories) lets updates touch only the changed product's bits.
+ * Reads share a read lock and work on copies; writes are exclusive since they only happen on admin edits.
+ *
+ * Scope: single node. The bitmaps reflect the category assignments made on this node since startup; a
+ * product moved to another category through another node stays in its old category here (see SearchConfiguration).
+ */
+public class BitmapProductCategoryIndexAdapter implements ProductCategoryIndexPort {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<ID, Integer> ordinals = new HashMap<>();
+    private final List<ID> productsByOrdinal = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+    private final Map<ID, BitSet> bitmaps = new HashMap<>();
+    private final Map<ID, Set<ID>> categoriesByProduct = new HashMap<>();
+
+    @Override
+    public Set<ID> findByAnyCategory(Set<ID> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return Set.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return toProductIds(union(categoryIds));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int countByAnyCategory(Set<ID> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return 0;
+        }
+
+        lock.readLock().lock();
+        try {
+            return union(categoryIds).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<ID> findByAllCategories(Set<ID> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return Set.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<BitSet> operands = new ArrayList<>(categoryIds.size());
+            for (ID categoryId : categoryIds) {
+                BitSet bitmap = bitmaps.get(categoryId);
+                if (bitmap == null) {
+                    return Set.of();
+                }
+                operands.add(bitmap);
+            }
+
+            // Start from the sparsest bitmap so the intersection shrinks as early as possible
+            operands.sort(Comparator.comparingInt(BitSet::cardinality));
+            BitSet result = (BitSet) operands.get(0).clone();
+            for (int i = 1; i < operands.size() && !result.isEmpty(); i++) {
+                result.and(operands.get(i));
+            }
+            return toProductIds(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Product product) {
+        if (product == null) return;
+
+        lock.writeLock().lock();
+        try {
+            // Discontinued is a terminal status, such products never show up on category pages again
+            if (product.isDiscontinued()) {
+                removeInternal(product.getId());
+                return;
+            }
+            indexInternal(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(ID productId) {
+        if (productId == null) return;
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<Product> products) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            productsByOrdinal.clear();
+            freeOrdinals.clear();
+            bitmaps.clear();
+            categoriesByProduct.clear();
+            if (products != null) {
+                for (Product product : products) {
+                    if (product != null && !product.isDiscontinued()) {
+                        indexInternal(product);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexInternal(Product product) {
+        ID productId = product.getId();
+        Set<ID> newCategories = Set.copyOf(product.getCategoryIds());
+        Set<ID> oldCategories = categoriesByProduct.getOrDefault(productId, Set.of());
+        int ordinal = ordinals.computeIfAbsent(productId, this::allocateOrdinal);
+
+        for (ID categoryId : oldCategories) {
+            if (!newCategories.contains(categoryId)) {
+                clearBit(categoryId, ordinal);
+            }
+        }
+        for (ID categoryId : newCategories) {
+            bitmaps.computeIfAbsent(categoryId, c -> new BitSet()).set(ordinal);
+        }
+        categoriesByProduct.put(productId, newCategories);
+    }
+
+    private void removeInternal(ID productId) {
+        Integer ordinal = ordinals.remove(productId);
+        if (ordinal == null) {
+            return;
+        }
+        Set<ID> categories = categoriesByProduct.remove(productId);
+        if (categories != null) {
+            categories.forEach(categoryId -> clearBit(categoryId, ordinal));
+        }
+        productsByOrdinal.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+    }
+
+    private int allocateOrdinal(ID productId) {
+        // Reuse the lowest free ordinal so bitmaps stay dense after deletes
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal >= 0) {
+            freeOrdinals.clear(ordinal);
+            productsByOrdinal.set(ordinal, productId);
+            return ordinal;
+        }
+        productsByOrdinal.add(productId);
+        return productsByOrdinal.size() - 1;
+    }
+
+    private void clearBit(ID categoryId, int ordinal) {
+        BitSet bitmap = bitmaps.get(categoryId);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(ordinal);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(categoryId);
+        }
+    }
+
+    private BitSet union(Set<ID> categoryIds) {
+        BitSet result = new BitSet();
+        for (ID categoryId : categoryIds) {
+            BitSet bitmap = bitmaps.get(categoryId);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    private Set<ID> toProductIds(BitSet bits) {
+        if (bits.isEmpty()) {
+            return Set.of();
+        }
+        Set<ID> productIds = new LinkedHashSet<>(bits.cardinality() * 2);
+        bits.stream().forEach(ordinal -> productIds.add(productsByOrdinal.get(ordinal)));
+        return Collections.unmodifiableSet(productIds);
+    }
+}
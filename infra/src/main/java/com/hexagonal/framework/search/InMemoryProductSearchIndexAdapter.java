@@ -0,0 +1,132 @@
+package com.hexagonal.framework.search;
+
+import com.hexagonal.application.port.out.ProductSearchIndexPort;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index for product search.
+ * Keeps a sorted term dictionary (term -> posting list of product ids) so prefix
+ * lookups are a range scan, and a forward map (product id -> terms) so updates
+ * only touch the postings of the changed product.
+ * Reads are lock-free; writes are serialized since they only happen on admin edits.
+ *
+ * Scope: single node. The index is built at startup and then updated by the product writes of this node
+ * only, so another node keeps matching a renamed or deleted product by its old terms (see SearchConfiguration).
+ */
+public class InMemoryProductSearchIndexAdapter implements ProductSearchIndexPort {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ConcurrentSkipListMap<String, Set<ID>> postings = new ConcurrentSkipListMap<>();
+    private final Map<ID, Set<String>> termsByProduct = new ConcurrentHashMap<>();
+
+    @Override
+    public Set<ID> search(String query) {
+        Set<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<ID> result = null;
+        for (String term : queryTerms) {
+            Set<ID> matches = prefixMatches(term);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                return Set.of();
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public synchronized void index(Product product) {
+        if (product == null) return;
+        // Discontinued is a terminal status, such products never show up in search again
+        if (product.isDiscontinued()) {
+            removeInternal(product.getId());
+            return;
+        }
+
+        Set<String> newTerms = tokenize(product.getName());
+        newTerms.addAll(tokenize(product.getDescription()));
+
+        Set<String> oldTerms = termsByProduct.getOrDefault(product.getId(), Set.of());
+        for (String term : oldTerms) {
+            if (!newTerms.contains(term)) {
+                removePosting(term, product.getId());
+            }
+        }
+        for (String term : newTerms) {
+            if (!oldTerms.contains(term)) {
+                postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(product.getId());
+            }
+        }
+        termsByProduct.put(product.getId(), Set.copyOf(newTerms));
+    }
+
+    @Override
+    public synchronized void remove(ID productId) {
+        if (productId == null) return;
+        removeInternal(productId);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Product> products) {
+        postings.clear();
+        termsByProduct.clear();
+        if (products != null) {
+            products.forEach(this::index);
+        }
+    }
+
+    private Set<ID> prefixMatches(String prefix) {
+        // Every key in [prefix, prefix + Character.MAX_VALUE) starts with prefix
+        NavigableMap<String, Set<ID>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        Set<ID> matches = new HashSet<>();
+        range.values().forEach(matches::addAll);
+        return matches;
+    }
+
+    private void removeInternal(ID productId) {
+        Set<String> terms = termsByProduct.remove(productId);
+        if (terms != null) {
+            terms.forEach(term -> removePosting(term, productId));
+        }
+    }
+
+    private void removePosting(String term, ID productId) {
+        postings.computeIfPresent(term, (t, ids) -> {
+            ids.remove(productId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,213 @@
+package com.hexagonal.framework.search;
+
+import com.hexagonal.application.port.out.CategoryTreePort;
+import com.hexagonal.domain.entity.Category;
+import com.hexagonal.domain.vo.ID;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory category tree numbered as a nested set.
+ * Categories are laid out in pre-order, so the subtree of the category at position {@code left} is the
+ * range {@code [left, right[left]]}: descendant lists are sub-lists of the order, and subtree membership
+ * is two integer comparisons.
+ *
+ * Hierarchy changes only update the parent/children links; the numbering is recomputed once, on the
+ * first read after a change, and published as an immutable snapshot. Reads of an unchanged tree take
+ * no lock. Siblings keep the order they were placed in. A category whose parent is unknown (or which sits
+ * in a parent cycle) is numbered as a root.
+ *
+ * Scope: single node. The tree is loaded at startup and changed by the category writes of this node only;
+ * a category moved or added through another node is missing from its new place here (see SearchConfiguration).
+ */
+public class NestedSetCategoryTreeAdapter implements CategoryTreePort {
+
+    private final Map<ID, ID> parents = new HashMap<>();
+    private final Map<ID, Set<ID>> children = new HashMap<>();
+    private final Set<ID> categories = new LinkedHashSet<>();
+
+    private volatile Numbering numbering = Numbering.EMPTY;
+
+    @Override
+    public List<ID> subtreeOf(ID categoryId) {
+        Numbering current = numbering();
+        Integer left = current.positions().get(categoryId);
+        if (left == null) {
+            return List.of();
+        }
+        return current.order().subList(left, current.right()[left] + 1);
+    }
+
+    @Override
+    public List<ID> descendantsOf(ID categoryId) {
+        Numbering current = numbering();
+        Integer left = current.positions().get(categoryId);
+        if (left == null) {
+            return List.of();
+        }
+        return current.order().subList(left + 1, current.right()[left] + 1);
+    }
+
+    @Override
+    public List<ID> ancestorsOf(ID categoryId) {
+        Numbering current = numbering();
+        Integer position = current.positions().get(categoryId);
+        if (position == null) {
+            return List.of();
+        }
+        List<ID> ancestors = new ArrayList<>();
+        for (int parent = current.parent()[position]; parent >= 0; parent = current.parent()[parent]) {
+            ancestors.add(current.order().get(parent));
+        }
+        return List.copyOf(ancestors);
+    }
+
+    @Override
+    public boolean isInSubtree(ID categoryId, ID candidateId) {
+        Numbering current = numbering();
+        Integer left = current.positions().get(categoryId);
+        Integer candidate = current.positions().get(candidateId);
+        return left != null && candidate != null && candidate >= left && candidate <= current.right()[left];
+    }
+
+    @Override
+    public synchronized void place(Category category) {
+        if (category == null) return;
+        unlink(category.getId());
+        link(category);
+        numbering = null;
+    }
+
+    @Override
+    public synchronized void remove(ID categoryId) {
+        if (categoryId == null || !categories.contains(categoryId)) return;
+        unlink(categoryId);
+        categories.remove(categoryId);
+        numbering = null;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Category> categories) {
+        parents.clear();
+        children.clear();
+        this.categories.clear();
+        if (categories != null) {
+            categories.forEach(category -> {
+                if (category != null) {
+                    link(category);
+                }
+            });
+        }
+        numbering = null;
+    }
+
+    private void link(Category category) {
+        ID categoryId = category.getId();
+        ID parentId = category.getParentCategoryId();
+        categories.add(categoryId);
+        if (parentId != null) {
+            parents.put(categoryId, parentId);
+            children.computeIfAbsent(parentId, id -> new LinkedHashSet<>()).add(categoryId);
+        }
+    }
+
+    private void unlink(ID categoryId) {
+        ID parentId = parents.remove(categoryId);
+        if (parentId != null) {
+            Set<ID> siblings = children.get(parentId);
+            siblings.remove(categoryId);
+            if (siblings.isEmpty()) {
+                children.remove(parentId);
+            }
+        }
+    }
+
+    private Numbering numbering() {
+        Numbering current = numbering;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (numbering == null) {
+                numbering = renumber();
+            }
+            return numbering;
+        }
+    }
+
+    private Numbering renumber() {
+        int size = categories.size();
+        List<ID> order = new ArrayList<>(size);
+        Map<ID, Integer> positions = new LinkedHashMap<>(size * 2);
+        int[] right = new int[size];
+        int[] parent = new int[size];
+
+        // Roots first; categories left unvisited afterwards are in a parent cycle and are numbered as roots
+        List<ID> starts = new ArrayList<>();
+        for (ID categoryId : categories) {
+            ID parentId = parents.get(categoryId);
+            if (parentId == null || !categories.contains(parentId)) {
+                starts.add(categoryId);
+            }
+        }
+        for (ID root : starts) {
+            number(root, order, positions, right, parent);
+        }
+        for (ID categoryId : categories) {
+            if (!positions.containsKey(categoryId)) {
+                number(categoryId, order, positions, right, parent);
+            }
+        }
+        return new Numbering(List.copyOf(order), Map.copyOf(positions), right, parent);
+    }
+
+    /**
+     * Iterative pre-order walk, so deep hierarchies cannot overflow the stack.
+     */
+    private void number(ID root, List<ID> order, Map<ID, Integer> positions, int[] right, int[] parent) {
+        Deque<ID> pending = new ArrayDeque<>();
+        Deque<Integer> open = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            ID categoryId = pending.pop();
+            if (positions.containsKey(categoryId)) {
+                continue;
+            }
+            int position = order.size();
+            // Close every open subtree that this category is not part of
+            ID parentId = categoryId.equals(root) ? null : parents.get(categoryId);
+            while (!open.isEmpty() && !order.get(open.peek()).equals(parentId)) {
+                right[open.pop()] = position - 1;
+            }
+            parent[position] = open.isEmpty() ? -1 : open.peek();
+            order.add(categoryId);
+            positions.put(categoryId, position);
+            open.push(position);
+
+            List<ID> next = new ArrayList<>(children.getOrDefault(categoryId, Set.of()));
+            for (int i = next.size() - 1; i >= 0; i--) {
+                pending.push(next.get(i));
+            }
+        }
+        while (!open.isEmpty()) {
+            right[open.pop()] = order.size() - 1;
+        }
+    }
+
+    /**
+     * right[p] is the last position of the subtree starting at p, parent[p] the parent's position or -1.
+     */
+    private record Numbering(List<ID> order, Map<ID, Integer> positions, int[] right, int[] parent) {
+
+        static final Numbering EMPTY = new Numbering(List.of(), Map.of(), new int[0], new int[0]);
+    }
+}
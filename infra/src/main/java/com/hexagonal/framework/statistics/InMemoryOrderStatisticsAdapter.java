@@ -0,0 +1,187 @@
+package com.hexagonal.framework.statistics;
+
+import com.hexagonal.application.port.out.OrderStatisticsPort;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * In-memory running order totals, updated on every order status transition.
+ *
+ * Every bucket is a pair of {@link LongAdder}s: order count and revenue in the currency's minor units
+ * (Money amounts always have exactly the currency's fraction digits). A transition subtracts the order from
+ * the buckets of its previous status and adds it to those of its new one, so writers never lock and a read
+ * is one map lookup plus two sums, however many orders there are.
+ *
+ * Per-status buckets hold the orders currently in that status. Per-day (creation date) and per-currency
+ * buckets hold booked orders: confirmed and not cancelled, so an order moving between CONFIRMED,
+ * PROCESSING, SHIPPED and DELIVERED leaves them unchanged.
+ *
+ * Until {@link #rebuild} completes, transitions are held back per order instead of being counted: the streamed
+ * pass skips an order that already has a held transition, and the held ones are applied once the pass is done,
+ * so an order changed while the rebuild runs is counted once. Afterwards transitions are counted directly.
+ *
+ * Scope: single node. The totals live only in this process and count the orders present at startup plus the
+ * transitions made on this node since; with several nodes behind a load balancer each one reports only its
+ * share of later transitions, so the dashboard must be served by one node or the totals moved to a shared store.
+ */
+public class InMemoryOrderStatisticsAdapter implements OrderStatisticsPort {
+
+    private static final Set<OrderStatus> BOOKED =
+            Set.of(OrderStatus.CONFIRMED, OrderStatus.PROCESSING, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+
+    private final ConcurrentHashMap<StatusKey, Totals> byStatus = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<DayKey, Totals> byDay = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Currency, Totals> byCurrency = new ConcurrentHashMap<>();
+
+    // Transitions recorded before the rebuild completes; guarded by its own monitor
+    private final Map<ID, HeldTransition> held = new HashMap<>();
+    private volatile boolean rebuilt;
+
+    @Override
+    public void recordTransition(Order order, OrderStatus previousStatus) {
+        if (order == null || order.getStatus() == previousStatus) return;
+
+        if (!rebuilt) {
+            synchronized (held) {
+                if (!rebuilt) {
+                    hold(order, previousStatus);
+                    return;
+                }
+            }
+        }
+        count(order, previousStatus);
+    }
+
+    private void count(Order order, OrderStatus previousStatus) {
+        if (order.getStatus() == previousStatus) return;
+
+        Currency currency = order.getTotalAmount().getCurrency();
+        long minorUnits = order.getTotalAmount().getAmount().unscaledValue().longValueExact();
+
+        if (previousStatus != null) {
+            totals(byStatus, new StatusKey(previousStatus, currency)).add(-1, -minorUnits);
+        }
+        totals(byStatus, new StatusKey(order.getStatus(), currency)).add(1, minorUnits);
+
+        boolean wasBooked = previousStatus != null && BOOKED.contains(previousStatus);
+        boolean isBooked = BOOKED.contains(order.getStatus());
+        if (wasBooked != isBooked) {
+            int sign = isBooked ? 1 : -1;
+            totals(byDay, new DayKey(order.getCreatedAt().toLocalDate(), currency)).add(sign, sign * minorUnits);
+            totals(byCurrency, currency).add(sign, sign * minorUnits);
+        }
+    }
+
+    @Override
+    public OrderStatistics byStatus(OrderStatus status, Currency currency) {
+        return statistics(byStatus.get(new StatusKey(status, currency)), currency);
+    }
+
+    @Override
+    public OrderStatistics byDay(LocalDate day, Currency currency) {
+        return statistics(byDay.get(new DayKey(day, currency)), currency);
+    }
+
+    @Override
+    public OrderStatistics byCurrency(Currency currency) {
+        return statistics(byCurrency.get(currency), currency);
+    }
+
+    /**
+     * Counts every order in its current status, then the transitions held back meanwhile, and from then on
+     * counts transitions as they are recorded. Runs once, on startup.
+     */
+    public void rebuild(Stream<Order> orders) {
+        orders.forEach(order -> {
+            synchronized (held) {
+                HeldTransition transition = held.get(order.getId());
+                if (transition == null) {
+                    count(order, null);
+                } else {
+                    // The held state is at least as new as the streamed one and replaces it
+                    transition.superseded = true;
+                }
+            }
+        });
+        synchronized (held) {
+            held.values().forEach(transition ->
+                count(transition.order, transition.superseded ? null : transition.previousStatus));
+            held.clear();
+            rebuilt = true;
+        }
+    }
+
+    private void hold(Order order, OrderStatus previousStatus) {
+        HeldTransition transition = held.get(order.getId());
+        if (transition == null) {
+            held.put(order.getId(), new HeldTransition(order, previousStatus));
+        } else if (isNewer(order, transition.order)) {
+            // The status before the first held transition is what the streamed pass may already have counted
+            transition.order = order;
+        }
+    }
+
+    private static boolean isNewer(Order order, Order than) {
+        // Saved orders carry their optimistic lock version; without one, the later call wins
+        return order.getVersion() == null || than.getVersion() == null || order.getVersion() >= than.getVersion();
+    }
+
+    private static <K> Totals totals(ConcurrentHashMap<K, Totals> buckets, K key) {
+        // get() first: computeIfAbsent may lock the bin even when the key is already present
+        Totals totals = buckets.get(key);
+        return totals != null ? totals : buckets.computeIfAbsent(key, ignored -> new Totals());
+    }
+
+    private static OrderStatistics statistics(Totals totals, Currency currency) {
+        // Count and revenue are summed separately, so a read racing a transition may pair them one order apart
+        long count = totals == null ? 0 : totals.count.sum();
+        long minorUnits = totals == null ? 0 : totals.minorUnits.sum();
+
+        int scale = currency.getDefaultFractionDigits();
+        BigDecimal revenue = BigDecimal.valueOf(minorUnits, scale);
+        BigDecimal average = count > 0
+                ? revenue.divide(BigDecimal.valueOf(count), scale, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return new OrderStatistics(count, Money.of(revenue, currency), Money.of(average, currency));
+    }
+
+    private record StatusKey(OrderStatus status, Currency currency) {
+    }
+
+    private record DayKey(LocalDate day, Currency currency) {
+    }
+
+    private static final class HeldTransition {
+        private final OrderStatus previousStatus;
+        private Order order;
+        private boolean superseded;
+
+        private HeldTransition(Order order, OrderStatus previousStatus) {
+            this.order = order;
+            this.previousStatus = previousStatus;
+        }
+    }
+
+    private static final class Totals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder minorUnits = new LongAdder();
+
+        private void add(long orders, long amount) {
+            count.add(orders);
+            minorUnits.add(amount);
+        }
+    }
+}
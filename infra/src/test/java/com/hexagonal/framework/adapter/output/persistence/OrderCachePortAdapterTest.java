@@ -0,0 +1,92 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderCachePortAdapter Tests")
+class OrderCachePortAdapterTest {
+
+    private OrderCache orderCache;
+    private OrderCachePortAdapter port;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(OrderCache.CACHE_NAME);
+        orderCache = new OrderCache(cacheManager, new CacheMultiGet(null));
+        port = new OrderCachePortAdapter(cacheManager, new CacheMultiGet(null), CacheStatsRecorder.NONE);
+    }
+
+    @Test
+    @DisplayName("Should read the orders saved by the persistence adapters in one bulk read")
+    void shouldReadSavedOrders() {
+        // Given
+        Order first = order();
+        Order second = order();
+        orderCache.saved(first);
+        orderCache.saved(second);
+
+        // When
+        var found = port.getAll(List.of(first.getId(), ID.generate(), second.getId()));
+
+        // Then
+        assertThat(found).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(found.get(second.getId())).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Should not replace a saved order with one read earlier")
+    void shouldKeepSavedOrderOnPut() {
+        // Given
+        Order read = order();
+        Order saved = order(read.getId());
+        orderCache.saved(saved);
+
+        // When
+        port.put(read);
+
+        // Then
+        assertThat(port.getById(read.getId())).containsSame(saved);
+    }
+
+    @Test
+    @DisplayName("Should drop invalidated orders")
+    void shouldInvalidateOrders() {
+        // Given
+        Order order = order();
+        port.put(order);
+
+        // When
+        port.invalidateById(order.getId());
+
+        // Then
+        assertThat(port.getById(order.getId())).isEmpty();
+    }
+
+    private static Order order() {
+        return order(ID.generate());
+    }
+
+    private static Order order(ID id) {
+        List<OrderItem> items = List.of(OrderItem.create(ID.generate(), "Laptop", Quantity.of(1),
+            Money.of(new BigDecimal("1500.00"), Currency.getInstance("USD"))));
+        return Order.of(id, ID.generate(), items, Address.of("Main Street 1", "Istanbul", "34000", "TR"),
+            OrderStatus.PENDING);
+    }
+}
@@ -0,0 +1,111 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.specification.OrderSpecifications;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import com.hexagonal.domain.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderKeyset Tests")
+class OrderKeysetTest {
+
+    private static final Comparator<Order> NEWEST_FIRST = Comparator.comparing(Order::getCreatedAt)
+        .thenComparing(order -> order.getId().getValue())
+        .reversed();
+
+    private final LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private List<Order> store;
+    private int fetches;
+
+    @BeforeEach
+    void setUp() {
+        store = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            OrderStatus status = i % 3 == 0 ? OrderStatus.SHIPPED : OrderStatus.PENDING;
+            store.add(order(status, start.plusDays(i)));
+        }
+        // Two orders created at the same time are told apart by id
+        store.add(order(OrderStatus.PENDING, start.plusDays(9)));
+        store.sort(NEWEST_FIRST);
+        fetches = 0;
+    }
+
+    @Test
+    @DisplayName("Should walk every order once, newest first, page by page")
+    void shouldWalkAllOrdersPageByPage() {
+        // Given
+        List<Order> seen = new ArrayList<>();
+        OrderKeyset position = null;
+
+        // When
+        while (true) {
+            List<Order> page = OrderKeyset.collect(position, 4, null, this::fetch);
+            seen.addAll(page);
+            if (page.size() < 4) {
+                break;
+            }
+            position = OrderKeyset.of(page.get(page.size() - 1));
+        }
+
+        // Then
+        assertThat(seen).containsExactly(store.toArray());
+    }
+
+    @Test
+    @DisplayName("Should keep fetching batches until the page is full when a filter runs in memory")
+    void shouldFillPageWithResidualFilter() {
+        // When
+        List<Order> page = OrderKeyset.collect(null, 3, OrderSpecifications.hasStatus(OrderStatus.SHIPPED), this::fetch);
+
+        // Then: shipped orders are days 9, 6 and 3, spread over the first three batches
+        assertThat(page.stream().map(Order::getCreatedAt).toList())
+            .containsExactly(start.plusDays(9), start.plusDays(6), start.plusDays(3));
+        assertThat(fetches).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should stop at the end of the store with a short page")
+    void shouldStopAtEndOfStore() {
+        // When
+        List<Order> page = OrderKeyset.collect(null, 5, OrderSpecifications.hasStatus(OrderStatus.CANCELLED), this::fetch);
+
+        // Then
+        assertThat(page).isEmpty();
+        assertThat(fetches).isEqualTo(3);
+    }
+
+    private List<Order> fetch(OrderKeyset after, int batchSize) {
+        fetches++;
+        return store.stream()
+            .filter(order -> after == null || isOlder(order, after))
+            .limit(batchSize)
+            .toList();
+    }
+
+    private static boolean isOlder(Order order, OrderKeyset position) {
+        int byTime = order.getCreatedAt().compareTo(position.createdAt());
+        return byTime < 0 || byTime == 0 && order.getId().getValue().compareTo(position.id()) < 0;
+    }
+
+    private static Order order(OrderStatus status, LocalDateTime createdAt) {
+        List<OrderItem> items = List.of(OrderItem.create(ID.generate(), "Laptop", Quantity.of(1),
+            Money.of(new BigDecimal("999.99"), "USD")));
+        return Order.of(ID.generate(), ID.generate(), items, Address.of("Main Street 1", "Istanbul", "34000", "TR"),
+            null, null, null, status, null, createdAt, createdAt);
+    }
+}
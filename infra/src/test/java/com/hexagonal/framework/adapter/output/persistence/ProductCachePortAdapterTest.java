@@ -0,0 +1,111 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.framework.cache.CacheMultiGet;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductCachePortAdapter Tests")
+class ProductCachePortAdapterTest {
+
+    private ProductCache productCache;
+    private ProductCachePortAdapter port;
+    private Product laptop;
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(ProductCache.CACHE_NAME);
+        SingleFlightCacheLoader cacheLoader = new SingleFlightCacheLoader(Duration.ofMinutes(5), 0, 1, 1000);
+        productCache = new ProductCache(cacheManager, cacheLoader);
+        port = new ProductCachePortAdapter(cacheManager, cacheLoader, new CacheMultiGet(null), CacheStatsRecorder.NONE);
+        Currency usd = Currency.getInstance("USD");
+        laptop = Product.create("Laptop", Money.of(new BigDecimal("1500.00"), usd), "LAP-001");
+        phone = Product.create("Phone", Money.of(new BigDecimal("700.00"), usd), "PHN-001");
+    }
+
+    @Test
+    @DisplayName("Should return only cached products from a bulk read")
+    void shouldReturnOnlyHitsFromGetAll() {
+        // Given
+        port.putAll(List.of(laptop, phone));
+        ID missing = ID.generate();
+
+        // When
+        var found = port.getAll(List.of(laptop.getId(), missing, phone.getId()));
+
+        // Then
+        assertThat(found).containsOnlyKeys(laptop.getId(), phone.getId());
+        assertThat(found.get(laptop.getId())).isSameAs(laptop);
+        assertThat(port.getAll(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read the products written by the persistence adapters")
+    void shouldSeeAdapterWrites() {
+        // Given
+        productCache.findById(laptop.getId(), id -> Optional.of(laptop));
+        Product restocked = laptop.withStock(Quantity.of(7));
+
+        // When
+        productCache.saved(List.of(restocked));
+
+        // Then
+        assertThat(port.getById(laptop.getId())).containsSame(restocked);
+
+        // When
+        productCache.stockChanged(laptop.getId());
+
+        // Then
+        assertThat(port.getById(laptop.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not replace a product stored by a writer")
+    void shouldKeepWriterValueOnPut() {
+        // Given
+        Product restocked = laptop.withStock(Quantity.of(7));
+        productCache.saved(List.of(restocked));
+
+        // When
+        port.put(laptop);
+
+        // Then
+        assertThat(port.getById(laptop.getId())).containsSame(restocked);
+    }
+
+    @Test
+    @DisplayName("Should drop invalidated products")
+    void shouldInvalidateProducts() {
+        // Given
+        port.putAll(List.of(laptop, phone));
+
+        // When
+        port.invalidateById(laptop.getId());
+
+        // Then
+        assertThat(port.getById(laptop.getId())).isEmpty();
+        assertThat(port.getById(phone.getId())).contains(phone);
+
+        // When
+        port.invalidateAll();
+
+        // Then
+        assertThat(port.getAll(List.of(laptop.getId(), phone.getId()))).isEmpty();
+    }
+}
@@ -0,0 +1,220 @@
+package com.hexagonal.framework.adapter.output.persistence;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.framework.cache.SingleFlightCacheLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductCache Tests")
+class ProductCacheTest {
+
+    private final Map<ID, Product> store = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ProductCache productCache;
+    private Product laptop;
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        productCache = new ProductCache(new ConcurrentMapCacheManager(ProductCache.CACHE_NAME),
+            new SingleFlightCacheLoader(Duration.ofMinutes(5), 0, 1, 1000));
+        Currency usd = Currency.getInstance("USD");
+        laptop = Product.create("Laptop", Money.of(new BigDecimal("1500.00"), usd), "LAP-001");
+        phone = Product.create("Phone", Money.of(new BigDecimal("700.00"), usd), "PHN-001");
+        store.put(laptop.getId(), laptop);
+        store.put(phone.getId(), phone);
+    }
+
+    @Test
+    @DisplayName("Should keep other products cached when one product is saved")
+    void shouldKeepOtherEntriesOnSave() {
+        // Given
+        productCache.findById(laptop.getId(), this::loadById);
+        productCache.findById(phone.getId(), this::loadById);
+        productCache.findAll(this::loadAll, this::loadAllById);
+        loads.set(0);
+
+        // When
+        laptop.addStock(Quantity.of(3));
+        productCache.saved(List.of(laptop));
+
+        // Then
+        assertThat(productCache.findById(phone.getId(), this::loadById)).contains(phone);
+        assertThat(productCache.findById(laptop.getId(), this::loadById).get().getStockQuantity())
+            .isEqualTo(Quantity.of(3));
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload the list once after a product is saved")
+    void shouldReloadListAfterSave() {
+        // Given: the list and the id entries it resolves to are cached
+        productCache.findAll(this::loadAll, this::loadAllById);
+        productCache.findAll(this::loadAll, this::loadAllById);
+        Product tablet = Product.create("Tablet", Money.of(new BigDecimal("900.00"), Currency.getInstance("USD")), "TAB-001");
+        store.put(tablet.getId(), tablet);
+        loads.set(0);
+
+        // When
+        productCache.saved(List.of(tablet));
+
+        // Then
+        assertThat(productCache.findAll(this::loadAll, this::loadAllById)).containsExactlyInAnyOrder(laptop, phone, tablet);
+        assertThat(productCache.findAll(this::loadAll, this::loadAllById)).hasSize(3);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retire the list for every node sharing the cache")
+    void shouldRetireListAcrossNodes() {
+        // Given: two nodes with their own ProductCache over one shared cache
+        ConcurrentMapCacheManager sharedCache = new ConcurrentMapCacheManager(ProductCache.CACHE_NAME);
+        ProductCache node = new ProductCache(sharedCache, new SingleFlightCacheLoader(Duration.ofMinutes(5), 0, 1, 1000));
+        ProductCache otherNode = new ProductCache(sharedCache, new SingleFlightCacheLoader(Duration.ofMinutes(5), 0, 1, 1000));
+        node.findAll(this::loadAll, this::loadAllById);
+        Product tablet = Product.create("Tablet", Money.of(new BigDecimal("900.00"), Currency.getInstance("USD")), "TAB-001");
+        store.put(tablet.getId(), tablet);
+
+        // When
+        otherNode.saved(List.of(tablet));
+
+        // Then
+        assertThat(node.findAll(this::loadAll, this::loadAllById)).containsExactlyInAnyOrder(laptop, phone, tablet);
+    }
+
+    @Test
+    @DisplayName("Should resolve SKU lookups through the id entry")
+    void shouldResolveSkuThroughIdEntry() {
+        // Given
+        productCache.findBySku("LAP-001", this::loadBySku, this::loadById);
+        laptop.addStock(Quantity.of(5));
+        productCache.saved(List.of(laptop));
+        loads.set(0);
+
+        // When
+        Optional<Product> result = productCache.findBySku("LAP-001", this::loadBySku, this::loadById);
+
+        // Then
+        assertThat(result).get().extracting(Product::getStockQuantity).isEqualTo(Quantity.of(5));
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted product from id, SKU and list entries")
+    void shouldDropDeletedProduct() {
+        // Given
+        productCache.findBySku("LAP-001", this::loadBySku, this::loadById);
+        productCache.findAll(this::loadAll, this::loadAllById);
+        store.remove(laptop.getId());
+
+        // When
+        productCache.deleted(laptop.getId());
+
+        // Then
+        assertThat(productCache.findById(laptop.getId(), this::loadById)).isEmpty();
+        assertThat(productCache.findBySku("LAP-001", this::loadBySku, this::loadById)).isEmpty();
+        assertThat(productCache.findAll(this::loadAll, this::loadAllById)).containsExactly(phone);
+    }
+
+    @Test
+    @DisplayName("Should evict a product after a stock update without reading it")
+    void shouldEvictProductOnStockChange() {
+        // Given
+        productCache.findById(laptop.getId(), this::loadById);
+        productCache.findById(phone.getId(), this::loadById);
+        laptop.addStock(Quantity.of(2));
+        loads.set(0);
+
+        // When
+        productCache.stockChanged(laptop.getId());
+
+        // Then
+        assertThat(loads.get()).isZero();
+        assertThat(productCache.findById(laptop.getId(), this::loadById).get().getStockQuantity())
+            .isEqualTo(Quantity.of(2));
+        assertThat(productCache.findById(phone.getId(), this::loadById)).contains(phone);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the list on a stock update and serve the new stock")
+    void shouldKeepListOnStockChange() {
+        // Given
+        productCache.findAll(this::loadAll, this::loadAllById);
+        productCache.findAll(this::loadAll, this::loadAllById);
+        Product restocked = Product.of(laptop.getId(), "Laptop", laptop.getPrice(), "LAP-001");
+        restocked.addStock(Quantity.of(7));
+        store.put(laptop.getId(), restocked);
+        loads.set(0);
+
+        // When
+        productCache.stockChanged(laptop.getId());
+        List<Product> result = productCache.findAll(this::loadAll, this::loadAllById);
+
+        // Then: only the evicted product is read again, by id
+        assertThat(result).containsExactlyInAnyOrder(restocked, phone);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(productCache.findAll(this::loadAll, this::loadAllById)).hasSize(2);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve a list loaded while a write happened")
+    void shouldNotServeListLoadedDuringWrite() {
+        // Given: the write lands between the read of the version and the put of the loaded list
+        Product tablet = Product.create("Tablet", Money.of(new BigDecimal("900.00"), Currency.getInstance("USD")), "TAB-001");
+        List<Product> loadedBeforeWrite = productCache.findAll(() -> {
+            List<Product> snapshot = loadAll();
+            store.put(tablet.getId(), tablet);
+            productCache.saved(List.of(tablet));
+            return snapshot;
+        }, this::loadAllById);
+
+        // When
+        List<Product> result = productCache.findAll(this::loadAll, this::loadAllById);
+
+        // Then
+        assertThat(loadedBeforeWrite).hasSize(2);
+        assertThat(result).containsExactlyInAnyOrder(laptop, phone, tablet);
+    }
+
+    private Optional<Product> loadById(ID id) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(store.get(id));
+    }
+
+    private Optional<Product> loadBySku(String sku) {
+        loads.incrementAndGet();
+        return store.values().stream().filter(product -> product.getSku().equals(sku)).findFirst();
+    }
+
+    private List<Product> loadAllById(Collection<ID> ids) {
+        loads.incrementAndGet();
+        return ids.stream().map(store::get).filter(Objects::nonNull).toList();
+    }
+
+    private List<Product> loadAll() {
+        loads.incrementAndGet();
+        return new ArrayList<>(store.values());
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.util.Currency;
@@ -130,6 +131,49 @@ class ProductH2AdapterTest {
         verify(jpaRepository).findAll();
     }
 
+    @Test
+    @DisplayName("Should find a page of products by status")
+    void shouldFindPageOfProductsByStatus() {
+        // Given
+        when(jpaRepository.findByStatusOrderByIdAsc("ACTIVE", PageRequest.of(2, 10))).thenReturn(List.of(entity));
+
+        // When
+        List<Product> result = adapter.findAllByStatus(ProductStatus.ACTIVE, 2, 10);
+
+        // Then
+        assertThat(result).extracting(Product::getId).containsExactly(productId);
+        verify(jpaRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should find products after keyset cursor")
+    void shouldFindProductsAfterCursor() {
+        // Given
+        ID cursor = ID.generate();
+        when(jpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc("ACTIVE", cursor.getValue(), PageRequest.of(0, 10)))
+            .thenReturn(List.of(entity));
+
+        // When
+        List<Product> result = adapter.findAllByStatusAfter(ProductStatus.ACTIVE, cursor, 10);
+
+        // Then
+        assertThat(result).extracting(Product::getId).containsExactly(productId);
+    }
+
+    @Test
+    @DisplayName("Should start from first page when cursor is null")
+    void shouldStartFromFirstPageWhenCursorIsNull() {
+        // Given
+        when(jpaRepository.findByStatusOrderByIdAsc("ACTIVE", PageRequest.of(0, 10))).thenReturn(List.of(entity));
+
+        // When
+        List<Product> result = adapter.findAllByStatusAfter(ProductStatus.ACTIVE, null, 10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(jpaRepository, never()).findByStatusAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+    }
+
     @Test
     @DisplayName("Should delete product by id")
     void shouldDeleteProductById() {
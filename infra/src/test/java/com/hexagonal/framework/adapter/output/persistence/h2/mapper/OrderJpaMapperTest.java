@@ -0,0 +1,87 @@
+package com.hexagonal.framework.adapter.output.persistence.h2.mapper;
+
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.vo.*;
+import com.hexagonal.framework.adapter.output.persistence.h2.entity.OrderJpaEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderJpaMapper Tests")
+class OrderJpaMapperTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final Address shippingAddress = Address.of("Main Street 1", "Istanbul", "34000", "TR");
+
+    @Test
+    @DisplayName("Should map order to entity with its items and partition key")
+    void shouldMapOrderToEntity() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 14, 10, 30);
+        Order order = Order.of(ID.generate(), ID.generate(), items(), shippingAddress, null,
+            Money.of(new BigDecimal("10.00"), USD), Money.zero(USD), OrderStatus.CONFIRMED, null,
+            createdAt, createdAt);
+
+        // When
+        OrderJpaEntity entity = OrderJpaMapper.toEntity(order);
+
+        // Then
+        assertThat(entity.getId()).isEqualTo(order.getId().getValue());
+        assertThat(entity.getCustomerId()).isEqualTo(order.getCustomerId().getValue());
+        assertThat(entity.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(entity.getItems()).hasSize(2);
+        assertThat(entity.getItems().get(0).getProductName()).isEqualTo("Laptop");
+        assertThat(entity.getTotalAmount()).isEqualByComparingTo("1011.99");
+        assertThat(entity.getCurrency()).isEqualTo("USD");
+        assertThat(entity.getBillingAddress()).isNull();
+        assertThat(entity.getTrackingNumber()).isNull();
+        assertThat(entity.getCreatedMonth()).isEqualTo(202603);
+        assertThat(entity.getVersion()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map entity back to an equal order keeping its timestamps and version")
+    void shouldRoundTripOrder() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 12, 31, 23, 59);
+        LocalDateTime updatedAt = createdAt.plusDays(2);
+        TrackingInformation tracking = TrackingInformation.of("TRK-1", "UPS", "https://ups.example/TRK-1",
+            updatedAt);
+        Order order = Order.of(ID.generate(), ID.generate(), items(), shippingAddress,
+            Address.of("Billing Road 2", "Ankara", "Cankaya", "06000", "TR"),
+            Money.of(new BigDecimal("10.00"), USD), Money.of(new BigDecimal("5.00"), USD), OrderStatus.SHIPPED,
+            tracking, createdAt, updatedAt, 3L);
+
+        // When
+        Order mapped = OrderJpaMapper.toDomain(OrderJpaMapper.toEntity(order));
+
+        // Then
+        assertThat(mapped.getId()).isEqualTo(order.getId());
+        assertThat(mapped.getCustomerId()).isEqualTo(order.getCustomerId());
+        assertThat(mapped.getStatus()).isEqualTo(OrderStatus.SHIPPED);
+        assertThat(mapped.getItems()).hasSize(2);
+        assertThat(mapped.getItems().get(1).getQuantity()).isEqualTo(Quantity.of(2));
+        assertThat(mapped.getTotalAmount()).isEqualTo(order.getTotalAmount());
+        assertThat(mapped.getShippingAddress()).isEqualTo(shippingAddress);
+        assertThat(mapped.getBillingAddress()).isEqualTo(order.getBillingAddress());
+        assertThat(mapped.getTrackingInformation()).isEqualTo(tracking);
+        assertThat(mapped.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(mapped.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(mapped.getVersion()).isEqualTo(3L);
+    }
+
+    private static List<OrderItem> items() {
+        return List.of(
+            OrderItem.create(ID.generate(), "Laptop", Quantity.of(1), Money.of(new BigDecimal("999.99"), USD)),
+            OrderItem.create(ID.generate(), "Mouse", Quantity.of(2), Money.of(new BigDecimal("1.00"), USD))
+        );
+    }
+}
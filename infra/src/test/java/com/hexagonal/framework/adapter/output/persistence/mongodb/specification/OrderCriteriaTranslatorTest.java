@@ -0,0 +1,73 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.specification;
+
+import com.hexagonal.domain.specification.OrderSpecifications;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderCriteriaTranslator Tests")
+class OrderCriteriaTranslatorTest {
+
+    private final OrderCriteriaTranslator translator = new OrderCriteriaTranslator();
+
+    @Test
+    @DisplayName("Should translate status and customer filters exactly")
+    void shouldTranslateStatusAndCustomerExactly() {
+        ID customerId = ID.generate();
+
+        var translation = translator.translatePartially(
+            OrderSpecifications.hasStatus(OrderStatus.SHIPPED).and(OrderSpecifications.belongsToCustomer(customerId)));
+
+        assertThat(translation.exact()).isTrue();
+        assertThat(translation.query().getCriteriaObject().get("$and", List.class)).containsExactly(
+            new Document("status", "SHIPPED"),
+            new Document("customerId", customerId.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should bound the partition key of a date range")
+    void shouldBoundPartitionKeyOfDateRange() {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 4, 15, 0, 0);
+
+        var translation = translator.translatePartially(OrderSpecifications.createdBetween(from, to));
+
+        assertThat(translation.exact()).isTrue();
+        assertThat(translation.query().getCriteriaObject().get("$and", List.class)).containsExactly(
+            new Document("createdMonth", new Document("$gte", 202603)).append("createdAt", new Document("$gte", from)),
+            new Document("createdMonth", new Document("$lte", 202604)).append("createdAt", new Document("$lt", to)));
+    }
+
+    @Test
+    @DisplayName("Should compare totals numerically within their currency")
+    void shouldTranslateTotalBounds() {
+        Money min = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+        var translation = translator.translate(OrderSpecifications.totalAmountGreaterThan(min));
+
+        assertThat(translation).get().extracting(criteria -> criteria.getCriteriaObject()).isEqualTo(
+            new Document("currency", "USD").append("totalAmount", new Document("$gte", new Decimal128(new BigDecimal("100.00")))));
+    }
+
+    @Test
+    @DisplayName("Should push down the status filter when canBeCancelled cannot be translated")
+    void shouldPushDownTranslatableConjuncts() {
+        var translation = translator.translatePartially(
+            OrderSpecifications.hasStatus(OrderStatus.CONFIRMED).and(OrderSpecifications.canBeCancelled()));
+
+        assertThat(translation.exact()).isFalse();
+        assertThat(translation.query().getCriteriaObject().get("$and", List.class))
+            .containsExactly(new Document("status", "CONFIRMED"));
+    }
+}
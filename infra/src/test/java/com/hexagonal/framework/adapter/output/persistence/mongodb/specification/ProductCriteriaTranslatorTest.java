@@ -0,0 +1,80 @@
+package com.hexagonal.framework.adapter.output.persistence.mongodb.specification;
+
+import com.hexagonal.domain.specification.ProductSpecifications;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductCriteriaTranslator Tests")
+class ProductCriteriaTranslatorTest {
+
+    private final ProductCriteriaTranslator translator = new ProductCriteriaTranslator();
+
+    @Test
+    @DisplayName("Should translate an AND of leaf specifications exactly")
+    void shouldTranslateAndExactly() {
+        ID categoryId = ID.generate();
+
+        var translation = translator.translatePartially(
+            ProductSpecifications.isActive().and(ProductSpecifications.hasCategory(categoryId)));
+
+        assertThat(translation.exact()).isTrue();
+        Document document = translation.query().getCriteriaObject();
+        assertThat(document.get("$and", List.class)).containsExactly(
+            new Document("status", "ACTIVE"),
+            new Document("categoryIds", categoryId.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should translate NOT as $nor")
+    void shouldTranslateNotAsNor() {
+        var translation = translator.translatePartially(ProductSpecifications.isDiscontinued().not());
+
+        assertThat(translation.exact()).isTrue();
+        assertThat(translation.query().getCriteriaObject().get("$nor", List.class))
+            .containsExactly(new Document("status", "DISCONTINUED"));
+    }
+
+    @Test
+    @DisplayName("Should push down translatable conjuncts when price bounds cannot be translated")
+    void shouldPushDownTranslatableConjuncts() {
+        Money max = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+        var translation = translator.translatePartially(
+            ProductSpecifications.isActive().and(ProductSpecifications.priceLessThan(max)));
+
+        assertThat(translation.exact()).isFalse();
+        assertThat(translation.query().getCriteriaObject().get("$and", List.class))
+            .containsExactly(new Document("status", "ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("Should push nothing down for an OR with an untranslatable branch")
+    void shouldPushNothingForPartialOr() {
+        Money max = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+        var translation = translator.translatePartially(
+            ProductSpecifications.isActive().or(ProductSpecifications.priceLessThan(max)));
+
+        assertThat(translation.exact()).isFalse();
+        assertThat(translation.query()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should match everything for hasAllCategories with no categories")
+    void shouldMatchEverythingForEmptyHasAllCategories() {
+        var translation = translator.translate(ProductSpecifications.hasAllCategories(Set.of()));
+
+        assertThat(translation).get().extracting(Criteria::getCriteriaObject).isEqualTo(new Document());
+    }
+}
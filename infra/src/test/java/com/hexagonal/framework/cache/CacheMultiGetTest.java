@@ -0,0 +1,88 @@
+package com.hexagonal.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheMultiGet Tests")
+class CacheMultiGetTest {
+
+    private static final CacheInvalidationBus NO_BUS = new CacheInvalidationBus() {
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+        }
+    };
+
+    private final CacheMultiGet multiGet = new CacheMultiGet(null);
+
+    @Test
+    @DisplayName("Should return only the present keys of a Caffeine cache")
+    void shouldReadCaffeineCache() {
+        // Given
+        Cache cache = new CaffeineCache("products", Caffeine.newBuilder().build(), false);
+        cache.put("1", "laptop");
+        cache.put("2", "phone");
+
+        // When
+        Map<String, Object> found = multiGet.getAllPresent(cache, List.of("1", "2", "3"));
+
+        // Then
+        assertThat(found).isEqualTo(Map.of("1", "laptop", "2", "phone"));
+    }
+
+    @Test
+    @DisplayName("Should read other caches key by key through a transaction-aware decorator")
+    void shouldReadDecoratedCache() {
+        // Given
+        ConcurrentMapCache target = new ConcurrentMapCache("products", false);
+        target.put("1", "laptop");
+
+        // When
+        Map<String, Object> found = multiGet.getAllPresent(new TransactionAwareCacheDecorator(target), List.of("1", "2"));
+
+        // Then
+        assertThat(found).isEqualTo(Map.of("1", "laptop"));
+        assertThat(multiGet.getAllPresent(target, List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read the shared tier once for the keys the local tier misses and fill the local tier")
+    void shouldReadSharedTierOnceForLocalMisses() {
+        // Given
+        ConcurrentMapCache local = new ConcurrentMapCache("products", false);
+        List<Object> sharedReads = new ArrayList<>();
+        ConcurrentMapCache shared = new ConcurrentMapCache("products", false) {
+            @Override
+            public ValueWrapper get(Object key) {
+                sharedReads.add(key);
+                return super.get(key);
+            }
+        };
+        TwoTierCache cache = new TwoTierCache(local, shared, NO_BUS, "node-a");
+        local.put("1", "laptop");
+        shared.put("2", "phone");
+
+        // When
+        Map<String, Object> found = multiGet.getAllPresent(cache, List.of("1", "2", "3"));
+
+        // Then
+        assertThat(found).isEqualTo(Map.of("1", "laptop", "2", "phone"));
+        assertThat(sharedReads).containsExactly("2", "3");
+        assertThat(local.get("2", String.class)).isEqualTo("phone");
+    }
+}
@@ -0,0 +1,87 @@
+package com.hexagonal.framework.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheWarmUp Tests")
+class CacheWarmUpTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private CacheWarmUp warmUp;
+
+    @BeforeEach
+    void setUp() {
+        warmUp = new CacheWarmUp(Duration.ofMinutes(2), 2, 4, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should hand batched sources over in batches and whole sources in one call")
+    void shouldLoadSourcesInBatches() {
+        // Given
+        List<List<Integer>> productBatches = new ArrayList<>();
+        List<List<String>> categoryCalls = new ArrayList<>();
+        warmUp.loadInBatches("products", () -> List.of(1, 2, 3, 4, 5), productBatches::add);
+        warmUp.load("categories", () -> List.of("a", "b", "c"), categoryCalls::add);
+
+        // When
+        warmUp.start(Runnable::run);
+
+        // Then
+        assertThat(productBatches).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+        assertThat(categoryCalls).containsExactly(List.of("a", "b", "c"));
+        assertThat(warmUp.loaded()).containsEntry("products", 5).containsEntry("categories", 3);
+        assertThat(warmUp.state()).isEqualTo(CacheWarmUp.State.COMPLETE);
+        assertThat(warmUp.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should finish the warm-up when a source fails")
+    void shouldSkipFailingSource() {
+        // Given
+        List<List<Integer>> batches = new ArrayList<>();
+        warmUp.load("customers", () -> {
+            throw new IllegalStateException("database down");
+        }, customers -> fail("nothing to load"));
+        warmUp.loadInBatches("products", () -> List.of(1), batches::add);
+
+        // When
+        warmUp.start(Runnable::run);
+
+        // Then
+        assertThat(batches).containsExactly(List.of(1));
+        assertThat(warmUp.loaded()).containsEntry("customers", 0);
+        assertThat(warmUp.state()).isEqualTo(CacheWarmUp.State.COMPLETE);
+    }
+
+    @Test
+    @DisplayName("Should report not ready while warming and ready once the deadline passed")
+    void shouldBecomeReadyAtDeadline() {
+        // Given
+        warmUp.loadInBatches("products", () -> List.of(1, 2, 3), batch -> { });
+        assertThat(warmUp.state()).isEqualTo(CacheWarmUp.State.PENDING);
+
+        // When: the loads are queued but never run
+        warmUp.start(queued::add);
+
+        // Then
+        assertThat(warmUp.state()).isEqualTo(CacheWarmUp.State.WARMING);
+        assertThat(warmUp.isReady()).isFalse();
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // Then
+        assertThat(warmUp.state()).isEqualTo(CacheWarmUp.State.DEADLINE_PASSED);
+        assertThat(warmUp.isReady()).isTrue();
+    }
+}
@@ -0,0 +1,69 @@
+package com.hexagonal.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CaffeineCacheBuilder Tests")
+class CaffeineCacheBuilderTest {
+
+    @Test
+    @DisplayName("Should record hit and miss statistics even when the spec does not ask for them")
+    void shouldAlwaysRecordStats() {
+        Cache<Object, Object> cache = CaffeineCacheBuilder.build("products", "maximumSize=10,recordStats", null);
+
+        cache.put("a", 1);
+        cache.getIfPresent("a");
+        cache.getIfPresent("b");
+
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should weigh cached lists by their size under maximumWeight")
+    void shouldWeighListsBySize() {
+        Cache<Object, Object> cache = CaffeineCacheBuilder.build("products", "maximumWeight=5", null);
+
+        cache.put("all", List.of(1, 2, 3, 4));
+        cache.put("single", 5);
+        cache.cleanUp();
+
+        assertThat(cache.policy().eviction()).hasValueSatisfying(eviction ->
+            assertThat(eviction.weightedSize()).hasValue(5));
+    }
+
+    @Test
+    @DisplayName("Should build a loading cache when refreshAfterWrite has a loader")
+    void shouldBuildLoadingCacheForRefresh() {
+        CacheRefreshLoader loader = new CacheRefreshLoader() {
+            @Override
+            public String cacheName() {
+                return "customers";
+            }
+
+            @Override
+            public Object load(Object key) {
+                return "loaded:" + key;
+            }
+        };
+
+        Cache<Object, Object> cache = CaffeineCacheBuilder.build("customers", "maximumSize=10,refreshAfterWrite=5m", loader);
+
+        assertThat(cache).isInstanceOf(LoadingCache.class);
+        assertThat(((LoadingCache<Object, Object>) cache).get("42")).isEqualTo("loaded:42");
+    }
+
+    @Test
+    @DisplayName("Should reject refreshAfterWrite without a loader")
+    void shouldRejectRefreshWithoutLoader() {
+        assertThatThrownBy(() -> CaffeineCacheBuilder.build("orders", "maximumSize=10,refreshAfterWrite=5m", null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("orders");
+    }
+}
@@ -0,0 +1,82 @@
+package com.hexagonal.framework.cache;
+
+import com.hexagonal.domain.entity.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CaffeineCategoryCacheAdapter Tests")
+class CaffeineCategoryCacheAdapterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CaffeineCategoryCacheAdapter cache;
+    private Category electronics;
+    private Category laptops;
+    private Category books;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineCategoryCacheAdapter(300, 100, clock::get);
+        electronics = Category.create("Electronics");
+        laptops = Category.create("Laptops");
+        laptops.setParentCategory(electronics.getId());
+        books = Category.create("Books");
+    }
+
+    @Test
+    @DisplayName("Should serve the list, single categories and children from one snapshot")
+    void shouldServeAllViewsFromSnapshot() {
+        // When
+        cache.putAll(List.of(electronics, laptops, books));
+
+        // Then
+        assertThat(cache.getAll()).hasValueSatisfying(all -> assertThat(all).containsExactly(electronics, laptops, books));
+        assertThat(cache.getById(laptops.getId().toString())).contains(laptops);
+        assertThat(cache.getChildren(null)).hasValueSatisfying(roots -> assertThat(roots).containsExactly(electronics, books));
+        assertThat(cache.getChildren(electronics.getId().toString()))
+            .hasValueSatisfying(children -> assertThat(children).containsExactly(laptops));
+        assertThat(cache.getChildren(books.getId().toString())).hasValueSatisfying(children -> assertThat(children).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep every view consistent across single-category writes")
+    void shouldUpdateViewsOnWrites() {
+        // Given
+        cache.putAll(List.of(electronics, laptops));
+        Category phones = Category.create("Phones");
+        phones.setParentCategory(electronics.getId());
+
+        // When
+        cache.putById(phones.getId().toString(), phones);
+        cache.invalidateById(laptops.getId().toString());
+
+        // Then
+        assertThat(cache.getAll()).hasValueSatisfying(all -> assertThat(all).containsExactly(electronics, phones));
+        assertThat(cache.getById(laptops.getId().toString())).isEmpty();
+        assertThat(cache.getChildren(electronics.getId().toString()))
+            .hasValueSatisfying(children -> assertThat(children).containsExactly(phones));
+    }
+
+    @Test
+    @DisplayName("Should drop the snapshot once its TTL has passed")
+    void shouldExpireSnapshot() {
+        // Given
+        cache.putAll(List.of(electronics));
+        cache.putById(books.getId().toString(), books);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(301).toNanos());
+
+        // Then
+        assertThat(cache.getAll()).isEmpty();
+        assertThat(cache.getById(books.getId().toString())).isEmpty();
+        assertThat(cache.getChildren(null)).isEmpty();
+    }
+}
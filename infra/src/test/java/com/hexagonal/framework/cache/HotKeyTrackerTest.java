@@ -0,0 +1,65 @@
+package com.hexagonal.framework.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HotKeyTracker Tests")
+class HotKeyTrackerTest {
+
+    @Test
+    @DisplayName("Should list the most accessed keys hottest first")
+    void shouldListHottestKeysFirst() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(10, 1);
+
+        // When
+        access(tracker, "product-1", 5);
+        access(tracker, "product-2", 9);
+        access(tracker, "product-3", 2);
+
+        // Then
+        List<HotKeyTracker.HotKey> top = tracker.top(2);
+        assertThat(top).containsExactly(
+            new HotKeyTracker.HotKey("product-2", 9, 0),
+            new HotKeyTracker.HotKey("product-1", 5, 0));
+    }
+
+    @Test
+    @DisplayName("Should keep a heavy key when a long tail of cold keys exceeds the capacity")
+    void shouldKeepHeavyKeyUnderLongTail() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(4, 1);
+
+        // When: one key takes a third of the accesses, 300 other keys share the rest
+        for (int i = 0; i < 300; i++) {
+            tracker.record("customer-" + i);
+            if (i % 2 == 0) {
+                tracker.record("customer-hot");
+            }
+        }
+
+        // Then
+        HotKeyTracker.HotKey hottest = tracker.top(1).get(0);
+        assertThat(hottest.key()).isEqualTo("customer-hot");
+        assertThat(hottest.accesses() - hottest.maxOverestimate()).isLessThanOrEqualTo(150);
+        assertThat(hottest.accesses()).isGreaterThanOrEqualTo(150);
+        assertThat(tracker.top(10)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive capacity or sample rate")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new HotKeyTracker(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HotKeyTracker(10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void access(HotKeyTracker tracker, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(key);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.hexagonal.framework.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlightCacheLoader Tests")
+class SingleFlightCacheLoaderTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConcurrentMapCache("customers");
+    }
+
+    @Test
+    @DisplayName("Should share one load between concurrent misses of a key")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        // Given
+        SingleFlightCacheLoader loader = loader(0, 0.5);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        results.add(callers.submit(() -> loader.get(cache, "all", String.class, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "customers";
+        })));
+        loading.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(callers.submit(() -> loader.get(cache, "all", String.class, () -> {
+                loads.incrementAndGet();
+                return "customers";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("customers");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should serve a stale entry while one background load replaces it")
+    void shouldServeStaleWhileRevalidating() {
+        // Given
+        SingleFlightCacheLoader loader = loader(0, 0.5);
+        loader.get(cache, "42", String.class, () -> "v1");
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        // When
+        String first = loader.get(cache, "42", String.class, () -> count("v2"));
+        String second = loader.get(cache, "42", String.class, () -> count("v2"));
+
+        // Then
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v1");
+        assertThat(refreshes).hasSize(1);
+
+        // When
+        refreshes.get(0).run();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(loader.get(cache, "42", String.class, () -> count("v3"))).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Should refresh a slow entry early when the draw says so")
+    void shouldRefreshEarly() {
+        // Given: the load takes 10s, the entry is 4m55s old and the draw gives -ln(0.5) * 10s ~ 7s
+        SingleFlightCacheLoader loader = loader(1.0, 0.5);
+        loader.get(cache, "42", String.class, () -> {
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+            return "v1";
+        });
+        clock.addAndGet(Duration.ofSeconds(295).toNanos());
+
+        // When
+        loader.get(cache, "42", String.class, () -> count("v2"));
+
+        // Then
+        assertThat(refreshes).hasSize(1);
+
+        // Given: a draw close to 1 keeps a fresh entry
+        SingleFlightCacheLoader lucky = loader(1.0, 0.999);
+        lucky.get(cache, "43", String.class, () -> {
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+            return "v1";
+        });
+        clock.addAndGet(Duration.ofSeconds(295).toNanos());
+        refreshes.clear();
+
+        // When
+        lucky.get(cache, "43", String.class, () -> count("v2"));
+
+        // Then
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not store a load that overlapped a write of its key")
+    void shouldNotStoreLoadOverlappingWrite() {
+        // Given
+        SingleFlightCacheLoader loader = loader(0, 0.5);
+
+        // When
+        String loaded = loader.get(cache, "42", String.class, () -> {
+            loader.written(cache, "42");
+            cache.put("42", "written");
+            return "loaded-before-write";
+        });
+
+        // Then
+        assertThat(loaded).isEqualTo("loaded-before-write");
+        assertThat(cache.get("42", String.class)).isEqualTo("written");
+
+        // When
+        loader.get(cache, "all", String.class, () -> {
+            loader.cleared(cache);
+            return "loaded-before-clear";
+        });
+
+        // Then
+        assertThat(cache.get("all")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load many keys in one call and skip the keys written meanwhile")
+    void shouldLoadManyKeysInOneCall() {
+        // Given
+        SingleFlightCacheLoader loader = loader(0, 0.5);
+        cache.put("41", "cached");
+
+        // When
+        Map<String, String> loaded = loader.loadAll(cache, List.of("41", "42", "43"), keys -> {
+            loads.incrementAndGet();
+            loader.written(cache, "43");
+            cache.evict("43");
+            Map<String, String> values = new HashMap<>();
+            keys.forEach(key -> values.put(key, "loaded-" + key));
+            return values;
+        });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(loaded).containsOnlyKeys("41", "42", "43");
+        assertThat(cache.get("41", String.class)).isEqualTo("cached");
+        assertThat(cache.get("42", String.class)).isEqualTo("loaded-42");
+        assertThat(cache.get("43")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not cache null results and should pass load failures to the caller")
+    void shouldNotCacheNullsAndPropagateFailures() {
+        // Given
+        SingleFlightCacheLoader loader = loader(0, 0.5);
+
+        // When / Then
+        assertThat(loader.get(cache, "missing", String.class, () -> null)).isNull();
+        assertThat(cache.get("missing")).isNull();
+        assertThatThrownBy(() -> loader.get(cache, "broken", String.class, () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+        assertThat(loader.get(cache, "broken", String.class, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private SingleFlightCacheLoader loader(double beta, double draw) {
+        return new SingleFlightCacheLoader(Duration.ofMinutes(5), beta, refreshes::add, 1000, clock::get, () -> draw);
+    }
+
+    private String count(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
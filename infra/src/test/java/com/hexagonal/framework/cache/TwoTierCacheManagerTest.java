@@ -0,0 +1,171 @@
+package com.hexagonal.framework.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TwoTierCacheManager Tests")
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager redis;
+    private InMemoryInvalidationBus bus;
+
+    private Cache nodeA;
+    private Cache nodeB;
+    private Cache localB;
+
+    @BeforeEach
+    void setUp() {
+        // Shared maps stand in for the Redis L2 and the pub/sub channel
+        redis = new ConcurrentMapCacheManager("products");
+        bus = new InMemoryInvalidationBus();
+        nodeA = new TwoTierCacheManager(Map.of("products", new ConcurrentMapCache("products")), redis, bus)
+            .getCache("products");
+        localB = new ConcurrentMapCache("products");
+        nodeB = new TwoTierCacheManager(Map.of("products", localB), redis, bus).getCache("products");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the local tier")
+    void shouldServeRepeatedReadsLocally() {
+        // Given
+        redis.getCache("products").put("42", "laptop");
+        nodeB.get("42");
+
+        // When
+        redis.getCache("products").evict("42");
+
+        // Then
+        assertThat(nodeB.get("42", String.class)).isEqualTo("laptop");
+    }
+
+    @Test
+    @DisplayName("Should drop the local copy on other nodes when a node writes")
+    void shouldInvalidateOtherNodesOnWrite() {
+        // Given
+        nodeA.put("42", "laptop");
+        assertThat(nodeB.get("42", String.class)).isEqualTo("laptop");
+
+        // When
+        nodeA.put("42", "laptop-v2");
+
+        // Then
+        assertThat(localB.get("42")).isNull();
+        assertThat(nodeB.get("42", String.class)).isEqualTo("laptop-v2");
+    }
+
+    @Test
+    @DisplayName("Should propagate evict and clear to other nodes")
+    void shouldPropagateEvictAndClear() {
+        // Given
+        nodeA.put("42", "laptop");
+        nodeA.put("43", "phone");
+        nodeB.get("42");
+        nodeB.get("43");
+
+        // When
+        nodeA.evict("42");
+
+        // Then
+        assertThat(nodeB.get("42")).isNull();
+        assertThat(nodeB.get("43", String.class)).isEqualTo("phone");
+
+        // When
+        nodeA.clear();
+
+        // Then
+        assertThat(nodeB.get("43")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep its own write when its invalidation comes back")
+    void shouldIgnoreOwnInvalidations() {
+        // When
+        nodeA.put("42", "laptop");
+        redis.getCache("products").evict("42");
+
+        // Then
+        assertThat(nodeA.get("42", String.class)).isEqualTo("laptop");
+    }
+
+    @Test
+    @DisplayName("Should fill misses without notifying other nodes")
+    void shouldNotPublishOnFill() {
+        // When
+        nodeA.get("42", () -> "laptop");
+        nodeA.putIfAbsent("43", "phone");
+
+        // Then
+        assertThat(bus.published).isEmpty();
+        assertThat(nodeB.get("42", String.class)).isEqualTo("laptop");
+    }
+
+    @Test
+    @DisplayName("Should not keep a value read while another node invalidated it")
+    void shouldNotFillLocalTierAcrossInvalidation() {
+        // Given: node A writes while node B is reading the old value from Redis
+        Cache slowRedis = new ConcurrentMapCache("products") {
+            @Override
+            protected Object lookup(Object key) {
+                Object old = super.lookup(key);
+                if ("laptop".equals(old)) {
+                    nodeA.put(key, "laptop-v2");
+                }
+                return old;
+            }
+        };
+        CacheManager sharedManager = new CacheManager() {
+            @Override
+            public Cache getCache(String name) {
+                return slowRedis;
+            }
+
+            @Override
+            public Collection<String> getCacheNames() {
+                return List.of("products");
+            }
+        };
+        nodeA = new TwoTierCacheManager(Map.of("products", new ConcurrentMapCache("products")), sharedManager, bus)
+            .getCache("products");
+        localB = new ConcurrentMapCache("products");
+        nodeB = new TwoTierCacheManager(Map.of("products", localB), sharedManager, bus).getCache("products");
+        slowRedis.put("42", "laptop");
+
+        // When
+        Cache.ValueWrapper read = nodeB.get("42");
+
+        // Then
+        assertThat(read.get()).isEqualTo("laptop");
+        assertThat(localB.get("42")).isNull();
+        assertThat(nodeB.get("42", String.class)).isEqualTo("laptop-v2");
+    }
+
+    private static class InMemoryInvalidationBus implements CacheInvalidationBus {
+
+        private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+        private final List<CacheInvalidation> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            published.add(invalidation);
+            listeners.forEach(listener -> listener.accept(invalidation));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.hexagonal.framework.cache.serialization;
+
+import com.hexagonal.domain.entity.Customer;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.Dimensions;
+import com.hexagonal.domain.vo.Email;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.domain.vo.TrackingInformation;
+import com.hexagonal.domain.vo.Weight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompactRedisSerializer Tests")
+class CompactRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(json, 0);
+
+    @Test
+    @DisplayName("Should round-trip a product with all optional fields")
+    void shouldRoundTripProduct() {
+        // Given
+        Product product = laptop();
+
+        // When
+        Object result = serializer.deserialize(serializer.serialize(product));
+
+        // Then
+        assertThat(result).usingRecursiveComparison()
+            .ignoringFields("createdAt", "updatedAt")
+            .isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("Should round-trip a customer and an order with its timestamps")
+    void shouldRoundTripCustomerAndOrder() {
+        // Given
+        Customer customer = Customer.create("Ada", "Lovelace", Email.of("ada@example.com"));
+        customer.updatePhoneNumber("+905551112233");
+        customer.updateAddress(Address.of("Main St 1", "Istanbul", "34000", "TR"));
+        customer.deactivate();
+
+        Order order = Order.of(ID.generate(), customer.getId(),
+            List.of(OrderItem.create(ID.generate(), "Laptop", Quantity.of(2), Money.of(new BigDecimal("1500.00"), "USD"))),
+            Address.of("Main St 1", "Istanbul", "34000", "TR"), null,
+            Money.of(new BigDecimal("270.00"), "USD"), Money.of(new BigDecimal("50.00"), "USD"), OrderStatus.SHIPPED,
+            TrackingInformation.of("TRK-1", "UPS", "https://ups.example/TRK-1", LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000)),
+            LocalDateTime.of(2024, 4, 28, 9, 0, 0, 1_000), LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000));
+
+        // When / Then
+        assertThat(serializer.deserialize(serializer.serialize(customer))).usingRecursiveComparison()
+            .ignoringFields("createdAt", "updatedAt")
+            .isEqualTo(customer);
+        assertThat(serializer.deserialize(serializer.serialize(order))).usingRecursiveComparison()
+            .isEqualTo(order);
+    }
+
+    @Test
+    @DisplayName("Should keep amounts beyond a long and currencies outside the table")
+    void shouldRoundTripUnusualMoney() {
+        // Given
+        Money huge = Money.of(new BigDecimal("123456789012345678901234.56"), "USD");
+        Money yen = Money.of(new BigDecimal("1500"), "JPY");
+        Money kuwaiti = Money.of(new BigDecimal("-12.345"), "KWD");
+
+        // When / Then
+        for (Money money : List.of(huge, yen, kuwaiti)) {
+            CompactBinaryOutput out = new CompactBinaryOutput(16);
+            CompactCacheSchema.writeMoney(out, money);
+            assertThat(CompactCacheSchema.readMoney(new CompactBinaryInput(out.toByteArray(), 0))).isEqualTo(money);
+        }
+    }
+
+    @Test
+    @DisplayName("Should write product lists and SKU entries natively and other values through the fallback")
+    void shouldRoundTripListsStringsAndFallback() {
+        // Given
+        List<Product> products = List.of(laptop(), laptop());
+
+        // When
+        Object list = serializer.deserialize(serializer.serialize(products));
+        Object sku = serializer.deserialize(serializer.serialize("9a4c1f0e-0000-0000-0000-000000000001"));
+        Object other = serializer.deserialize(serializer.serialize(Map.of("count", 3)));
+
+        // Then
+        assertThat(list).asList().hasSize(2).allSatisfy(element -> assertThat(element).isInstanceOf(Product.class));
+        assertThat(sku).isEqualTo("9a4c1f0e-0000-0000-0000-000000000001");
+        assertThat(other).isEqualTo(Map.of("count", 3));
+    }
+
+    @Test
+    @DisplayName("Should write ids as raw bytes and amounts as unscaled integers")
+    void shouldEncodeProductCompactly() {
+        // Given
+        Product product = laptop();
+
+        // When
+        int size = serializer.serialize(product).length;
+
+        // Then: 3 UUIDs are 48 bytes and the strings 107, the rest of the product fits in well under 50
+        assertThat(size).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("Should compress large values with LZ4 and read them back")
+    void shouldCompressLargeValues() {
+        // Given
+        CompactRedisSerializer compressing = new CompactRedisSerializer(json, 512);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            products.add(laptop());
+        }
+
+        // When
+        byte[] bytes = compressing.serialize(products);
+
+        // Then
+        assertThat(bytes[0] & CompactRedisSerializer.LZ4_FLAG).isNotZero();
+        assertThat(bytes.length).isLessThan(serializer.serialize(products).length);
+        assertThat(compressing.deserialize(bytes)).asList().hasSize(50);
+        assertThat(compressing.serialize("short")[0] & CompactRedisSerializer.LZ4_FLAG).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read values of another format as a cache miss")
+    void shouldTreatForeignFormatAsMiss() {
+        // Given
+        byte[] jsonValue = json.serialize(Map.of("name", "Laptop"));
+
+        // When / Then
+        assertThat(serializer.deserialize(jsonValue)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    private static Product laptop() {
+        Product product = Product.create("Laptop Pro 14", Money.of(new BigDecimal("1499.99"), "USD"), "LAP-014");
+        product.updateDescription("14 inch laptop with 32 GB memory");
+        product.setStock(Quantity.of(120));
+        product.addCategory(ID.generate());
+        product.addCategory(ID.generate());
+        product.addImage("https://cdn.example.com/products/lap-014/front.jpg");
+        product.setWeight(Weight.of(new BigDecimal("1.45"), Weight.WeightUnit.KILOGRAM));
+        product.setDimensions(Dimensions.of(new BigDecimal("31.2"), new BigDecimal("22.1"), new BigDecimal("1.6"),
+            Dimensions.LengthUnit.CENTIMETER));
+        return product;
+    }
+}
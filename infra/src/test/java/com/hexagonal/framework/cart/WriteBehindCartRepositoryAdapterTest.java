@@ -0,0 +1,317 @@
+package com.hexagonal.framework.cart;
+
+import com.hexagonal.application.port.out.CartRepositoryPort;
+import com.hexagonal.domain.entity.Cart;
+import com.hexagonal.domain.vo.CartStatus;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+import com.hexagonal.framework.cache.CacheInvalidationBus;
+import com.hexagonal.framework.cache.CacheStatsRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WriteBehindCartRepositoryAdapter Tests")
+class WriteBehindCartRepositoryAdapterTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    private final ID customerId = ID.generate();
+    private final ID laptopId = ID.generate();
+    private final ID phoneId = ID.generate();
+    private final AtomicLong clock = new AtomicLong();
+
+    private InMemoryCartStore store;
+    private WriteBehindCartRepositoryAdapter carts;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryCartStore();
+        carts = adapter(store);
+    }
+
+    @Test
+    @DisplayName("Should serve saved carts from memory and reach the store only on flush")
+    void shouldServeFromMemoryUntilFlush() {
+        // Given
+        Cart cart = Cart.create(customerId);
+        cart.addItem(laptopId, Quantity.of(1), usd("999.99"));
+
+        // When
+        carts.save(cart);
+        Cart found = carts.findByCustomerId(customerId).orElseThrow();
+
+        // Then
+        assertThat(found.getTotalQuantity()).isEqualTo(1);
+        assertThat(carts.findById(cart.getId())).isPresent();
+        assertThat(store.carts).isEmpty();
+        assertThat(store.reads).isZero();
+
+        // When
+        carts.flush();
+
+        // Then
+        assertThat(store.carts).containsOnlyKeys(cart.getId());
+        assertThat(carts.pendingCarts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand out copies so an unsaved change is not visible to other readers")
+    void shouldHandOutCopies() {
+        // Given
+        Cart cart = Cart.create(customerId);
+        cart.addItem(laptopId, Quantity.of(1), usd("999.99"));
+        carts.save(cart);
+
+        // When
+        carts.findByCustomerId(customerId).orElseThrow().addItem(phoneId, Quantity.of(2), usd("499.00"));
+        cart.clear();
+
+        // Then
+        assertThat(carts.findByCustomerId(customerId).orElseThrow().getItemCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write a cart saved many times between flushes once")
+    void shouldCoalesceWrites() {
+        // Given
+        Cart cart = Cart.create(customerId);
+        for (int i = 1; i <= 10; i++) {
+            cart.addItem(laptopId, Quantity.of(1), usd("999.99"));
+            carts.save(cart);
+        }
+
+        // When
+        carts.flush();
+
+        // Then
+        assertThat(store.writes).isEqualTo(1);
+        assertThat(store.carts.get(cart.getId()).getTotalQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should recover unflushed carts and deletions from the journal after a crash")
+    void shouldRecoverFromJournal() {
+        // Given
+        Cart kept = Cart.create(customerId);
+        kept.addItem(laptopId, Quantity.of(2), usd("999.99"));
+        carts.save(kept);
+        Cart deleted = Cart.create(ID.generate());
+        deleted.addItem(phoneId, Quantity.of(1), usd("499.00"));
+        store.carts.put(deleted.getId(), deleted);
+        carts.deleteById(deleted.getId());
+
+        // When: no flush and no close, the process died with the changes only in the journal
+        InMemoryCartStore restartedStore = new InMemoryCartStore();
+        restartedStore.carts.putAll(store.carts);
+        WriteBehindCartRepositoryAdapter restarted = adapter(restartedStore);
+
+        // Then
+        assertThat(restartedStore.carts).containsOnlyKeys(kept.getId());
+        Cart recovered = restartedStore.carts.get(kept.getId());
+        assertThat(recovered.getTotalQuantity()).isEqualTo(2);
+        assertThat(recovered.getCreatedAt()).isEqualTo(kept.getCreatedAt());
+        assertThat(CartJournal.segments(journalDirectory)).hasSize(4);
+        assertThat(restarted.findByCustomerId(customerId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should keep carts pending and retry when the store fails")
+    void shouldRetryFailedFlush() {
+        // Given
+        Cart cart = Cart.create(customerId);
+        cart.addItem(laptopId, Quantity.of(1), usd("999.99"));
+        carts.save(cart);
+        store.failing = true;
+
+        // When
+        carts.flush();
+
+        // Then
+        assertThat(store.carts).isEmpty();
+        assertThat(carts.pendingCarts()).isEqualTo(1);
+
+        // When
+        store.failing = false;
+        carts.flush();
+
+        // Then
+        assertThat(store.carts).containsOnlyKeys(cart.getId());
+        // Only the segments opened by the last rotation are left
+        assertThat(CartJournal.segments(journalDirectory)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should not return a converted cart and should evict idle carts once flushed")
+    void shouldHideConvertedCartsAndEvictIdleOnes() {
+        // Given
+        Cart cart = Cart.create(customerId);
+        cart.addItem(laptopId, Quantity.of(1), usd("999.99"));
+        carts.save(cart);
+        cart.convertToOrder();
+        carts.save(cart);
+
+        // When / Then: the store still has nothing, but the customer has no active cart
+        assertThat(carts.findByCustomerId(customerId)).isEmpty();
+        assertThat(carts.findById(cart.getId()).map(Cart::getStatus)).contains(CartStatus.CONVERTED);
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(31).toNanos());
+        carts.flush();
+
+        // Then
+        assertThat(carts.hotCarts()).isZero();
+        assertThat(carts.findById(cart.getId()).map(Cart::getStatus)).contains(CartStatus.CONVERTED);
+    }
+
+    @Test
+    @DisplayName("Should drop a clean hot cart another node changed, but keep unflushed local changes")
+    void shouldDropCartsChangedOnOtherNodes() {
+        // Given: both nodes share the store and the invalidation bus; node A holds the customer's cart hot
+        InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+        WriteBehindCartRepositoryAdapter nodeA = new WriteBehindCartRepositoryAdapter(store,
+            journalDirectory.resolve("a"), 4, false, Duration.ofMinutes(30), bus, clock::get);
+        WriteBehindCartRepositoryAdapter nodeB = new WriteBehindCartRepositoryAdapter(store,
+            journalDirectory.resolve("b"), 4, false, Duration.ofMinutes(30), bus, clock::get);
+        Cart cart = Cart.create(customerId);
+        cart.addItem(laptopId, Quantity.of(1), usd("999.99"));
+        store.carts.put(cart.getId(), cart);
+        nodeA.findByCustomerId(customerId);
+
+        // When: the customer moved to node B, which changes the cart and flushes it
+        Cart moved = nodeB.findByCustomerId(customerId).orElseThrow();
+        moved.addItem(phoneId, Quantity.of(1), usd("499.00"));
+        nodeB.save(moved);
+        nodeB.flush();
+
+        // Then
+        assertThat(bus.published).hasSize(1);
+        assertThat(nodeA.hotCarts()).isZero();
+        assertThat(nodeA.findByCustomerId(customerId).orElseThrow().getItemCount()).isEqualTo(2);
+        assertThat(nodeB.hotCarts()).isEqualTo(1);
+
+        // When: node A has an unflushed change of its own when node B publishes
+        Cart local = nodeA.findByCustomerId(customerId).orElseThrow();
+        local.clear();
+        nodeA.save(local);
+        nodeB.save(moved);
+
+        // Then
+        assertThat(nodeA.findByCustomerId(customerId).orElseThrow().getItemCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report reads from memory as hits and reads from the store as misses")
+    void shouldReportHotTierHitsAndMisses() {
+        // Given
+        List<String> requests = new ArrayList<>();
+        CacheStatsRecorder stats = new CacheStatsRecorder() {
+            @Override
+            public void hit(String cacheName, Object key) {
+                requests.add(cacheName + ":hit");
+            }
+
+            @Override
+            public void miss(String cacheName, Object key) {
+                requests.add(cacheName + ":miss");
+            }
+        };
+        WriteBehindCartRepositoryAdapter counted = new WriteBehindCartRepositoryAdapter(store, journalDirectory, 4, false,
+            Duration.ofMinutes(30), null, stats, clock::get);
+        Cart cart = Cart.create(customerId);
+        store.carts.put(cart.getId(), cart);
+
+        // When
+        counted.findByCustomerId(customerId);
+        counted.findByCustomerId(customerId);
+        counted.findById(ID.generate());
+
+        // Then
+        assertThat(requests).containsExactly("cart-hot-tier:miss", "cart-hot-tier:hit", "cart-hot-tier:miss");
+    }
+
+    private static Money usd(String amount) {
+        return Money.of(new BigDecimal(amount), "USD");
+    }
+
+    private WriteBehindCartRepositoryAdapter adapter(InMemoryCartStore cartStore) {
+        return new WriteBehindCartRepositoryAdapter(cartStore, journalDirectory, 4, false, Duration.ofMinutes(30), null,
+            clock::get);
+    }
+
+    private static final class InMemoryInvalidationBus implements CacheInvalidationBus {
+        private final List<CacheInvalidation> published = new ArrayList<>();
+        private final List<Consumer<CacheInvalidation>> listeners = new ArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            published.add(invalidation);
+            listeners.forEach(listener -> listener.accept(invalidation));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+            listeners.add(listener);
+        }
+    }
+
+    private static final class InMemoryCartStore implements CartRepositoryPort {
+        private final Map<ID, Cart> carts = new ConcurrentHashMap<>();
+        private int writes;
+        private int reads;
+        private boolean failing;
+
+        @Override
+        public Cart save(Cart cart) {
+            if (failing) {
+                throw new IllegalStateException("Store unavailable");
+            }
+            carts.put(cart.getId(), cart);
+            writes++;
+            return cart;
+        }
+
+        @Override
+        public Optional<Cart> findById(ID id) {
+            reads++;
+            return Optional.ofNullable(carts.get(id));
+        }
+
+        @Override
+        public Optional<Cart> findByCustomerId(ID customerId) {
+            reads++;
+            return carts.values().stream()
+                .filter(cart -> cart.getCustomerId().equals(customerId) && cart.isActive())
+                .findFirst();
+        }
+
+        @Override
+        public void deleteById(ID id) {
+            if (failing) {
+                throw new IllegalStateException("Store unavailable");
+            }
+            carts.remove(id);
+        }
+
+        @Override
+        public boolean existsById(ID id) {
+            return carts.containsKey(id);
+        }
+    }
+}
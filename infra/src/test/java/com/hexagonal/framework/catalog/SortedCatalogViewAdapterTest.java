@@ -0,0 +1,90 @@
+package com.hexagonal.framework.catalog;
+
+import com.hexagonal.application.port.out.CatalogViewPort.SortKey;
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SortedCatalogViewAdapter Tests")
+class SortedCatalogViewAdapterTest {
+
+    private final Currency usd = Currency.getInstance("USD");
+
+    private SortedCatalogViewAdapter catalogView;
+    private Product laptop;
+    private Product phone;
+    private Product tablet;
+
+    @BeforeEach
+    void setUp() {
+        laptop = activeProduct("Laptop", "1500.00", "LAP-001");
+        phone = activeProduct("Phone", "700.00", "PHN-001");
+        tablet = activeProduct("Tablet", "400.00", "TAB-001");
+
+        catalogView = new SortedCatalogViewAdapter();
+        catalogView.rebuild(List.of(laptop, phone, tablet));
+    }
+
+    @Test
+    @DisplayName("Should slice each ordering in both directions")
+    void shouldSliceOrderings() {
+        assertThat(catalogView.slice(SortKey.PRICE, false, 0, 10))
+            .containsExactly(tablet.getId(), phone.getId(), laptop.getId());
+        assertThat(catalogView.slice(SortKey.PRICE, true, 1, 1)).containsExactly(phone.getId());
+        assertThat(catalogView.slice(SortKey.NAME, false, 0, 2)).containsExactly(laptop.getId(), phone.getId());
+        assertThat(catalogView.slice(SortKey.NAME, false, 3, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reorder products when price or popularity changes")
+    void shouldReorderOnChanges() {
+        laptop.updatePrice(Money.of(new BigDecimal("100.00"), usd));
+        catalogView.index(laptop);
+        catalogView.updatePopularity(Map.of(tablet.getId(), 5L, phone.getId(), 2L));
+
+        assertThat(catalogView.slice(SortKey.PRICE, false, 0, 1)).containsExactly(laptop.getId());
+        assertThat(catalogView.slice(SortKey.POPULARITY, true, 0, 3))
+            .containsExactly(tablet.getId(), phone.getId(), laptop.getId());
+    }
+
+    @Test
+    @DisplayName("Should drop inactive products and keep popularity across rebuilds")
+    void shouldDropInactiveProductsAndKeepPopularity() {
+        catalogView.updatePopularity(Map.of(phone.getId(), 3L));
+        laptop.markAsDiscontinued();
+        catalogView.index(laptop);
+
+        assertThat(catalogView.slice(SortKey.NAME, false, 0, 10)).containsExactly(phone.getId(), tablet.getId());
+
+        catalogView.rebuild(List.of(phone, tablet));
+        assertThat(catalogView.slice(SortKey.POPULARITY, true, 0, 1)).containsExactly(phone.getId());
+    }
+
+    @Test
+    @DisplayName("Should report built only after the first rebuild")
+    void shouldReportBuiltAfterRebuild() {
+        SortedCatalogViewAdapter emptyView = new SortedCatalogViewAdapter();
+        emptyView.index(laptop);
+        assertThat(emptyView.isBuilt()).isFalse();
+
+        emptyView.rebuild(List.of());
+        assertThat(emptyView.isBuilt()).isTrue();
+        assertThat(catalogView.isBuilt()).isTrue();
+    }
+
+    private Product activeProduct(String name, String price, String sku) {
+        Product product = Product.create(name, Money.of(new BigDecimal(price), usd), sku);
+        product.addStock(Quantity.of(10));
+        return product;
+    }
+}
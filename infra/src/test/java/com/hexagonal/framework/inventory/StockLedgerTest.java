@@ -0,0 +1,180 @@
+package com.hexagonal.framework.inventory;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.ProductStatus;
+import com.hexagonal.domain.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StockLedger Tests")
+class StockLedgerTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    private final ID laptopId = ID.generate();
+    private final ID phoneId = ID.generate();
+
+    private InMemoryStockStore store;
+    private StockLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStockStore();
+        store.stock.put(laptopId, 5);
+        store.stock.put(phoneId, 2);
+        ledger = new StockLedger(store, journalDirectory, 4, false);
+    }
+
+    @Test
+    @DisplayName("Should reserve available stock and refuse more than is left")
+    void shouldReserveOnlyAvailableStock() {
+        assertThat(ledger.tryReserve(laptopId, Quantity.of(3))).isTrue();
+        assertThat(ledger.tryReserve(laptopId, Quantity.of(3))).isFalse();
+        assertThat(ledger.tryReserve(ID.generate(), Quantity.of(1))).isFalse();
+
+        assertThat(ledger.available(laptopId)).contains(Quantity.of(2));
+        // Nothing reaches the store before a flush
+        assertThat(store.stock.get(laptopId)).isEqualTo(5);
+        assertThat(store.writes).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never sell more than the stock under concurrent reservations")
+    void shouldNotOversellUnderConcurrency() throws InterruptedException {
+        store.stock.put(laptopId, 1000);
+        AtomicInteger sold = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 200; j++) {
+                    if (ledger.tryReserve(laptopId, Quantity.of(1))) {
+                        sold.incrementAndGet();
+                    }
+                }
+            });
+        }
+        // Flushing concurrently must not lose or reorder changes either
+        ledger.flush();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        ledger.flush();
+
+        assertThat(sold.get()).isEqualTo(1000);
+        assertThat(ledger.available(laptopId)).contains(Quantity.zero());
+        assertThat(store.stock.get(laptopId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should store one write per changed product on flush")
+    void shouldFlushLatestStockPerProduct() {
+        ledger.tryReserve(laptopId, Quantity.of(1));
+        ledger.tryReserve(laptopId, Quantity.of(1));
+        ledger.release(laptopId, Quantity.of(4));
+        ledger.set(phoneId, Quantity.of(10));
+
+        ledger.flush();
+
+        assertThat(store.stock).containsEntry(laptopId, 7).containsEntry(phoneId, 10);
+        assertThat(store.writes).isEqualTo(2);
+        assertThat(StockJournal.segments(journalDirectory)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should recover unflushed stock changes from the journal after a crash")
+    void shouldRecoverFromJournal() {
+        ledger.tryReserve(laptopId, Quantity.of(2));
+        ledger.tryReserve(phoneId, Quantity.of(2));
+
+        // No flush and no close: the process died with the changes only in the journal
+        InMemoryStockStore restartedStore = new InMemoryStockStore();
+        restartedStore.stock.putAll(store.stock);
+        StockLedger restarted = new StockLedger(restartedStore, journalDirectory, 4, false);
+
+        assertThat(restartedStore.stock).containsEntry(laptopId, 3).containsEntry(phoneId, 0);
+        assertThat(restarted.available(laptopId)).isEmpty();
+        assertThat(restarted.tryReserve(laptopId, Quantity.of(3))).isTrue();
+        assertThat(restarted.tryReserve(phoneId, Quantity.of(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep journal segments and retry when the store fails")
+    void shouldRetryFailedFlush() {
+        ledger.tryReserve(laptopId, Quantity.of(2));
+        store.failing = true;
+
+        ledger.flush();
+        assertThat(store.stock.get(laptopId)).isEqualTo(5);
+
+        store.failing = false;
+        ledger.tryReserve(phoneId, Quantity.of(1));
+        ledger.flush();
+
+        assertThat(store.stock).containsEntry(laptopId, 3).containsEntry(phoneId, 1);
+        // Only the segments opened by the last rotation are left
+        assertThat(StockJournal.segments(journalDirectory)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should apply ledger stock to a copy and leave the shared product unchanged")
+    void shouldApplyStockToCopy() {
+        Product cached = Product.of(laptopId, "Laptop", Money.of(new BigDecimal("999.99"), "USD"), "LAP-1");
+        cached.setStock(Quantity.of(5));
+        ledger.tryReserve(laptopId, Quantity.of(5));
+
+        Product applied = ledger.applyTo(cached);
+
+        assertThat(applied.getStockQuantity()).isEqualTo(Quantity.zero());
+        assertThat(applied.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+        assertThat(cached.getStockQuantity()).isEqualTo(Quantity.of(5));
+        assertThat(cached.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        // Products whose stock already matches are returned as they are
+        assertThat(ledger.applyTo(applied)).isSameAs(applied);
+    }
+
+    @Test
+    @DisplayName("Should treat a later version as newer across wrap-around")
+    void shouldCompareVersionsAcrossWrapAround() {
+        long beforeWrap = (0xFFFF_FFFFL << 32) | 7;
+        long afterWrap = (1L << 32) | 6;
+
+        assertThat(StockLedger.newer(beforeWrap, afterWrap)).isEqualTo(afterWrap);
+        assertThat(StockLedger.newer(afterWrap, beforeWrap)).isEqualTo(afterWrap);
+    }
+
+    private static final class InMemoryStockStore implements StockLedger.StockStore {
+        private final Map<ID, Integer> stock = new ConcurrentHashMap<>();
+        private int writes;
+        private boolean failing;
+
+        @Override
+        public Optional<Quantity> loadStock(ID productId) {
+            return Optional.ofNullable(stock.get(productId)).map(Quantity::of);
+        }
+
+        @Override
+        public void storeStock(ID productId, Quantity quantity) {
+            if (failing) {
+                throw new IllegalStateException("Store unavailable");
+            }
+            stock.put(productId, quantity.getValue());
+            writes++;
+        }
+    }
+}
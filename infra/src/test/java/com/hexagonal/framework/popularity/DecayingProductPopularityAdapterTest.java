@@ -0,0 +1,80 @@
+package com.hexagonal.framework.popularity;
+
+import com.hexagonal.application.port.out.ProductPopularityRepositoryPort.PopularityCounts;
+import com.hexagonal.domain.vo.ID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DecayingProductPopularityAdapter Tests")
+class DecayingProductPopularityAdapterTest {
+
+    private final ID laptopId = ID.generate();
+    private final ID phoneId = ID.generate();
+
+    private DecayingProductPopularityAdapter popularity;
+
+    @BeforeEach
+    void setUp() {
+        popularity = new DecayingProductPopularityAdapter(1);
+    }
+
+    @Test
+    @DisplayName("Should count orders recorded concurrently without losing any")
+    void shouldCountConcurrentOrders() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    popularity.recordOrder(laptopId);
+                }
+            });
+        }
+        // Rotating mid-way must not drop increments either
+        popularity.rotateWindow();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(popularity.snapshot()).singleElement()
+            .extracting(PopularityCounts::totalOrders).isEqualTo(8000L);
+    }
+
+    @Test
+    @DisplayName("Should halve older windows every half-life so recent orders weigh more")
+    void shouldDecayOlderWindows() {
+        for (int i = 0; i < 8; i++) {
+            popularity.recordOrder(laptopId);
+        }
+        popularity.rotateWindow();
+        popularity.rotateWindow();
+        for (int i = 0; i < 3; i++) {
+            popularity.recordOrder(phoneId);
+        }
+
+        assertThat(popularity.score(laptopId)).isEqualTo(4);
+        assertThat(popularity.score(phoneId)).isEqualTo(3);
+        assertThat(popularity.score(ID.generate())).isZero();
+        assertThat(popularity.snapshot())
+            .filteredOn(counts -> counts.productId().equals(laptopId))
+            .singleElement()
+            .extracting(PopularityCounts::totalOrders).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("Should add restored counts to orders recorded since startup")
+    void shouldRestorePersistedCounts() {
+        popularity.recordOrder(phoneId);
+
+        popularity.restore(List.of(new PopularityCounts(phoneId, 10, 6.0)));
+
+        assertThat(popularity.score(phoneId)).isEqualTo(7);
+        assertThat(popularity.scores()).containsEntry(phoneId, 7L);
+    }
+}
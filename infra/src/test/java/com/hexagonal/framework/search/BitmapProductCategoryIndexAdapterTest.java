@@ -0,0 +1,86 @@
+package com.hexagonal.framework.search;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BitmapProductCategoryIndexAdapter Tests")
+class BitmapProductCategoryIndexAdapterTest {
+
+    private final ID electronics = ID.generate();
+    private final ID gaming = ID.generate();
+    private final ID phones = ID.generate();
+
+    private BitmapProductCategoryIndexAdapter index;
+    private Product laptop;
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        Currency usd = Currency.getInstance("USD");
+        laptop = Product.create("Gaming Laptop", Money.of(new BigDecimal("1500.00"), usd), "LAP-001");
+        laptop.addCategories(Set.of(electronics, gaming));
+        phone = Product.create("Smart Phone", Money.of(new BigDecimal("700.00"), usd), "PHN-001");
+        phone.addCategories(Set.of(electronics, phones));
+
+        index = new BitmapProductCategoryIndexAdapter();
+        index.rebuild(List.of(laptop, phone));
+    }
+
+    @Test
+    @DisplayName("Should union categories for any-match and intersect them for all-match")
+    void shouldUnionAndIntersectCategories() {
+        assertThat(index.findByAnyCategory(Set.of(gaming, phones)))
+            .containsExactlyInAnyOrder(laptop.getId(), phone.getId());
+        assertThat(index.findByAllCategories(Set.of(electronics, gaming))).containsExactly(laptop.getId());
+        assertThat(index.findByAllCategories(Set.of(gaming, phones))).isEmpty();
+        assertThat(index.countByAnyCategory(Set.of(electronics, gaming))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown or empty categories")
+    void shouldReturnNothingForUnknownCategories() {
+        assertThat(index.findByAnyCategory(Set.of(ID.generate()))).isEmpty();
+        assertThat(index.findByAllCategories(Set.of(electronics, ID.generate()))).isEmpty();
+        assertThat(index.findByAnyCategory(Set.of())).isEmpty();
+        assertThat(index.findByAllCategories(Set.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should move a product between categories when it is re-indexed")
+    void shouldReplaceCategoriesOnReindex() {
+        laptop.removeCategory(gaming);
+        laptop.addCategory(phones);
+        index.index(laptop);
+
+        assertThat(index.findByAnyCategory(Set.of(gaming))).isEmpty();
+        assertThat(index.findByAllCategories(Set.of(electronics, phones)))
+            .containsExactlyInAnyOrder(laptop.getId(), phone.getId());
+    }
+
+    @Test
+    @DisplayName("Should drop removed and discontinued products and reuse their ordinals")
+    void shouldDropRemovedAndDiscontinuedProducts() {
+        index.remove(laptop.getId());
+        phone.markAsDiscontinued();
+        index.index(phone);
+
+        assertThat(index.findByAnyCategory(Set.of(electronics))).isEmpty();
+
+        Product tablet = Product.create("Tablet", Money.of(new BigDecimal("400.00"), Currency.getInstance("USD")), "TAB-001");
+        tablet.addCategory(electronics);
+        index.index(tablet);
+
+        assertThat(index.findByAnyCategory(Set.of(electronics, gaming, phones))).containsExactly(tablet.getId());
+    }
+}
@@ -0,0 +1,76 @@
+package com.hexagonal.framework.search;
+
+import com.hexagonal.domain.entity.Product;
+import com.hexagonal.domain.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryProductSearchIndexAdapter Tests")
+class InMemoryProductSearchIndexAdapterTest {
+
+    private InMemoryProductSearchIndexAdapter index;
+    private Product laptop;
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        Currency usd = Currency.getInstance("USD");
+        laptop = Product.create("Gaming Laptop", Money.of(new BigDecimal("1500.00"), usd), "LAP-001");
+        laptop.updateDescription("Fast laptop with RGB keyboard");
+        phone = Product.create("Smart Phone", Money.of(new BigDecimal("700.00"), usd), "PHN-001");
+        phone.updateDescription("Phone with a great keyboard app");
+
+        index = new InMemoryProductSearchIndexAdapter();
+        index.rebuild(List.of(laptop, phone));
+    }
+
+    @Test
+    @DisplayName("Should match terms from name and description case-insensitively")
+    void shouldMatchNameAndDescriptionTerms() {
+        assertThat(index.search("LAPTOP")).containsExactly(laptop.getId());
+        assertThat(index.search("keyboard")).containsExactlyInAnyOrder(laptop.getId(), phone.getId());
+    }
+
+    @Test
+    @DisplayName("Should match by prefix and intersect multiple terms")
+    void shouldMatchPrefixesAndIntersectTerms() {
+        assertThat(index.search("gam")).containsExactly(laptop.getId());
+        assertThat(index.search("keyboard sma")).containsExactly(phone.getId());
+        assertThat(index.search("gaming phone")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace old terms when a product is re-indexed")
+    void shouldReplaceTermsOnReindex() {
+        laptop.updateName("Workstation");
+        index.index(laptop);
+
+        assertThat(index.search("gaming")).isEmpty();
+        assertThat(index.search("workstation")).containsExactly(laptop.getId());
+        assertThat(index.search("keyboard")).containsExactlyInAnyOrder(laptop.getId(), phone.getId());
+    }
+
+    @Test
+    @DisplayName("Should drop removed and discontinued products")
+    void shouldDropRemovedAndDiscontinuedProducts() {
+        index.remove(laptop.getId());
+        phone.markAsDiscontinued();
+        index.index(phone);
+
+        assertThat(index.search("keyboard")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank queries")
+    void shouldReturnNothingForBlankQuery() {
+        assertThat(index.search("  ")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+}
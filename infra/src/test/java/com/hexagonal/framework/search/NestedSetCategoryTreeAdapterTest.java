@@ -0,0 +1,78 @@
+package com.hexagonal.framework.search;
+
+import com.hexagonal.domain.entity.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NestedSetCategoryTreeAdapter Tests")
+class NestedSetCategoryTreeAdapterTest {
+
+    private NestedSetCategoryTreeAdapter tree;
+    private Category electronics;
+    private Category computers;
+    private Category laptops;
+    private Category phones;
+    private Category books;
+
+    @BeforeEach
+    void setUp() {
+        electronics = Category.create("Electronics");
+        computers = child("Computers", electronics);
+        laptops = child("Laptops", computers);
+        phones = child("Phones", electronics);
+        books = Category.create("Books");
+
+        tree = new NestedSetCategoryTreeAdapter();
+        tree.rebuild(List.of(laptops, books, computers, phones, electronics));
+    }
+
+    @Test
+    @DisplayName("Should answer subtree, descendant and ancestor queries from the numbering")
+    void shouldAnswerTreeQueries() {
+        assertThat(tree.subtreeOf(electronics.getId()))
+            .containsExactly(electronics.getId(), computers.getId(), laptops.getId(), phones.getId());
+        assertThat(tree.descendantsOf(computers.getId())).containsExactly(laptops.getId());
+        assertThat(tree.descendantsOf(books.getId())).isEmpty();
+        assertThat(tree.ancestorsOf(laptops.getId())).containsExactly(computers.getId(), electronics.getId());
+        assertThat(tree.ancestorsOf(electronics.getId())).isEmpty();
+        assertThat(tree.isInSubtree(electronics.getId(), laptops.getId())).isTrue();
+        assertThat(tree.isInSubtree(computers.getId(), phones.getId())).isFalse();
+        assertThat(tree.isInSubtree(books.getId(), books.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should move a category together with its subtree")
+    void shouldMoveSubtree() {
+        // When
+        computers.setParentCategory(books.getId());
+        tree.place(computers);
+
+        // Then
+        assertThat(tree.subtreeOf(books.getId())).containsExactly(books.getId(), computers.getId(), laptops.getId());
+        assertThat(tree.subtreeOf(electronics.getId())).containsExactly(electronics.getId(), phones.getId());
+        assertThat(tree.ancestorsOf(laptops.getId())).containsExactly(computers.getId(), books.getId());
+    }
+
+    @Test
+    @DisplayName("Should number the children of a removed category as roots")
+    void shouldPromoteChildrenOfRemovedCategory() {
+        // When
+        tree.remove(computers.getId());
+
+        // Then
+        assertThat(tree.subtreeOf(computers.getId())).isEmpty();
+        assertThat(tree.ancestorsOf(laptops.getId())).isEmpty();
+        assertThat(tree.subtreeOf(electronics.getId())).containsExactly(electronics.getId(), phones.getId());
+    }
+
+    private static Category child(String name, Category parent) {
+        Category category = Category.create(name);
+        category.setParentCategory(parent.getId());
+        return category;
+    }
+}
@@ -0,0 +1,222 @@
+package com.hexagonal.framework.statistics;
+
+import com.hexagonal.application.port.out.OrderStatisticsPort.OrderStatistics;
+import com.hexagonal.domain.entity.Order;
+import com.hexagonal.domain.entity.OrderItem;
+import com.hexagonal.domain.vo.Address;
+import com.hexagonal.domain.vo.ID;
+import com.hexagonal.domain.vo.Money;
+import com.hexagonal.domain.vo.OrderStatus;
+import com.hexagonal.domain.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryOrderStatisticsAdapter Tests")
+class InMemoryOrderStatisticsAdapterTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    private final LocalDate today = LocalDate.of(2026, 5, 4);
+
+    private InMemoryOrderStatisticsAdapter statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new InMemoryOrderStatisticsAdapter();
+        statistics.rebuild(Stream.empty());
+    }
+
+    @Test
+    @DisplayName("Should count a placed order as pending but not as booked revenue")
+    void shouldCountPlacedOrderAsPending() {
+        // Given
+        Order order = order("100.00", USD, today);
+
+        // When
+        statistics.recordTransition(order, null);
+
+        // Then
+        assertThat(statistics.byStatus(OrderStatus.PENDING, USD).orderCount()).isEqualTo(1L);
+        assertThat(statistics.byCurrency(USD).orderCount()).isEqualTo(0L);
+        assertThat(statistics.byDay(today, USD).orderCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Should book revenue on confirm and keep it through ship and deliver")
+    void shouldBookRevenueOnConfirm() {
+        // Given
+        Order first = order("100.00", USD, today);
+        Order second = order("50.25", USD, today);
+        statistics.recordTransition(first, null);
+        statistics.recordTransition(second, null);
+
+        // When
+        transition(first, Order::confirm);
+        transition(second, Order::confirm);
+        transition(first, Order::startProcessing);
+        transition(first, Order::ship);
+        transition(first, Order::deliver);
+
+        // Then
+        OrderStatistics booked = statistics.byCurrency(USD);
+        assertThat(booked.orderCount()).isEqualTo(2L);
+        assertThat(booked.revenue()).isEqualTo(Money.of(new BigDecimal("150.25"), USD));
+        assertThat(booked.averageBasket()).isEqualTo(Money.of(new BigDecimal("75.13"), USD));
+        assertThat(statistics.byDay(today, USD)).isEqualTo(booked);
+        assertThat(statistics.byStatus(OrderStatus.PENDING, USD).orderCount()).isEqualTo(0L);
+        assertThat(statistics.byStatus(OrderStatus.CONFIRMED, USD).revenue())
+            .isEqualTo(Money.of(new BigDecimal("50.25"), USD));
+        assertThat(statistics.byStatus(OrderStatus.DELIVERED, USD).revenue())
+            .isEqualTo(Money.of(new BigDecimal("100.00"), USD));
+    }
+
+    @Test
+    @DisplayName("Should take a cancelled order out of booked revenue")
+    void shouldRemoveCancelledOrderFromBookedRevenue() {
+        // Given
+        Order order = order("80.00", USD, today);
+        statistics.recordTransition(order, null);
+        transition(order, Order::confirm);
+
+        // When
+        transition(order, Order::cancel);
+
+        // Then
+        assertThat(statistics.byCurrency(USD)).isEqualTo(empty(USD));
+        assertThat(statistics.byDay(today, USD)).isEqualTo(empty(USD));
+        assertThat(statistics.byStatus(OrderStatus.CONFIRMED, USD).orderCount()).isEqualTo(0L);
+        assertThat(statistics.byStatus(OrderStatus.CANCELLED, USD).revenue())
+            .isEqualTo(Money.of(new BigDecimal("80.00"), USD));
+    }
+
+    @Test
+    @DisplayName("Should keep currencies and creation days apart")
+    void shouldKeepCurrenciesAndDaysApart() {
+        // Given
+        Order usdToday = confirmed(order("10.00", USD, today));
+        Order usdYesterday = confirmed(order("20.00", USD, today.minusDays(1)));
+        Order eurToday = confirmed(order("30.00", EUR, today));
+
+        // When
+        statistics = new InMemoryOrderStatisticsAdapter();
+        statistics.rebuild(Stream.of(usdToday, usdYesterday, eurToday));
+
+        // Then
+        assertThat(statistics.byCurrency(USD).revenue()).isEqualTo(Money.of(new BigDecimal("30.00"), USD));
+        assertThat(statistics.byCurrency(EUR).revenue()).isEqualTo(Money.of(new BigDecimal("30.00"), EUR));
+        assertThat(statistics.byDay(today, USD).revenue()).isEqualTo(Money.of(new BigDecimal("10.00"), USD));
+        assertThat(statistics.byDay(today.minusDays(1), USD).revenue()).isEqualTo(Money.of(new BigDecimal("20.00"), USD));
+        assertThat(statistics.byDay(today.minusDays(1), EUR)).isEqualTo(empty(EUR));
+    }
+
+    @Test
+    @DisplayName("Should count an order changed before the rebuild reaches it once")
+    void shouldNotDoubleCountTransitionHeldBeforeRebuildReachesOrder() {
+        // Given
+        statistics = new InMemoryOrderStatisticsAdapter();
+        Order order = order("40.00", USD, today);
+        OrderStatus previousStatus = order.getStatus();
+        order.confirm();
+        statistics.recordTransition(order, previousStatus);
+
+        // When
+        statistics.rebuild(Stream.of(order));
+
+        // Then
+        assertThat(statistics.byCurrency(USD).orderCount()).isEqualTo(1L);
+        assertThat(statistics.byCurrency(USD).revenue()).isEqualTo(Money.of(new BigDecimal("40.00"), USD));
+        assertThat(statistics.byStatus(OrderStatus.CONFIRMED, USD).orderCount()).isEqualTo(1L);
+        assertThat(statistics.byStatus(OrderStatus.PENDING, USD).orderCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Should apply a transition made after the rebuild passed the order from its previous status")
+    void shouldApplyTransitionHeldAfterRebuildPassedOrder() {
+        // Given
+        statistics = new InMemoryOrderStatisticsAdapter();
+        Order streamed = order("25.00", USD, today);
+        Order next = confirmed(order("10.00", USD, today));
+        Order placed = order("15.00", USD, today);
+
+        // When
+        statistics.rebuild(Stream.of(streamed, next).peek(order -> {
+            if (order == next) {
+                transition(streamed, Order::confirm);
+                statistics.recordTransition(placed, null);
+            }
+        }));
+        transition(placed, Order::confirm);
+
+        // Then
+        assertThat(statistics.byCurrency(USD).orderCount()).isEqualTo(3L);
+        assertThat(statistics.byCurrency(USD).revenue()).isEqualTo(Money.of(new BigDecimal("50.00"), USD));
+        assertThat(statistics.byStatus(OrderStatus.PENDING, USD).orderCount()).isEqualTo(0L);
+        assertThat(statistics.byStatus(OrderStatus.CONFIRMED, USD).orderCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should not lose transitions recorded concurrently")
+    void shouldCountConcurrentTransitions() throws InterruptedException {
+        // Given
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            orders.add(order("1.50", USD, today));
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            List<Order> slice = orders.subList(thread * 500, (thread + 1) * 500);
+            executor.submit(() -> slice.forEach(order -> {
+                statistics.recordTransition(order, null);
+                transition(order, Order::confirm);
+            }));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(statistics.byCurrency(USD).orderCount()).isEqualTo(4000L);
+        assertThat(statistics.byCurrency(USD).revenue()).isEqualTo(Money.of(new BigDecimal("6000.00"), USD));
+        assertThat(statistics.byStatus(OrderStatus.PENDING, USD).orderCount()).isEqualTo(0L);
+    }
+
+    private void transition(Order order, Consumer<Order> action) {
+        OrderStatus previousStatus = order.getStatus();
+        action.accept(order);
+        statistics.recordTransition(order, previousStatus);
+    }
+
+    private static Order confirmed(Order order) {
+        order.confirm();
+        return order;
+    }
+
+    private static OrderStatistics empty(Currency currency) {
+        return new OrderStatistics(0, Money.zero(currency), Money.zero(currency));
+    }
+
+    private static Order order(String total, Currency currency, LocalDate createdOn) {
+        LocalDateTime createdAt = createdOn.atTime(12, 0);
+        List<OrderItem> items = List.of(OrderItem.create(ID.generate(), "Laptop", Quantity.of(1),
+            Money.of(new BigDecimal(total), currency)));
+        return Order.of(ID.generate(), ID.generate(), items, Address.of("Main Street 1", "Istanbul", "34000", "TR"),
+            null, null, null, OrderStatus.PENDING, null, createdAt, createdAt);
+    }
+}